@@ -124,7 +124,9 @@ public class DataJobsController implements DataJobsApi {
         return propagateWebHookResult("Delete", operationResult);
       }
       if (operationResult.isCompleted()) {
-        return ResponseEntity.ok().build();
+        return operationResult.isInProgress()
+            ? ResponseEntity.accepted().build()
+            : ResponseEntity.ok().build();
       }
       return ResponseEntity.notFound().build();
     }
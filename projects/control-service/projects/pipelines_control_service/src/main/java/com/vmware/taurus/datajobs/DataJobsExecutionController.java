@@ -9,18 +9,30 @@ import com.vmware.taurus.controlplane.model.api.DataJobsExecutionApi;
 import com.vmware.taurus.controlplane.model.data.DataJobExecution;
 import com.vmware.taurus.controlplane.model.data.DataJobExecutionLogs;
 import com.vmware.taurus.controlplane.model.data.DataJobExecutionRequest;
+import com.vmware.taurus.exception.ApiConstraintError;
+import com.vmware.taurus.service.JobExecutionCursor;
 import com.vmware.taurus.service.JobsService;
 import com.vmware.taurus.service.execution.JobExecutionService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriBuilder;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * REST controller for operations on data jobs for Execution API. POC of Execution API is
@@ -35,6 +47,13 @@ import java.util.function.Supplier;
 @Tag(name = "Data Jobs Execution")
 public class DataJobsExecutionController implements DataJobsExecutionApi {
 
+  private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+  private static final Pattern BYTE_RANGE_PATTERN =
+      Pattern.compile("bytes=(\\d{1,18})-(\\d{0,18})");
+
+  private static final int MAX_BUFFERED_RANGE_BYTES = 1024 * 1024;
+
   private final JobsService jobsService;
 
   private final JobExecutionService executionService;
@@ -46,16 +65,39 @@ public class DataJobsExecutionController implements DataJobsExecutionApi {
   public ResponseEntity<List<DataJobExecution>> dataJobDeploymentExecutionList(
       String teamName, String jobName, String deploymentId, List<String> executionStatus) {
     // TODO: add support for deployment ID
-    return dataJobExecutionList(teamName, jobName, executionStatus);
+    return dataJobExecutionList(teamName, jobName, executionStatus, null, null);
   }
 
   @Override
   public ResponseEntity<List<DataJobExecution>> dataJobExecutionList(
-      String teamName, String jobName, List<String> executionStatus) {
-
-    List<DataJobExecution> executions =
-        executionService.listJobExecutions(teamName, jobName, executionStatus);
-    return ResponseEntity.ok(executions);
+      String teamName,
+      String jobName,
+      List<String> executionStatus,
+      Integer pageSize,
+      String cursor) {
+    if (pageSize != null && pageSize < 1) {
+      throw new ApiConstraintError("page_size", "greater than 0", pageSize);
+    }
+    if (cursor != null && pageSize == null) {
+      throw new ApiConstraintError("page_size", "specified together with the cursor", pageSize);
+    }
+    JobExecutionCursor after = null;
+    if (cursor != null) {
+      try {
+        after = JobExecutionCursor.decode(cursor);
+      } catch (IllegalArgumentException e) {
+        throw new ApiConstraintError(
+            "cursor", "a cursor returned in the X-Next-Cursor header", cursor);
+      }
+    }
+
+    var executions =
+        executionService.listJobExecutions(teamName, jobName, executionStatus, pageSize, after);
+    var response = ResponseEntity.ok();
+    if (executions.getNextCursor() != null) {
+      response.header(NEXT_CURSOR_HEADER, executions.getNextCursor());
+    }
+    return response.body(executions.getExecutions());
   }
 
   @Override
@@ -98,4 +140,76 @@ public class DataJobsExecutionController implements DataJobsExecutionApi {
         executionService.getJobExecutionLogs(teamName, jobName, executionId, tailLines);
     return ResponseEntity.ok(logs);
   }
+
+  /**
+   * Streams the logs with chunked transfer encoding, so that they are never loaded in memory. The
+   * total length of the logs is unknown while streaming, so a bounded byte range of up to 1 MiB is
+   * read first to find where it actually ends: the Content-Range is "bytes first-last/*" if the
+   * whole range was read, or "bytes first-last/length" if the logs ended before its end. Open-ended
+   * and longer ranges are streamed from their first byte, and their Content-Range leaves both the
+   * last byte and the length unknown ("*"), as they are not known before the logs are sent.
+   */
+  @Override
+  public ResponseEntity<Resource> dataJobLogsStream(
+      String teamName,
+      String jobName,
+      String executionId,
+      Integer tailLines,
+      Integer sinceSeconds,
+      String range) {
+    Long rangeStart = null;
+    Long rangeEnd = null;
+    if (range != null) {
+      Matcher matcher = BYTE_RANGE_PATTERN.matcher(range.trim());
+      if (!matcher.matches()) {
+        throw new ApiConstraintError(
+            "Range", "a single byte range such as bytes=0-1023 or bytes=1024-", range);
+      }
+      rangeStart = Long.parseLong(matcher.group(1));
+      rangeEnd = matcher.group(2).isEmpty() ? null : Long.parseLong(matcher.group(2));
+      if (rangeEnd != null && rangeEnd < rangeStart) {
+        throw new ApiConstraintError(
+            "Range", "a byte range whose last byte is not before its first byte", range);
+      }
+    }
+
+    var contentType = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+    if (rangeStart != null
+        && rangeEnd != null
+        && rangeEnd - rangeStart < MAX_BUFFERED_RANGE_BYTES) {
+      var rangeLogs =
+          executionService.readJobExecutionLogsRange(
+              teamName,
+              jobName,
+              executionId,
+              tailLines,
+              sinceSeconds,
+              rangeStart,
+              rangeEnd,
+              MAX_BUFFERED_RANGE_BYTES);
+      if (rangeLogs.isPresent()) {
+        byte[] bytes = rangeLogs.get();
+        long lastByte = rangeStart + bytes.length - 1;
+        String length =
+            rangeEnd != null && lastByte == rangeEnd ? "*" : String.valueOf(lastByte + 1);
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+            .contentType(contentType)
+            .header(
+                HttpHeaders.CONTENT_RANGE,
+                String.format("bytes %d-%d/%s", rangeStart, lastByte, length))
+            .body(new ByteArrayResource(bytes));
+      }
+    }
+
+    InputStream logs =
+        executionService.streamJobExecutionLogs(
+            teamName, jobName, executionId, tailLines, sinceSeconds, rangeStart, rangeEnd);
+    if (rangeStart != null) {
+      return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+          .contentType(contentType)
+          .header(HttpHeaders.CONTENT_RANGE, String.format("bytes %d-*/*", rangeStart))
+          .body(new InputStreamResource(logs));
+    }
+    return ResponseEntity.ok().contentType(contentType).body(new InputStreamResource(logs));
+  }
 }
@@ -39,6 +39,10 @@ public class ToApiModelConverter {
     V2DataJob v2Job = new V2DataJob();
     v2Job.setJobName(job.getName());
     v2Job.setConfig(toV2JobConfig(job.getJobConfig()));
+    if (job.getNextRunTime() != null) {
+      // The stored next run may have passed, in which case it is recalculated if requested.
+      v2Job.getConfig().getSchedule().setNextRunEpochSeconds(job.getNextRunTime().toEpochSecond());
+    }
     //      v2Job.setDeployments(toDeployments(new DataJobDeployment())); TODO
     return v2Job;
   }
@@ -94,7 +98,7 @@ public class ToApiModelConverter {
   private static V2DataJobSchedule toScheduleV2(String scheduleCron) {
     V2DataJobSchedule schedule = new V2DataJobSchedule();
     schedule.setScheduleCron(scheduleCron);
-    // next run is calculated only if requested
+    // next run is calculated only if requested (or taken from the data job)
     return schedule;
   }
 
@@ -188,9 +192,14 @@ public class ToApiModelConverter {
 
   public static DataJobExecution jobExecutionToConvert(
       com.vmware.taurus.service.model.DataJobExecution jobExecutionToConvert, String logsUrl) {
+    return jobExecutionToConvert(DataJobExecutionView.of(jobExecutionToConvert), logsUrl);
+  }
+
+  public static DataJobExecution jobExecutionToConvert(
+      DataJobExecutionView jobExecutionToConvert, String logsUrl) {
     return new DataJobExecution()
         .id(jobExecutionToConvert.getId())
-        .jobName(jobExecutionToConvert.getDataJob().getName())
+        .jobName(jobExecutionToConvert.getJobName())
         .type(convertTypeEnum(jobExecutionToConvert.getType()))
         .status(convertStatusEnum(jobExecutionToConvert.getStatus()))
         .message(jobExecutionToConvert.getMessage())
@@ -255,8 +264,7 @@ public class ToApiModelConverter {
     }
   }
 
-  private static DataJobResources getJobResources(
-      com.vmware.taurus.service.model.DataJobExecution job) {
+  private static DataJobResources getJobResources(DataJobExecutionView job) {
     DataJobResources dataJobResources = new DataJobResources();
     dataJobResources.setCpuLimit(job.getResourcesCpuLimit());
     dataJobResources.setCpuRequest(job.getResourcesCpuRequest());
@@ -0,0 +1,25 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class DataJobDeletionInProgressException extends DomainError implements UserFacingError {
+
+  public DataJobDeletionInProgressException(String jobName) {
+    super(
+        String.format("The Data Job '%s' is currently being deleted.", jobName),
+        "The Data Job has many executions, which are deleted in the background.",
+        "The Data Job will not be created.",
+        "Wait for the deletion of the Data Job to complete and try again.",
+        null);
+  }
+
+  @Override
+  public HttpStatus getHttpStatus() {
+    return HttpStatus.CONFLICT;
+  }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class DataJobExecutionLogsRangeNotSatisfiableException extends DomainError
+    implements UserFacingError {
+
+  public DataJobExecutionLogsRangeNotSatisfiableException(
+      String executionId, long rangeStart, long logsLength) {
+    super(
+        String.format(
+            "The logs of Data Job execution '%s' do not contain byte %d.", executionId, rangeStart),
+        String.format("The logs are only %d bytes long.", logsLength),
+        "The logs of the Data Job execution will not be returned.",
+        "Request a byte range which starts before the end of the logs.",
+        null);
+  }
+
+  @Override
+  public HttpStatus getHttpStatus() {
+    return HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE;
+  }
+}
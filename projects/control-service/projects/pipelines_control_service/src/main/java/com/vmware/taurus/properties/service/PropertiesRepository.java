@@ -5,13 +5,22 @@
 
 package com.vmware.taurus.properties.service;
 
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.transaction.Transactional;
 import java.util.Optional;
 
 @Repository
 public interface PropertiesRepository extends CrudRepository<JobProperties, String> {
 
   Optional<JobProperties> findByJobName(String jobName);
+
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("delete from JobProperties p where p.jobName = :jobName")
+  int deleteJobPropertiesByJobName(@Param(value = "jobName") String jobName);
 }
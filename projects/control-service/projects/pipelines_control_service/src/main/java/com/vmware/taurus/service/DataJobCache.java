@@ -0,0 +1,136 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.vmware.taurus.service.datasource.ReplicaReads;
+import com.vmware.taurus.service.model.DataJob;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A node-local read-through cache of data jobs, which spares the database the lookups of the same
+ * data jobs by the API calls (e.g. the team check done by almost every call).
+ *
+ * <p>The writers of data jobs must {@link #invalidate(String)} the changed data jobs. The change is
+ * then broadcast to all instances of the service (see {@link DataJobChangeBroadcaster}), so the
+ * cached data jobs are stale on the other instances at most until the next broadcast, and in any
+ * case no longer than {@code datajobs.cache.jobs.ttlSeconds}.
+ *
+ * <p>The cache returns copies of the cached data jobs, so that the callers can change them freely.
+ */
+@Slf4j
+@Component
+public class DataJobCache {
+
+  private final DataJobChangeBroadcaster broadcaster;
+  private final boolean enabled;
+  private final Cache<String, Optional<DataJob>> cache;
+
+  // Incremented by each invalidation, so that a data job loaded meanwhile is not cached.
+  private long generation;
+
+  @Autowired
+  public DataJobCache(
+      DataJobChangeBroadcaster broadcaster,
+      @Value("${datajobs.cache.jobs.enabled:false}") boolean enabled,
+      @Value("${datajobs.cache.jobs.maximumSize:10000}") long maximumSize,
+      @Value("${datajobs.cache.jobs.ttlSeconds:300}") long ttlSeconds) {
+    this.broadcaster = broadcaster;
+    this.enabled = enabled;
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+    if (enabled) {
+      broadcaster.subscribe(this::invalidateLocally);
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Returns the specified data job from the cache, or loads it with the loader if it is not cached.
+   */
+  public Optional<DataJob> get(String jobName, Function<String, Optional<DataJob>> loader) {
+    if (!enabled) {
+      return loader.apply(jobName);
+    }
+    var cached = cache.getIfPresent(jobName);
+    if (cached == null) {
+      long loadGeneration = getGeneration();
+      cached = loader.apply(jobName).map(DataJobCache::copy);
+      // A read-only transaction may be served by a lagging read replica.
+      if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+          || ReplicaReads.isRequested()) {
+        return cached;
+      }
+      synchronized (this) {
+        if (generation == loadGeneration) {
+          cache.put(jobName, cached);
+        }
+      }
+    }
+    return cached.map(DataJobCache::copy);
+  }
+
+  /**
+   * Invalidates the specified data job on all instances of the service. Must be called by any
+   * change of a data job. If called within a transaction, the data job is invalidated again when
+   * the transaction commits, so that the cache does not keep the data job read in the meantime.
+   */
+  public void invalidate(String jobName) {
+    if (!enabled) {
+      return;
+    }
+    invalidateLocally(jobName);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              invalidateLocally(jobName);
+            }
+          });
+    }
+    broadcaster.publish(jobName);
+  }
+
+  /** Invalidates the specified data job, or all data jobs if null, on this instance only. */
+  synchronized void invalidateLocally(String jobName) {
+    generation++;
+    if (jobName == null) {
+      cache.invalidateAll();
+    } else {
+      cache.invalidate(jobName);
+    }
+    log.debug("Invalidated cached data job {}", jobName == null ? "(all)" : jobName);
+  }
+
+  private synchronized long getGeneration() {
+    return generation;
+  }
+
+  // The executions are not copied, they are lazily loaded and not available outside of a session.
+  private static DataJob copy(DataJob dataJob) {
+    var jobConfig = dataJob.getJobConfig();
+    return dataJob.toBuilder()
+        .jobConfig(jobConfig == null ? null : jobConfig.toBuilder().build())
+        .build();
+  }
+}
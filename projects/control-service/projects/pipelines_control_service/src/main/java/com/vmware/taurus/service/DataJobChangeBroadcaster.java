@@ -0,0 +1,198 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts the changes of data jobs to all instances of the service (including the current one),
+ * so that they can invalidate their {@link DataJobCache}. The changes are broadcast either:
+ *
+ * <ul>
+ *   <li>by polling the data_job_change table (the default), which works on any supported database,
+ *       or
+ *   <li>through Postgres LISTEN/NOTIFY ({@code datajobs.cache.jobs.invalidation=notify}), which
+ *       delivers the changes immediately without polling.
+ * </ul>
+ *
+ * <p>In both cases a change published within a transaction is visible to the other instances only
+ * after the transaction commits.
+ */
+@Slf4j
+@Component
+public class DataJobChangeBroadcaster {
+
+  static final String NOTIFY_CHANNEL = "data_job_changed";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final DataSource dataSource;
+  private final boolean notifyMode;
+  private final List<Consumer<String>> subscribers = new CopyOnWriteArrayList<>();
+
+  // The changes seen by the recent polls, by id, so that they are not delivered twice.
+  private final Map<String, OffsetDateTime> seenChanges = new ConcurrentHashMap<>();
+
+  // Transactions may commit long after their changes are stamped, so the polls look back this long.
+  @Value("${datajobs.cache.jobs.pollOverlapSeconds:30}")
+  private long pollOverlapSeconds;
+
+  @Value("${datajobs.cache.jobs.changesTtlSeconds:3600}")
+  private long changesTtlSeconds;
+
+  private OffsetDateTime lastPurge = OffsetDateTime.now();
+  private volatile Thread listenerThread;
+
+  @Autowired
+  public DataJobChangeBroadcaster(
+      JdbcTemplate jdbcTemplate,
+      DataSource dataSource,
+      @Value("${datajobs.cache.jobs.invalidation:poll}") String invalidation) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.dataSource = dataSource;
+    this.notifyMode = "notify".equalsIgnoreCase(invalidation);
+  }
+
+  /**
+   * Subscribes to the changes of data jobs. The subscriber is called with the name of the changed
+   * data job, or with null if changes may have been missed and all data jobs should be considered
+   * changed.
+   */
+  public void subscribe(Consumer<String> subscriber) {
+    subscribers.add(subscriber);
+  }
+
+  /**
+   * Publishes a change of the specified data job. If called within a transaction, the change is
+   * published when the transaction commits.
+   */
+  public void publish(String jobName) {
+    if (subscribers.isEmpty()) {
+      return;
+    }
+    if (notifyMode) {
+      jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", NOTIFY_CHANNEL, jobName);
+    } else {
+      jdbcTemplate.update(
+          "INSERT INTO data_job_change (id, job_name, change_time) VALUES (?, ?, ?)",
+          UUID.randomUUID().toString(),
+          jobName,
+          OffsetDateTime.now());
+    }
+  }
+
+  @Scheduled(
+      fixedDelayString = "${datajobs.cache.jobs.pollIntervalMillis:2000}",
+      initialDelayString = "${datajobs.cache.jobs.pollIntervalMillis:2000}")
+  public void pollChanges() {
+    if (notifyMode || subscribers.isEmpty()) {
+      return;
+    }
+    var now = OffsetDateTime.now();
+    var since = now.minusSeconds(pollOverlapSeconds);
+    try {
+      jdbcTemplate.query(
+          "SELECT id, job_name FROM data_job_change WHERE change_time > ?",
+          rs -> {
+            if (seenChanges.putIfAbsent(rs.getString("id"), now) == null) {
+              deliver(rs.getString("job_name"));
+            }
+          },
+          since);
+      seenChanges.values().removeIf(seen -> seen.isBefore(since));
+
+      if (Duration.between(lastPurge, now).getSeconds() > changesTtlSeconds / 10) {
+        jdbcTemplate.update(
+            "DELETE FROM data_job_change WHERE change_time < ?",
+            now.minusSeconds(changesTtlSeconds));
+        lastPurge = now;
+      }
+    } catch (Exception e) {
+      log.warn("Failed to poll the changes of data jobs. All cached data jobs are invalidated.", e);
+      deliver(null);
+    }
+  }
+
+  @PostConstruct
+  public void start() {
+    if (notifyMode) {
+      listenerThread = new Thread(this::listen, "data-job-change-listener");
+      listenerThread.setDaemon(true);
+      listenerThread.start();
+    }
+  }
+
+  @PreDestroy
+  public void stop() {
+    var thread = listenerThread;
+    listenerThread = null;
+    if (thread != null) {
+      thread.interrupt();
+    }
+  }
+
+  private void listen() {
+    while (listenerThread != null) {
+      try (Connection connection = dataSource.getConnection()) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + NOTIFY_CHANNEL);
+        }
+        var pgConnection = connection.unwrap(PGConnection.class);
+        // Changes may have been missed while (re)connecting.
+        deliver(null);
+        while (listenerThread != null) {
+          var notifications = pgConnection.getNotifications(1000);
+          if (notifications != null) {
+            for (var notification : notifications) {
+              deliver(notification.getParameter());
+            }
+          }
+        }
+      } catch (Exception e) {
+        if (listenerThread == null) {
+          return;
+        }
+        log.warn("Failed to listen for the changes of data jobs. Will reconnect.", e);
+        deliver(null);
+        try {
+          Thread.sleep(5000);
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  private void deliver(String jobName) {
+    for (var subscriber : subscribers) {
+      try {
+        subscriber.accept(jobName);
+      } catch (Exception e) {
+        log.warn("Failed to deliver the change of data job {}", jobName, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service;
+
+import com.vmware.taurus.properties.service.PropertiesRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Deletes the rows of data jobs from the database: their executions, their properties and the data
+ * job rows themselves. The rows are deleted with set-based statements, instead of loading the data
+ * job with all its executions and removing them one by one.
+ *
+ * <p>The rows of a data job are deleted in one transaction, unless the data job has more than
+ * {@code datajobs.deletion.backgroundExecutionsThreshold} executions. The executions of such a data
+ * job are deleted in the background, in chunks of {@code datajobs.deletion.deleteChunkSize}
+ * executions per transaction, and then the rest of its rows in one transaction. Until then the
+ * data job still exists (without deployment), so should the background deletion fail, deleting the
+ * data job again continues where it stopped.
+ *
+ * <p>A background deletion holds a lock named after the data job, which is shared by all instances
+ * of the service. It prevents the data job from being deleted twice at the same time and tells
+ * whether the data job is being deleted, see {@link #isDeletionInProgress}. The lock expires unless
+ * it is extended after each chunk, so it is released even if the instance deleting the data job
+ * stops.
+ */
+@Slf4j
+@Service
+public class DataJobDeletionService {
+
+  private static final Duration DELETION_LOCK_TIMEOUT = Duration.ofMinutes(10);
+
+  private final JobsRepository jobsRepository;
+  private final JobExecutionRepository jobExecutionRepository;
+  private final PropertiesRepository propertiesRepository;
+  private final DataJobCache dataJobCache;
+  private final TransactionTemplate transactionTemplate;
+  private final LockProvider lockProvider;
+  private final long backgroundExecutionsThreshold;
+  private final int deleteChunkSize;
+
+  @Autowired
+  public DataJobDeletionService(
+      JobsRepository jobsRepository,
+      JobExecutionRepository jobExecutionRepository,
+      PropertiesRepository propertiesRepository,
+      DataJobCache dataJobCache,
+      PlatformTransactionManager transactionManager,
+      LockProvider lockProvider,
+      @Value("${datajobs.deletion.backgroundExecutionsThreshold:10000}")
+          long backgroundExecutionsThreshold,
+      @Value("${datajobs.deletion.deleteChunkSize:1000}") int deleteChunkSize) {
+    this.jobsRepository = jobsRepository;
+    this.jobExecutionRepository = jobExecutionRepository;
+    this.propertiesRepository = propertiesRepository;
+    this.dataJobCache = dataJobCache;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.lockProvider = lockProvider;
+    this.backgroundExecutionsThreshold = backgroundExecutionsThreshold;
+    this.deleteChunkSize = Math.max(1, deleteChunkSize);
+  }
+
+  /**
+   * Returns whether the executions of the specified data job are too many to delete them in one
+   * transaction, i.e. whether it should be deleted by {@link #deleteDataJobInBackground}.
+   */
+  public boolean isDeletedInBackground(String jobName) {
+    return jobExecutionRepository.countDataJobExecutionsByDataJobName(jobName)
+        > backgroundExecutionsThreshold;
+  }
+
+  /** Deletes the executions, the properties and the row of the specified data job in one go. */
+  public void deleteDataJob(String jobName) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          int executions = jobExecutionRepository.deleteAllExecutionsByJobName(jobName);
+          deleteDataJobRow(jobName);
+          log.info("Deleted data job {} with {} executions", jobName, executions);
+        });
+    dataJobCache.invalidate(jobName);
+  }
+
+  /**
+   * Acquires the lock of the background deletion of the specified data job, to be passed to {@link
+   * #deleteDataJobInBackground}.
+   *
+   * @return the lock, or empty if the data job is already being deleted in the background.
+   */
+  public Optional<SimpleLock> lockBackgroundDeletion(String jobName) {
+    return lockProvider.lock(
+        new LockConfiguration(
+            Instant.now(), getDeletionLockName(jobName), DELETION_LOCK_TIMEOUT, Duration.ZERO));
+  }
+
+  /** Returns whether the specified data job is being deleted in the background. */
+  public boolean isDeletionInProgress(String jobName) {
+    var lock = lockBackgroundDeletion(jobName);
+    lock.ifPresent(SimpleLock::unlock);
+    return lock.isEmpty();
+  }
+
+  /**
+   * Deletes the executions of the specified data job in chunks, each in a separate transaction,
+   * and then its properties and row. The lock of the deletion is released once it completes or
+   * fails. This method is executed in a separate thread (it is async).
+   *
+   * @param jobName the name of the data job to delete
+   * @param deletionLock the lock returned by {@link #lockBackgroundDeletion} for the data job
+   * @see org.springframework.scheduling.annotation.Async
+   */
+  @Async
+  public void deleteDataJobInBackground(String jobName, SimpleLock deletionLock) {
+    log.info("Deleting the executions of data job {} in the background", jobName);
+    var lock = deletionLock;
+    try {
+      long total = 0;
+      int deleted;
+      do {
+        deleted = jobExecutionRepository.deleteExecutionsByJobName(jobName, deleteChunkSize);
+        total += deleted;
+        lock = lock.extend(DELETION_LOCK_TIMEOUT, Duration.ZERO).orElse(null);
+        if (lock == null) {
+          throw new IllegalStateException("The deletion lock of the data job has expired");
+        }
+      } while (deleted >= deleteChunkSize);
+      log.info("Deleted {} executions of data job {}", total, jobName);
+      deleteDataJob(jobName);
+    } catch (Exception e) {
+      log.error(
+          "Failed to delete data job {}. It will be deleted if the deletion is retried.",
+          jobName,
+          e);
+    } finally {
+      if (lock != null) {
+        lock.unlock();
+      }
+    }
+  }
+
+  private void deleteDataJobRow(String jobName) {
+    propertiesRepository.deleteJobPropertiesByJobName(jobName);
+    // The execution statistics of the data job are deleted by the database (on delete cascade).
+    jobsRepository.deleteDataJobByName(jobName);
+  }
+
+  private static String getDeletionLockName(String jobName) {
+    return "deleteDataJob_" + jobName;
+  }
+}
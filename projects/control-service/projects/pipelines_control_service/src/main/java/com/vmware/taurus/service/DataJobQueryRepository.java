@@ -0,0 +1,37 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service;
+
+import com.vmware.taurus.service.model.DataJob;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Root;
+import java.util.List;
+
+/**
+ * Reads pages of data jobs filtered and ordered by the database, for the GraphQL jobs query. Unlike
+ * {@link org.springframework.data.domain.Sort}, the order may be by any expression (e.g. with the
+ * nulls last), as computed by the field strategies of the query.
+ */
+public interface DataJobQueryRepository {
+
+  /** The order of the data jobs in a criteria query. */
+  @FunctionalInterface
+  interface Ordering {
+    List<Order> toOrders(Root<DataJob> root, CriteriaBuilder builder);
+  }
+
+  /**
+   * Returns a page (by offset) of the data jobs matching the specification in the specified order.
+   * The data jobs which are equal by the order are ordered by name, so that the pages are stable.
+   * The sort of the pageable is ignored.
+   */
+  Page<DataJob> findAll(Specification<DataJob> spec, Ordering ordering, Pageable pageable);
+}
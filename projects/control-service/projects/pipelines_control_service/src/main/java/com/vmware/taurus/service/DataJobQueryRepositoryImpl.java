@@ -0,0 +1,64 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service;
+
+import com.vmware.taurus.service.model.DataJob;
+import com.vmware.taurus.service.model.DataJob_;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.Order;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Spring Data fragment implementing {@link DataJobQueryRepository}. */
+public class DataJobQueryRepositoryImpl implements DataJobQueryRepository {
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public Page<DataJob> findAll(
+      Specification<DataJob> spec, Ordering ordering, Pageable pageable) {
+    var builder = entityManager.getCriteriaBuilder();
+    var query = builder.createQuery(DataJob.class);
+    var root = query.from(DataJob.class);
+    query.select(root);
+    var predicate = spec == null ? null : spec.toPredicate(root, query, builder);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+
+    List<Order> orders = new ArrayList<>();
+    if (ordering != null) {
+      orders.addAll(ordering.toOrders(root, builder));
+    }
+    orders.add(builder.asc(root.get(DataJob_.NAME)));
+    query.orderBy(orders);
+
+    var typedQuery = entityManager.createQuery(query);
+    if (pageable.isPaged()) {
+      typedQuery.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+    }
+    return PageableExecutionUtils.getPage(
+        typedQuery.getResultList(), pageable, () -> count(spec));
+  }
+
+  private long count(Specification<DataJob> spec) {
+    var builder = entityManager.getCriteriaBuilder();
+    var query = builder.createQuery(Long.class);
+    var root = query.from(DataJob.class);
+    query.select(builder.count(root));
+    var predicate = spec == null ? null : spec.toPredicate(root, query, builder);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    return entityManager.createQuery(query).getSingleResult();
+  }
+}
@@ -5,6 +5,7 @@
 
 package com.vmware.taurus.service;
 
+import com.vmware.taurus.service.datasource.ReplicaReads;
 import com.vmware.taurus.service.diag.OperationContext;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
@@ -52,14 +53,22 @@ public class GraphQLJobsQueryService {
     return jsonSerializer.deserialize(jsonMap, Map.class);
   }
 
+  /**
+   * Executes a GraphQL query. The queries only read, so their repository calls are served by the
+   * read replica if one is configured (see {@link ReplicaReads}). The query is not executed in a
+   * transaction, so that no database connection is held while the data fetchers call Kubernetes.
+   */
   public ExecutionResult executeRequest(
       String query, String operationName, Map<String, Object> variables) {
-    return graphQL.execute(
-        ExecutionInput.newExecutionInput()
-            .variables(variables)
-            .query(query)
-            .executionId(ExecutionId.from(operationContext.getOpId()))
-            .operationName(operationName == null ? "" : operationName.trim().replace("\"", ""))
-            .build());
+    return ReplicaReads.call(
+        () ->
+            graphQL.execute(
+                ExecutionInput.newExecutionInput()
+                    .variables(variables)
+                    .query(query)
+                    .executionId(ExecutionId.from(operationContext.getOpId()))
+                    .operationName(
+                        operationName == null ? "" : operationName.trim().replace("\"", ""))
+                    .build()));
   }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service;
+
+import com.vmware.taurus.service.model.DataJobExecution;
+import com.vmware.taurus.service.model.DataJobExecutionView;
+import lombok.NonNull;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * The position of a data job execution in the executions ordered by start time and id, which is
+ * the key of the keyset pagination of executions (see {@link JobExecutionKeysetRepository}). It is
+ * passed to the clients as an opaque string, from which they request the next page.
+ */
+@Value
+public class JobExecutionCursor {
+
+  private static final String SEPARATOR = "|";
+
+  @NonNull OffsetDateTime startTime;
+  @NonNull String id;
+
+  public static JobExecutionCursor of(DataJobExecution execution) {
+    return new JobExecutionCursor(execution.getStartTime(), execution.getId());
+  }
+
+  public static JobExecutionCursor of(DataJobExecutionView execution) {
+    return new JobExecutionCursor(execution.getStartTime(), execution.getId());
+  }
+
+  /**
+   * @param cursor A cursor returned by {@link #encode()}.
+   * @throws IllegalArgumentException if the cursor is malformed.
+   */
+  public static JobExecutionCursor decode(String cursor) {
+    try {
+      var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separatorIndex = decoded.indexOf(SEPARATOR);
+      if (separatorIndex < 0) {
+        throw new IllegalArgumentException("Malformed execution cursor: " + cursor);
+      }
+      return new JobExecutionCursor(
+          OffsetDateTime.parse(decoded.substring(0, separatorIndex)),
+          decoded.substring(separatorIndex + 1));
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("Malformed execution cursor: " + cursor, e);
+    }
+  }
+
+  public String encode() {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString((startTime + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+  }
+}
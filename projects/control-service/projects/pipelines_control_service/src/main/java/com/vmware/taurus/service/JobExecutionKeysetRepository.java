@@ -0,0 +1,34 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service;
+
+import com.vmware.taurus.service.model.DataJobExecution;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Keyset (seek) pagination of data job executions, ordered by start time and id. Unlike offset
+ * pagination, each page is read from the position of the last execution of the previous page
+ * using the (start_time, id) index, so deep pages cost as much as the first one, and no count
+ * query is executed.
+ */
+public interface JobExecutionKeysetRepository {
+
+  /**
+   * @param spec The filter of the executions.
+   * @param direction The direction of the order by start time and id.
+   * @param after The position after which the page starts, or null for the first page.
+   * @param pageSize The maximum number of executions in the page.
+   * @return The page of executions, which has a next page if there are more executions after it.
+   *     The executions without a start time are not included.
+   */
+  Slice<DataJobExecution> findAll(
+      Specification<DataJobExecution> spec,
+      Sort.Direction direction,
+      JobExecutionCursor after,
+      int pageSize);
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service;
+
+import com.vmware.taurus.service.model.DataJobExecution;
+import com.vmware.taurus.service.model.DataJobExecution_;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Spring Data fragment implementing {@link JobExecutionKeysetRepository}. */
+public class JobExecutionKeysetRepositoryImpl implements JobExecutionKeysetRepository {
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public Slice<DataJobExecution> findAll(
+      Specification<DataJobExecution> spec,
+      Sort.Direction direction,
+      JobExecutionCursor after,
+      int pageSize) {
+    var builder = entityManager.getCriteriaBuilder();
+    var query = builder.createQuery(DataJobExecution.class);
+    var root = query.from(DataJobExecution.class);
+
+    List<Predicate> predicates = new ArrayList<>();
+    predicates.add(builder.isNotNull(root.get(DataJobExecution_.START_TIME)));
+    if (spec != null) {
+      var predicate = spec.toPredicate(root, query, builder);
+      if (predicate != null) {
+        predicates.add(predicate);
+      }
+    }
+    if (after != null) {
+      predicates.add(seekPredicate(root, builder, direction, after));
+    }
+    var sort = Sort.by(direction, DataJobExecution_.START_TIME, DataJobExecution_.ID);
+    query
+        .where(predicates.toArray(new Predicate[0]))
+        .orderBy(QueryUtils.toOrders(sort, root, builder));
+
+    // One more execution than the page size is read to find out whether there is a next page.
+    List<DataJobExecution> executions =
+        entityManager.createQuery(query).setMaxResults(pageSize + 1).getResultList();
+    boolean hasNext = executions.size() > pageSize;
+    return new SliceImpl<>(
+        hasNext ? executions.subList(0, pageSize) : executions,
+        PageRequest.of(0, pageSize, sort),
+        hasNext);
+  }
+
+  /** (start_time, id) > (after.startTime, after.id), or < for descending order. */
+  static Predicate seekPredicate(
+      Root<DataJobExecution> root,
+      CriteriaBuilder builder,
+      Sort.Direction direction,
+      JobExecutionCursor after) {
+    var startTime = root.get(DataJobExecution_.startTime);
+    var id = root.get(DataJobExecution_.id);
+    if (direction.isAscending()) {
+      return builder.or(
+          builder.greaterThan(startTime, after.getStartTime()),
+          builder.and(
+              builder.equal(startTime, after.getStartTime()),
+              builder.greaterThan(id, after.getId())));
+    }
+    return builder.or(
+        builder.lessThan(startTime, after.getStartTime()),
+        builder.and(
+            builder.equal(startTime, after.getStartTime()), builder.lessThan(id, after.getId())));
+  }
+}
@@ -30,7 +30,11 @@ import java.util.Optional;
  * <p>JobExecutionRepositoryIT validates some aspects of the behavior
  */
 public interface JobExecutionRepository
-    extends JpaRepository<DataJobExecution, String>, JpaSpecificationExecutor<DataJobExecution> {
+    extends JpaRepository<DataJobExecution, String>,
+        JpaSpecificationExecutor<DataJobExecution>,
+        JobExecutionKeysetRepository,
+        JobExecutionViewRepository,
+        JobExecutionStatusUpdateRepository {
 
   List<DataJobExecution> findDataJobExecutionsByDataJobName(String jobName);
 
@@ -44,8 +48,81 @@ public interface JobExecutionRepository
   List<DataJobExecutionIdAndEndTime> findByDataJobNameAndStatusNotInOrderByEndTime(
       String jobName, List<ExecutionStatus> statuses);
 
-  List<DataJobExecution> findDataJobExecutionsByStatusInAndStartTimeBefore(
-      List<ExecutionStatus> statuses, OffsetDateTime startTime);
+  /**
+   * Returns the ids and the data job names of the executions with the specified statuses, which
+   * are started before the specified time, so that they can be filtered by data job without
+   * loading the executions as entities.
+   */
+  @Query(
+      "SELECT dje.id AS id, dje.dataJob.name AS jobName FROM DataJobExecution dje "
+          + "WHERE dje.status IN :statuses AND dje.startTime < :startTime")
+  List<DataJobExecutionIdAndJobName> findDataJobExecutionIdAndJobNameByStatusInAndStartTimeBefore(
+      @Param("statuses") List<ExecutionStatus> statuses,
+      @Param("startTime") OffsetDateTime startTime);
+
+  /**
+   * Deletes up to limit executions of the specified data jobs, which are in none of the specified
+   * statuses and either are beyond the newest maxExecutions executions of their data job (by end
+   * time) or ended before the specified time. The executions are ranked and deleted by a single
+   * statement, so that the cleanup does not need to query the executions of each data job
+   * separately. Only the executions of the specified data jobs are ranked, so that the cost of a
+   * statement is bounded by the number of their executions rather than of all executions.
+   *
+   * @param jobNames the names of the data jobs whose executions are ranked
+   * @param statuses the database values of the statuses of the executions to keep
+   * @param maxExecutions the number of executions to keep per data job
+   * @param endTime the executions which ended before this time are deleted
+   * @param limit the maximum number of executions to delete, to keep the transaction short
+   * @return the number of deleted executions
+   */
+  @Modifying
+  @Transactional
+  @Query(
+      value =
+          "DELETE FROM data_job_execution WHERE id IN ("
+              + " SELECT ranked.id FROM ("
+              + "  SELECT id, end_time, ROW_NUMBER() OVER"
+              + "   (PARTITION BY job_name ORDER BY end_time DESC) AS execution_rank"
+              + "  FROM data_job_execution"
+              + "  WHERE job_name IN :jobNames AND status NOT IN :statuses) ranked"
+              + " WHERE ranked.execution_rank > :maxExecutions OR ranked.end_time < :endTime"
+              + " LIMIT :limit)",
+      nativeQuery = true)
+  int deleteExcessAndExpiredExecutions(
+      @Param("jobNames") List<String> jobNames,
+      @Param("statuses") List<Integer> statuses,
+      @Param("maxExecutions") int maxExecutions,
+      @Param("endTime") OffsetDateTime endTime,
+      @Param("limit") int limit);
+
+  long countDataJobExecutionsByDataJobName(String jobName);
+
+  /**
+   * Deletes all executions of the specified data job with a single statement.
+   *
+   * @return the number of deleted executions
+   * @see DataJobDeletionService
+   */
+  @Modifying
+  @Transactional
+  @Query(value = "DELETE FROM data_job_execution WHERE job_name = :jobName", nativeQuery = true)
+  int deleteAllExecutionsByJobName(@Param("jobName") String jobName);
+
+  /**
+   * Deletes up to limit executions of the specified data job, so that the executions of a data job
+   * with a very large history can be deleted in a number of short transactions.
+   *
+   * @return the number of deleted executions
+   * @see DataJobDeletionService
+   */
+  @Modifying
+  @Transactional
+  @Query(
+      value =
+          "DELETE FROM data_job_execution WHERE id IN ("
+              + " SELECT id FROM data_job_execution WHERE job_name = :jobName LIMIT :limit)",
+      nativeQuery = true)
+  int deleteExecutionsByJobName(@Param("jobName") String jobName, @Param("limit") int limit);
 
   @Transactional
   void deleteDataJobExecutionByIdAndDataJobAndStatusAndType(
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service;
+
+import com.vmware.taurus.service.model.DataJobExecutionStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring Data / JPA Repository for DataJobExecutionStats objects and their members
+ *
+ * <p>Spring Data automatically creates an implementation of this interface at runtime, provided
+ * {@link DataJobExecutionStats} is a valid JPA entity.
+ *
+ * <p>Methods throw {@link org.springframework.dao.DataAccessException} in case of issues of writing
+ * to the database.
+ */
+public interface JobExecutionStatsRepository
+    extends JpaRepository<DataJobExecutionStats, String>, JobExecutionStatsUpsertRepository {
+
+  /**
+   * Returns the statistics of the specified data jobs, locked until the end of the current
+   * transaction, so that concurrent updates of the statistics of a data job are not lost. Only the
+   * existing statistics are locked, see {@link #insertMissingStats}.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query(
+      "SELECT s FROM DataJobExecutionStats s WHERE s.jobName IN :jobNames ORDER BY s.jobName")
+  List<DataJobExecutionStats> findAllByJobNameInForUpdate(
+      @Param("jobNames") Collection<String> jobNames);
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service;
+
+import com.vmware.taurus.service.model.DataJobExecutionStats;
+
+import java.util.Collection;
+
+/**
+ * Creates the {@link DataJobExecutionStats} rows of data jobs atomically, so that the first
+ * statistics of a data job can be locked and updated by concurrent transactions without a
+ * duplicate key error or a lost update.
+ */
+public interface JobExecutionStatsUpsertRepository {
+
+  /**
+   * Inserts empty statistics for the specified data jobs, unless they already exist. A concurrent
+   * insert of the same statistics waits for the other transaction instead of failing.
+   */
+  void insertMissingStats(Collection<String> jobNames);
+}
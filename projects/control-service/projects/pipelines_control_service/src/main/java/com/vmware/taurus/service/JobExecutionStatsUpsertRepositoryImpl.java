@@ -0,0 +1,48 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service;
+
+import org.hibernate.Session;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Collection;
+import java.util.TreeSet;
+
+/** Spring Data fragment implementing {@link JobExecutionStatsUpsertRepository}. */
+public class JobExecutionStatsUpsertRepositoryImpl implements JobExecutionStatsUpsertRepository {
+
+  private static final String INSERT_MISSING_STATS =
+      "INSERT INTO data_job_execution_stats (job_name) VALUES (:jobName) ON CONFLICT DO NOTHING";
+
+  // H2 (used by the tests) supports ON CONFLICT only in PostgreSQL mode, but has its own upsert.
+  private static final String H2_MERGE_MISSING_STATS =
+      "MERGE INTO data_job_execution_stats (job_name) KEY (job_name) VALUES (:jobName)";
+
+  @PersistenceContext private EntityManager entityManager;
+
+  private volatile Boolean h2;
+
+  @Override
+  public void insertMissingStats(Collection<String> jobNames) {
+    String sql = isH2() ? H2_MERGE_MISSING_STATS : INSERT_MISSING_STATS;
+    // Sorted, so that concurrent transactions wait for each other's rows in the same order.
+    for (var jobName : new TreeSet<>(jobNames)) {
+      entityManager.createNativeQuery(sql).setParameter("jobName", jobName).executeUpdate();
+    }
+  }
+
+  private boolean isH2() {
+    if (h2 == null) {
+      h2 =
+          entityManager
+              .unwrap(Session.class)
+              .doReturningWork(
+                  connection -> "H2".equals(connection.getMetaData().getDatabaseProductName()));
+    }
+    return h2;
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service;
+
+import com.vmware.taurus.service.model.ExecutionStatus;
+
+import javax.transaction.Transactional;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Updates the status of executions in a single statement which also returns the changed executions
+ * with their previous status, so that the callers can account for exactly the changes the update
+ * made, even when the executions are changed concurrently.
+ */
+public interface JobExecutionStatusUpdateRepository {
+
+  /** An execution changed by the update, with its status before the update. */
+  @lombok.Value
+  class UpdatedExecution {
+    String id;
+
+    String jobName;
+
+    ExecutionStatus previousStatus;
+  }
+
+  /**
+   * Updates the status, end time and message of the specified executions which have one of the
+   * specified statuses, like {@link
+   * JobExecutionRepository#updateExecutionStatusWhereOldStatusInAndExecutionIdIn}.
+   *
+   * @return The executions changed by the update.
+   */
+  @Transactional
+  List<UpdatedExecution> updateExecutionStatusReturningPrevious(
+      ExecutionStatus newStatus,
+      OffsetDateTime endTime,
+      String message,
+      List<ExecutionStatus> statuses,
+      List<String> executionsToUpdate);
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service;
+
+import com.vmware.taurus.service.model.ExecutionStatus;
+import com.vmware.taurus.service.model.converter.ExecutionStatusConverter;
+import org.hibernate.Session;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/** Spring Data fragment implementing {@link JobExecutionStatusUpdateRepository}. */
+public class JobExecutionStatusUpdateRepositoryImpl implements JobExecutionStatusUpdateRepository {
+
+  // The self-join provides the status before the update, which RETURNING alone does not.
+  private static final String UPDATE_RETURNING_PREVIOUS =
+      "UPDATE data_job_execution e"
+          + " SET status = :newStatus, end_time = :endTime, message = :message"
+          + " FROM data_job_execution old"
+          + " WHERE old.id = e.id AND e.status IN (:statuses) AND e.id IN (:ids)"
+          + " RETURNING e.id, e.job_name, old.status";
+
+  // H2 (used by the tests) does not support RETURNING, but returns the old rows of an update.
+  private static final String H2_UPDATE_RETURNING_PREVIOUS =
+      "SELECT id, job_name, status FROM OLD TABLE ("
+          + "UPDATE data_job_execution"
+          + " SET status = :newStatus, end_time = :endTime, message = :message"
+          + " WHERE status IN (:statuses) AND id IN (:ids))";
+
+  private static final ExecutionStatusConverter STATUS_CONVERTER = new ExecutionStatusConverter();
+
+  @PersistenceContext private EntityManager entityManager;
+
+  private volatile Boolean h2;
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<UpdatedExecution> updateExecutionStatusReturningPrevious(
+      ExecutionStatus newStatus,
+      OffsetDateTime endTime,
+      String message,
+      List<ExecutionStatus> statuses,
+      List<String> executionsToUpdate) {
+    if (executionsToUpdate.isEmpty()) {
+      return List.of();
+    }
+    List<Object[]> rows =
+        entityManager
+            .createNativeQuery(isH2() ? H2_UPDATE_RETURNING_PREVIOUS : UPDATE_RETURNING_PREVIOUS)
+            .setParameter("newStatus", STATUS_CONVERTER.convertToDatabaseColumn(newStatus))
+            .setParameter("endTime", endTime)
+            .setParameter("message", message)
+            .setParameter(
+                "statuses",
+                statuses.stream()
+                    .map(STATUS_CONVERTER::convertToDatabaseColumn)
+                    .collect(Collectors.toList()))
+            .setParameter("ids", executionsToUpdate)
+            .getResultList();
+    return rows.stream()
+        .map(
+            row ->
+                new UpdatedExecution(
+                    (String) row[0],
+                    (String) row[1],
+                    STATUS_CONVERTER.convertToEntityAttribute(((Number) row[2]).intValue())))
+        .collect(Collectors.toList());
+  }
+
+  private boolean isH2() {
+    if (h2 == null) {
+      h2 =
+          entityManager
+              .unwrap(Session.class)
+              .doReturningWork(
+                  connection -> "H2".equals(connection.getMetaData().getDatabaseProductName()));
+    }
+    return h2;
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service;
+
+import com.vmware.taurus.service.graphql.model.DataJobExecutionFilter;
+import com.vmware.taurus.service.model.DataJobExecution;
+import com.vmware.taurus.service.model.DataJobExecutionView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads data job executions as {@link DataJobExecutionView} projections, for the APIs which list
+ * executions. The projection queries select only the columns of the view, joined with the team of
+ * the data job, instead of loading the execution entities together with their data jobs.
+ */
+public interface JobExecutionViewRepository {
+
+  /** Returns the executions matching the filter in the specified order. */
+  List<DataJobExecutionView> findAllViews(Specification<DataJobExecution> spec, Sort sort);
+
+  /** Returns a page (by offset) of the executions matching the filter. */
+  Page<DataJobExecutionView> findAllViews(
+      Specification<DataJobExecution> spec, Pageable pageable);
+
+  /**
+   * Returns a page (by cursor) of the executions matching the filter, like {@link
+   * JobExecutionKeysetRepository#findAll(Specification, Sort.Direction, JobExecutionCursor, int)}.
+   */
+  Slice<DataJobExecutionView> findAllViews(
+      Specification<DataJobExecution> spec,
+      Sort.Direction direction,
+      JobExecutionCursor after,
+      int pageSize);
+
+  /**
+   * Returns the executions matching the filter of each of the specified data jobs in the specified
+   * order, like {@link #findAllViewsPerJob(Collection, DataJobExecutionFilter, Pageable)} unpaged.
+   */
+  Map<String, List<DataJobExecutionView>> findAllViewsPerJob(
+      Collection<String> jobNames, DataJobExecutionFilter filter, Sort sort);
+
+  /**
+   * Returns a page (by offset) of the executions matching the filter of each of the specified data
+   * jobs, i.e. the page is applied to the executions of each data job separately. The executions of
+   * all data jobs are ranked by a single windowed query, instead of querying the executions of each
+   * data job.
+   *
+   * @param jobNames the names of the data jobs
+   * @param filter the filter of the executions; its job names are ignored
+   * @param pageable the page and the order of the executions of each data job
+   * @return the executions of each data job which has any, in the requested order
+   */
+  Map<String, List<DataJobExecutionView>> findAllViewsPerJob(
+      Collection<String> jobNames, DataJobExecutionFilter filter, Pageable pageable);
+
+  /**
+   * Returns a page (by cursor) of the executions matching the filter of each of the specified data
+   * jobs, like {@link #findAllViews(Specification, Sort.Direction, JobExecutionCursor, int)} for
+   * each data job, with a single windowed query.
+   */
+  Map<String, List<DataJobExecutionView>> findAllViewsPerJob(
+      Collection<String> jobNames,
+      DataJobExecutionFilter filter,
+      Sort.Direction direction,
+      JobExecutionCursor after,
+      int pageSize);
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service;
+
+import com.google.common.base.CaseFormat;
+import com.google.common.collect.Lists;
+import com.vmware.taurus.service.graphql.model.DataJobExecutionFilter;
+import com.vmware.taurus.service.model.DataJob;
+import com.vmware.taurus.service.model.DataJobExecution;
+import com.vmware.taurus.service.model.DataJobExecutionView;
+import com.vmware.taurus.service.model.DataJobExecution_;
+import com.vmware.taurus.service.model.ExecutionStatus;
+import com.vmware.taurus.service.model.DataJob_;
+import com.vmware.taurus.service.model.JobConfig_;
+import lombok.Value;
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.Attribute;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/** Spring Data fragment implementing {@link JobExecutionViewRepository}. */
+public class JobExecutionViewRepositoryImpl implements JobExecutionViewRepository {
+
+  private static final String JOB_NAME_PROPERTY = DataJobExecution_.DATA_JOB + "." + DataJob_.NAME;
+  private static final String JOB_TEAM_PROPERTY =
+      DataJobExecution_.DATA_JOB + "." + DataJob_.JOB_CONFIG + "." + JobConfig_.TEAM;
+
+  /** The maximum number of executions loaded by one query, to keep the list of their ids short. */
+  private static final int LOAD_CHUNK_SIZE = 1000;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public List<DataJobExecutionView> findAllViews(
+      Specification<DataJobExecution> spec, Sort sort) {
+    return createQuery(spec, null, sort).getResultList();
+  }
+
+  @Override
+  public Page<DataJobExecutionView> findAllViews(
+      Specification<DataJobExecution> spec, Pageable pageable) {
+    var query = createQuery(spec, null, pageable.getSort());
+    if (pageable.isPaged()) {
+      query.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+    }
+    return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+  }
+
+  @Override
+  public Slice<DataJobExecutionView> findAllViews(
+      Specification<DataJobExecution> spec,
+      Sort.Direction direction,
+      JobExecutionCursor after,
+      int pageSize) {
+    var sort = Sort.by(direction, DataJobExecution_.START_TIME, DataJobExecution_.ID);
+    // One more execution than the page size is read to find out whether there is a next page.
+    List<DataJobExecutionView> executions =
+        createQuery(spec, new KeysetPosition(direction, after), sort)
+            .setMaxResults(pageSize + 1)
+            .getResultList();
+    boolean hasNext = executions.size() > pageSize;
+    return new SliceImpl<>(
+        hasNext ? executions.subList(0, pageSize) : executions,
+        PageRequest.of(0, pageSize, sort),
+        hasNext);
+  }
+
+  @Override
+  public Map<String, List<DataJobExecutionView>> findAllViewsPerJob(
+      Collection<String> jobNames, DataJobExecutionFilter filter, Sort sort) {
+    return findAllViewsPerJob(rankBy(new RankingQuery(jobNames, filter), sort));
+  }
+
+  @Override
+  public Map<String, List<DataJobExecutionView>> findAllViewsPerJob(
+      Collection<String> jobNames, DataJobExecutionFilter filter, Pageable pageable) {
+    var ranking = rankBy(new RankingQuery(jobNames, filter), pageable.getSort());
+    if (pageable.isPaged()) {
+      ranking.limit(pageable.getOffset(), pageable.getPageSize());
+    }
+    return findAllViewsPerJob(ranking);
+  }
+
+  @Override
+  public Map<String, List<DataJobExecutionView>> findAllViewsPerJob(
+      Collection<String> jobNames,
+      DataJobExecutionFilter filter,
+      Sort.Direction direction,
+      JobExecutionCursor after,
+      int pageSize) {
+    var ranking = new RankingQuery(jobNames, filter);
+    ranking.where("e.start_time IS NOT NULL");
+    if (after != null) {
+      // The same condition as JobExecutionKeysetRepositoryImpl#seekPredicate.
+      String operator = direction.isAscending() ? ">" : "<";
+      ranking.where(
+          String.format(
+              "(e.start_time %1$s :afterStartTime"
+                  + " OR (e.start_time = :afterStartTime AND e.id %1$s :afterId))",
+              operator));
+      ranking.parameter("afterStartTime", after.getStartTime());
+      ranking.parameter("afterId", after.getId());
+    }
+    ranking.orderBy("e.start_time", direction).orderBy("e.id", direction).limit(0, pageSize);
+    return findAllViewsPerJob(ranking);
+  }
+
+  /**
+   * Ranks the executions of each data job by a single windowed query, which returns only the ids
+   * of the executions within the requested ranks, and then loads the projections of these
+   * executions, so that the executions of all data jobs are read with two queries, however many
+   * the data jobs are.
+   */
+  private Map<String, List<DataJobExecutionView>> findAllViewsPerJob(RankingQuery ranking) {
+    if (ranking.isEmpty()) {
+      return Map.of();
+    }
+    var query = entityManager.createNativeQuery(ranking.toSql());
+    ranking.getParameters().forEach(query::setParameter);
+    List<Object[]> rows = query.getResultList();
+
+    Map<String, Long> ranks = new HashMap<>();
+    rows.forEach(row -> ranks.put((String) row[0], ((Number) row[1]).longValue()));
+    List<DataJobExecutionView> views = new ArrayList<>(ranks.size());
+    for (List<String> ids : Lists.partition(new ArrayList<>(ranks.keySet()), LOAD_CHUNK_SIZE)) {
+      views.addAll(
+          findAllViews(
+              (root, criteriaQuery, builder) -> root.get(DataJobExecution_.ID).in(ids),
+              Sort.unsorted()));
+    }
+    return views.stream()
+        .sorted(Comparator.comparingLong((DataJobExecutionView view) -> ranks.get(view.getId())))
+        .collect(
+            Collectors.groupingBy(
+                DataJobExecutionView::getJobName, LinkedHashMap::new, Collectors.toList()));
+  }
+
+  /** Orders the ranking by the sort and then by id, so that the ranks are deterministic. */
+  private RankingQuery rankBy(RankingQuery ranking, Sort sort) {
+    for (Sort.Order order : sort) {
+      ranking.orderBy(toColumn(order.getProperty()), order.getDirection());
+    }
+    return ranking.orderBy("e.id", Sort.Direction.ASC);
+  }
+
+  /**
+   * Returns the column of the specified property of the executions, which is validated against the
+   * metamodel, as it is put in the SQL of the ranking query.
+   *
+   * @throws IllegalArgumentException if the executions cannot be ordered by the property.
+   */
+  private String toColumn(String property) {
+    if (JOB_NAME_PROPERTY.equals(property)) {
+      return "e.job_name";
+    }
+    if (JOB_TEAM_PROPERTY.equals(property)) {
+      return "j.team";
+    }
+    var attribute =
+        entityManager.getMetamodel().entity(DataJobExecution.class).getAttribute(property);
+    if (attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC) {
+      throw new IllegalArgumentException("Executions cannot be ordered by " + property);
+    }
+    return "e." + CaseFormat.LOWER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, property);
+  }
+
+  private TypedQuery<DataJobExecutionView> createQuery(
+      Specification<DataJobExecution> spec, KeysetPosition position, Sort sort) {
+    var builder = entityManager.getCriteriaBuilder();
+    var query = builder.createQuery(DataJobExecutionView.class);
+    var root = query.from(DataJobExecution.class);
+    Join<DataJobExecution, DataJob> dataJob = root.join(DataJobExecution_.DATA_JOB);
+
+    query.select(
+        builder.construct(
+            DataJobExecutionView.class,
+            root.get(DataJobExecution_.ID),
+            dataJob.get(DataJob_.NAME),
+            dataJob.get(DataJob_.JOB_CONFIG).get(JobConfig_.TEAM),
+            root.get(DataJobExecution_.TYPE),
+            root.get(DataJobExecution_.STATUS),
+            root.get(DataJobExecution_.MESSAGE),
+            root.get(DataJobExecution_.OP_ID),
+            root.get(DataJobExecution_.START_TIME),
+            root.get(DataJobExecution_.END_TIME),
+            root.get(DataJobExecution_.VDK_VERSION),
+            root.get(DataJobExecution_.JOB_VERSION),
+            root.get(DataJobExecution_.JOB_PYTHON_VERSION),
+            root.get(DataJobExecution_.JOB_SCHEDULE),
+            root.get(DataJobExecution_.RESOURCES_CPU_REQUEST),
+            root.get(DataJobExecution_.RESOURCES_CPU_LIMIT),
+            root.get(DataJobExecution_.RESOURCES_MEMORY_REQUEST),
+            root.get(DataJobExecution_.RESOURCES_MEMORY_LIMIT),
+            root.get(DataJobExecution_.LAST_DEPLOYED_DATE),
+            root.get(DataJobExecution_.LAST_DEPLOYED_BY),
+            root.get(DataJobExecution_.STARTED_BY)));
+
+    List<Predicate> predicates = new ArrayList<>(toPredicates(spec, root, query, builder));
+    if (position != null) {
+      predicates.add(builder.isNotNull(root.get(DataJobExecution_.START_TIME)));
+      if (position.getAfter() != null) {
+        predicates.add(
+            JobExecutionKeysetRepositoryImpl.seekPredicate(
+                root, builder, position.getDirection(), position.getAfter()));
+      }
+    }
+    query.where(predicates.toArray(new Predicate[0]));
+    if (sort != null && sort.isSorted()) {
+      query.orderBy(QueryUtils.toOrders(sort, root, builder));
+    }
+    return entityManager.createQuery(query);
+  }
+
+  private long count(Specification<DataJobExecution> spec) {
+    var builder = entityManager.getCriteriaBuilder();
+    var query = builder.createQuery(Long.class);
+    var root = query.from(DataJobExecution.class);
+    query
+        .select(builder.count(root))
+        .where(toPredicates(spec, root, query, builder).toArray(new Predicate[0]));
+    return entityManager.createQuery(query).getSingleResult();
+  }
+
+  private static List<Predicate> toPredicates(
+      Specification<DataJobExecution> spec,
+      Root<DataJobExecution> root,
+      CriteriaQuery<?> query,
+      CriteriaBuilder builder) {
+    if (spec == null) {
+      return List.of();
+    }
+    var predicate = spec.toPredicate(root, query, builder);
+    return predicate == null ? List.of() : List.of(predicate);
+  }
+
+  /**
+   * Builds the native query which ranks the executions matching the filter within each data job
+   * (ROW_NUMBER() OVER (PARTITION BY job_name ...)), which is not supported by JPQL and the
+   * Criteria API. The conditions are those of {@link JobExecutionFilterSpec}, except the job names.
+   */
+  private static class RankingQuery {
+
+    private final Collection<String> jobNames;
+    private final List<String> conditions = new ArrayList<>();
+    private final List<String> orders = new ArrayList<>();
+    private final Map<String, Object> parameters = new HashMap<>();
+    private boolean limited;
+
+    RankingQuery(Collection<String> jobNames, DataJobExecutionFilter filter) {
+      this.jobNames = jobNames;
+      where("e.job_name IN (:jobNames)");
+      parameter("jobNames", jobNames);
+      if (filter == null) {
+        return;
+      }
+      if (filter.getStartTimeGte() != null) {
+        where("e.start_time >= :startTimeGte");
+        parameter("startTimeGte", filter.getStartTimeGte());
+      }
+      if (filter.getStartTimeLte() != null) {
+        where("e.start_time <= :startTimeLte");
+        parameter("startTimeLte", filter.getStartTimeLte());
+      }
+      if (filter.getEndTimeGte() != null) {
+        where("e.end_time >= :endTimeGte");
+        parameter("endTimeGte", filter.getEndTimeGte());
+      }
+      if (filter.getEndTimeLte() != null) {
+        where("e.end_time <= :endTimeLte");
+        parameter("endTimeLte", filter.getEndTimeLte());
+      }
+      if (CollectionUtils.isNotEmpty(filter.getStatusIn())) {
+        where("e.status IN (:statuses)");
+        parameter(
+            "statuses",
+            filter.getStatusIn().stream()
+                .map(ExecutionStatus::getDbValue)
+                .collect(Collectors.toList()));
+      }
+      if (CollectionUtils.isNotEmpty(filter.getTeamNameIn())) {
+        where("j.team IN (:teamNames)");
+        parameter("teamNames", filter.getTeamNameIn());
+      }
+    }
+
+    boolean isEmpty() {
+      return jobNames.isEmpty();
+    }
+
+    Map<String, Object> getParameters() {
+      return parameters;
+    }
+
+    RankingQuery where(String condition) {
+      conditions.add(condition);
+      return this;
+    }
+
+    RankingQuery parameter(String name, Object value) {
+      parameters.put(name, value);
+      return this;
+    }
+
+    RankingQuery orderBy(String column, Sort.Direction direction) {
+      orders.add(column + " " + direction.name());
+      return this;
+    }
+
+    /** Limits the executions of each data job to the ranks (offset, offset + limit]. */
+    RankingQuery limit(long offset, int limit) {
+      limited = true;
+      parameter("firstRank", offset + 1);
+      parameter("lastRank", offset + limit);
+      return this;
+    }
+
+    String toSql() {
+      return "SELECT ranked.id, ranked.execution_rank FROM ("
+          + " SELECT e.id, ROW_NUMBER() OVER"
+          + "  (PARTITION BY e.job_name ORDER BY "
+          + String.join(", ", orders)
+          + ") AS execution_rank"
+          + " FROM data_job_execution e JOIN data_job j ON j.name = e.job_name"
+          + " WHERE "
+          + String.join(" AND ", conditions)
+          + ") ranked"
+          + (limited
+              ? " WHERE ranked.execution_rank BETWEEN :firstRank AND :lastRank"
+              : "");
+    }
+  }
+
+  /** The position of a page by cursor. */
+  @Value
+  private static class KeysetPosition {
+    Sort.Direction direction;
+    JobExecutionCursor after;
+  }
+}
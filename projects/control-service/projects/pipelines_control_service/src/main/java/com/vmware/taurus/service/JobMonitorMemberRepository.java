@@ -0,0 +1,30 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service;
+
+import com.vmware.taurus.service.model.JobMonitorMember;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import javax.transaction.Transactional;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Spring Data / JPA Repository for JobMonitorMember objects and their members
+ *
+ * <p>Spring Data automatically creates an implementation of this interface at runtime, provided
+ * {@link JobMonitorMember} is a valid JPA entity.
+ *
+ * <p>Methods throw {@link org.springframework.dao.DataAccessException} in case of issues of writing
+ * to the database.
+ */
+public interface JobMonitorMemberRepository extends JpaRepository<JobMonitorMember, String> {
+
+  List<JobMonitorMember> findByHeartbeatTimeAfterOrderByMemberId(OffsetDateTime heartbeatTime);
+
+  @Transactional
+  void deleteByHeartbeatTimeBefore(OffsetDateTime heartbeatTime);
+}
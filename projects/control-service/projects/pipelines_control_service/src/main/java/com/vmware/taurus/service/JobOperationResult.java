@@ -13,5 +13,9 @@ import lombok.Getter;
 @Builder
 public class JobOperationResult {
   private boolean completed;
+
+  /** Whether the operation has been accepted but is still being completed in the background. */
+  private boolean inProgress;
+
   private WebHookResult webHookResult;
 }
@@ -0,0 +1,20 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service;
+
+import com.vmware.taurus.service.model.JobWatchState;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Spring Data / JPA Repository for JobWatchState objects and their members
+ *
+ * <p>Spring Data automatically creates an implementation of this interface at runtime, provided
+ * {@link JobWatchState} is a valid JPA entity.
+ *
+ * <p>Methods throw {@link org.springframework.dao.DataAccessException} in case of issues of writing
+ * to the database.
+ */
+public interface JobWatchStateRepository extends JpaRepository<JobWatchState, String> {}
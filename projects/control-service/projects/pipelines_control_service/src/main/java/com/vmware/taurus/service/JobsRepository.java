@@ -6,9 +6,11 @@
 package com.vmware.taurus.service;
 
 import com.vmware.taurus.service.model.DataJob;
+import com.vmware.taurus.service.model.DataJobNameAndSchedule;
 import com.vmware.taurus.service.model.DeploymentStatus;
 import com.vmware.taurus.service.model.ExecutionStatus;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
@@ -17,6 +19,7 @@ import org.springframework.stereotype.Repository;
 
 import javax.transaction.Transactional;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,7 +35,10 @@ import java.util.Optional;
  * <p>JobsRepositoryIT validates some aspects of the behavior
  */
 @Repository
-public interface JobsRepository extends PagingAndSortingRepository<DataJob, String> {
+public interface JobsRepository
+    extends PagingAndSortingRepository<DataJob, String>,
+        JpaSpecificationExecutor<DataJob>,
+        DataJobQueryRepository {
   List<DataJob> findAllByJobConfigTeam(String team, Pageable pageable);
 
   Optional<DataJob> findDataJobByNameAndJobConfigTeam(String jobName, String teamName);
@@ -74,4 +80,51 @@ public interface JobsRepository extends PagingAndSortingRepository<DataJob, Stri
       @Param(value = "id") String id);
 
   boolean existsDataJobByNameAndJobConfigTeam(String jobName, String teamName);
+
+  /**
+   * Returns the names and the schedules of the data jobs with a schedule, whose next run time is
+   * not computed yet or is not after the specified time, i.e. has to be advanced.
+   *
+   * @see com.vmware.taurus.service.schedule.DataJobNextRunService
+   */
+  @Query(
+      "select j.name as name, j.jobConfig.schedule as schedule from DataJob j"
+          + " where j.jobConfig.schedule is not null and j.jobConfig.schedule <> ''"
+          + " and (j.nextRunTime is null or j.nextRunTime <= :time)")
+  List<DataJobNameAndSchedule> findDataJobSchedulesByNextRunTimeNotAfter(
+      @Param(value = "time") OffsetDateTime time);
+
+  /**
+   * Sets the next run time of the specified data jobs which still have the specified schedule, so
+   * that a next run time computed by a schedule does not overwrite a change of the schedule.
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query(
+      "update DataJob j set j.nextRunTime = :nextRunTime"
+          + " where j.name in :names and j.jobConfig.schedule = :schedule")
+  int updateDataJobNextRunTimeByNameInAndSchedule(
+      @Param(value = "names") Collection<String> names,
+      @Param(value = "schedule") String schedule,
+      @Param(value = "nextRunTime") OffsetDateTime nextRunTime);
+
+  /**
+   * Returns the names of the data jobs after the specified name in name order, so that all data
+   * jobs can be processed in batches (keyset pagination) by passing the last name of a batch.
+   */
+  @Query("select j.name from DataJob j where j.name > :name order by j.name")
+  List<String> findDataJobNamesByNameGreaterThan(
+      @Param(value = "name") String name, Pageable pageable);
+
+  /**
+   * Deletes the data job row with a single statement, without loading the data job and its
+   * executions first (as {@link #deleteById} does to cascade the removal). The remaining executions
+   * and the execution statistics of the data job are deleted by the database (on delete cascade).
+   *
+   * @see DataJobDeletionService
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("delete from DataJob j where j.name = :name")
+  int deleteDataJobByName(@Param(value = "name") String name);
 }
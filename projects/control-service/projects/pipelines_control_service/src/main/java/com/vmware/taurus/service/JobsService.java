@@ -12,6 +12,7 @@ import java.util.Optional;
 
 import com.google.common.collect.Lists;
 import lombok.AllArgsConstructor;
+import net.javacrumbs.shedlock.core.SimpleLock;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +22,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import com.vmware.taurus.datajobs.webhook.PostCreateWebHookProvider;
+import com.vmware.taurus.exception.DataJobDeletionInProgressException;
 import com.vmware.taurus.datajobs.webhook.PostDeleteWebHookProvider;
 import com.vmware.taurus.service.credentials.JobCredentialsService;
 import com.vmware.taurus.service.deploy.DeploymentService;
@@ -28,6 +30,7 @@ import com.vmware.taurus.service.model.DataJob;
 import com.vmware.taurus.service.model.DataJobExecution;
 import com.vmware.taurus.service.model.ExecutionStatus;
 import com.vmware.taurus.service.monitoring.DataJobMetrics;
+import com.vmware.taurus.service.schedule.DataJobNextRunService;
 import com.vmware.taurus.service.webhook.WebHookRequestBody;
 import com.vmware.taurus.service.webhook.WebHookRequestBodyProvider;
 import com.vmware.taurus.service.webhook.WebHookResult;
@@ -52,23 +55,52 @@ public class JobsService {
   private final PostCreateWebHookProvider postCreateWebHookProvider;
   private final PostDeleteWebHookProvider postDeleteWebHookProvider;
   private final DataJobMetrics dataJobMetrics;
+  private final DataJobCache dataJobCache;
+  private final DataJobDeletionService dataJobDeletionService;
+  private final DataJobNextRunService dataJobNextRunService;
 
+  /**
+   * Deletes a data job if it exists
+   *
+   * @param name the name of the data job
+   * @return JobOperationResult with information whether the job existed and was deleted. A data job
+   *     with many executions is deleted in the background, in which case the result is in progress,
+   *     also if the data job was already being deleted. In addition it will contain WebHookResult
+   *     in case the WebHookRequest returns 4xx error.
+   */
   public JobOperationResult deleteJob(String name) {
     if (!jobsRepository.existsById(name)) {
       return JobOperationResult.builder().completed(false).build();
     }
 
+    Optional<SimpleLock> deletionLock = Optional.empty();
+    if (dataJobDeletionService.isDeletedInBackground(name)) {
+      deletionLock = dataJobDeletionService.lockBackgroundDeletion(name);
+      if (deletionLock.isEmpty()) {
+        log.debug("Data job {} is already being deleted", name);
+        return JobOperationResult.builder().completed(true).inProgress(true).build();
+      }
+    }
+
     WebHookRequestBody requestBody =
         webHookRequestBodyProvider.constructPostDeleteBody(jobsRepository.findById(name).get());
     Optional<WebHookResult> resultHolder = postDeleteWebHookProvider.invokeWebHook(requestBody);
     if (isInvocationSuccessful(resultHolder)) {
       credentialsService.deleteJobCredentials(name);
       deploymentService.deleteDeployment(name);
-      jobsRepository.deleteById(name);
+      if (deletionLock.isPresent()) {
+        dataJobDeletionService.deleteDataJobInBackground(name, deletionLock.get());
+      } else {
+        dataJobDeletionService.deleteDataJob(name);
+      }
       dataJobMetrics.clearGauges(name);
 
-      return JobOperationResult.builder().completed(true).build();
+      return JobOperationResult.builder()
+          .completed(true)
+          .inProgress(deletionLock.isPresent())
+          .build();
     } else {
+      deletionLock.ifPresent(SimpleLock::unlock);
       log.debug(
           "Post Delete WebHook Provider returns unsuccessful result. Job: {} will not be persisted"
               + " ...",
@@ -89,11 +121,16 @@ public class JobsService {
    * @return JobOperationResult with information whether the job was created and didn't exist before
    *     the operation. In addition it will contain WebHookResult in case the WebHookRequest returns
    *     4xx error.
+   * @throws DataJobDeletionInProgressException if the job exists and is being deleted in the
+   *     background
    */
   public JobOperationResult createJob(DataJob jobInfo) {
     Objects.requireNonNull(jobInfo);
     Objects.requireNonNull(jobInfo.getJobConfig());
     if (jobsRepository.existsById(jobInfo.getName())) {
+      if (dataJobDeletionService.isDeletionInProgress(jobInfo.getName())) {
+        throw new DataJobDeletionInProgressException(jobInfo.getName());
+      }
       return JobOperationResult.builder().completed(false).build();
     }
 
@@ -104,7 +141,9 @@ public class JobsService {
       if (jobInfo.getJobConfig().isGenerateKeytab()) {
         credentialsService.createJobCredentials(jobInfo.getName());
       }
+      dataJobNextRunService.updateNextRunTime(jobInfo);
       var dataJob = jobsRepository.save(jobInfo);
+      dataJobCache.invalidate(dataJob.getName());
       dataJobMetrics.updateInfoGauges(dataJob);
 
       return JobOperationResult.builder().completed(true).build();
@@ -139,7 +178,9 @@ public class JobsService {
    */
   public boolean updateJob(DataJob jobInfo) {
     if (jobsRepository.existsById(jobInfo.getName())) {
+      dataJobNextRunService.updateNextRunTime(jobInfo);
       dataJobMetrics.updateInfoGauges(jobsRepository.save(jobInfo));
+      dataJobCache.invalidate(jobInfo.getName());
       return true;
     }
     return false;
@@ -184,16 +225,28 @@ public class JobsService {
     return dataJobs;
   }
 
+  /**
+   * Checks the team of the data job in the {@link DataJobCache} if it is enabled, and with an
+   * exists query, which does not load the data job, otherwise.
+   */
   public boolean jobWithTeamExists(String jobName, String teamName) {
-    return jobsRepository.existsDataJobByNameAndJobConfigTeam(jobName, teamName);
+    if (!dataJobCache.isEnabled()) {
+      return jobsRepository.existsDataJobByNameAndJobConfigTeam(jobName, teamName);
+    }
+    return getByNameAndTeam(jobName, teamName).isPresent();
   }
 
+  /** Returns the specified data job, which may be served from the {@link DataJobCache}. */
   public Optional<DataJob> getByName(String name) {
-    return jobsRepository.findById(name);
+    return dataJobCache.get(name, jobsRepository::findById);
   }
 
   public Optional<DataJob> getByNameAndTeam(String jobName, String teamName) {
-    return jobsRepository.findDataJobByNameAndJobConfigTeam(jobName, teamName);
+    return getByName(jobName)
+        .filter(
+            dataJob ->
+                dataJob.getJobConfig() != null
+                    && Objects.equals(dataJob.getJobConfig().getTeam(), teamName));
   }
 
   /**
@@ -253,11 +306,13 @@ public class JobsService {
         (int)
             (dataJobExecution.getEndTime().toEpochSecond()
                 - dataJobExecution.getStartTime().toEpochSecond()));
+    dataJobCache.invalidate(dataJob.getName());
   }
 
   /**
    * Updates the latest termination status for the specified data job. The status is updated only if
-   * it has changes since the last.
+   * it has changes since the last. The data job of the execution is updated as well, so that it can
+   * be used without being reloaded.
    */
   public boolean updateTerminationStatus(final DataJobExecution dataJobExecution) {
     Objects.requireNonNull(dataJobExecution);
@@ -292,6 +347,9 @@ public class JobsService {
 
     jobsRepository.updateDataJobLatestTerminationStatusByName(
         dataJob.getName(), executionStatus, executionId);
+    dataJobCache.invalidate(dataJob.getName());
+    dataJob.setLatestJobTerminationStatus(executionStatus);
+    dataJob.setLatestJobExecutionId(executionId);
 
     return true;
   }
@@ -8,6 +8,8 @@ package com.vmware.taurus.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.base.Charsets;
 import com.google.common.collect.Iterables;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
 import com.vmware.taurus.exception.JsonDissectException;
@@ -15,13 +17,17 @@ import com.vmware.taurus.exception.KubernetesException;
 import com.vmware.taurus.exception.KubernetesJobDefinitionException;
 import com.vmware.taurus.service.deploy.DockerImageName;
 import com.vmware.taurus.service.deploy.JobCommandProvider;
+import com.vmware.taurus.service.kubernetes.JobsInformer;
+import com.vmware.taurus.service.kubernetes.KubernetesApiSubsystem;
 import com.vmware.taurus.service.model.JobAnnotation;
 import com.vmware.taurus.service.model.JobDeploymentStatus;
 import com.vmware.taurus.service.model.JobLabel;
 import com.vmware.taurus.service.threads.ThreadPoolConf;
+import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.Configuration;
+import io.kubernetes.client.openapi.JSON;
 import io.kubernetes.client.PodLogs;
 import io.kubernetes.client.openapi.apis.*;
 import io.kubernetes.client.custom.IntOrString;
@@ -38,16 +44,26 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.io.*;
 import java.math.BigInteger;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -75,8 +91,10 @@ public abstract class KubernetesService {
 
   public static final String LABEL_PREFIX = "com.vmware.taurus";
   private static final int WATCH_JOBS_TIMEOUT_SECONDS = 300;
+  private static final int INFORMER_SYNC_TIMEOUT_SECONDS = 5;
   private static final String K8S_DATA_JOB_TEMPLATE_RESOURCE = "k8s-data-job-template.yaml";
   private static final String V1_K8S_DATA_JOB_TEMPLATE_RESOURCE = "v1-k8s-data-job-template.yaml";
+  private static final Gson TEMPLATE_GSON = new JSON().getGson();
 
   private static int fromInteger(Integer value) {
     return Optional.ofNullable(value).orElse(0);
@@ -154,6 +172,7 @@ public abstract class KubernetesService {
     String deployedBy;
     String mainContainerTerminationReason;
     String initContainerTerminationReason;
+    String monitoringShard;
   }
 
   @AllArgsConstructor
@@ -173,12 +192,35 @@ public abstract class KubernetesService {
       "${datajobs.control.k8s.jobTTLAfterFinishedSeconds}")
   private int jobTTLAfterFinishedSeconds;
 
+  @org.springframework.beans.factory.annotation.Value(
+      "${datajobs.control.k8s.informer.enabled:false}")
+  private boolean informerEnabled;
+
+  @org.springframework.beans.factory.annotation.Value(
+      "${datajobs.control.k8s.informer.resyncPeriodSeconds:300}")
+  private long informerResyncPeriodSeconds;
+
+  @org.springframework.beans.factory.annotation.Value(
+      "${datajobs.control.k8s.logs.maxConcurrentFetches:0}")
+  private int logsMaxConcurrentFetches;
+
+  @org.springframework.beans.factory.annotation.Value(
+      "${datajobs.control.k8s.logs.fetchTimeoutSeconds:30}")
+  private long logsFetchTimeoutSeconds;
+
+  @org.springframework.beans.factory.annotation.Value(
+      "${datajobs.control.k8s.listPageSize:500}")
+  private int listPageSize;
+
   protected String namespace;
   private Logger log;
   private final ApiClient client;
   protected final BatchV1Api batchV1Api;
   protected final BatchV1beta1Api batchV1beta1Api;
   private boolean k8sSupportsV1CronJob;
+  private JobsInformer jobsInformer;
+  private final Map<String, ParsedCronjobTemplate> cronjobTemplates = new ConcurrentHashMap<>();
+  private Semaphore logsFetchPermits;
 
   @Autowired private final JobCommandProvider jobCommandProvider;
 
@@ -209,6 +251,52 @@ public abstract class KubernetesService {
     return this.k8sSupportsV1CronJob;
   }
 
+  /**
+   * Starts the shared informers which keep a local, indexed copy of the Jobs and Pods in the
+   * namespace. While the informers are not synced, the lookups fall back to listing the resources
+   * through the API server.
+   */
+  @PostConstruct
+  void startJobsInformer() {
+    if (informerEnabled && jobsInformer == null) {
+      jobsInformer =
+          new JobsInformer(client, batchV1Api, namespace, informerResyncPeriodSeconds);
+      jobsInformer.start();
+    }
+  }
+
+  /**
+   * Returns the jobs informer once it has synced, waiting a few seconds for its initial listing if
+   * needed. Empty if the informer is disabled or has not synced in time, in which case the callers
+   * should use the API server directly.
+   */
+  private Optional<JobsInformer> awaitSyncedJobsInformer() {
+    if (jobsInformer == null) {
+      return Optional.empty();
+    }
+    if (!jobsInformer.awaitSynced(Duration.ofSeconds(INFORMER_SYNC_TIMEOUT_SECONDS))) {
+      log.warn("Jobs informer for namespace {} has not synced yet", namespace);
+      return Optional.empty();
+    }
+    return Optional.of(jobsInformer);
+  }
+
+  @PreDestroy
+  void stopJobsInformer() {
+    if (jobsInformer != null) {
+      jobsInformer.stop();
+    }
+  }
+
+  // Default for testing purposes
+  void setJobsInformer(JobsInformer jobsInformer) {
+    this.jobsInformer = jobsInformer;
+  }
+
+  private Optional<JobsInformer> getSyncedJobsInformer() {
+    return Optional.ofNullable(jobsInformer).filter(JobsInformer::hasSynced);
+  }
+
   private V1CronJob loadV1CronjobTemplate() {
     if (StringUtils.isEmpty(datajobTemplateFileLocation)) {
       log.debug("Datajob template file location is not set. Using internal datajob template.");
@@ -293,27 +381,41 @@ public abstract class KubernetesService {
   }
 
   private V1beta1CronJob loadV1beta1CronjobTemplate(File datajobTemplateFile) throws Exception {
-    String cronjobTemplateString = Files.readString(datajobTemplateFile.toPath());
-    // Check whether the string template is a valid datajob template.
-    V1beta1CronJob cronjobTemplate = Yaml.loadAs(cronjobTemplateString, V1beta1CronJob.class);
-    log.debug(
-        "Datajob template for file '{}': \n{}",
-        datajobTemplateFile.getCanonicalPath(),
-        cronjobTemplate);
-
-    return cronjobTemplate;
+    return loadCronjobTemplate(datajobTemplateFile, V1beta1CronJob.class);
   }
 
   private V1CronJob loadV1CronjobTemplate(File datajobTemplateFile) throws Exception {
-    String cronjobTemplateString = Files.readString(datajobTemplateFile.toPath());
-    // Check whether the string template is a valid datajob template.
-    V1CronJob cronjobTemplate = Yaml.loadAs(cronjobTemplateString, V1CronJob.class);
-    log.debug(
-        "Datajob template for file '{}': \n{}",
-        datajobTemplateFile.getCanonicalPath(),
-        cronjobTemplate);
+    return loadCronjobTemplate(datajobTemplateFile, V1CronJob.class);
+  }
 
-    return cronjobTemplate;
+  /**
+   * The datajob template file is parsed only the first time it is used, and again only when it is
+   * modified. Each caller gets its own deep copy of the parsed template, which it can modify.
+   */
+  private <T> T loadCronjobTemplate(File datajobTemplateFile, Class<T> type) throws Exception {
+    String key = type.getName() + ":" + datajobTemplateFile.getPath();
+    long lastModified = datajobTemplateFile.lastModified();
+    ParsedCronjobTemplate cached = cronjobTemplates.get(key);
+    if (cached == null || cached.getLastModified() != lastModified) {
+      String cronjobTemplateString = Files.readString(datajobTemplateFile.toPath());
+      // Check whether the string template is a valid datajob template.
+      T cronjobTemplate = Yaml.loadAs(cronjobTemplateString, type);
+      log.debug(
+          "Datajob template for file '{}': \n{}",
+          datajobTemplateFile.getCanonicalPath(),
+          cronjobTemplate);
+      cached = new ParsedCronjobTemplate(lastModified, TEMPLATE_GSON.toJsonTree(cronjobTemplate));
+      cronjobTemplates.put(key, cached);
+    }
+
+    return TEMPLATE_GSON.fromJson(cached.getTemplate(), type);
+  }
+
+  /** A datajob template, kept as a JSON tree from which cheap deep copies can be made. */
+  @Value
+  private static class ParsedCronjobTemplate {
+    long lastModified;
+    JsonElement template;
   }
 
   public Pair<Boolean, String> health() {
@@ -344,11 +446,22 @@ public abstract class KubernetesService {
 
   public Set<String> listJobs() throws ApiException {
     log.debug("Listing k8s jobs");
-    var jobs =
-        batchV1Api.listNamespacedJob(
-            namespace, null, null, null, null, null, null, null, null, null, null);
-    var set =
-        jobs.getItems().stream().map(j -> j.getMetadata().getName()).collect(Collectors.toSet());
+    var informer = getSyncedJobsInformer();
+    Set<String> set;
+    if (informer.isPresent()) {
+      set =
+          informer.get().listJobs().stream()
+              .map(j -> j.getMetadata().getName())
+              .collect(Collectors.toSet());
+    } else {
+      Set<String> names = new HashSet<>();
+      listPaged(
+          (continueToken, limit) ->
+              batchV1Api.listNamespacedJob(
+                  namespace, null, null, continueToken, null, null, limit, null, null, null, null),
+          page -> page.getItems().forEach(j -> names.add(j.getMetadata().getName())));
+      set = names;
+    }
     log.debug("K8s jobs: {}", set);
     return set;
   }
@@ -417,40 +530,44 @@ public abstract class KubernetesService {
 
   public List<JobDeploymentStatus> readV1beta1CronJobDeploymentStatuses() {
     log.debug("Reading all k8s V1beta1 cron jobs");
-    V1beta1CronJobList cronJobs = null;
+    List<JobDeploymentStatus> deploymentStatuses = new ArrayList<>();
     try {
-      cronJobs =
-          batchV1beta1Api.listNamespacedCronJob(
-              namespace, null, null, null, null, null, null, null, null, null, null);
+      this.<V1beta1CronJobList>listPaged(
+          (continueToken, limit) ->
+              batchV1beta1Api.listNamespacedCronJob(
+                  namespace, null, null, continueToken, null, null, limit, null, null, null, null),
+          page ->
+              page.getItems().stream()
+                  .map(cronJob -> mapV1beta1CronJobToDeploymentStatus(cronJob, null))
+                  .flatMap(Optional::stream)
+                  .forEach(deploymentStatuses::add));
     } catch (ApiException e) {
       log.warn("Failed to read k8s cron jobs: ", new KubernetesException("", e));
+      return Collections.emptyList();
     }
 
-    return cronJobs == null
-        ? Collections.emptyList()
-        : cronJobs.getItems().stream()
-            .map(cronJob -> mapV1beta1CronJobToDeploymentStatus(cronJob, null))
-            .flatMap(Optional::stream)
-            .collect(Collectors.toList());
+    return deploymentStatuses;
   }
 
   public List<JobDeploymentStatus> readV1CronJobDeploymentStatuses() {
     log.debug("Reading all k8s V1 cron jobs");
-    V1CronJobList cronJobs = null;
+    List<JobDeploymentStatus> deploymentStatuses = new ArrayList<>();
     try {
-      cronJobs =
-          batchV1Api.listNamespacedCronJob(
-              namespace, null, null, null, null, null, null, null, null, null, null);
+      this.<V1CronJobList>listPaged(
+          (continueToken, limit) ->
+              batchV1Api.listNamespacedCronJob(
+                  namespace, null, null, continueToken, null, null, limit, null, null, null, null),
+          page ->
+              page.getItems().stream()
+                  .map(cronJob -> mapV1CronJobToDeploymentStatus(cronJob, null))
+                  .flatMap(Optional::stream)
+                  .forEach(deploymentStatuses::add));
     } catch (ApiException e) {
       log.warn("Failed to read k8s cron jobs: ", new KubernetesException("", e));
+      return Collections.emptyList();
     }
 
-    return cronJobs == null
-        ? Collections.emptyList()
-        : cronJobs.getItems().stream()
-            .map(cronJob -> mapV1CronJobToDeploymentStatus(cronJob, null))
-            .flatMap(Optional::stream)
-            .collect(Collectors.toList());
+    return deploymentStatuses;
   }
 
   public void startNewCronJobExecution(
@@ -842,11 +959,14 @@ public abstract class KubernetesService {
   }
 
   public Optional<V1Pod> getPod(String podName) throws ApiException {
+    var informer = getSyncedJobsInformer();
     List<V1Pod> allPods =
-        new CoreV1Api(client)
-            .listNamespacedPod(
-                namespace, "false", null, null, null, null, null, null, null, null, null)
-            .getItems();
+        informer.isPresent()
+            ? informer.get().listPods()
+            : new CoreV1Api(client)
+                .listNamespacedPod(
+                    namespace, "false", null, null, null, null, null, null, null, null, null)
+                .getItems();
 
     return allPods.stream()
         .filter(pod -> pod.getMetadata().getName().startsWith(podName))
@@ -854,6 +974,13 @@ public abstract class KubernetesService {
   }
 
   private List<V1Pod> listJobPods(V1Job job) throws ApiException {
+    var informer = getSyncedJobsInformer();
+    if (informer.isPresent()) {
+      var pods = informer.get().listJobPods(job.getMetadata().getName());
+      log.trace("K8s pods of job {} from informer cache: {}", job.getMetadata().getName(), pods);
+      return pods;
+    }
+
     var labelsToSelect = Map.of("job-name", job.getMetadata().getName());
     log.debug("Getting pods with labels {}", labelsToSelect);
     String labelSelector = buildLabelSelector(labelsToSelect);
@@ -867,18 +994,25 @@ public abstract class KubernetesService {
   }
 
   public boolean isRunningJob(String dataJobName) throws ApiException {
-    var labelsToSelect = Map.of(JobLabel.NAME.getValue(), dataJobName);
-    String labelSelector = buildLabelSelector(labelsToSelect);
-    V1JobList v1JobList =
-        batchV1Api.listNamespacedJob(
-            namespace, null, null, null, null, labelSelector, null, null, null, null, null);
+    List<V1Job> jobs;
+    var informer = getSyncedJobsInformer();
+    if (informer.isPresent()) {
+      jobs = informer.get().listJobsByDataJobName(dataJobName);
+    } else {
+      var labelsToSelect = Map.of(JobLabel.NAME.getValue(), dataJobName);
+      String labelSelector = buildLabelSelector(labelsToSelect);
+      V1JobList v1JobList =
+          batchV1Api.listNamespacedJob(
+              namespace, null, null, null, null, labelSelector, null, null, null, null, null);
+      jobs =
+          Optional.ofNullable(v1JobList).map(V1JobList::getItems).orElse(Collections.emptyList());
+    }
 
     // In this case we use getConditions() instead of getActive()
     // because if the job is in init state the active flag is zero.
     // We want to track those jobs as submitted as well.
     // The getConditions() returns result only if the job is completed.
-    return Optional.ofNullable(v1JobList).map(V1JobList::getItems).stream()
-        .flatMap(Collection::stream)
+    return jobs.stream()
         .map(V1Job::getStatus)
         .filter(Objects::nonNull)
         .map(V1JobStatus::getConditions)
@@ -910,27 +1044,109 @@ public abstract class KubernetesService {
 
   public Optional<String> getJobLogs(String jobName, Integer tailLines)
       throws ApiException, IOException {
-    var job = getJob(jobName);
-    if (job.isPresent()) {
-      var pods = listJobPods(job.get());
-      if (pods.size() > 0) {
-        var pod = pods.get(pods.size() - 1);
-
-        try (BufferedReader br =
-            new BufferedReader(
-                new InputStreamReader(
+    var logs = streamJobLogs(jobName, tailLines, null, null);
+    if (logs.isPresent()) {
+      try (BufferedReader br =
+          new BufferedReader(new InputStreamReader(logs.get(), Charsets.UTF_8))) {
+        return Optional.of(br.lines().collect(Collectors.joining(System.lineSeparator())));
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Opens a stream to the logs of the last pod of the job. The logs are not loaded in memory, so
+   * the caller is responsible for closing the stream.
+   *
+   * @param jobName The name of the job.
+   * @param tailLines If set, the number of lines from the end of the logs to return.
+   * @param sinceSeconds If set, only the logs from that many seconds ago until now are returned.
+   * @param limitBytes If set, the maximum number of bytes of the logs to return.
+   * @return The logs of the job, or empty if the job or its pods do not exist.
+   */
+  public Optional<InputStream> streamJobLogs(
+      String jobName, Integer tailLines, Integer sinceSeconds, Integer limitBytes)
+      throws ApiException, IOException {
+    try (var scope = KubernetesApiSubsystem.LOGS.enter()) {
+      var job = getJob(jobName);
+      if (job.isPresent()) {
+        var pods = listJobPods(job.get());
+        if (pods.size() > 0) {
+          var pod = pods.get(pods.size() - 1);
+          var permits = getLogsFetchPermits();
+          acquireLogsFetchPermit(permits, jobName);
+          try {
+            return Optional.of(
+                new LogsFetchInputStream(
                     readNamespacedPodLog(
                         pod.getMetadata().getNamespace(),
                         pod.getMetadata().getName(),
                         pod.getSpec().getContainers().get(0).getName(),
-                        tailLines),
-                    Charsets.UTF_8))) {
-          String logs = br.lines().collect(Collectors.joining(System.lineSeparator()));
-          return Optional.of(logs);
+                        tailLines,
+                        sinceSeconds,
+                        limitBytes),
+                    permits));
+          } catch (ApiException | IOException | RuntimeException e) {
+            permits.release();
+            throw e;
+          }
+        }
+      }
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * The log fetches are limited per instance of the service by {@code
+   * datajobs.control.k8s.logs.maxConcurrentFetches}, since each one keeps a connection to the API
+   * server (and the kubelet) open until its logs are read. Not limited if the property is not
+   * positive.
+   */
+  private synchronized Semaphore getLogsFetchPermits() {
+    if (logsFetchPermits == null) {
+      logsFetchPermits =
+          new Semaphore(
+              logsMaxConcurrentFetches > 0 ? logsMaxConcurrentFetches : Integer.MAX_VALUE);
+    }
+    return logsFetchPermits;
+  }
+
+  private void acquireLogsFetchPermit(Semaphore permits, String jobName) throws ApiException {
+    try {
+      if (!permits.tryAcquire(logsFetchTimeoutSeconds, TimeUnit.SECONDS)) {
+        throw new ApiException(
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            String.format(
+                "Logs of job %s cannot be fetched, because %d other log fetches are in progress.",
+                jobName, logsMaxConcurrentFetches));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ApiException(e);
+    }
+  }
+
+  /** Releases the permit of the log fetch when the logs are closed. */
+  private static class LogsFetchInputStream extends FilterInputStream {
+
+    private final Semaphore permits;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    LogsFetchInputStream(InputStream logs, Semaphore permits) {
+      super(logs);
+      this.permits = permits;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed.compareAndSet(false, true)) {
+        try {
+          super.close();
+        } finally {
+          permits.release();
         }
       }
     }
-    return Optional.empty();
   }
 
   /**
@@ -938,13 +1154,28 @@ public abstract class KubernetesService {
    * that we set follow=false
    */
   private InputStream readNamespacedPodLog(
-      String namespace, String name, String container, Integer tailLines)
+      String namespace,
+      String name,
+      String container,
+      Integer tailLines,
+      Integer sinceSeconds,
+      Integer limitBytes)
       throws ApiException, IOException {
     Response response =
         new CoreV1Api(client)
             .readNamespacedPodLogCall(
-                name, namespace, container, false, null, null, "false", false, null, tailLines,
-                true, null)
+                name,
+                namespace,
+                container,
+                false,
+                null,
+                limitBytes,
+                "false",
+                false,
+                sinceSeconds,
+                tailLines,
+                true,
+                null)
             .execute();
     if (!response.isSuccessful()) {
       if (response.body() != null) {
@@ -955,19 +1186,63 @@ public abstract class KubernetesService {
     return response.body().byteStream();
   }
 
-  public JobStatusCondition watchJob(
+  /**
+   * Returns a future of the final condition of the job, completed once the job finishes or is
+   * deleted, or after {@code timeoutSeconds}. The job events are received through the shared watch
+   * of the jobs informer, so neither requests are sent to the API server nor is the calling thread
+   * blocked while waiting. The future is completed by the thread of the informer, so the callers
+   * should continue on their own executor (e.g. with {@link
+   * CompletableFuture#thenApplyAsync(java.util.function.Function, java.util.concurrent.Executor)}).
+   * Falls back to watching the job directly if the informer is disabled or cannot sync, in which
+   * case the future is completed before it is returned.
+   *
+   * @return A future of the final condition of the job, or of a failed condition if its status
+   *     cannot be determined.
+   */
+  public CompletableFuture<JobStatusCondition> awaitJobCompletion(
       String jobName, int timeoutSeconds, Consumer<JobStatus> watcher)
       throws ApiException, IOException, InterruptedException {
     log.debug("Watch job {}; timeoutSeconds: {}", jobName, timeoutSeconds);
+    var informer = awaitSyncedJobsInformer();
+    if (informer.isPresent()) {
+      return informer
+          .get()
+          .awaitJobCompletion(jobName)
+          .orTimeout(timeoutSeconds, TimeUnit.SECONDS)
+          .handle((job, error) -> toJobCondition(jobName, timeoutSeconds, job, error, watcher));
+    }
+
     JobStatusCondition condition = null;
     // we may have started watching too soon
     // TODO: set resourceVersion when watching to optimize waits or even avoid the loop here ?
     // https://kubernetes.io/docs/reference/using-api/api-concepts/#resource-versions
     // https://kubernetes.io/docs/reference/using-api/api-concepts/#efficient-detection-of-changes
-    int counter = timeoutSeconds;
-    while (condition == null && --counter > 0) {
+    long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(timeoutSeconds);
+    long remainingSeconds = timeoutSeconds;
+    while (condition == null && remainingSeconds > 0) {
       Thread.sleep(1000);
-      condition = watchJobInternal(jobName, timeoutSeconds, watcher);
+      condition = watchJobInternal(jobName, (int) remainingSeconds, watcher);
+      remainingSeconds =
+          TimeUnit.MILLISECONDS.toSeconds(deadline - System.currentTimeMillis());
+    }
+    if (condition == null) {
+      condition = new JobStatusCondition(false, null, "Cannot determine job status", "", 0);
+    }
+    return CompletableFuture.completedFuture(condition);
+  }
+
+  private JobStatusCondition toJobCondition(
+      String jobName, int timeoutSeconds, V1Job job, Throwable error, Consumer<JobStatus> watcher) {
+    JobStatusCondition condition = null;
+    if (error instanceof TimeoutException) {
+      log.info("Job {} has not finished within {} seconds", jobName, timeoutSeconds);
+    } else if (error != null) {
+      log.info("Could not get status of job {}. Error was: {}", jobName, error.getMessage());
+    } else if (job.getStatus() != null) {
+      var status = new JobStatus(job.getStatus());
+      log.debug("Job {} status: {}", jobName, status);
+      watcher.accept(status);
+      condition = getJobCondition(job);
     }
     if (condition == null) {
       condition = new JobStatusCondition(false, null, "Cannot determine job status", "", 0);
@@ -975,6 +1250,34 @@ public abstract class KubernetesService {
     return condition;
   }
 
+  /**
+   * Returns a future which is completed with true once the job is deleted, or with false if it
+   * still exists after {@code timeoutSeconds}. Like {@link #awaitJobCompletion}, it uses the shared
+   * watch of the jobs informer without blocking the calling thread, and falls back to listing the
+   * jobs every second if the informer is disabled or cannot sync.
+   */
+  public CompletableFuture<Boolean> awaitJobDeletion(String jobName, int timeoutSeconds)
+      throws ApiException, InterruptedException {
+    log.debug("Wait for job {} to be deleted; timeoutSeconds: {}", jobName, timeoutSeconds);
+    var informer = awaitSyncedJobsInformer();
+    if (informer.isPresent()) {
+      return informer
+          .get()
+          .awaitJobDeletion(jobName)
+          .orTimeout(timeoutSeconds, TimeUnit.SECONDS)
+          .handle((deleted, error) -> error == null);
+    }
+
+    int counter = timeoutSeconds;
+    while (listJobs().contains(jobName)) {
+      if (--counter < 0) {
+        return CompletableFuture.completedFuture(false);
+      }
+      Thread.sleep(1000);
+    }
+    return CompletableFuture.completedFuture(true);
+  }
+
   private JobStatusCondition watchJobInternal(
       String jobName, int timeoutSeconds, Consumer<JobStatus> watcher)
       throws IOException, ApiException {
@@ -1016,7 +1319,44 @@ public abstract class KubernetesService {
     return null;
   }
 
-  private static String buildLabelSelector(Map<String, String> labels) {
+  /** Lists a page of objects starting from a continue token, which is null for the first page. */
+  @FunctionalInterface
+  protected interface ListPageCall<L extends KubernetesListObject> {
+    L list(String continueToken, Integer limit) throws ApiException;
+  }
+
+  /**
+   * Lists objects page by page, with up to {@code datajobs.control.k8s.listPageSize} objects per
+   * page, and passes each page to the consumer as soon as it is received. This way the objects of a
+   * large namespace are not returned (and deserialized) in one huge response. All pages belong to
+   * the same snapshot of the objects. Not paged if the page size is not positive.
+   *
+   * @return The resource version of the list, from which it can be watched.
+   * @throws ApiException if a page cannot be listed, including when the continue token expired
+   *     (410 Gone) because the listing took too long.
+   */
+  protected <L extends KubernetesListObject> String listPaged(
+      ListPageCall<L> listPageCall, Consumer<L> pageConsumer) throws ApiException {
+    Integer limit = listPageSize > 0 ? listPageSize : null;
+    String continueToken = null;
+    String resourceVersion;
+    do {
+      L page = listPageCall.list(continueToken, limit);
+      pageConsumer.accept(page);
+      var metadata = page.getMetadata();
+      resourceVersion = metadata == null ? null : metadata.getResourceVersion();
+      continueToken = metadata == null ? null : metadata.getContinue();
+    } while (StringUtils.isNotEmpty(continueToken));
+    return resourceVersion;
+  }
+
+  /**
+   * Builds a label selector which selects the resources with all of the specified labels.
+   *
+   * @param labels The labels to select, or null, to select all resources.
+   * @return The label selector, or null if no labels are specified.
+   */
+  public static String buildLabelSelector(Map<String, String> labels) {
     if (labels == null) {
       return null;
     }
@@ -1208,6 +1548,11 @@ public abstract class KubernetesService {
             .map(stringStringMap -> stringStringMap.get(JobLabel.NAME.getValue()))
             .orElse(getContainerName(job)));
 
+    jobExecutionStatusBuilder.monitoringShard(
+        labels
+            .map(stringStringMap -> stringStringMap.get(JobLabel.MONITORING_SHARD.getValue()))
+            .orElse(null));
+
     // Job annotations
     Optional<Map<String, String>> annotations = metadata.map(V1ObjectMeta::getAnnotations);
 
@@ -1268,26 +1613,29 @@ public abstract class KubernetesService {
   }
 
   /**
-   * Initiates a watch for the jobs with labels specified by {@code labelsToWatch}. The watch will
-   * be active for no longer than the number of seconds specified by {@code timeoutSeconds}. The
-   * specified watcher is invoked whenever a job is completed and has an associated pod with a
-   * termination message.
+   * Initiates a watch for the jobs selected by {@code labelSelector}. The watch will be active for
+   * no longer than the number of seconds specified by {@code timeoutSeconds}. The specified
+   * watcher is invoked whenever a job is completed and has an associated pod with a termination
+   * message.
    *
-   * @param labelsToWatch The labels for the jobs to watch, or null, to watch all jobs.
+   * @param labelSelector The label selector of the jobs to watch (see {@link
+   *     #buildLabelSelector}), or null, to watch all jobs.
    * @param watcher A {@link Consumer} to receive notifications about completed jobs.
    * @param lastWatchTime The time of the last completed job watch, expressed in millis since Epoch.
+   * @return The resource version from which the watch can be resumed (see {@link
+   *     #resumeWatchJobs}), or null if the jobs need to be listed again.
    * @throws ApiException
    * @throws IOException
    */
-  public void watchJobs(
-      Map<String, String> labelsToWatch,
+  public String watchJobs(
+      String labelSelector,
       Consumer<JobExecution> watcher,
       Consumer<List<String>> runningJobExecutionsConsumer,
       long lastWatchTime)
       throws IOException, ApiException {
 
-    watchJobs(
-        labelsToWatch,
+    return watchJobs(
+        labelSelector,
         watcher,
         runningJobExecutionsConsumer,
         lastWatchTime,
@@ -1295,12 +1643,13 @@ public abstract class KubernetesService {
   }
 
   /**
-   * Initiates a watch for the jobs with labels specified by {@code labelsToWatch}. The watch will
-   * be active for no longer than the number of seconds specified by {@code timeoutSeconds}. The
-   * specified watcher is invoked whenever a job is completed and has an associated pod with a
-   * termination message.
+   * Initiates a watch for the jobs selected by {@code labelSelector}. The watch will be active for
+   * no longer than the number of seconds specified by {@code timeoutSeconds}. The specified
+   * watcher is invoked whenever a job is completed and has an associated pod with a termination
+   * message.
    *
-   * @param labelsToWatch The labels for the jobs to watch, or null, to watch all jobs.
+   * @param labelSelector The label selector of the jobs to watch (see {@link
+   *     #buildLabelSelector}), or null, to watch all jobs.
    * @param watcher A {@link Consumer} to receive notifications about completed jobs.
    * @param lastWatchTime The time of the last completed job watch, expressed in millis since Epoch.
    * @param timeoutSeconds The maximum number of seconds that the watch should be active, or null,
@@ -1308,11 +1657,13 @@ public abstract class KubernetesService {
    *     value is changed, the {@code defaultLockAtMostFor} value of the {@link EnableSchedulerLock}
    *     annotation (see {@link ThreadPoolConf}) should be adjusted accordingly to ensure that the
    *     lock will be held long enough for the watch to complete.
+   * @return The resource version from which the watch can be resumed (see {@link
+   *     #resumeWatchJobs}), or null if the jobs need to be listed again.
    * @throws ApiException
    * @throws IOException
    */
-  public void watchJobs(
-      Map<String, String> labelsToWatch,
+  public String watchJobs(
+      String labelSelector,
       Consumer<JobExecution> watcher,
       Consumer<List<String>> runningJobExecutionsConsumer,
       long lastWatchTime,
@@ -1323,45 +1674,122 @@ public abstract class KubernetesService {
 
     // Job change detection implementation:
     // https://kubernetes.io/docs/reference/using-api/api-concepts/#efficient-detection-of-changes
-    String labelSelector = buildLabelSelector(labelsToWatch);
     String resourceVersion;
     try {
-      var jobList =
-          batchV1Api.listNamespacedJob(
-              namespace, "false", null, null, null, labelSelector, null, null, null, null, null);
       List<String> runningExecutionIds = new ArrayList<>();
 
-      jobList
-          .getItems()
-          .forEach(
-              job -> {
-                var condition = getJobCondition(job);
-
-                if (condition == null) {
-                  Optional.ofNullable(job.getMetadata())
-                      .map(V1ObjectMeta::getName)
-                      .ifPresent(executionId -> runningExecutionIds.add(executionId));
-                } else if (condition.getCompletionTime() > lastWatchTime) {
-                  getJobExecutionStatus(job, condition).ifPresent(watcher);
-                }
-              });
+      resourceVersion =
+          this.<V1JobList>listPaged(
+              (continueToken, limit) ->
+                  batchV1Api.listNamespacedJob(
+                      namespace,
+                      "false",
+                      null,
+                      continueToken,
+                      null,
+                      labelSelector,
+                      limit,
+                      null,
+                      null,
+                      null,
+                      null),
+              page ->
+                  page.getItems()
+                      .forEach(
+                          job -> {
+                            var condition = getJobCondition(job);
+
+                            if (condition == null) {
+                              Optional.ofNullable(job.getMetadata())
+                                  .map(V1ObjectMeta::getName)
+                                  .ifPresent(executionId -> runningExecutionIds.add(executionId));
+                            } else if (condition.getCompletionTime() > lastWatchTime) {
+                              getJobExecutionStatus(job, condition).ifPresent(watcher);
+                            }
+                          }));
 
       runningJobExecutionsConsumer.accept(runningExecutionIds);
-      resourceVersion = jobList.getMetadata().getResourceVersion();
     } catch (ApiException ex) {
       log.info(
           "Failed to list jobs for watching. Error was: {}",
           new KubernetesException("", ex).toString());
-      return;
+      return null;
     }
 
+    return watchJobsFrom(labelSelector, watcher, resourceVersion, timeoutSeconds);
+  }
+
+  /**
+   * Lists the jobs selected by {@code labelSelector}, without watching them.
+   *
+   * @param labelSelector The label selector of the jobs to list (see {@link
+   *     #buildLabelSelector}), or null, to list all jobs.
+   * @return The names (execution ids) of the jobs which are still running.
+   * @throws ApiException
+   */
+  public List<String> listRunningJobExecutionIds(String labelSelector) throws ApiException {
+    List<String> runningExecutionIds = new ArrayList<>();
+    this.<V1JobList>listPaged(
+        (continueToken, limit) ->
+            batchV1Api.listNamespacedJob(
+                namespace,
+                "false",
+                null,
+                continueToken,
+                null,
+                labelSelector,
+                limit,
+                null,
+                null,
+                null,
+                null),
+        page ->
+            page.getItems().stream()
+                .filter(job -> getJobCondition(job) == null)
+                .map(V1Job::getMetadata)
+                .filter(Objects::nonNull)
+                .map(V1ObjectMeta::getName)
+                .filter(Objects::nonNull)
+                .forEach(runningExecutionIds::add));
+    return runningExecutionIds;
+  }
+
+  /**
+   * Resumes a watch for the jobs selected by {@code labelSelector} from the given resource
+   * version, without listing the jobs first. The resource version is usually the one returned by
+   * a previous watch, possibly performed by another instance of the service.
+   *
+   * @param labelSelector The label selector of the jobs to watch (see {@link
+   *     #buildLabelSelector}), or null, to watch all jobs.
+   * @param watcher A {@link Consumer} to receive notifications about completed jobs.
+   * @param resourceVersion The resource version to resume the watch from.
+   * @return The resource version from which the watch can be resumed again, or null if the given
+   *     resource version has expired and the jobs need to be listed again.
+   * @throws ApiException
+   * @throws IOException
+   */
+  public String resumeWatchJobs(
+      String labelSelector, Consumer<JobExecution> watcher, String resourceVersion)
+      throws ApiException, IOException {
+    Objects.requireNonNull(watcher, "The watcher cannot be null");
+    Objects.requireNonNull(resourceVersion, "The resource version cannot be null");
+
+    return watchJobsFrom(labelSelector, watcher, resourceVersion, WATCH_JOBS_TIMEOUT_SECONDS);
+  }
+
+  private String watchJobsFrom(
+      String labelSelector,
+      Consumer<JobExecution> watcher,
+      String resourceVersion,
+      Integer timeoutSeconds)
+      throws ApiException, IOException {
     try (Watch<V1Job> watch =
         Watch.createWatch(
             Configuration.getDefaultApiClient(),
             batchV1Api.listNamespacedJobCall(
                 namespace,
                 null,
-                null,
+                true,
                 null,
                 null,
                 labelSelector,
@@ -1376,6 +1804,9 @@ public abstract class KubernetesService {
         if (response.status != null) {
           // Watch failed, possibly due to the specified resource version no longer present
           log.info("Failed to watch jobs. Error was: {}", response.status.getMessage());
+          if (Integer.valueOf(HttpStatus.GONE.value()).equals(response.status.getCode())) {
+            return null;
+          }
           break;
         }
 
@@ -1386,6 +1817,17 @@ public abstract class KubernetesService {
           break;
         }
 
+        // Bookmark events carry only the latest resource version, which allows resuming the watch
+        // without replaying the events that did not match the label selector.
+        resourceVersion =
+            Optional.ofNullable(job.getMetadata())
+                .map(V1ObjectMeta::getResourceVersion)
+                .orElse(resourceVersion);
+
+        if ("BOOKMARK".equals(response.type)) {
+          continue;
+        }
+
         log.debug("Job {} is {}", job.getMetadata().getName(), response.type);
 
         if (!"DELETED".equals(response.type)) {
@@ -1411,7 +1853,8 @@ public abstract class KubernetesService {
       log.info("Failed to watch jobs. Error was: {}", e.getMessage(), e);
     }
 
-    log.info("Finish watching jobs with labels: {}", labelsToWatch);
+    log.info("Finish watching jobs with labels: {}", labelSelector);
+    return resourceVersion;
   }
 
   private JobStatusCondition getJobCondition(V1Job job) {
@@ -1504,6 +1947,11 @@ public abstract class KubernetesService {
   }
 
   private Optional<V1Job> getJob(String jobName) throws ApiException {
+    var informer = getSyncedJobsInformer();
+    if (informer.isPresent()) {
+      return informer.get().getJob(jobName);
+    }
+
     String fieldSelector = String.format("metadata.name=%s", jobName);
     try {
       var jobs =
@@ -5,6 +5,7 @@
 
 package com.vmware.taurus.service;
 
+import com.vmware.taurus.service.kubernetes.KubernetesApiInterceptor;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.apis.BatchV1Api;
 import io.kubernetes.client.openapi.apis.BatchV1beta1Api;
@@ -36,10 +37,13 @@ import static java.util.function.Predicate.not;
 public class KubernetesServiceConfiguration {
 
   private final UserAgentService userAgentService;
+  private final KubernetesApiInterceptor kubernetesApiInterceptor;
 
   @Autowired
-  public KubernetesServiceConfiguration(UserAgentService userAgentService) {
+  public KubernetesServiceConfiguration(
+      UserAgentService userAgentService, KubernetesApiInterceptor kubernetesApiInterceptor) {
     this.userAgentService = userAgentService;
+    this.kubernetesApiInterceptor = kubernetesApiInterceptor;
   }
 
   @Bean
@@ -136,7 +140,12 @@ public class KubernetesServiceConfiguration {
     // Annoying error: Watch is incompatible with debugging mode active
     // client.setDebugging(true);
     client.setHttpClient(
-        client.getHttpClient().newBuilder().readTimeout(0, TimeUnit.SECONDS).build());
+        client
+            .getHttpClient()
+            .newBuilder()
+            .readTimeout(0, TimeUnit.SECONDS)
+            .addInterceptor(kubernetesApiInterceptor)
+            .build());
     // client.getHttpClient().setReadTimeout(0, TimeUnit.SECONDS);
     return client;
   }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * Replaces the auto-configured data source with a {@link ReadReplicaRoutingDataSource}, if a read
+ * replica is configured ({@code datajobs.datasource.replica.enabled}). The primary database is
+ * configured as usual by the {@code spring.datasource} properties, the replica by the {@code
+ * datajobs.datasource.replica} properties.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(value = "datajobs.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfiguration {
+
+  static final String REPLICA_PROPERTIES_PREFIX = "datajobs.datasource.replica";
+
+  private ReadReplicaRoutingDataSource routingDataSource;
+
+  @Bean(destroyMethod = "close")
+  public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(
+      DataSourceProperties dataSourceProperties,
+      Environment environment,
+      @Value("${datajobs.datasource.replica.url}") String replicaUrl,
+      @Value("${datajobs.datasource.replica.username:}") String replicaUsername,
+      @Value("${datajobs.datasource.replica.password:}") String replicaPassword,
+      @Value("${datajobs.datasource.replica.lagQuery}") String lagQuery,
+      @Value("${datajobs.datasource.replica.maxLagSeconds:5}") double maxLagSeconds) {
+    var binder = Binder.get(environment);
+
+    var primary =
+        dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+    String username =
+        StringUtils.defaultIfBlank(replicaUsername, dataSourceProperties.determineUsername());
+    String password =
+        StringUtils.defaultIfBlank(replicaPassword, dataSourceProperties.determinePassword());
+    var replica =
+        dataSourceProperties
+            .initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .url(replicaUrl)
+            .username(username)
+            .password(password)
+            .build();
+    binder.bind(REPLICA_PROPERTIES_PREFIX + ".hikari", Bindable.ofInstance(replica));
+    replica.setPoolName(StringUtils.defaultIfBlank(replica.getPoolName(), "replica-pool"));
+    replica.setReadOnly(true);
+
+    log.info("Read-only queries are routed to the read replica {}", replicaUrl);
+    routingDataSource =
+        new ReadReplicaRoutingDataSource(primary, replica, lagQuery, maxLagSeconds);
+    routingDataSource.checkReplicaLag();
+    return routingDataSource;
+  }
+
+  /**
+   * The data source used by the service. The connections are obtained lazily, on the first
+   * statement, when it is already known whether the transaction is read-only.
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+  }
+
+  @Scheduled(fixedDelayString = "${datajobs.datasource.replica.lagCheckIntervalMillis:10000}")
+  public void checkReplicaLag() {
+    if (routingDataSource != null) {
+      routingDataSource.checkReplicaLag();
+    }
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Routes the connections of the read-only transactions declared by the service (e.g. {@code
+ * Transactional(readOnly = true)}) to a read replica, and all other connections to the primary
+ * database.
+ *
+ * <p>The implicit read-only transactions of the Spring Data repository methods stay on the primary
+ * database, so that reading a data job or an execution just after changing it does not return the
+ * old version from a replica which has not caught up yet. They are routed to the replica only
+ * within {@link ReplicaReads#call}, as done by the GraphQL queries.
+ *
+ * <p>The replica is used only while its replication lag, as checked by {@link
+ * #checkReplicaLag()}, is within {@code maxLagSeconds}. Otherwise, or if the replica cannot be
+ * reached, the read-only transactions fall back to the primary database.
+ *
+ * <p>Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * because the transaction managers obtain the connection before marking the transaction read-only.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource
+    implements AutoCloseable {
+
+  enum Route {
+    PRIMARY,
+    REPLICA
+  }
+
+  private static final String REPOSITORY_TRANSACTION_PREFIX = "org.springframework.data.";
+
+  private final DataSource primary;
+  private final DataSource replica;
+  private final JdbcTemplate replicaJdbcTemplate;
+  private final String lagQuery;
+  private final double maxLagSeconds;
+
+  private volatile boolean replicaUsable;
+
+  public ReadReplicaRoutingDataSource(
+      DataSource primary, DataSource replica, String lagQuery, double maxLagSeconds) {
+    this.primary = primary;
+    this.replica = replica;
+    this.replicaJdbcTemplate = new JdbcTemplate(replica);
+    this.replicaJdbcTemplate.setQueryTimeout(5);
+    this.lagQuery = lagQuery;
+    this.maxLagSeconds = maxLagSeconds;
+    setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+  }
+
+  public boolean isReplicaUsable() {
+    return replicaUsable;
+  }
+
+  /** Checks the replication lag of the replica and whether it should be used. */
+  public void checkReplicaLag() {
+    boolean usable;
+    try {
+      Double lagSeconds = replicaJdbcTemplate.queryForObject(lagQuery, Double.class);
+      usable = lagSeconds != null && lagSeconds <= maxLagSeconds;
+      if (!usable) {
+        log.warn(
+            "The replication lag of the read replica is {}s, over the maximum of {}s. Read-only"
+                + " queries fall back to the primary database.",
+            lagSeconds,
+            maxLagSeconds);
+      }
+    } catch (Exception e) {
+      log.warn("Failed to check the read replica. Read-only queries fall back to the primary.", e);
+      usable = false;
+    }
+    if (usable && !replicaUsable) {
+      log.info("Read-only queries are routed to the read replica");
+    }
+    replicaUsable = usable;
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return isReplicaTransaction() && replicaUsable ? Route.REPLICA : Route.PRIMARY;
+  }
+
+  static boolean isReplicaTransaction() {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return false;
+    }
+    if (ReplicaReads.isRequested()) {
+      return true;
+    }
+    // The name of the outermost transaction, i.e. the repository method only if it is not called
+    // within a transaction declared by the service.
+    String transactionName = TransactionSynchronizationManager.getCurrentTransactionName();
+    return transactionName == null || !transactionName.startsWith(REPOSITORY_TRANSACTION_PREFIX);
+  }
+
+  @Override
+  public void close() throws Exception {
+    for (var dataSource : new DataSource[] {primary, replica}) {
+      if (dataSource instanceof AutoCloseable) {
+        ((AutoCloseable) dataSource).close();
+      }
+    }
+  }
+}
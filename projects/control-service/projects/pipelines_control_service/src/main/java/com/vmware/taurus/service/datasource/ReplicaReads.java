@@ -0,0 +1,41 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * A routing hint for the {@link ReadReplicaRoutingDataSource}. The read-only repository calls made
+ * by the reads passed to {@link #call(Supplier)} are served by the read replica, each in its own
+ * short transaction. Unlike a {@code Transactional(readOnly = true)} around the reads, no database
+ * connection is held in between, e.g. while the Kubernetes API is called.
+ *
+ * <p>The hint is ignored if no read replica is configured.
+ */
+public final class ReplicaReads {
+
+  private static final ThreadLocal<Boolean> requested = ThreadLocal.withInitial(() -> false);
+
+  private ReplicaReads() {}
+
+  /** Returns the result of the reads, served by the read replica if it is usable. */
+  public static <T> T call(Supplier<T> reads) {
+    if (requested.get()) {
+      return reads.get();
+    }
+    requested.set(true);
+    try {
+      return reads.get();
+    } finally {
+      requested.remove();
+    }
+  }
+
+  /** Returns whether the current thread is within {@link #call(Supplier)}. */
+  public static boolean isRequested() {
+    return requested.get();
+  }
+}
@@ -7,6 +7,7 @@ package com.vmware.taurus.service.deploy;
 
 import com.vmware.taurus.datajobs.DeploymentModelConverter;
 import com.vmware.taurus.exception.*;
+import com.vmware.taurus.service.DataJobCache;
 import com.vmware.taurus.service.JobsRepository;
 import com.vmware.taurus.service.diag.OperationContext;
 import com.vmware.taurus.service.diag.methodintercept.Measurable;
@@ -23,6 +24,7 @@ import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
 
 /**
  * CRUD operations for Versatile Data Kit deployments on kubernetes.
@@ -44,6 +46,7 @@ public class DeploymentService {
   private final JobsRepository jobsRepository;
   private final DataJobMetrics dataJobMetrics;
   private final SupportedPythonVersions supportedPythonVersions;
+  private final DataJobCache dataJobCache;
 
   public Optional<JobDeploymentStatus> readDeployment(String jobName) {
     return jobImageDeployer.readScheduledJob(jobName);
@@ -180,24 +183,25 @@ public class DeploymentService {
           dockerRegistryService.dataJobImage(
               jobDeployment.getDataJobName(), jobDeployment.getGitCommitSha());
 
-      if (jobImageBuilder.buildImage(imageName, dataJob, jobDeployment, sendNotification)) {
-        log.info(
-            "Image {} has been built. Will now schedule job {} for execution",
-            imageName,
-            dataJob.getName());
-        jobDeployment.setImageName(imageName);
-        if (jobImageDeployer.scheduleJob(
-            dataJob, jobDeployment, sendNotification, lastDeployedBy)) {
-          log.info(
-              String.format(
-                  "Successfully updated job: %s with version: %s",
-                  jobDeployment.getDataJobName(), jobDeployment.getGitCommitSha()));
-
-          saveDeployment(dataJob, jobDeployment);
-
-          deploymentProgress.completed(dataJob.getJobConfig(), jobDeployment, sendNotification);
-        }
-      }
+      // The image is built by a builder job, and the deployment continues once it has finished
+      // (in another thread), so that no thread is blocked while the image is being built.
+      var deployment = jobDeployment;
+      jobImageBuilder
+          .buildImage(imageName, dataJob, deployment, sendNotification)
+          .thenAccept(
+              built -> {
+                operationContext.setId(opId);
+                if (built) {
+                  deployImage(dataJob, deployment, imageName, sendNotification, lastDeployedBy);
+                }
+              })
+          .exceptionally(
+              e -> {
+                var cause =
+                    e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                handleException(dataJob, deployment, sendNotification, cause);
+                return null;
+              });
     } catch (ApiException e) {
       handleException(dataJob, jobDeployment, sendNotification, new KubernetesException("", e));
     } catch (Exception e) {
@@ -208,11 +212,35 @@ public class DeploymentService {
     }
   }
 
+  private void deployImage(
+      DataJob dataJob,
+      JobDeployment jobDeployment,
+      String imageName,
+      Boolean sendNotification,
+      String lastDeployedBy) {
+    log.info(
+        "Image {} has been built. Will now schedule job {} for execution",
+        imageName,
+        dataJob.getName());
+    jobDeployment.setImageName(imageName);
+    if (jobImageDeployer.scheduleJob(dataJob, jobDeployment, sendNotification, lastDeployedBy)) {
+      log.info(
+          String.format(
+              "Successfully updated job: %s with version: %s",
+              jobDeployment.getDataJobName(), jobDeployment.getGitCommitSha()));
+
+      saveDeployment(dataJob, jobDeployment);
+
+      deploymentProgress.completed(dataJob.getJobConfig(), jobDeployment, sendNotification);
+    }
+  }
+
   private void saveDeployment(DataJob dataJob, JobDeployment jobDeployment) {
     // Currently, store only 'enabled' in the database
     if (!Objects.equals(dataJob.getEnabled(), jobDeployment.getEnabled())) {
       dataJob.setEnabled(jobDeployment.getEnabled());
       jobsRepository.save(dataJob);
+      dataJobCache.invalidate(dataJob.getName());
       log.info(
           "The deployment of the data job {} has been {}",
           dataJob.getName(),
@@ -264,6 +292,7 @@ public class DeploymentService {
       jobImageBuilder.cancelBuildingJob(dataJobName);
       jobImageDeployer.unScheduleJob(dataJobName);
       jobsRepository.updateDataJobEnabledByName(dataJobName, false);
+      dataJobCache.invalidate(dataJobName);
     }
     deploymentProgress.deleted(dataJobName);
   }
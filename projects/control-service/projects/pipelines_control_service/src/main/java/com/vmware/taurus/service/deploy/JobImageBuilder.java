@@ -9,18 +9,25 @@ import static java.util.Map.entry;
 
 import com.vmware.taurus.exception.ExternalSystemError;
 import com.vmware.taurus.exception.KubernetesException;
+import com.vmware.taurus.service.KubernetesService.JobStatusCondition;
 import com.vmware.taurus.service.credentials.AWSCredentialsService;
+import com.vmware.taurus.service.credentials.AWSCredentialsService.AWSCredentialsDTO;
 import com.vmware.taurus.service.kubernetes.ControlKubernetesService;
+import com.vmware.taurus.service.kubernetes.KubernetesApiSubsystem;
 import com.vmware.taurus.service.model.DataJob;
 import com.vmware.taurus.service.model.JobDeployment;
 import io.kubernetes.client.openapi.ApiException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
 
 /**
@@ -83,6 +90,7 @@ public class JobImageBuilder {
   private final KubernetesResources kubernetesResources;
   private final AWSCredentialsService awsCredentialsService;
   private final SupportedPythonVersions supportedPythonVersions;
+  private final TaskExecutor taskExecutor;
 
   public JobImageBuilder(
       ControlKubernetesService controlKubernetesService,
@@ -90,7 +98,8 @@ public class JobImageBuilder {
       DeploymentNotificationHelper notificationHelper,
       KubernetesResources kubernetesResources,
       AWSCredentialsService awsCredentialsService,
-      SupportedPythonVersions supportedPythonVersions) {
+      SupportedPythonVersions supportedPythonVersions,
+      TaskExecutor taskExecutor) {
 
     this.controlKubernetesService = controlKubernetesService;
     this.dockerRegistryService = dockerRegistryService;
@@ -98,31 +107,37 @@ public class JobImageBuilder {
     this.kubernetesResources = kubernetesResources;
     this.awsCredentialsService = awsCredentialsService;
     this.supportedPythonVersions = supportedPythonVersions;
+    this.taskExecutor = taskExecutor;
   }
 
   /**
    * Builds and pushes a docker image for a data job. Runs a job on k8s which is responsible for
-   * building and pushing the data job image. This call will block until the builder job has
-   * finished. Notifies the users on failure.
+   * building and pushing the data job image. This call does not wait for the builder job (nor for
+   * the deletion of an old one) to finish: the rest of the build is chained onto the wait and runs
+   * on the task executor, so no thread is blocked meanwhile. Notifies the users on failure.
    *
    * @param imageName Full name of the image to build.
    * @param dataJob Information about the data job.
    * @param jobDeployment Information about the data job deployment.
    * @param sendNotification
-   * @return True if build and push was successful. False otherwise.
+   * @return A future of true if build and push was successful, false otherwise. It is completed
+   *     exceptionally if the build cannot be completed due to an error.
    * @throws ApiException
    * @throws IOException
    * @throws InterruptedException
    */
-  public boolean buildImage(
+  public CompletableFuture<Boolean> buildImage(
       String imageName, DataJob dataJob, JobDeployment jobDeployment, Boolean sendNotification)
       throws ApiException, IOException, InterruptedException {
-    var credentials = awsCredentialsService.createTemporaryCredentials();
+    try (var scope = KubernetesApiSubsystem.BUILDER.enter()) {
+      return buildImageInScope(imageName, dataJob, jobDeployment, sendNotification);
+    }
+  }
 
-    String builderAwsSecretAccessKey = credentials.awsSecretAccessKey();
-    String builderAwsAccessKeyId = credentials.awsAccessKeyId();
-    String builderAwsSessionToken = credentials.awsSessionToken();
-    String awsRegion = credentials.region();
+  private CompletableFuture<Boolean> buildImageInScope(
+      String imageName, DataJob dataJob, JobDeployment jobDeployment, Boolean sendNotification)
+      throws ApiException, IOException, InterruptedException {
+    var credentials = awsCredentialsService.createTemporaryCredentials();
 
     log.info("Build data job image for job {}. Image name: {}", dataJob.getName(), imageName);
     if (!StringUtils.isBlank(registryType)) {
@@ -131,33 +146,71 @@ public class JobImageBuilder {
             String.format(
                 "Unsupported registry type: %s available options %s/%s",
                 registryType, REGISTRY_TYPE_ECR, REGISTRY_TYPE_GENERIC));
-        return false;
+        return CompletableFuture.completedFuture(false);
       }
     }
 
     if (jobDeployment.getPythonVersion() == null) {
       log.warn("Missing pythonVersion. Data Job cannot be deployed.");
-      return false;
+      return CompletableFuture.completedFuture(false);
     }
 
     if (dockerRegistryService.dataJobImageExists(imageName, credentials)) {
       log.debug("Data Job image {} already exists and nothing else to do.", imageName);
-      return true;
+      return CompletableFuture.completedFuture(true);
     }
 
     String builderJobName = getBuilderJobName(jobDeployment.getDataJobName());
 
     log.debug("Check if old builder job {} exists", builderJobName);
+    var oldBuilderJobDeleted = CompletableFuture.completedFuture(true);
     if (controlKubernetesService.listJobs().contains(builderJobName)) {
       log.debug("Delete old builder job {}", builderJobName);
       controlKubernetesService.deleteJob(builderJobName);
 
       // Wait for the old job to be deleted to avoid conflicts
-      while (controlKubernetesService.listJobs().contains(builderJobName)) {
-        Thread.sleep(1000);
-      }
+      oldBuilderJobDeleted =
+          controlKubernetesService.awaitJobDeletion(builderJobName, BUILDER_TIMEOUT_SECONDS);
+    }
+
+    // The futures of the waits are completed by the jobs informer, so the build continues on the
+    // task executor in order not to hold up the informer.
+    return oldBuilderJobDeleted
+        .thenComposeAsync(
+            deleted ->
+                inBuilderScope(
+                    () ->
+                        startBuilderJob(
+                            builderJobName, deleted, dataJob, jobDeployment, credentials)),
+            taskExecutor)
+        .thenApplyAsync(
+            condition ->
+                inBuilderScope(
+                    () ->
+                        completeBuild(
+                            builderJobName, dataJob, jobDeployment, sendNotification, condition)),
+            taskExecutor);
+  }
+
+  private CompletableFuture<JobStatusCondition> startBuilderJob(
+      String builderJobName,
+      boolean oldBuilderJobDeleted,
+      DataJob dataJob,
+      JobDeployment jobDeployment,
+      AWSCredentialsDTO credentials)
+      throws ApiException, IOException, InterruptedException {
+    if (!oldBuilderJobDeleted) {
+      throw new KubernetesException(
+          String.format(
+              "Old builder job %s has not been deleted within %d seconds",
+              builderJobName, BUILDER_TIMEOUT_SECONDS),
+          null);
     }
 
+    String builderAwsSecretAccessKey = credentials.awsSecretAccessKey();
+    String builderAwsAccessKeyId = credentials.awsAccessKeyId();
+    String builderAwsSessionToken = credentials.awsSessionToken();
+    String awsRegion = credentials.region();
     var args =
         Arrays.asList(
             builderAwsAccessKeyId,
@@ -200,10 +253,17 @@ public class JobImageBuilder {
         builderJobName,
         jobDeployment.getGitCommitSha());
 
-    var condition =
-        controlKubernetesService.watchJob(
-            builderJobName, BUILDER_TIMEOUT_SECONDS, s -> log.debug("Wait status: {}", s));
+    return controlKubernetesService.awaitJobCompletion(
+        builderJobName, BUILDER_TIMEOUT_SECONDS, s -> log.debug("Wait status: {}", s));
+  }
 
+  private boolean completeBuild(
+      String builderJobName,
+      DataJob dataJob,
+      JobDeployment jobDeployment,
+      Boolean sendNotification,
+      JobStatusCondition condition)
+      throws IOException {
     log.debug("Finished watching builder job {}. Condition is: {}", builderJobName, condition);
     String logs = null;
     try {
@@ -231,14 +291,39 @@ public class JobImageBuilder {
     return condition.isSuccess();
   }
 
+  /** A step of the build, which may call the Kubernetes API. */
+  @FunctionalInterface
+  private interface BuildStep<T> {
+    T run() throws ApiException, IOException, InterruptedException;
+  }
+
+  /**
+   * Runs a step of the build chained onto a wait, so in another thread than the build was started
+   * in, accounting its Kubernetes API calls to the builder subsystem.
+   */
+  private static <T> T inBuilderScope(BuildStep<T> step) {
+    try (var scope = KubernetesApiSubsystem.BUILDER.enter()) {
+      return step.run();
+    } catch (ApiException e) {
+      throw new KubernetesException("", e);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CompletionException(e);
+    }
+  }
+
   /**
    * If building new deployment of a data job has started (by buildImage), it is canceled/stopped.
    *
    * @param dataJobName the name of the data job
    */
   public void cancelBuildingJob(String dataJobName) {
-    log.info("Cancel builder job for data job {}", dataJobName);
-    deleteBuilderJob(dataJobName);
+    try (var scope = KubernetesApiSubsystem.BUILDER.enter()) {
+      log.info("Cancel builder job for data job {}", dataJobName);
+      deleteBuilderJob(dataJobName);
+    }
   }
 
   /**
@@ -248,7 +333,7 @@ public class JobImageBuilder {
    * @return true if there's builder running for the given data job
    */
   public boolean isBuildingJobInProgress(String dataJobName) {
-    try {
+    try (var scope = KubernetesApiSubsystem.BUILDER.enter()) {
       return controlKubernetesService.listJobs().contains(getBuilderJobName(dataJobName));
     } catch (ApiException e) {
       throw new KubernetesException("Cannot determine if deployment is in progress", e);
@@ -10,7 +10,9 @@ import com.vmware.taurus.exception.KubernetesException;
 import com.vmware.taurus.service.KubernetesService;
 import com.vmware.taurus.service.credentials.JobCredentialsService;
 import com.vmware.taurus.service.kubernetes.DataJobsKubernetesService;
+import com.vmware.taurus.service.kubernetes.KubernetesApiSubsystem;
 import com.vmware.taurus.service.model.*;
+import com.vmware.taurus.service.monitoring.ShardedDataJobMonitorCron;
 import com.vmware.taurus.service.notification.NotificationContent;
 import io.kubernetes.client.openapi.ApiException;
 import lombok.NonNull;
@@ -93,7 +95,7 @@ public class JobImageDeployer {
       String lastDeployedBy) {
     Validate.notNull(jobDeployment, "jobDeployment should not be null");
     Validate.notNull(jobDeployment.getImageName(), "Image name is expected in jobDeployment");
-    try {
+    try (var scope = KubernetesApiSubsystem.DEPLOYMENT.enter()) {
       return updateCronJobWithNotification(
           dataJob, jobDeployment, sendNotification, lastDeployedBy);
     } catch (ApiException e) {
@@ -160,7 +162,7 @@ public class JobImageDeployer {
    */
   public void unScheduleJob(@NonNull String dataJobName) {
     String cronJobName = getCronJobName(dataJobName);
-    try {
+    try (var scope = KubernetesApiSubsystem.DEPLOYMENT.enter()) {
       if (dataJobsKubernetesService.listCronJobs().contains(cronJobName)) {
         dataJobsKubernetesService.deleteCronJob(cronJobName);
       }
@@ -354,6 +356,11 @@ public class JobImageDeployer {
     jobPodLabels.put(JobLabel.TYPE.getValue(), "DataJob");
     jobPodLabels.put(JobLabel.NAME.getValue(), dataJob.getName());
     jobPodLabels.put(JobLabel.VERSION.getValue(), jobDeployment.getGitCommitSha());
+    // This label allows the sharded monitoring to watch only the jobs in its shards.
+    // See ShardedDataJobMonitorCron.getShardBucket for how the label is used
+    jobPodLabels.put(
+        JobLabel.MONITORING_SHARD.getValue(),
+        String.valueOf(ShardedDataJobMonitorCron.getShardBucket(dataJob.getName())));
 
     return jobPodLabels;
   }
@@ -7,24 +7,40 @@ package com.vmware.taurus.service.execution;
 
 import com.vmware.taurus.service.JobExecutionRepository;
 import com.vmware.taurus.service.JobsRepository;
-import com.vmware.taurus.service.model.DataJob;
 import com.vmware.taurus.service.model.ExecutionStatus;
 import com.vmware.taurus.service.monitoring.DataJobExecutionCleanupMonitor;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
+import java.time.ZoneOffset;
 import java.util.List;
 
+/**
+ * Deletes the data job executions beyond the maximum number of executions to keep per data job and
+ * the executions which ended before their time to live. The data jobs are processed in batches of
+ * jobBatchSize data jobs (in name order), and the executions to delete of each batch are selected
+ * and deleted by the database in chunks (see {@link
+ * JobExecutionRepository#deleteExcessAndExpiredExecutions}). So the executions of each data job are
+ * ranked only with the executions of its batch, the cleanup takes a few statements per batch rather
+ * than per data job, and each transaction stays short.
+ */
 @Service
 @Slf4j
 public class JobExecutionCleanupService {
 
+  private static final List<Integer> STATUSES_TO_KEEP =
+      List.of(ExecutionStatus.RUNNING.getDbValue(), ExecutionStatus.SUBMITTED.getDbValue());
+
+  // No execution ends before the epoch, so nothing is deleted by date with this cutoff.
+  private static final OffsetDateTime NO_CUTOFF = Instant.EPOCH.atOffset(ZoneOffset.UTC);
+
   @Value("${datajobs.executions.cleanupJob.maximumExecutionsToStore:100}") // default value is 100
   private int maxExecutionsToKeep;
 
@@ -32,6 +48,17 @@ public class JobExecutionCleanupService {
       "${datajobs.executions.cleanupJob.executionsTtlSeconds:1209600}") // default value is 14 days
   private long secondsCutoffAmount;
 
+  // If the executions are partitioned by start time, the expired executions are removed with their
+  // partitions by the JobExecutionPartitionService, so only the excess executions are deleted here.
+  @Value("${datajobs.executions.partitioning.enabled:false}")
+  private boolean partitioningEnabled;
+
+  @Value("${datajobs.executions.cleanupJob.deleteChunkSize:1000}")
+  private int deleteChunkSize;
+
+  @Value("${datajobs.executions.cleanupJob.jobBatchSize:100}")
+  private int jobBatchSize;
+
   private JobExecutionRepository jobExecutionRepository;
   private JobsRepository jobsRepository;
   private DataJobExecutionCleanupMonitor dataJobExecutionCleanupMonitor;
@@ -60,76 +87,38 @@ public class JobExecutionCleanupService {
   public void cleanupExecutions() {
     log.info("Starting DataJobExecutionCleanup and incrementing invocations counter.");
     dataJobExecutionCleanupMonitor.countInvocation();
-    var jobs = jobsRepository.findAll();
-    for (var job : jobs) {
-      try {
-        deleteDataJobExecutions(job);
-        dataJobExecutionCleanupMonitor.countSuccessfulDeletion();
-      } catch (Exception e) {
-        dataJobExecutionCleanupMonitor.countFailedDeletion();
-        log.warn(
-            "Failed to delete executions for job {} due to {}, message: {}",
-            job.getName(),
-            e.getClass(),
-            e.getMessage());
-        log.warn("Error:", e);
-      }
-    }
-  }
-
-  private void deleteDataJobExecutions(DataJob job) {
-
-    var statuses = List.of(ExecutionStatus.RUNNING, ExecutionStatus.SUBMITTED);
-    var jobExecutions =
-        jobExecutionRepository.findByDataJobNameAndStatusNotInOrderByEndTime(
-            job.getName(), statuses);
-    var jobsToDelete = new ArrayList<String>();
-    var cutOff = OffsetDateTime.now().minusSeconds(secondsCutoffAmount);
-
-    for (int i = 0; i < jobExecutions.size(); i++) { // first execution is the oldest
-      var execution = jobExecutions.get(i);
-      // ensure we add jobs for deletion only once
-      if (shouldDeleteJobExecution(i, jobExecutions.size(), cutOff, execution.getEndTime())) {
-        jobsToDelete.add(execution.getId());
-      }
-    }
-
-    if (jobsToDelete.size() == 0) {
-      log.debug("Found 0 job executions to delete for DataJob:'{}'.", job.getName());
-
-    } else {
-
-      log.info(
-          "Found {} job executions to delete for DataJob:'{}'. Deleting...",
-          jobsToDelete.size(),
-          job.getName());
-      jobExecutionRepository.deleteAllByIdInBatch(jobsToDelete);
+    try {
+      int deleted = deleteDataJobExecutions();
+      dataJobExecutionCleanupMonitor.countSuccessfulDeletion();
+      log.info("Deleted {} data job executions.", deleted);
+    } catch (Exception e) {
+      dataJobExecutionCleanupMonitor.countFailedDeletion();
+      log.warn(
+          "Failed to delete data job executions due to {}, message: {}",
+          e.getClass(),
+          e.getMessage());
+      log.warn("Error:", e);
     }
   }
 
-  /**
-   * Helper method which determines if a data job execution should be deleted. Assumes that
-   * executionPos is the position of a dataJobExecution in a sorted execution list by start time
-   * ASC.
-   *
-   * @param executionPos the position of a data job execution in a sorted list.
-   * @param executionsSize the size of the list.
-   * @param cutOff cut off date for deletion.
-   * @param executionEndTime data job execution end time.
-   * @return boolean describing if the data job should be deleted.
-   */
-  private boolean shouldDeleteJobExecution(
-      int executionPos,
-      int executionsSize,
-      OffsetDateTime cutOff,
-      OffsetDateTime executionEndTime) {
-    boolean shouldDelete = false;
-
-    if (executionPos < executionsSize - maxExecutionsToKeep) { // Delete by numbers
-      shouldDelete = true;
-    } else if (executionEndTime != null && executionEndTime.isBefore(cutOff)) { // Delete by date
-      shouldDelete = true;
+  private int deleteDataJobExecutions() {
+    var cutOff =
+        partitioningEnabled ? NO_CUTOFF : OffsetDateTime.now().minusSeconds(secondsCutoffAmount);
+    int chunkSize = Math.max(1, deleteChunkSize);
+    var jobBatch = PageRequest.ofSize(Math.max(1, jobBatchSize));
+    int total = 0;
+    List<String> jobNames = jobsRepository.findDataJobNamesByNameGreaterThan("", jobBatch);
+    while (!jobNames.isEmpty()) {
+      int deleted;
+      do {
+        deleted =
+            jobExecutionRepository.deleteExcessAndExpiredExecutions(
+                jobNames, STATUSES_TO_KEEP, maxExecutionsToKeep, cutOff, chunkSize);
+        total += deleted;
+      } while (deleted >= chunkSize);
+      var lastJobName = jobNames.get(jobNames.size() - 1);
+      jobNames = jobsRepository.findDataJobNamesByNameGreaterThan(lastJobName, jobBatch);
     }
-    return shouldDelete;
+    return total;
   }
 }
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.execution;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the logs of finished data job executions gzipped on the local disk, so that opening the
+ * same execution again does not read its logs from the Kubernetes API.
+ *
+ * <p>The cache is bounded by {@code datajobs.executions.logs.cache.maxSizeMegabytes} and the least
+ * recently used logs are evicted first. The logs are keyed by execution id and stored in
+ * {@code datajobs.executions.logs.cache.directory}; the files left there by a previous run of the
+ * service are reused. Only the logs of finished executions should be cached, since the logs of a
+ * running execution keep growing.
+ */
+@Slf4j
+@Component
+public class JobExecutionLogsCache {
+
+  private static final String FILE_EXTENSION = ".log.gz";
+
+  // Execution ids are Kubernetes object names, anything else is not cached.
+  private static final Pattern EXECUTION_ID_PATTERN =
+      Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]*");
+
+  private final boolean enabled;
+  private final Path directory;
+  private final long maxSizeBytes;
+
+  // The cached logs and their size on disk, in least recently used order.
+  private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long sizeBytes;
+
+  @Autowired
+  public JobExecutionLogsCache(
+      @Value("${datajobs.executions.logs.cache.enabled:true}") boolean enabled,
+      @Value("${datajobs.executions.logs.cache.directory:}") String directory,
+      @Value("${datajobs.executions.logs.cache.maxSizeMegabytes:1024}") long maxSizeMegabytes) {
+    this(
+        enabled,
+        StringUtils.isBlank(directory)
+            ? Paths.get(System.getProperty("java.io.tmpdir"), "data-job-execution-logs")
+            : Paths.get(directory),
+        maxSizeMegabytes * 1024 * 1024);
+  }
+
+  JobExecutionLogsCache(boolean enabled, Path directory, long maxSizeBytes) {
+    this.directory = directory;
+    this.maxSizeBytes = maxSizeBytes;
+    this.enabled = enabled && maxSizeBytes > 0 && initDirectory();
+  }
+
+  /**
+   * @param executionId The id of the execution.
+   * @param tailLines If not null, the number of lines from the end of the logs to return.
+   * @return The cached logs of the execution, or empty if they are not cached.
+   */
+  public Optional<String> get(String executionId, Integer tailLines) {
+    if (!isCacheable(executionId)) {
+      return Optional.empty();
+    }
+    synchronized (this) {
+      // Also marks the logs as most recently used.
+      if (entries.get(executionId) == null) {
+        return Optional.empty();
+      }
+    }
+
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(getFile(executionId))),
+                StandardCharsets.UTF_8))) {
+      return Optional.of(tailLines(reader.lines(), tailLines));
+    } catch (IOException e) {
+      // The logs could have been evicted in the meantime.
+      log.debug("Failed to read the cached logs of execution {}: {}", executionId, e.toString());
+      return Optional.empty();
+    }
+  }
+
+  /** @return true if the logs of the execution can be cached. */
+  public boolean isCacheable(String executionId) {
+    return enabled && isValidExecutionId(executionId);
+  }
+
+  /** Caches the logs of the execution, evicting the least recently used logs if needed. */
+  public void put(String executionId, String logs) {
+    if (logs != null) {
+      put(executionId, new ByteArrayInputStream(logs.getBytes(StandardCharsets.UTF_8)));
+    }
+  }
+
+  /**
+   * Caches the logs of the execution as they are read from the stream, so that they are never
+   * loaded in memory as a whole. Evicts the least recently used logs if needed. The stream is not
+   * closed.
+   *
+   * @return true if the logs were cached.
+   */
+  public boolean put(String executionId, InputStream logs) {
+    if (!isCacheable(executionId)) {
+      return false;
+    }
+
+    long size;
+    try {
+      var tempFile = Files.createTempFile(directory, "logs-", ".tmp");
+      try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(tempFile))) {
+        logs.transferTo(output);
+      } catch (IOException e) {
+        Files.deleteIfExists(tempFile);
+        throw e;
+      }
+      size = Files.size(tempFile);
+      Files.move(tempFile, getFile(executionId), StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      log.warn("Failed to cache the logs of execution {}: {}", executionId, e.toString());
+      return false;
+    }
+
+    synchronized (this) {
+      var previousSize = entries.put(executionId, size);
+      sizeBytes += size - (previousSize == null ? 0 : previousSize);
+      evict();
+    }
+    return true;
+  }
+
+  synchronized long getSizeBytes() {
+    return sizeBytes;
+  }
+
+  /**
+   * @return The last lines of the logs, or all of them if tailLines is null. Only the returned
+   *     lines are kept in memory.
+   */
+  static String tailLines(Stream<String> lines, Integer tailLines) {
+    if (tailLines == null) {
+      return lines.collect(Collectors.joining(System.lineSeparator()));
+    }
+    var tail = new ArrayDeque<String>(Math.min(tailLines, 1024));
+    lines.forEach(
+        line -> {
+          if (tail.size() == tailLines) {
+            tail.removeFirst();
+          }
+          tail.addLast(line);
+        });
+    return String.join(System.lineSeparator(), tail);
+  }
+
+  private void evict() {
+    var iterator = entries.entrySet().iterator();
+    while (sizeBytes > maxSizeBytes && iterator.hasNext()) {
+      Map.Entry<String, Long> eldest = iterator.next();
+      iterator.remove();
+      sizeBytes -= eldest.getValue();
+      try {
+        Files.deleteIfExists(getFile(eldest.getKey()));
+      } catch (IOException e) {
+        log.warn("Failed to evict the cached logs of execution {}", eldest.getKey(), e);
+      }
+    }
+  }
+
+  private boolean initDirectory() {
+    try {
+      Files.createDirectories(directory);
+      try (var files = Files.list(directory)) {
+        files
+            .filter(file -> file.getFileName().toString().endsWith(FILE_EXTENSION))
+            .sorted(Comparator.comparingLong(file -> file.toFile().lastModified()))
+            .forEach(
+                file -> {
+                  var name = file.getFileName().toString();
+                  entries.put(
+                      name.substring(0, name.length() - FILE_EXTENSION.length()),
+                      file.toFile().length());
+                  sizeBytes += file.toFile().length();
+                });
+      }
+      evict();
+      log.info(
+          "Execution logs cache initialized in {} with {} cached logs ({} bytes)",
+          directory,
+          entries.size(),
+          sizeBytes);
+      return true;
+    } catch (IOException e) {
+      log.warn("Execution logs cache is disabled, as {} cannot be used.", directory, e);
+      return false;
+    }
+  }
+
+  private Path getFile(String executionId) {
+    return directory.resolve(executionId + FILE_EXTENSION);
+  }
+
+  private static boolean isValidExecutionId(String executionId) {
+    return executionId != null && EXECUTION_ID_PATTERN.matcher(executionId).matches();
+  }
+}
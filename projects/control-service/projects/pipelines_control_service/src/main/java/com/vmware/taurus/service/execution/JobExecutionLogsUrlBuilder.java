@@ -12,7 +12,6 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
-import com.vmware.taurus.service.model.DataJob;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringSubstitutor;
@@ -20,6 +19,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.vmware.taurus.service.model.DataJobExecution;
+import com.vmware.taurus.service.model.DataJobExecutionView;
 
 /**
  * Builds logs URL for each data job execution by specified template
@@ -73,6 +73,10 @@ public class JobExecutionLogsUrlBuilder {
   Clock clock = Clock.systemDefaultZone();
 
   public String build(DataJobExecution dataJobExecution) {
+    return build(dataJobExecution == null ? null : DataJobExecutionView.of(dataJobExecution));
+  }
+
+  public String build(DataJobExecutionView dataJobExecution) {
     if (StringUtils.isEmpty(template)) {
       log.warn("The property 'datajobs.executions.logsUrl.template' is empty!");
       return "";
@@ -81,20 +85,14 @@ public class JobExecutionLogsUrlBuilder {
     return StringSubstitutor.replace(template, buildVars(dataJobExecution), VAR_PREFIX, VAR_SUFFIX);
   }
 
-  private Map<String, String> buildVars(DataJobExecution dataJobExecution) {
+  private Map<String, String> buildVars(DataJobExecutionView dataJobExecution) {
     Map<String, String> params = new HashMap<>();
 
     if (dataJobExecution != null) {
       params.put(EXECUTION_ID_VAR, dataJobExecution.getId());
       params.put(OP_ID_VAR, dataJobExecution.getOpId());
-      params.put(
-          JOB_NAME_VAR,
-          Optional.ofNullable(dataJobExecution.getDataJob()).map(DataJob::getName).orElse(""));
-      params.put(
-          TEAM_NAME_VAR,
-          Optional.ofNullable(dataJobExecution.getDataJob())
-              .map(j -> j.getJobConfig().getTeam())
-              .orElse(""));
+      params.put(JOB_NAME_VAR, Optional.ofNullable(dataJobExecution.getJobName()).orElse(""));
+      params.put(TEAM_NAME_VAR, Optional.ofNullable(dataJobExecution.getTeamName()).orElse(""));
       params.put(
           START_TIME_VAR, convertDate(dataJobExecution.getStartTime(), startTimeOffsetSeconds));
       params.put(END_TIME_VAR, convertDate(dataJobExecution.getEndTime(), endTimeOffsetSeconds));
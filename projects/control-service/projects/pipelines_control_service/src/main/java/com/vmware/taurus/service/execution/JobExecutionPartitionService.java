@@ -0,0 +1,191 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.execution;
+
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Maintains the monthly partitions of the data_job_execution table, if the partitioning of
+ * executions is enabled (see {@link JobExecutionPartitioningConfiguration}):
+ *
+ * <ul>
+ *   <li>Creates the partitions of the next months in advance, so that the new executions do not
+ *       end up in the default partition.
+ *   <li>Removes the partitions whose executions all started before the retention period of the
+ *       executions ({@code datajobs.executions.cleanupJob.executionsTtlSeconds}). Dropping (or
+ *       detaching) a partition is nearly free compared to deleting its rows, which bloats the table
+ *       and contends with the monitoring writing to it.
+ * </ul>
+ */
+@Service
+@Slf4j
+public class JobExecutionPartitionService {
+
+  static final String PARTITION_PREFIX = "data_job_execution_p";
+  private static final DateTimeFormatter PARTITION_SUFFIX_FORMAT =
+      DateTimeFormatter.ofPattern("yyyyMM");
+
+  @Value("${datajobs.executions.partitioning.enabled:false}")
+  private boolean partitioningEnabled;
+
+  @Value("${datajobs.executions.partitioning.monthsAhead:3}")
+  private int monthsAhead;
+
+  // If true, the old partitions are detached and kept as standalone tables (for example to be
+  // archived), otherwise they are dropped.
+  @Value("${datajobs.executions.partitioning.detachOldPartitions:false}")
+  private boolean detachOldPartitions;
+
+  @Value("${datajobs.executions.cleanupJob.executionsTtlSeconds:1209600}")
+  private long executionsTtlSeconds;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+
+  @Autowired
+  public JobExecutionPartitionService(
+      JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  public boolean isPartitioningEnabled() {
+    return partitioningEnabled;
+  }
+
+  @SchedulerLock(name = "maintainExecutionPartitionsTask")
+  @Scheduled(cron = "${datajobs.executions.partitioning.scheduleCron:0 30 * * * *}")
+  public void maintainPartitions() {
+    if (!partitioningEnabled) {
+      return;
+    }
+    if (!isTablePartitioned()) {
+      log.warn(
+          "Partitioning of data job executions is enabled, but the data_job_execution table is not"
+              + " partitioned. Partitions will not be maintained.");
+      return;
+    }
+
+    var currentMonth = YearMonth.now(ZoneOffset.UTC);
+    for (int i = 0; i <= monthsAhead; i++) {
+      createPartition(currentMonth.plusMonths(i));
+    }
+
+    var cutoff = LocalDateTime.now(ZoneOffset.UTC).minusSeconds(executionsTtlSeconds);
+    for (var partition : getPartitionsBefore(listPartitions(), cutoff)) {
+      removePartition(partition);
+    }
+  }
+
+  /**
+   * @return The names of the monthly partitions, which hold only executions started before the
+   *     cutoff.
+   */
+  static List<String> getPartitionsBefore(List<String> partitions, LocalDateTime cutoff) {
+    List<String> result = new ArrayList<>();
+    for (var partition : partitions) {
+      getPartitionMonth(partition)
+          .filter(month -> !month.plusMonths(1).atDay(1).atStartOfDay().isAfter(cutoff))
+          .ifPresent(month -> result.add(partition));
+    }
+    return result;
+  }
+
+  static String getPartitionName(YearMonth month) {
+    return PARTITION_PREFIX + month.format(PARTITION_SUFFIX_FORMAT);
+  }
+
+  /** Returns the month of a monthly partition, or empty for any other (e.g. default) partition. */
+  static Optional<YearMonth> getPartitionMonth(String partition) {
+    if (!partition.startsWith(PARTITION_PREFIX)) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(
+          YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX_FORMAT));
+    } catch (DateTimeParseException e) {
+      return Optional.empty();
+    }
+  }
+
+  private boolean isTablePartitioned() {
+    Integer count =
+        jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM pg_partitioned_table pt"
+                + " JOIN pg_class c ON c.oid = pt.partrelid"
+                + " WHERE c.relname = 'data_job_execution'",
+            Integer.class);
+    return count != null && count > 0;
+  }
+
+  private List<String> listPartitions() {
+    return jdbcTemplate.queryForList(
+        "SELECT c.relname FROM pg_inherits i"
+            + " JOIN pg_class c ON c.oid = i.inhrelid"
+            + " JOIN pg_class p ON p.oid = i.inhparent"
+            + " WHERE p.relname = 'data_job_execution'",
+        String.class);
+  }
+
+  private void createPartition(YearMonth month) {
+    try {
+      jdbcTemplate.execute(
+          String.format(
+              "CREATE TABLE IF NOT EXISTS %s PARTITION OF data_job_execution"
+                  + " FOR VALUES FROM ('%s') TO ('%s')",
+              getPartitionName(month), month.atDay(1), month.plusMonths(1).atDay(1)));
+    } catch (Exception e) {
+      // For example if the default partition already holds executions of that month.
+      log.warn("Failed to create the partition of data job executions for {}", month, e);
+    }
+  }
+
+  /**
+   * Removes the partition together with its execution ids from the data_job_execution_id table,
+   * which guards the uniqueness of the ids in the partitioned table (see the partitioning
+   * migration).
+   */
+  private void removePartition(String partition) {
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            jdbcTemplate.update(
+                String.format(
+                    "DELETE FROM data_job_execution_id WHERE id IN (SELECT id FROM %s)",
+                    partition));
+            if (detachOldPartitions) {
+              jdbcTemplate.execute(
+                  String.format("ALTER TABLE data_job_execution DETACH PARTITION %s", partition));
+            } else {
+              jdbcTemplate.execute(String.format("DROP TABLE %s", partition));
+            }
+          });
+      log.info(
+          "{} the partition of old data job executions {}",
+          detachOldPartitions ? "Detached" : "Dropped",
+          partition);
+    } catch (Exception e) {
+      log.warn("Failed to remove the partition of data job executions {}", partition, e);
+    }
+  }
+}
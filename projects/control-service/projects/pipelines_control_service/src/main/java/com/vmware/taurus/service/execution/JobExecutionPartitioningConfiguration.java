@@ -0,0 +1,52 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.execution;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.Location;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Adds the migration which partitions the data_job_execution table by start time to the Flyway
+ * locations, if the partitioning of executions is enabled. The partitioning is supported only by
+ * PostgreSQL, so it is disabled by default. The number of monthly partitions created ahead by the
+ * migration is passed to it as the {@code months_ahead} placeholder, from {@code
+ * datajobs.executions.partitioning.monthsAhead}.
+ *
+ * @see JobExecutionPartitionService
+ */
+@Slf4j
+@Configuration
+public class JobExecutionPartitioningConfiguration {
+
+  static final String PARTITIONING_MIGRATIONS_LOCATION = "classpath:db/partitioning";
+  static final String MONTHS_AHEAD_PLACEHOLDER = "months_ahead";
+
+  @Bean
+  public FlywayConfigurationCustomizer jobExecutionPartitioningFlywayCustomizer(
+      @Value("${datajobs.executions.partitioning.enabled:false}") boolean partitioningEnabled,
+      @Value("${datajobs.executions.partitioning.monthsAhead:3}") int monthsAhead) {
+    return configuration -> {
+      if (partitioningEnabled) {
+        log.info("Data job executions are partitioned by start time");
+        var locations = new ArrayList<>(Arrays.asList(configuration.getLocations()));
+        locations.add(new Location(PARTITIONING_MIGRATIONS_LOCATION));
+        configuration.locations(locations.toArray(new Location[0]));
+
+        var placeholders = new HashMap<>(configuration.getPlaceholders());
+        placeholders.put(MONTHS_AHEAD_PLACEHOLDER, String.valueOf(monthsAhead));
+        configuration.placeholders(placeholders);
+      }
+    };
+  }
+}
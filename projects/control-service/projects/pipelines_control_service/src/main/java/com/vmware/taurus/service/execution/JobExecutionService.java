@@ -5,6 +5,8 @@
 
 package com.vmware.taurus.service.execution;
 
+import com.google.common.collect.Lists;
+import com.google.common.io.ByteStreams;
 import com.google.gson.JsonSyntaxException;
 import com.vmware.taurus.controlplane.model.data.DataJobExecution;
 import com.vmware.taurus.controlplane.model.data.DataJobExecutionLogs;
@@ -12,25 +14,37 @@ import com.vmware.taurus.controlplane.model.data.DataJobExecutionRequest;
 import com.vmware.taurus.datajobs.ToApiModelConverter;
 import com.vmware.taurus.datajobs.ToModelApiConverter;
 import com.vmware.taurus.exception.*;
+import com.vmware.taurus.service.JobExecutionCursor;
+import com.vmware.taurus.service.JobExecutionFilterSpec;
 import com.vmware.taurus.service.JobExecutionRepository;
 import com.vmware.taurus.service.JobsService;
 import com.vmware.taurus.service.KubernetesService;
+import com.vmware.taurus.service.datasource.ReplicaReads;
 import com.vmware.taurus.service.deploy.DeploymentService;
 import com.vmware.taurus.service.deploy.JobImageDeployer;
 import com.vmware.taurus.service.diag.OperationContext;
+import com.vmware.taurus.service.graphql.model.DataJobExecutionFilter;
 import com.vmware.taurus.service.kubernetes.DataJobsKubernetesService;
 import com.vmware.taurus.service.model.*;
 import io.kubernetes.client.openapi.ApiException;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.CollectionUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.*;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -53,6 +67,25 @@ public class JobExecutionService {
     @Getter private final String value;
   }
 
+  /** A page of data job executions. */
+  @Value
+  public static class ExecutionsPage {
+    List<DataJobExecution> executions;
+
+    /** The cursor of the next page, or null if this is the last page. */
+    String nextCursor;
+  }
+
+  private static final Set<DataJobExecution.StatusEnum> FINISHED_EXECUTION_STATUSES =
+      EnumSet.of(
+          DataJobExecution.StatusEnum.SUCCEEDED,
+          DataJobExecution.StatusEnum.CANCELLED,
+          DataJobExecution.StatusEnum.SKIPPED,
+          DataJobExecution.StatusEnum.USER_ERROR,
+          DataJobExecution.StatusEnum.PLATFORM_ERROR);
+
+  private static final int SYNC_EXECUTIONS_UPDATE_CHUNK_SIZE = 1000;
+
   private JobsService jobsService;
 
   private JobExecutionRepository jobExecutionRepository;
@@ -65,6 +98,10 @@ public class JobExecutionService {
 
   private OperationContext operationContext;
 
+  private JobExecutionLogsCache jobExecutionLogsCache;
+
+  private JobExecutionStatsService jobExecutionStatsService;
+
   public String startDataJobExecution(
       String teamName,
       String jobName,
@@ -201,7 +238,10 @@ public class JobExecutionService {
       jobExecution.setStatus(ExecutionStatus.CANCELLED);
       jobExecution.setMessage("Job execution cancelled by user.");
       log.info("Writing cancelled status in database.");
-      jobExecutionRepository.save(jobExecution);
+      var cancelledExecution = jobExecutionRepository.save(jobExecution);
+      // The watch skips the executions which are already in a final status, so the cancellation is
+      // counted here.
+      recordStatusChanges(List.of(toStatusChange(jobStatus, cancelledExecution)));
       log.info("Cancelled data job execution {} successfully.", executionId);
 
     } catch (ApiException | JsonSyntaxException e) {
@@ -215,14 +255,42 @@ public class JobExecutionService {
 
   public List<DataJobExecution> listJobExecutions(
       String teamName, String jobName, List<String> apiExecutionStatuses) {
+    return listJobExecutions(teamName, jobName, apiExecutionStatuses, null, null).getExecutions();
+  }
+
+  /**
+   * Lists the executions of a data job. If a page size is specified, the executions are paged by
+   * cursor (see {@link JobExecutionCursor}), ordered from the most recently started, otherwise all
+   * executions are returned.
+   *
+   * @param pageSize The maximum number of executions to return, or null to return all executions.
+   * @param after The position after which the page starts, or null for the first page.
+   * @return The executions and the cursor of the next page, if any.
+   */
+  public ExecutionsPage listJobExecutions(
+      String teamName,
+      String jobName,
+      List<String> apiExecutionStatuses,
+      Integer pageSize,
+      JobExecutionCursor after) {
+    // Not in a transaction, so that no database connection is held while Kubernetes is called.
+    return ReplicaReads.call(
+        () -> findJobExecutions(teamName, jobName, apiExecutionStatuses, pageSize, after));
+  }
+
+  private ExecutionsPage findJobExecutions(
+      String teamName,
+      String jobName,
+      List<String> apiExecutionStatuses,
+      Integer pageSize,
+      JobExecutionCursor after) {
     if (!jobsService.jobWithTeamExists(jobName, teamName)) {
       throw new DataJobNotFoundException(jobName);
     }
 
-    List<com.vmware.taurus.service.model.DataJobExecution> dataJobExecutions;
-
+    List<ExecutionStatus> modelExecutionStatuses = Collections.emptyList();
     if (!CollectionUtils.isEmpty(apiExecutionStatuses)) {
-      List<com.vmware.taurus.service.model.ExecutionStatus> modelExecutionStatuses =
+      modelExecutionStatuses =
           apiExecutionStatuses.stream()
               .map(
                   apiExecutionStatus -> {
@@ -235,32 +303,55 @@ public class JobExecutionService {
                     }
                   })
               .collect(Collectors.toList());
+    }
 
-      dataJobExecutions =
-          jobExecutionRepository.findDataJobExecutionsByDataJobNameAndStatusIn(
-              jobName, modelExecutionStatuses);
-
-      // The VDK Skip plugin relies heavily on running execution status.
-      // In some cases, the execution status in the database may be outdated due to delay.
-      // As a result the next job execution will be skipped. In order to avoid such cases
-      // we must return only running jobs in Kubernetes when a filter (status=RUNNING) is passed to
-      // the API.
-      try {
-        if (modelExecutionStatuses.contains(ExecutionStatus.RUNNING)
-            && !dataJobsKubernetesService.isRunningJob(jobName)) {
-          dataJobExecutions.removeIf(
-              dataJobExecution -> ExecutionStatus.RUNNING.equals(dataJobExecution.getStatus()));
+    // The VDK Skip plugin relies heavily on running execution status.
+    // In some cases, the execution status in the database may be outdated due to delay.
+    // As a result the next job execution will be skipped. In order to avoid such cases
+    // we must return only running jobs in Kubernetes when a filter (status=RUNNING) is passed to
+    // the API. The status is excluded from the query, so that the pages are not cut short.
+    try {
+      if (modelExecutionStatuses.contains(ExecutionStatus.RUNNING)
+          && !dataJobsKubernetesService.isRunningJob(jobName)) {
+        modelExecutionStatuses =
+            modelExecutionStatuses.stream()
+                .filter(status -> status != ExecutionStatus.RUNNING)
+                .collect(Collectors.toList());
+        if (modelExecutionStatuses.isEmpty()) {
+          return new ExecutionsPage(Collections.emptyList(), null);
         }
-      } catch (ApiException e) {
-        log.warn("Error while filtering RUNNING job executions.", e);
+      }
+    } catch (ApiException e) {
+      log.warn("Error while filtering RUNNING job executions.", e);
+    }
+
+    // The executions are read as projections, as the response does not need the entities.
+    List<DataJobExecutionView> dataJobExecutions;
+    String nextCursor = null;
+    var filterSpec =
+        new JobExecutionFilterSpec(
+            DataJobExecutionFilter.builder()
+                .jobNameIn(List.of(jobName))
+                .statusIn(modelExecutionStatuses)
+                .build());
+
+    if (pageSize != null) {
+      var page =
+          jobExecutionRepository.findAllViews(filterSpec, Sort.Direction.DESC, after, pageSize);
+      dataJobExecutions = page.getContent();
+      if (page.hasNext()) {
+        nextCursor =
+            JobExecutionCursor.of(dataJobExecutions.get(dataJobExecutions.size() - 1)).encode();
       }
     } else {
-      dataJobExecutions = jobExecutionRepository.findDataJobExecutionsByDataJobName(jobName);
+      dataJobExecutions = jobExecutionRepository.findAllViews(filterSpec, Sort.unsorted());
     }
 
-    return dataJobExecutions.stream()
-        .map(dataJobExecution -> convertToModel(dataJobExecution))
-        .collect(Collectors.toList());
+    return new ExecutionsPage(
+        dataJobExecutions.stream()
+            .map(dataJobExecution -> convertToModel(dataJobExecution))
+            .collect(Collectors.toList()),
+        nextCursor);
   }
 
   public DataJobExecution readJobExecution(String teamName, String jobName, String executionId) {
@@ -289,9 +380,126 @@ public class JobExecutionService {
       return Optional.empty();
     }
 
-    final Optional<com.vmware.taurus.service.model.DataJobExecution>
-        dataJobExecutionPersistedOptional =
-            jobExecutionRepository.findById(jobExecution.getExecutionId());
+    var persistedExecution = jobExecutionRepository.findById(jobExecution.getExecutionId());
+    var previousStatus = persistedExecution.map(e -> e.getStatus()).orElse(null);
+    var updatedExecution =
+        buildUpdatedJobExecution(dataJob, jobExecution, executionResult, persistedExecution)
+            .map(jobExecutionRepository::saveAndFlush);
+    updatedExecution.ifPresent(
+        execution ->
+            recordStatusChanges(
+                List.of(toStatusChange(previousStatus, execution))));
+    return updatedExecution;
+  }
+
+  /**
+   * Updates a batch of job executions in database using a single query to load the persisted
+   * executions and batched statements to write them. The same rules as in {@link
+   * #updateJobExecution} apply to each of the executions.
+   *
+   * @param dataJobs The data jobs of the executions, by name. Executions whose data job is not
+   *     present are skipped.
+   * @param jobExecutions The executions to update, at most one per execution id.
+   * @return The executions which were updated.
+   */
+  public List<com.vmware.taurus.service.model.DataJobExecution> updateJobExecutions(
+      final Map<String, DataJob> dataJobs,
+      final Collection<KubernetesService.JobExecution> jobExecutions) {
+    var executionIds =
+        jobExecutions.stream()
+            .map(KubernetesService.JobExecution::getExecutionId)
+            .filter(StringUtils::isNotBlank)
+            .collect(Collectors.toSet());
+    var persistedExecutions =
+        jobExecutionRepository.findAllById(executionIds).stream()
+            .collect(
+                Collectors.toMap(
+                    com.vmware.taurus.service.model.DataJobExecution::getId,
+                    execution -> execution));
+
+    // The persisted executions are merged with the updated ones when saved, so the previous
+    // statuses are captured beforehand.
+    var previousStatuses = new HashMap<String, ExecutionStatus>();
+    persistedExecutions.values().forEach(e -> previousStatuses.put(e.getId(), e.getStatus()));
+
+    var updatedExecutions = new ArrayList<com.vmware.taurus.service.model.DataJobExecution>();
+    for (var jobExecution : jobExecutions) {
+      var dataJob = dataJobs.get(jobExecution.getJobName());
+      if (dataJob == null) {
+        continue;
+      }
+      if (StringUtils.isBlank(jobExecution.getExecutionId())) {
+        log.warn(
+            "Could not store Data Job execution due to the missing execution id: {}",
+            jobExecution);
+        continue;
+      }
+
+      buildUpdatedJobExecution(
+              dataJob,
+              jobExecution,
+              JobExecutionResultManager.getResult(jobExecution),
+              Optional.ofNullable(persistedExecutions.get(jobExecution.getExecutionId())))
+          .ifPresent(updatedExecutions::add);
+    }
+
+    if (updatedExecutions.isEmpty()) {
+      return updatedExecutions;
+    }
+
+    var savedExecutions = jobExecutionRepository.saveAll(updatedExecutions);
+    jobExecutionRepository.flush();
+    recordStatusChanges(
+        savedExecutions.stream()
+            .map(e -> toStatusChange(previousStatuses.get(e.getId()), e))
+            .collect(Collectors.toList()));
+    return savedExecutions;
+  }
+
+  /**
+   * Records the status changes in the execution statistics once the current transaction, if any,
+   * has committed, so that only committed changes are counted and the transaction of the caller
+   * does not wait for the locks of the statistics. A failure to update the statistics is logged
+   * and does not fail the update of the executions.
+   */
+  private void recordStatusChanges(List<JobExecutionStatsService.StatusChange> changes) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              recordStatusChangesNow(changes);
+            }
+          });
+    } else {
+      recordStatusChangesNow(changes);
+    }
+  }
+
+  private void recordStatusChangesNow(List<JobExecutionStatsService.StatusChange> changes) {
+    try {
+      jobExecutionStatsService.recordStatusChanges(changes);
+    } catch (Exception e) {
+      log.warn("Failed to update the execution statistics of the data jobs", e);
+    }
+  }
+
+  private static JobExecutionStatsService.StatusChange toStatusChange(
+      ExecutionStatus previousStatus, com.vmware.taurus.service.model.DataJobExecution execution) {
+    return new JobExecutionStatsService.StatusChange(
+        execution.getDataJob().getName(),
+        previousStatus,
+        execution.getStatus(),
+        execution.getStartTime(),
+        execution.getEndTime());
+  }
+
+  private Optional<com.vmware.taurus.service.model.DataJobExecution> buildUpdatedJobExecution(
+      final DataJob dataJob,
+      final KubernetesService.JobExecution jobExecution,
+      ExecutionResult executionResult,
+      final Optional<com.vmware.taurus.service.model.DataJobExecution>
+          dataJobExecutionPersistedOptional) {
 
     // This set contains all the statuses that should not be changed to something else if present in
     // the DB.
@@ -330,6 +538,7 @@ public class JobExecutionService {
             dataJobExecutionPersistedOptional.isPresent()
                 ? dataJobExecutionPersistedOptional.get().toBuilder()
                 : com.vmware.taurus.service.model.DataJobExecution.builder()
+                    .newExecution(true)
                     .id(jobExecution.getExecutionId())
                     .dataJob(dataJob)
                     .startTime(
@@ -360,7 +569,7 @@ public class JobExecutionService {
             .lastDeployedDate(jobExecution.getDeployedDate())
             .lastDeployedBy(jobExecution.getDeployedBy())
             .build();
-    return Optional.of(jobExecutionRepository.saveAndFlush(dataJobExecution));
+    return Optional.of(dataJobExecution);
   }
 
   /**
@@ -390,29 +599,63 @@ public class JobExecutionService {
    * @param runningJobExecutionIds running job identifiers in Kubernetes
    */
   public void syncJobExecutionStatuses(List<String> runningJobExecutionIds) {
+    syncJobExecutionStatuses(runningJobExecutionIds, jobName -> true);
+  }
+
+  /**
+   * Synchronizes only the executions of the data jobs matching the specified filter, e.g. when the
+   * running jobs in Kubernetes are listed only for some of the data jobs (see {@link
+   * #syncJobExecutionStatuses(List)}).
+   *
+   * @param runningJobExecutionIds running job identifiers in Kubernetes
+   * @param jobNameFilter selects the data jobs, whose executions are synchronized, by name
+   */
+  public void syncJobExecutionStatuses(
+      List<String> runningJobExecutionIds, Predicate<String> jobNameFilter) {
     if (runningJobExecutionIds == null) {
       return;
     }
     var runningJobStatus = List.of(ExecutionStatus.SUBMITTED, ExecutionStatus.RUNNING);
-    List<com.vmware.taurus.service.model.DataJobExecution> dataJobExecutionsToBeUpdated =
+    Set<String> runningJobExecutionIdsSet = new HashSet<>(runningJobExecutionIds);
+    List<String> jobsToUpdate =
         jobExecutionRepository
-            .findDataJobExecutionsByStatusInAndStartTimeBefore(
+            .findDataJobExecutionIdAndJobNameByStatusInAndStartTimeBefore(
                 runningJobStatus, OffsetDateTime.now().minusMinutes(3))
             .stream()
-            .filter(dataJobExecution -> !runningJobExecutionIds.contains(dataJobExecution.getId()))
+            .filter(execution -> jobNameFilter.test(execution.getJobName()))
+            .map(DataJobExecutionIdAndJobName::getId)
+            .filter(id -> !runningJobExecutionIdsSet.contains(id))
             .collect(Collectors.toList());
 
-    if (!dataJobExecutionsToBeUpdated.isEmpty()) {
-      var jobsToUpdate =
-          dataJobExecutionsToBeUpdated.stream().map(e -> e.getId()).collect(Collectors.toList());
-      jobExecutionRepository.updateExecutionStatusWhereOldStatusInAndExecutionIdIn(
-          ExecutionStatus.SUCCEEDED,
-          OffsetDateTime.now(),
-          "Status is set by VDK Control Service",
-          runningJobStatus,
-          jobsToUpdate);
-      dataJobExecutionsToBeUpdated.forEach(
-          dataJobExecution -> log.info("Sync Data Job Execution status: {}", dataJobExecution));
+    if (!jobsToUpdate.isEmpty()) {
+      var endTime = OffsetDateTime.now();
+      // The ids are updated in chunks, so that the number of bind parameters of a single statement
+      // stays within the limits of the database driver.
+      for (var chunk : Lists.partition(jobsToUpdate, SYNC_EXECUTIONS_UPDATE_CHUNK_SIZE)) {
+        // Only the executions changed by the update are counted, with their actual previous
+        // status, as some may have been finalized by a watch event in the meantime.
+        var updatedExecutions =
+            jobExecutionRepository.updateExecutionStatusReturningPrevious(
+                ExecutionStatus.SUCCEEDED,
+                endTime,
+                "Status is set by VDK Control Service",
+                runningJobStatus,
+                chunk);
+        // The actual durations of these executions are unknown, so only their status is counted.
+        recordStatusChanges(
+            updatedExecutions.stream()
+                .map(
+                    execution ->
+                        new JobExecutionStatsService.StatusChange(
+                            execution.getJobName(),
+                            execution.getPreviousStatus(),
+                            ExecutionStatus.SUCCEEDED,
+                            null,
+                            null))
+                .collect(Collectors.toList()));
+      }
+      log.info("Sync Data Job Execution statuses of {} executions", jobsToUpdate.size());
+      log.debug("Synced Data Job Executions: {}", jobsToUpdate);
     }
   }
 
@@ -427,18 +670,39 @@ public class JobExecutionService {
     // for example CLI may decide to use logsUrl if it is not empty otherwise it would use Execution
     // Logging API
 
-    // TODO: we need to consider how to throttle memory and api requests ...
-    //  Maybe cache file on disk? Or limit concurrent logging api requests? or limit max lines
-    //  caching logs on disk may help reduce requests toward Kubernetes API as well
-    //  (for example: use logs from disk and max 1 req per minute toward API)
-
     if (tailLines != null && tailLines <= 0) {
       tailLines = null;
     }
 
+    // The logs of a finished execution do not change, so they are streamed from Kubernetes to the
+    // local disk cache once and then served from there, keeping only the tail lines in memory.
+    // The concurrent fetches are limited by the Kubernetes service.
+    boolean cacheable =
+        FINISHED_EXECUTION_STATUSES.contains(execution.getStatus())
+            && jobExecutionLogsCache.isCacheable(executionId);
+    DataJobExecutionLogs executionLogs = new DataJobExecutionLogs();
     try {
+      if (cacheable) {
+        var cachedLogs = jobExecutionLogsCache.get(executionId, tailLines);
+        if (cachedLogs.isEmpty()) {
+          var logs = dataJobsKubernetesService.streamJobLogs(executionId, null, null, null);
+          if (logs.isEmpty()) {
+            executionLogs.setLogs("");
+            return executionLogs;
+          }
+          try (var stream = logs.get()) {
+            if (jobExecutionLogsCache.put(executionId, stream)) {
+              cachedLogs = jobExecutionLogsCache.get(executionId, tailLines);
+            }
+          }
+        }
+        if (cachedLogs.isPresent()) {
+          executionLogs.setLogs(cachedLogs.get());
+          return executionLogs;
+        }
+      }
+
       var logs = dataJobsKubernetesService.getJobLogs(executionId, tailLines);
-      DataJobExecutionLogs executionLogs = new DataJobExecutionLogs();
       executionLogs.setLogs(logs.orElseGet(() -> ""));
       return executionLogs;
     } catch (Exception e) {
@@ -450,6 +714,145 @@ public class JobExecutionService {
     }
   }
 
+  /**
+   * Streams the logs of the job execution directly from Kubernetes without loading them in memory,
+   * unlike {@link #getJobExecutionLogs}. The caller is responsible for closing the returned stream.
+   *
+   * @param tailLines If positive, the number of lines from the end of the logs to return.
+   * @param sinceSeconds If positive, only the logs from that many seconds ago are returned.
+   * @param rangeStart If not null, the offset of the first byte of the logs to return.
+   * @param rangeEnd If not null, the offset of the last byte of the logs to return (inclusive).
+   * @return The logs of the job execution, or an empty stream if there are no logs.
+   * @throws DataJobExecutionLogsRangeNotSatisfiableException if the logs end at or before
+   *     rangeStart.
+   */
+  public InputStream streamJobExecutionLogs(
+      String teamName,
+      String jobName,
+      String executionId,
+      Integer tailLines,
+      Integer sinceSeconds,
+      Long rangeStart,
+      Long rangeEnd) {
+    // we use readJobExecution to check that execution exists
+    readJobExecution(teamName, jobName, executionId);
+
+    if (tailLines != null && tailLines <= 0) {
+      tailLines = null;
+    }
+    if (sinceSeconds != null && sinceSeconds <= 0) {
+      sinceSeconds = null;
+    }
+    // Let Kubernetes cut the logs after the end of the range, so that no more is transferred.
+    Integer limitBytes =
+        rangeEnd != null && rangeEnd < Integer.MAX_VALUE ? (int) (rangeEnd + 1) : null;
+
+    var msg =
+        String.format(
+            "Failed to get logs for job execution %s (job: %s, team: %s)",
+            executionId, jobName, teamName);
+    InputStream logs;
+    try {
+      logs =
+          dataJobsKubernetesService
+              .streamJobLogs(executionId, tailLines, sinceSeconds, limitBytes)
+              .orElseGet(InputStream::nullInputStream);
+    } catch (Exception e) {
+      throw new KubernetesException(msg, e);
+    }
+
+    try {
+      if (rangeStart != null) {
+        long skipped = skipLogs(logs, rangeStart);
+        // The range is not satisfiable unless at least its first byte exists.
+        var pushbackLogs = new PushbackInputStream(logs, 1);
+        logs = pushbackLogs;
+        int firstByte = skipped < rangeStart ? -1 : pushbackLogs.read();
+        if (firstByte == -1) {
+          throw new DataJobExecutionLogsRangeNotSatisfiableException(
+              executionId, rangeStart, skipped);
+        }
+        pushbackLogs.unread(firstByte);
+      }
+      if (rangeEnd != null) {
+        logs = ByteStreams.limit(logs, rangeEnd - (rangeStart == null ? 0 : rangeStart) + 1);
+      }
+      return logs;
+    } catch (IOException e) {
+      closeQuietly(logs);
+      throw new KubernetesException(msg, e);
+    } catch (RuntimeException e) {
+      closeQuietly(logs);
+      throw e;
+    }
+  }
+
+  /**
+   * Reads a byte range of the logs of the job execution into memory, so that the actual end of the
+   * range is known. Used for ranges which are small enough, see {@link #streamJobExecutionLogs} for
+   * the parameters.
+   *
+   * @param maxBytes The maximum number of bytes to read.
+   * @return The bytes of the range, which are less than requested if the logs end before rangeEnd,
+   *     or empty if the range is longer than maxBytes.
+   * @throws DataJobExecutionLogsRangeNotSatisfiableException if the logs end before rangeStart.
+   */
+  public Optional<byte[]> readJobExecutionLogsRange(
+      String teamName,
+      String jobName,
+      String executionId,
+      Integer tailLines,
+      Integer sinceSeconds,
+      long rangeStart,
+      Long rangeEnd,
+      int maxBytes) {
+    try (var logs =
+        streamJobExecutionLogs(
+            teamName, jobName, executionId, tailLines, sinceSeconds, rangeStart, rangeEnd)) {
+      byte[] bytes = ByteStreams.toByteArray(ByteStreams.limit(logs, maxBytes + 1L));
+      if (bytes.length == 0) {
+        throw new DataJobExecutionLogsRangeNotSatisfiableException(
+            executionId, rangeStart, rangeStart);
+      }
+      return bytes.length > maxBytes ? Optional.empty() : Optional.of(bytes);
+    } catch (IOException e) {
+      var msg =
+          String.format(
+              "Failed to get logs for job execution %s (job: %s, team: %s)",
+              executionId, jobName, teamName);
+      throw new KubernetesException(msg, e);
+    }
+  }
+
+  /**
+   * Skips up to the specified number of bytes of the logs, reading them in small chunks.
+   *
+   * @return The number of bytes skipped, which is less than requested only if the logs ended.
+   */
+  private static long skipLogs(InputStream logs, long bytes) throws IOException {
+    long skipped = 0;
+    while (skipped < bytes) {
+      long count = logs.skip(bytes - skipped);
+      if (count <= 0) {
+        // InputStream.skip may skip nothing before the end of the stream, read to be sure.
+        if (logs.read() == -1) {
+          break;
+        }
+        count = 1;
+      }
+      skipped += count;
+    }
+    return skipped;
+  }
+
+  private static void closeQuietly(InputStream stream) {
+    try {
+      stream.close();
+    } catch (IOException e) {
+      log.debug("Failed to close the logs stream: {}", e.toString());
+    }
+  }
+
   /**
    * This method returns a per job name mapping containing statuses count for a given data job and
    * status list. The method is not guaranteed to return a mapping if a data job does not have
@@ -482,6 +885,16 @@ public class JobExecutionService {
     return returnValue;
   }
 
+  /**
+   * Returns the execution statistics of the specified data jobs, by data job name. Data jobs
+   * without finished executions are not present.
+   *
+   * @see JobExecutionStatsService
+   */
+  public Map<String, DataJobExecutionStats> getExecutionStats(List<String> dataJobs) {
+    return jobExecutionStatsService.getStats(dataJobs);
+  }
+
   private static String getJobExecutionApiMessage(
       ExecutionStatus executionStatus, String containerTerminationMessage) {
     switch (executionStatus) {
@@ -530,4 +943,9 @@ public class JobExecutionService {
     return ToApiModelConverter.jobExecutionToConvert(
         dataJobExecution, jobExecutionLogsUrlBuilder.build(dataJobExecution));
   }
+
+  private DataJobExecution convertToModel(DataJobExecutionView dataJobExecution) {
+    return ToApiModelConverter.jobExecutionToConvert(
+        dataJobExecution, jobExecutionLogsUrlBuilder.build(dataJobExecution));
+  }
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.execution;
+
+import com.vmware.taurus.service.JobExecutionStatsRepository;
+import com.vmware.taurus.service.model.DataJobExecutionStats;
+import com.vmware.taurus.service.model.ExecutionStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.transaction.Transactional;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the execution statistics of the data jobs (see {@link DataJobExecutionStats}). The
+ * statistics are updated with the status changes of the executions, rather than computed from the
+ * execution history, so the counts include the executions which are already cleaned up.
+ */
+@Slf4j
+@Service
+public class JobExecutionStatsService {
+
+  /** A change of the status of an execution of a data job. */
+  @lombok.Value
+  public static class StatusChange {
+    String jobName;
+
+    /** The previous status, or null if the execution is new. */
+    ExecutionStatus previousStatus;
+
+    ExecutionStatus newStatus;
+
+    OffsetDateTime startTime;
+
+    OffsetDateTime endTime;
+  }
+
+  private final JobExecutionStatsRepository jobExecutionStatsRepository;
+
+  @Value("${datajobs.executions.stats.durationsToKeep:100}")
+  private int durationsToKeep;
+
+  @Autowired
+  public JobExecutionStatsService(JobExecutionStatsRepository jobExecutionStatsRepository) {
+    this.jobExecutionStatsRepository = jobExecutionStatsRepository;
+  }
+
+  /**
+   * Updates the statistics of the data jobs with the specified status changes. A change to a final
+   * status is counted, while a change from a final status (e.g. the retry of a platform error)
+   * reverts the count of the previous status. The duration of an execution is recorded when it
+   * first reaches a final status.
+   *
+   * <p>The statistics are updated in a transaction of their own, so that their rows are locked only
+   * for the duration of the update. The missing statistics are inserted before they are locked, so
+   * the first statistics of a data job are not lost to a concurrent update either.
+   */
+  @Transactional(Transactional.TxType.REQUIRES_NEW)
+  public void recordStatusChanges(Collection<StatusChange> changes) {
+    var countedChanges =
+        changes.stream()
+            .filter(
+                change ->
+                    isCounted(change.getPreviousStatus()) || isCounted(change.getNewStatus()))
+            .collect(Collectors.groupingBy(StatusChange::getJobName));
+    if (countedChanges.isEmpty()) {
+      return;
+    }
+
+    jobExecutionStatsRepository.insertMissingStats(countedChanges.keySet());
+    var stats =
+        jobExecutionStatsRepository.findAllByJobNameInForUpdate(countedChanges.keySet()).stream()
+            .collect(Collectors.toMap(DataJobExecutionStats::getJobName, Function.identity()));
+    var now = OffsetDateTime.now();
+    for (var jobChanges : countedChanges.entrySet()) {
+      var jobStats = stats.get(jobChanges.getKey());
+      if (jobStats == null) {
+        // The data job has been deleted in the meantime.
+        continue;
+      }
+      jobChanges.getValue().forEach(change -> applyStatusChange(jobStats, change, durationsToKeep));
+      jobStats.setLastUpdated(now);
+    }
+    jobExecutionStatsRepository.saveAll(stats.values());
+  }
+
+  /**
+   * @return The statistics of the specified data jobs, by data job name. Data jobs without
+   *     finished executions are not present.
+   */
+  public Map<String, DataJobExecutionStats> getStats(Collection<String> jobNames) {
+    return jobExecutionStatsRepository.findAllById(jobNames).stream()
+        .collect(Collectors.toMap(DataJobExecutionStats::getJobName, Function.identity()));
+  }
+
+  /**
+   * @return The durations in seconds of the last finished executions, oldest first.
+   */
+  public static List<Long> getLastDurations(DataJobExecutionStats stats) {
+    if (StringUtils.isBlank(stats.getLastDurations())) {
+      return new ArrayList<>();
+    }
+    return Arrays.stream(stats.getLastDurations().split(","))
+        .map(Long::valueOf)
+        .collect(Collectors.toCollection(ArrayList::new));
+  }
+
+  static void applyStatusChange(
+      DataJobExecutionStats stats, StatusChange change, int durationsToKeep) {
+    boolean wasCounted = isCounted(change.getPreviousStatus());
+    if (wasCounted) {
+      addCount(stats, change.getPreviousStatus(), -1);
+    }
+    if (!isCounted(change.getNewStatus())) {
+      return;
+    }
+    addCount(stats, change.getNewStatus(), 1);
+
+    if (!wasCounted && change.getStartTime() != null && change.getEndTime() != null) {
+      var durations = getLastDurations(stats);
+      durations.add(
+          Math.max(0, Duration.between(change.getStartTime(), change.getEndTime()).getSeconds()));
+      if (durations.size() > durationsToKeep) {
+        durations = durations.subList(durations.size() - durationsToKeep, durations.size());
+      }
+      stats.setLastDurations(StringUtils.join(durations, ","));
+      stats.setDurationP50Seconds(percentile(durations, 50));
+      stats.setDurationP95Seconds(percentile(durations, 95));
+    }
+  }
+
+  /** Returns the nearest-rank percentile of the specified values. */
+  static Long percentile(List<Long> values, int percentile) {
+    if (values.isEmpty()) {
+      return null;
+    }
+    var sorted = values.stream().sorted().collect(Collectors.toList());
+    int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+    return sorted.get(Math.max(0, rank - 1));
+  }
+
+  private static boolean isCounted(ExecutionStatus status) {
+    return status != null
+        && status != ExecutionStatus.SUBMITTED
+        && status != ExecutionStatus.RUNNING;
+  }
+
+  private static void addCount(DataJobExecutionStats stats, ExecutionStatus status, int delta) {
+    switch (status) {
+      case SUCCEEDED:
+        stats.setSucceededCount(Math.max(0, stats.getSucceededCount() + delta));
+        break;
+      case CANCELLED:
+        stats.setCancelledCount(Math.max(0, stats.getCancelledCount() + delta));
+        break;
+      case SKIPPED:
+        stats.setSkippedCount(Math.max(0, stats.getSkippedCount() + delta));
+        break;
+      case USER_ERROR:
+        stats.setUserErrorCount(Math.max(0, stats.getUserErrorCount() + delta));
+        break;
+      case PLATFORM_ERROR:
+        stats.setPlatformErrorCount(Math.max(0, stats.getPlatformErrorCount() + delta));
+        break;
+      default:
+        log.debug("Executions with status {} are not counted", status);
+    }
+  }
+}
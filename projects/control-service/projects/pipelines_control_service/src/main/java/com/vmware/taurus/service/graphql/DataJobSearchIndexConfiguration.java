@@ -0,0 +1,44 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.graphql;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.Location;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Adds the migration which creates trigram indexes on the searched columns of the data_job table
+ * to the Flyway locations, if they are enabled. The search of the jobs query is translated to
+ * {@code lower(column) LIKE '%search%'} (see {@link
+ * com.vmware.taurus.service.graphql.strategy.FieldStrategy#containsIgnoreCase}), which can use
+ * such indexes instead of scanning the whole table. The indexes require the pg_trgm extension of
+ * PostgreSQL (or CockroachDB), so they are disabled by default.
+ */
+@Slf4j
+@Configuration
+public class DataJobSearchIndexConfiguration {
+
+  static final String SEARCH_INDEX_MIGRATIONS_LOCATION = "classpath:db/search";
+
+  @Bean
+  public FlywayConfigurationCustomizer dataJobSearchIndexFlywayCustomizer(
+      @Value("${datajobs.search.trigramIndexes.enabled:false}") boolean trigramIndexesEnabled) {
+    return configuration -> {
+      if (trigramIndexesEnabled) {
+        log.info("Data jobs are searched by trigram indexes");
+        var locations = new ArrayList<>(Arrays.asList(configuration.getLocations()));
+        locations.add(new Location(SEARCH_INDEX_MIGRATIONS_LOCATION));
+        configuration.locations(locations.toArray(new Location[0]));
+      }
+    };
+  }
+}
@@ -7,18 +7,24 @@ package com.vmware.taurus.service.graphql;
 
 import com.vmware.taurus.datajobs.ToApiModelConverter;
 import com.vmware.taurus.datajobs.ToModelApiConverter;
+import com.vmware.taurus.service.JobExecutionCursor;
 import com.vmware.taurus.service.JobExecutionFilterSpec;
 import com.vmware.taurus.service.JobExecutionRepository;
 import com.vmware.taurus.service.execution.JobExecutionLogsUrlBuilder;
 import com.vmware.taurus.service.execution.JobExecutionService;
+import com.vmware.taurus.service.execution.JobExecutionStatsService;
 import com.vmware.taurus.service.graphql.model.DataJobExecutionFilter;
 import com.vmware.taurus.service.graphql.model.DataJobExecutionOrder;
 import com.vmware.taurus.service.graphql.model.DataJobExecutionQueryVariables;
 import com.vmware.taurus.service.graphql.model.DataJobPage;
 import com.vmware.taurus.service.graphql.model.V2DataJob;
 import com.vmware.taurus.service.graphql.model.V2DataJobDeployment;
+import com.vmware.taurus.service.graphql.model.V2DataJobExecutionStats;
 import com.vmware.taurus.service.graphql.strategy.datajob.JobFieldStrategyBy;
 import com.vmware.taurus.service.model.DataJobExecution;
+import com.vmware.taurus.service.model.DataJobExecutionView;
+import com.vmware.taurus.service.model.DataJobExecutionStats;
+import com.vmware.taurus.service.model.DataJobExecution_;
 import com.vmware.taurus.service.model.ExecutionStatus;
 import graphql.GraphQLException;
 import graphql.schema.DataFetcher;
@@ -30,23 +36,28 @@ import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.vmware.taurus.service.graphql.model.DataJobExecutionOrder.AVAILABLE_PROPERTIES;
 import static com.vmware.taurus.service.graphql.model.DataJobExecutionOrder.DIRECTION_FIELD;
 import static com.vmware.taurus.service.graphql.model.DataJobExecutionOrder.PROPERTY_FIELD;
 import static com.vmware.taurus.service.graphql.model.DataJobExecutionOrder.PUBLIC_NAME_TO_DB_ENTITY_MAP;
+import static com.vmware.taurus.service.graphql.model.DataJobExecutionQueryVariables.AFTER_FIELD;
 import static com.vmware.taurus.service.graphql.model.DataJobExecutionQueryVariables.FILTER_FIELD;
+import static com.vmware.taurus.service.graphql.model.DataJobExecutionQueryVariables.FIRST_FIELD;
 import static com.vmware.taurus.service.graphql.model.DataJobExecutionQueryVariables.ORDER_FIELD;
 import static com.vmware.taurus.service.graphql.model.DataJobExecutionQueryVariables.PAGE_NUMBER_FIELD;
 import static com.vmware.taurus.service.graphql.model.DataJobExecutionQueryVariables.PAGE_SIZE_FIELD;
@@ -63,13 +74,20 @@ import static com.vmware.taurus.service.graphql.model.DataJobExecutionQueryVaria
 @RequiredArgsConstructor
 public class ExecutionDataFetcher {
 
+  private static final String TOTAL_ITEMS_FIELD = "totalItems";
+  private static final String TOTAL_PAGES_FIELD = "totalPages";
+
   private final JobExecutionRepository jobsExecutionRepository;
 
   private final JobExecutionService jobExecutionService;
 
   private final JobExecutionLogsUrlBuilder jobExecutionLogsUrlBuilder;
 
-  /** Populates the executions of the specified data jobs, that match the specified criteria. */
+  /**
+   * Populates the executions of the specified data jobs, that match the specified criteria. The
+   * executions of all data jobs are read at once (see {@link
+   * JobExecutionRepository#findAllViewsPerJob}), instead of with a query per data job.
+   */
   List<V2DataJob> populateExecutions(
       List<V2DataJob> allDataJob, DataFetchingEnvironment dataFetchingEnvironment) {
     final Map<String, Object> arguments =
@@ -80,25 +98,27 @@ public class ExecutionDataFetcher {
             .getArguments();
     final DataJobExecutionQueryVariables dataJobExecutionQueryVariables =
         fetchDataJobExecutionQueryVariables(arguments);
+    Map<String, V2DataJobDeployment> deployments = new LinkedHashMap<>();
     allDataJob.forEach(
         dataJob -> {
           if (dataJob.getDeployments() != null) {
             dataJob.getDeployments().stream()
                 .findFirst()
-                .ifPresent(
-                    deployment ->
-                        deployment.setExecutions(
-                            findAllExecutions(dataJobExecutionQueryVariables, dataJob.getJobName())
-                                .getContent()
-                                .stream()
-                                .map(
-                                    dataJobExecution ->
-                                        ToApiModelConverter.jobExecutionToConvert(
-                                            dataJobExecution,
-                                            jobExecutionLogsUrlBuilder.build(dataJobExecution)))
-                                .collect(Collectors.toList())));
+                .ifPresent(deployment -> deployments.put(dataJob.getJobName(), deployment));
           }
         });
+    Map<String, List<DataJobExecutionView>> executionsPerJob =
+        findAllExecutionsPerJob(dataJobExecutionQueryVariables, deployments.keySet());
+    deployments.forEach(
+        (jobName, deployment) ->
+            deployment.setExecutions(
+                executionsPerJob.getOrDefault(jobName, List.of()).stream()
+                    .map(
+                        dataJobExecution ->
+                            ToApiModelConverter.jobExecutionToConvert(
+                                dataJobExecution,
+                                jobExecutionLogsUrlBuilder.build(dataJobExecution)))
+                    .collect(Collectors.toList())));
     return allDataJob;
   }
 
@@ -107,8 +127,8 @@ public class ExecutionDataFetcher {
       DataJobExecutionQueryVariables dataJobExecutionQueryVariables =
           fetchDataJobExecutionQueryVariables(environment.getArguments());
 
-      Page<DataJobExecution> dataJobExecutionsResult =
-          findAllExecutions(dataJobExecutionQueryVariables, null);
+      Slice<DataJobExecutionView> dataJobExecutionsResult =
+          findAllExecutions(dataJobExecutionQueryVariables);
       List<com.vmware.taurus.controlplane.model.data.DataJobExecution> dataJobExecutions =
           dataJobExecutionsResult.getContent().stream()
               .map(
@@ -117,31 +137,32 @@ public class ExecutionDataFetcher {
                           dataJobExecution, jobExecutionLogsUrlBuilder.build(dataJobExecution)))
               .collect(Collectors.toList());
 
-      return buildResponse(
-          dataJobExecutionsResult.getTotalPages(),
-          (int) dataJobExecutionsResult.getTotalElements(),
-          dataJobExecutions);
+      if (dataJobExecutionsResult instanceof Page) {
+        Page<DataJobExecutionView> page = (Page<DataJobExecutionView>) dataJobExecutionsResult;
+        return buildResponse(
+            page.getTotalPages(), (int) page.getTotalElements(), dataJobExecutions);
+      }
+
+      return buildCursorResponse(
+          environment, dataJobExecutionQueryVariables, dataJobExecutionsResult, dataJobExecutions);
     };
   }
 
-  private Page<DataJobExecution> findAllExecutions(
-      DataJobExecutionQueryVariables dataJobExecutionQueryVariables, String dataJobName) {
-    DataJobExecutionFilter filter =
-        dataJobExecutionQueryVariables.getFilter() != null
-            ? dataJobExecutionQueryVariables.getFilter()
-            : DataJobExecutionFilter.builder().build();
-
-    if (dataJobName != null && filter.getJobNameIn() != null) {
-      throw new GraphQLException("The jobNameIn filter is not supported for nested executions");
-    }
+  /** The executions are read as projections, as the responses do not need the entities. */
+  private Slice<DataJobExecutionView> findAllExecutions(
+      DataJobExecutionQueryVariables dataJobExecutionQueryVariables) {
+    Specification<DataJobExecution> filterSpec = buildFilterSpec(dataJobExecutionQueryVariables);
+    DataJobExecutionOrder order = dataJobExecutionQueryVariables.getOrder();
 
-    if (dataJobName != null) {
-      filter.setJobNameIn(List.of(dataJobName));
+    if (dataJobExecutionQueryVariables.getFirst() != null) {
+      return jobsExecutionRepository.findAllViews(
+          filterSpec,
+          getCursorDirection(order),
+          decodeCursor(dataJobExecutionQueryVariables.getAfter()),
+          dataJobExecutionQueryVariables.getFirst());
     }
 
-    Specification<DataJobExecution> filterSpec = new JobExecutionFilterSpec(filter);
-    Page<DataJobExecution> result;
-    DataJobExecutionOrder order = dataJobExecutionQueryVariables.getOrder();
+    Page<DataJobExecutionView> result;
     Sort sort = order != null ? Sort.by(order.getDirection(), order.getProperty()) : null;
 
     if (dataJobExecutionQueryVariables.getPageNumber() != null
@@ -152,19 +173,87 @@ public class ExecutionDataFetcher {
               dataJobExecutionQueryVariables.getPageSize());
       pageRequest = sort != null ? pageRequest.withSort(sort) : pageRequest;
 
-      result = jobsExecutionRepository.findAll(filterSpec, pageRequest);
+      result = jobsExecutionRepository.findAllViews(filterSpec, pageRequest);
     } else {
-      List<DataJobExecution> elements =
-          sort == null
-              ? jobsExecutionRepository.findAll(filterSpec)
-              : jobsExecutionRepository.findAll(filterSpec, sort);
+      List<DataJobExecutionView> elements =
+          jobsExecutionRepository.findAllViews(filterSpec, sort == null ? Sort.unsorted() : sort);
 
-      result = new PageImpl(elements);
+      result = new PageImpl<>(elements);
     }
 
     return result;
   }
 
+  /** The executions of the data jobs, with the criteria applied to each data job separately. */
+  private Map<String, List<DataJobExecutionView>> findAllExecutionsPerJob(
+      DataJobExecutionQueryVariables dataJobExecutionQueryVariables, Set<String> dataJobNames) {
+    DataJobExecutionFilter filter =
+        dataJobExecutionQueryVariables.getFilter() != null
+            ? dataJobExecutionQueryVariables.getFilter()
+            : DataJobExecutionFilter.builder().build();
+    if (filter.getJobNameIn() != null) {
+      throw new GraphQLException("The jobNameIn filter is not supported for nested executions");
+    }
+    DataJobExecutionOrder order = dataJobExecutionQueryVariables.getOrder();
+
+    if (dataJobExecutionQueryVariables.getFirst() != null) {
+      return jobsExecutionRepository.findAllViewsPerJob(
+          dataJobNames,
+          filter,
+          getCursorDirection(order),
+          decodeCursor(dataJobExecutionQueryVariables.getAfter()),
+          dataJobExecutionQueryVariables.getFirst());
+    }
+
+    Sort sort =
+        order != null ? Sort.by(order.getDirection(), order.getProperty()) : Sort.unsorted();
+
+    if (dataJobExecutionQueryVariables.getPageNumber() != null
+        && dataJobExecutionQueryVariables.getPageSize() != null) {
+      return jobsExecutionRepository.findAllViewsPerJob(
+          dataJobNames,
+          filter,
+          PageRequest.of(
+              dataJobExecutionQueryVariables.getPageNumber() - 1,
+              dataJobExecutionQueryVariables.getPageSize(),
+              sort));
+    }
+    return jobsExecutionRepository.findAllViewsPerJob(dataJobNames, filter, sort);
+  }
+
+  private static Specification<DataJobExecution> buildFilterSpec(
+      DataJobExecutionQueryVariables dataJobExecutionQueryVariables) {
+    return new JobExecutionFilterSpec(dataJobExecutionQueryVariables.getFilter());
+  }
+
+  /**
+   * The executions paged by cursor are ordered by start time (and id), which is the key of the
+   * cursor, descending unless specified otherwise.
+   */
+  private static Sort.Direction getCursorDirection(DataJobExecutionOrder order) {
+    if (order == null) {
+      return Sort.Direction.DESC;
+    }
+    if (!DataJobExecution_.START_TIME.equals(order.getProperty())) {
+      throw new GraphQLException(
+          String.format(
+              "Executions paged by %s can be ordered only by %s",
+              FIRST_FIELD, DataJobExecution_.START_TIME));
+    }
+    return order.getDirection();
+  }
+
+  private static JobExecutionCursor decodeCursor(String after) {
+    if (after == null) {
+      return null;
+    }
+    try {
+      return JobExecutionCursor.decode(after);
+    } catch (IllegalArgumentException e) {
+      throw new GraphQLException(String.format("Invalid %s cursor: %s", AFTER_FIELD, after));
+    }
+  }
+
   private static DataJobExecutionQueryVariables fetchDataJobExecutionQueryVariables(
       Map<String, Object> arguments) {
     DataJobExecutionQueryVariables queryVariables = new DataJobExecutionQueryVariables();
@@ -179,6 +268,21 @@ public class ExecutionDataFetcher {
           queryVariables.setPageSize(pair.getRight());
         });
 
+    Object firstRaw = arguments.get(FIRST_FIELD);
+    Object afterRaw = arguments.get(AFTER_FIELD);
+    if (firstRaw != null) {
+      if (page.isPresent()) {
+        throw new GraphQLException(
+            String.format(
+                "Executions field cannot contain both %s and %s", FIRST_FIELD, PAGE_NUMBER_FIELD));
+      }
+      GraphQLUtils.validatePageInput((Integer) firstRaw, 1);
+      queryVariables.setFirst((Integer) firstRaw);
+      queryVariables.setAfter((String) afterRaw);
+    } else if (afterRaw != null) {
+      throw new GraphQLException(String.format("Executions field must contain %s", FIRST_FIELD));
+    }
+
     extractDataJobExecutionFilter((Map<String, Object>) arguments.get(FILTER_FIELD))
         .ifPresent(filter -> queryVariables.setFilter(filter));
 
@@ -293,6 +397,34 @@ public class ExecutionDataFetcher {
     return order;
   }
 
+  /**
+   * Counting all matching executions costs as much as offset paging, so the total number of items
+   * and pages of a page requested by cursor are returned only if selected.
+   */
+  private DataJobPage buildCursorResponse(
+      DataFetchingEnvironment environment,
+      DataJobExecutionQueryVariables dataJobExecutionQueryVariables,
+      Slice<DataJobExecutionView> dataJobExecutionsResult,
+      List pageList) {
+    var builder = DataJobPage.builder().content(new ArrayList<>(pageList));
+
+    DataFetchingFieldSelectionSet selectionSet = environment.getSelectionSet();
+    if (selectionSet != null
+        && (selectionSet.contains(TOTAL_ITEMS_FIELD) || selectionSet.contains(TOTAL_PAGES_FIELD))) {
+      long count =
+          jobsExecutionRepository.count(buildFilterSpec(dataJobExecutionQueryVariables));
+      int pageSize = dataJobExecutionQueryVariables.getFirst();
+      builder.totalItems((int) count).totalPages((int) ((count + pageSize - 1) / pageSize));
+    }
+
+    if (dataJobExecutionsResult.hasNext()) {
+      List<DataJobExecutionView> content = dataJobExecutionsResult.getContent();
+      builder.nextCursor(JobExecutionCursor.of(content.get(content.size() - 1)).encode());
+    }
+
+    return builder.build();
+  }
+
   private static DataJobPage buildResponse(int pageSize, int count, List pageList) {
 
     return DataJobPage.builder()
@@ -326,6 +458,42 @@ public class ExecutionDataFetcher {
     return dataJobs;
   }
 
+  /** Populates the execution statistics of the deployments of the specified data jobs. */
+  List<V2DataJob> populateExecutionStats(List<V2DataJob> dataJobs) {
+    List<String> jobsList =
+        dataJobs.stream().map(V2DataJob::getJobName).collect(Collectors.toList());
+    var statsMap = jobExecutionService.getExecutionStats(jobsList);
+
+    for (var job : dataJobs) {
+      if (job.getDeployments() == null) {
+        continue;
+      }
+      job.getDeployments().stream()
+          .findFirst()
+          .ifPresent(
+              deployment -> {
+                var stats = statsMap.get(job.getJobName());
+                deployment.setExecutionStats(
+                    stats != null ? toV2ExecutionStats(stats) : new V2DataJobExecutionStats());
+              });
+    }
+    return dataJobs;
+  }
+
+  private static V2DataJobExecutionStats toV2ExecutionStats(DataJobExecutionStats stats) {
+    var result = new V2DataJobExecutionStats();
+    result.setSucceededExecutions(stats.getSucceededCount());
+    result.setFailedExecutions(stats.getUserErrorCount() + stats.getPlatformErrorCount());
+    result.setUserErrorExecutions(stats.getUserErrorCount());
+    result.setPlatformErrorExecutions(stats.getPlatformErrorCount());
+    result.setCancelledExecutions(stats.getCancelledCount());
+    result.setSkippedExecutions(stats.getSkippedCount());
+    result.setLastDurationsSeconds(JobExecutionStatsService.getLastDurations(stats));
+    result.setDurationP50Seconds(stats.getDurationP50Seconds());
+    result.setDurationP95Seconds(stats.getDurationP95Seconds());
+    return result;
+  }
+
   private void setStatusCounts(
       Map<String, Map<ExecutionStatus, Integer>> response,
       V2DataJob job,
@@ -6,6 +6,7 @@
 package com.vmware.taurus.service.graphql;
 
 import com.vmware.taurus.datajobs.ToApiModelConverter;
+import com.vmware.taurus.service.DataJobQueryRepository;
 import com.vmware.taurus.service.JobsRepository;
 import com.vmware.taurus.service.deploy.DeploymentService;
 import com.vmware.taurus.service.graphql.model.Criteria;
@@ -16,7 +17,9 @@ import com.vmware.taurus.service.graphql.model.V2DataJob;
 import com.vmware.taurus.service.graphql.strategy.FieldStrategy;
 import com.vmware.taurus.service.graphql.strategy.JobFieldStrategyFactory;
 import com.vmware.taurus.service.graphql.strategy.datajob.JobFieldStrategyBy;
+import com.vmware.taurus.service.kubernetes.KubernetesApiSubsystem;
 import com.vmware.taurus.service.model.DataJob;
+import com.vmware.taurus.service.model.DataJob_;
 import com.vmware.taurus.service.model.JobDeploymentStatus;
 import graphql.GraphqlErrorException;
 import graphql.schema.DataFetcher;
@@ -24,11 +27,15 @@ import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.DataFetchingFieldSelectionSet;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -36,7 +43,6 @@ import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 @Slf4j
 @Component
@@ -46,16 +52,46 @@ public class GraphQLDataFetchers {
   private static final Criteria<V2DataJob> JOB_CRITERIA_DEFAULT =
       new Criteria<>(Objects::nonNull, Comparator.comparing(V2DataJob::getJobName));
 
+  private static final DataJobQueryRepository.Ordering DEFAULT_ORDERING =
+      (root, builder) -> List.of(builder.asc(root.get(DataJob_.name)));
+
   private final JobFieldStrategyFactory strategyFactory;
   private final JobsRepository jobsRepository;
   private final DeploymentService deploymentService;
   private final ExecutionDataFetcher executionDataFetcher;
 
+  /**
+   * Returns the page of the data jobs requested by the GraphQL jobs query.
+   *
+   * <p>If the filters, the search and the sorting of the query are all by fields stored in the
+   * data_job table, the data jobs are filtered, sorted and paged by the database, and only the data
+   * jobs of the page are converted and populated with the requested fields. Otherwise, the data
+   * jobs are filtered by the database as far as possible, and the rest is done in memory.
+   */
   public DataFetcher<Object> findAllAndBuildDataJobPage() {
     return dataFetchingEnvironment -> {
       DataJobQueryVariables queryVar = fetchDataJobQueryVariables(dataFetchingEnvironment);
+      validateFilters(queryVar.getFilters());
+      DataFetchingFieldSelectionSet requestedFields = dataFetchingEnvironment.getSelectionSet();
+
+      var filterSpecifications = computeFilterSpecifications(queryVar.getFilters());
+      Specification<DataJob> filterSpecification =
+          filterSpecifications.stream()
+              .filter(Objects::nonNull)
+              .reduce(Specification.where(null), Specification::and);
+      var searchSpecification = computeSearchSpecification(requestedFields, queryVar.getSearch());
+      var ordering = computeOrdering(queryVar.getFilters());
+      if (!filterSpecifications.contains(null) && searchSpecification != null && ordering != null) {
+        return findDataJobPageInDatabase(
+            dataFetchingEnvironment,
+            queryVar,
+            filterSpecification.and(searchSpecification),
+            ordering);
+      }
+
+      // The data jobs are only pre-filtered by the filters which could be translated.
       var dataJobs =
-          StreamSupport.stream(jobsRepository.findAll().spliterator(), false)
+          jobsRepository.findAll(filterSpecification).stream()
               .collect(Collectors.toMap(DataJob::getName, job -> job));
       List<V2DataJob> allDataJob =
           dataJobs.values().stream()
@@ -66,8 +102,7 @@ public class GraphQLDataFetchers {
       List<V2DataJob> dataJobsFiltered =
           populateDataJobsByRequestedFields(dataFetchingEnvironment, allDataJob, dataJobs).stream()
               .filter(filterCriteria.getPredicate())
-              .filter(
-                  computeSearch(dataFetchingEnvironment.getSelectionSet(), queryVar.getSearch()))
+              .filter(computeSearch(requestedFields, queryVar.getSearch()))
               .sorted(filterCriteria.getComparator())
               .collect(Collectors.toList());
 
@@ -86,6 +121,30 @@ public class GraphQLDataFetchers {
     };
   }
 
+  private DataJobPage findDataJobPageInDatabase(
+      DataFetchingEnvironment dataFetchingEnvironment,
+      DataJobQueryVariables queryVar,
+      Specification<DataJob> specification,
+      DataJobQueryRepository.Ordering ordering) {
+    Page<DataJob> page =
+        jobsRepository.findAll(
+            specification,
+            ordering,
+            PageRequest.of(queryVar.getPageNumber() - 1, queryVar.getPageSize()));
+    var dataJobs =
+        page.getContent().stream().collect(Collectors.toMap(DataJob::getName, job -> job));
+    List<V2DataJob> pageDataJobs =
+        page.getContent().stream()
+            .map(ToApiModelConverter::toV2DataJob)
+            .collect(Collectors.toList());
+
+    populateDataJobsByRequestedFields(dataFetchingEnvironment, pageDataJobs, dataJobs);
+    List<V2DataJob> resultList =
+        populateDataJobsPostPagination(pageDataJobs, dataFetchingEnvironment);
+
+    return buildResponse(queryVar.getPageSize(), (int) page.getTotalElements(), resultList);
+  }
+
   private List<V2DataJob> populateDataJobsPostPagination(
       List<V2DataJob> allDataJob, DataFetchingEnvironment dataFetchingEnvironment) {
     if (dataFetchingEnvironment
@@ -103,6 +162,12 @@ public class GraphQLDataFetchers {
       executionDataFetcher.populateStatusCounts(allDataJob, dataFetchingEnvironment);
     }
 
+    if (dataFetchingEnvironment
+        .getSelectionSet()
+        .contains(JobFieldStrategyBy.DEPLOYMENT_EXECUTION_STATS.getPath())) {
+      executionDataFetcher.populateExecutionStats(allDataJob);
+    }
+
     return allDataJob;
   }
 
@@ -145,11 +210,7 @@ public class GraphQLDataFetchers {
     return allDataJob;
   }
 
-  private Criteria<V2DataJob> populateCriteria(List<Filter> filterList) {
-    // concurrent result, calculation might be using Fork-Join API to speed-up
-    final AtomicReference<Criteria<V2DataJob>> criteriaResult =
-        new AtomicReference<>(JOB_CRITERIA_DEFAULT);
-
+  private void validateFilters(List<Filter> filterList) {
     // handle non-supported or invalid filter(s)
     final Optional<Filter> filterNotSupported =
         filterList.stream()
@@ -167,6 +228,12 @@ public class GraphQLDataFetchers {
                   + " is either not valid or currently not supported")
           .build();
     }
+  }
+
+  private Criteria<V2DataJob> populateCriteria(List<Filter> filterList) {
+    // concurrent result, calculation might be using Fork-Join API to speed-up
+    final AtomicReference<Criteria<V2DataJob>> criteriaResult =
+        new AtomicReference<>(JOB_CRITERIA_DEFAULT);
 
     // populate filter strategies
     final Map<Filter, FieldStrategy<V2DataJob>> filterStrategyMap =
@@ -176,7 +243,9 @@ public class GraphQLDataFetchers {
                     f -> f,
                     filter ->
                         strategyFactory.findStrategy(
-                            JobFieldStrategyBy.field(filter.getProperty()))));
+                            JobFieldStrategyBy.field(filter.getProperty())),
+                    (first, second) -> first,
+                    LinkedHashMap::new));
 
     // compute criteria
     filterStrategyMap.forEach(
@@ -184,6 +253,68 @@ public class GraphQLDataFetchers {
     return criteriaResult.get();
   }
 
+  /**
+   * Translates the filter patterns for the database
+   *
+   * @param filterList Filters of the query
+   * @return The specification of each filter with a pattern, null if the filter can be applied only
+   *     in memory
+   */
+  private List<Specification<DataJob>> computeFilterSpecifications(List<Filter> filterList) {
+    return filterList.stream()
+        .filter(filter -> filter.getPattern() != null)
+        .map(
+            filter -> {
+              var strategy =
+                  strategyFactory.findStrategy(JobFieldStrategyBy.field(filter.getProperty()));
+              return strategy == null ? null : strategy.computeFilterSpecification(filter);
+            })
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Translates the search for the database, like {@link #computeSearch}
+   *
+   * @return The specification of the searched data jobs, null if the search by any of the requested
+   *     fields can be done only in memory
+   */
+  private Specification<DataJob> computeSearchSpecification(
+      DataFetchingFieldSelectionSet requestedFields, String search) {
+    Specification<DataJob> specification = null;
+    if (search != null && !search.isBlank()) {
+      for (Map.Entry<JobFieldStrategyBy, FieldStrategy<V2DataJob>> entry :
+          strategyFactory.getStrategies().entrySet()) {
+        if (requestedFields.contains(entry.getKey().getPath())) {
+          var fieldSpecification = entry.getValue().computeSearchSpecification(search);
+          if (fieldSpecification == null) {
+            return null;
+          }
+          specification =
+              specification == null ? fieldSpecification : specification.or(fieldSpecification);
+        }
+      }
+    }
+    return specification == null ? Specification.where(null) : specification;
+  }
+
+  /**
+   * Translates the sorting for the database. Like in memory, the data jobs are sorted by the last
+   * filter with sorting, by default by name.
+   *
+   * @return The order of the data jobs, null if they can be sorted by the field only in memory
+   */
+  private DataJobQueryRepository.Ordering computeOrdering(List<Filter> filterList) {
+    for (int i = filterList.size() - 1; i >= 0; i--) {
+      Filter filter = filterList.get(i);
+      if (filter.getSort() != null) {
+        var strategy =
+            strategyFactory.findStrategy(JobFieldStrategyBy.field(filter.getProperty()));
+        return strategy == null ? null : strategy.computeOrdering(filter.getSort());
+      }
+    }
+    return DEFAULT_ORDERING;
+  }
+
   private Predicate<V2DataJob> computeSearch(
       DataFetchingFieldSelectionSet requestedFields, String search) {
     Predicate<V2DataJob> predicate = null;
@@ -206,9 +337,12 @@ public class GraphQLDataFetchers {
 
   private List<V2DataJob> populateDeployments(
       List<V2DataJob> allDataJob, Map<String, DataJob> dataJobs) {
-    Map<String, JobDeploymentStatus> deploymentStatuses =
-        deploymentService.readDeployments().stream()
-            .collect(Collectors.toMap(JobDeploymentStatus::getDataJobName, cronJob -> cronJob));
+    Map<String, JobDeploymentStatus> deploymentStatuses;
+    try (var scope = KubernetesApiSubsystem.GRAPHQL.enter()) {
+      deploymentStatuses =
+          deploymentService.readDeployments().stream()
+              .collect(Collectors.toMap(JobDeploymentStatus::getDataJobName, cronJob -> cronJob));
+    }
 
     allDataJob.forEach(
         dataJob -> {
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.graphql;
+
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.GraphQLTypeUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the duration of the data fetchers of the GraphQL queries (e.g. of the jobs and executions
+ * queries) in the {@value DATA_FETCHER_TIMER} timer, tagged by parent type, field and outcome. The
+ * fields which only read a property of their parent are not timed.
+ *
+ * <p>The requests to the Kubernetes API made by the data fetchers (e.g. to read the deployments)
+ * are timed separately, by the graphql subsystem (see {@link
+ * com.vmware.taurus.service.kubernetes.KubernetesApiInterceptor}).
+ */
+@Component
+public class GraphQLFieldTimingInstrumentation extends SimpleInstrumentation {
+
+  static final String DATA_FETCHER_TIMER = "taurus.graphql.datafetcher";
+
+  private final MeterRegistry meterRegistry;
+  // The timers by type, field and outcome, bounded by the fields of the schema.
+  private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+  @Autowired
+  public GraphQLFieldTimingInstrumentation(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public InstrumentationContext<Object> beginFieldFetch(
+      InstrumentationFieldFetchParameters parameters) {
+    if (parameters.isTrivialDataFetcher()) {
+      return SimpleInstrumentationContext.noOp();
+    }
+    var environment = parameters.getEnvironment();
+    String parentType = GraphQLTypeUtil.simplePrint(environment.getParentType());
+    String field = environment.getField().getName();
+    long start = System.nanoTime();
+    return SimpleInstrumentationContext.whenCompleted(
+        (result, throwable) ->
+            getTimer(parentType, field, throwable == null ? "success" : "error")
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+  }
+
+  private Timer getTimer(String parentType, String field, String outcome) {
+    return timers.computeIfAbsent(
+        parentType + "." + field + ":" + outcome,
+        key ->
+            Timer.builder(DATA_FETCHER_TIMER)
+                .description("The duration of the data fetchers of the GraphQL queries.")
+                .tag("type", parentType)
+                .tag("field", field)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+  }
+}
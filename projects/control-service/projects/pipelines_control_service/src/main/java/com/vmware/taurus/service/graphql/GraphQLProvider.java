@@ -8,21 +8,35 @@ package com.vmware.taurus.service.graphql;
 import com.google.common.base.Charsets;
 import com.google.common.io.Resources;
 import graphql.GraphQL;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
 import graphql.scalars.ExtendedScalars;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.idl.RuntimeWiring;
 import graphql.schema.idl.SchemaGenerator;
 import graphql.schema.idl.SchemaParser;
 import graphql.schema.idl.TypeDefinitionRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 
 import static graphql.schema.idl.TypeRuntimeWiring.newTypeWiring;
 
+/**
+ * Builds the GraphQL schema of the service. The queries whose static cost (see {@link
+ * GraphQLQueryComplexityCalculator}) exceeds {@code datajobs.graphql.maxQueryComplexity}, if set,
+ * are rejected before they are executed, and the data fetchers are timed (see {@link
+ * GraphQLFieldTimingInstrumentation}).
+ */
+@Slf4j
 @Component
 public class GraphQLProvider {
 
@@ -32,10 +46,23 @@ public class GraphQLProvider {
 
   private ExecutionDataFetcher executionDataFetcher;
 
+  private GraphQLQueryComplexityCalculator queryComplexityCalculator;
+
+  private GraphQLFieldTimingInstrumentation fieldTimingInstrumentation;
+
+  private int maxQueryComplexity;
+
   public GraphQLProvider(
-      GraphQLDataFetchers graphQLDataFetchers, ExecutionDataFetcher executionDataFetcher) {
+      GraphQLDataFetchers graphQLDataFetchers,
+      ExecutionDataFetcher executionDataFetcher,
+      GraphQLQueryComplexityCalculator queryComplexityCalculator,
+      GraphQLFieldTimingInstrumentation fieldTimingInstrumentation,
+      @Value("${datajobs.graphql.maxQueryComplexity:0}") int maxQueryComplexity) {
     this.graphQLDataFetchers = graphQLDataFetchers;
     this.executionDataFetcher = executionDataFetcher;
+    this.queryComplexityCalculator = queryComplexityCalculator;
+    this.fieldTimingInstrumentation = fieldTimingInstrumentation;
+    this.maxQueryComplexity = maxQueryComplexity;
   }
 
   @Bean
@@ -49,7 +76,31 @@ public class GraphQLProvider {
     URL url = Resources.getResource("schema.graphqls");
     String sdl = Resources.toString(url, Charsets.UTF_8);
     GraphQLSchema graphQLSchema = buildSchema(sdl);
-    this.graphQL = GraphQL.newGraphQL(graphQLSchema).build();
+    this.graphQL =
+        GraphQL.newGraphQL(graphQLSchema).instrumentation(buildInstrumentation()).build();
+  }
+
+  private Instrumentation buildInstrumentation() {
+    List<Instrumentation> instrumentations = new ArrayList<>();
+    if (maxQueryComplexity > 0) {
+      instrumentations.add(
+          new MaxQueryComplexityInstrumentation(
+              maxQueryComplexity,
+              queryComplexityCalculator,
+              complexityInfo -> {
+                log.warn(
+                    "Rejected GraphQL query with complexity {} over the maximum of {}: {}",
+                    complexityInfo.getComplexity(),
+                    maxQueryComplexity,
+                    complexityInfo.getInstrumentationExecuteOperationParameters()
+                        .getExecutionContext()
+                        .getExecutionInput()
+                        .getQuery());
+                return true;
+              }));
+    }
+    instrumentations.add(fieldTimingInstrumentation);
+    return new ChainedInstrumentation(instrumentations);
   }
 
   private GraphQLSchema buildSchema(String sdl) {
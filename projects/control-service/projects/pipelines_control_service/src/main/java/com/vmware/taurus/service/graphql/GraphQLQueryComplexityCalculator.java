@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.graphql;
+
+import com.google.common.math.IntMath;
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.schema.GraphQLTypeUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Computes the static cost of a GraphQL query before it is executed, which is limited by {@code
+ * datajobs.graphql.maxQueryComplexity} (see {@link GraphQLProvider}).
+ *
+ * <p>Each field costs 1 plus the cost of its subfields times the number of items it returns. Only
+ * the list fields return several items, as many as the page size (the pageSize or first argument)
+ * of the paged field they belong to, or {@code datajobs.graphql.complexity.unpagedListSize} if it
+ * is queried without paging. A paged list field (e.g. the executions of a deployment) is paged by
+ * its own arguments, while the items of a page (its content) are paged by the field returning the
+ * page, so that the page-level fields (e.g. totalItems) are counted once. The other list fields
+ * return one item (e.g. the deployments of a data job) or scalars.
+ */
+@Component
+public class GraphQLQueryComplexityCalculator implements FieldComplexityCalculator {
+
+  static final List<String> PAGE_SIZE_ARGUMENTS = List.of("pageSize", "first");
+
+  private final int unpagedListSize;
+
+  @Autowired
+  public GraphQLQueryComplexityCalculator(
+      @Value("${datajobs.graphql.complexity.unpagedListSize:100}") int unpagedListSize) {
+    this.unpagedListSize = unpagedListSize;
+  }
+
+  @Override
+  public int calculate(FieldComplexityEnvironment environment, int childComplexity) {
+    return IntMath.saturatedAdd(
+        1, IntMath.saturatedMultiply(childComplexity, getItemCount(environment)));
+  }
+
+  private int getItemCount(FieldComplexityEnvironment environment) {
+    var type = GraphQLTypeUtil.unwrapNonNull(environment.getFieldDefinition().getType());
+    if (!GraphQLTypeUtil.isList(type)) {
+      return 1;
+    }
+    var pagedEnvironment =
+        isPaged(environment) ? environment : environment.getParentEnvironment();
+    if (pagedEnvironment == null || !isPaged(pagedEnvironment)) {
+      return 1;
+    }
+    for (String argument : PAGE_SIZE_ARGUMENTS) {
+      if (pagedEnvironment.getArguments().get(argument) instanceof Integer) {
+        return Math.max(1, (Integer) pagedEnvironment.getArguments().get(argument));
+      }
+    }
+    return unpagedListSize;
+  }
+
+  private static boolean isPaged(FieldComplexityEnvironment environment) {
+    return PAGE_SIZE_ARGUMENTS.stream()
+        .anyMatch(argument -> environment.getFieldDefinition().getArgument(argument) != null);
+  }
+}
@@ -12,11 +12,15 @@ public class DataJobExecutionQueryVariables {
 
   public static final String PAGE_NUMBER_FIELD = "pageNumber";
   public static final String PAGE_SIZE_FIELD = "pageSize";
+  public static final String FIRST_FIELD = "first";
+  public static final String AFTER_FIELD = "after";
   public static final String FILTER_FIELD = "filter";
   public static final String ORDER_FIELD = "order";
 
   private Integer pageSize;
   private Integer pageNumber;
+  private Integer first;
+  private String after;
   private DataJobExecutionFilter filter;
   private DataJobExecutionOrder order;
 }
@@ -18,4 +18,5 @@ public class DataJobPage {
   private List<Object> content;
   private Integer totalItems;
   private Integer totalPages;
+  private String nextCursor;
 }
@@ -31,6 +31,7 @@ public class V2DataJobDeployment {
   private Integer lastExecutionDuration;
   private Integer successfulExecutions;
   private Integer failedExecutions;
+  private V2DataJobExecutionStats executionStats;
   private String lastDeployedBy;
   private String lastDeployedDate;
 }
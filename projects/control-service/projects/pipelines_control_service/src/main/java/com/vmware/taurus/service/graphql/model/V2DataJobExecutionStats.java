@@ -0,0 +1,23 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.graphql.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class V2DataJobExecutionStats {
+  private long succeededExecutions;
+  private long failedExecutions;
+  private long userErrorExecutions;
+  private long platformErrorExecutions;
+  private long cancelledExecutions;
+  private long skippedExecutions;
+  private List<Long> lastDurationsSeconds;
+  private Long durationP50Seconds;
+  private Long durationP95Seconds;
+}
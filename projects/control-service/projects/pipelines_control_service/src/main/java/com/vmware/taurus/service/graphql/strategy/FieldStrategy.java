@@ -5,14 +5,21 @@
 
 package com.vmware.taurus.service.graphql.strategy;
 
+import com.vmware.taurus.service.DataJobQueryRepository;
 import com.vmware.taurus.service.graphql.model.Criteria;
-import com.vmware.taurus.service.graphql.strategy.datajob.JobFieldStrategyBy;
 import com.vmware.taurus.service.graphql.model.Filter;
+import com.vmware.taurus.service.graphql.strategy.datajob.JobFieldStrategyBy;
+import com.vmware.taurus.service.model.DataJob;
+import org.apache.commons.io.FilenameUtils;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.NonNull;
-import org.apache.commons.io.FilenameUtils;
 
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Root;
 import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
@@ -27,9 +34,16 @@ import java.util.function.Predicate;
  *
  * <p>Then, Spring will detect automatically that there is new {@link FieldStrategy} instance and it
  * will be included in the field manipulation mechanism
+ *
+ * <p>If the field is stored in the data_job table, the strategy should also translate its filter,
+ * search and sorting for the database ({@link #computeFilterSpecification}, {@link
+ * #computeSearchSpecification} and {@link #computeOrdering}), so that the data jobs are filtered
+ * and paged by the database instead of in memory.
  */
 public abstract class FieldStrategy<T> {
 
+  private static final char LIKE_ESCAPE = '\\';
+
   /**
    * The getter for the strategy name, required to be unique, not duplicated by other impl classes
    *
@@ -69,6 +83,39 @@ public abstract class FieldStrategy<T> {
     // Default empty action
   }
 
+  /**
+   * Translates the filter pattern to a specification of the matching data jobs, which filters them
+   * in the database like {@link #computeFilterCriteria} filters them in memory
+   *
+   * @param filter Provided filter with a pattern
+   * @return The specification, or null if the data jobs can be filtered by the field only in memory
+   */
+  public Specification<DataJob> computeFilterSpecification(@NonNull Filter filter) {
+    return null;
+  }
+
+  /**
+   * Translates the search string to a specification of the matching data jobs, which searches them
+   * in the database like {@link #computeSearchCriteria} searches them in memory
+   *
+   * @param searchStr Search string
+   * @return The specification, or null if the data jobs can be searched by the field only in memory
+   */
+  public Specification<DataJob> computeSearchSpecification(@NonNull String searchStr) {
+    return null;
+  }
+
+  /**
+   * Translates the sorting by the field to an order of the data jobs in the database, which orders
+   * them like the comparator of {@link #computeFilterCriteria} orders them in memory
+   *
+   * @param direction ASC or DESC direction
+   * @return The order, or null if the data jobs can be sorted by the field only in memory
+   */
+  public DataJobQueryRepository.Ordering computeOrdering(@NonNull Sort.Direction direction) {
+    return null;
+  }
+
   /**
    * Helper method to detect if there is sorting needed
    *
@@ -142,4 +189,83 @@ public abstract class FieldStrategy<T> {
       return searchString.equalsIgnoreCase(matcherString);
     }
   }
+
+  /**
+   * Helper method which returns a specification of the data jobs whose field contains the search
+   * string, ignoring the case like {@link
+   * org.apache.commons.lang3.StringUtils#containsIgnoreCase(CharSequence, CharSequence)}
+   *
+   * @param field The field of the data job
+   * @param searchStr Search string
+   * @return Specification of the matching data jobs
+   */
+  protected Specification<DataJob> containsIgnoreCase(
+      Function<Root<DataJob>, Expression<String>> field, String searchStr) {
+    return likeIgnoreCase(field, "%" + escapeLike(searchStr) + "%");
+  }
+
+  /**
+   * Helper method which returns a specification of the data jobs whose field matches the SQL LIKE
+   * pattern, ignoring the case. The wildcards are escaped by a backslash.
+   *
+   * @param field The field of the data job
+   * @param likePattern SQL LIKE pattern
+   * @return Specification of the matching data jobs
+   */
+  protected Specification<DataJob> likeIgnoreCase(
+      Function<Root<DataJob>, Expression<String>> field, String likePattern) {
+    return (root, query, builder) ->
+        builder.like(
+            builder.lower(field.apply(root)), likePattern.toLowerCase(), LIKE_ESCAPE);
+  }
+
+  /**
+   * Helper method which escapes the SQL LIKE wildcards of a string
+   *
+   * @param str String to match literally
+   * @return The escaped string
+   */
+  protected String escapeLike(String str) {
+    return str.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+
+  /**
+   * Helper method which returns an order of the data jobs by the field in the specified direction,
+   * with the data jobs without value last (or first in DESC direction, i.e. like a reversed {@link
+   * Comparator#nullsLast} comparator)
+   *
+   * @param field The field of the data job
+   * @param direction ASC or DESC direction
+   * @return The order of the data jobs
+   */
+  protected DataJobQueryRepository.Ordering orderNullsLast(
+      Function<Root<DataJob>, Expression<?>> field, Sort.Direction direction) {
+    return orderNulls(field, direction, 1);
+  }
+
+  /**
+   * Helper method which returns an order of the data jobs by the field in the specified direction,
+   * with the data jobs without value first (or last in DESC direction, i.e. like a reversed {@link
+   * Comparator#nullsFirst} comparator)
+   *
+   * @param field The field of the data job
+   * @param direction ASC or DESC direction
+   * @return The order of the data jobs
+   */
+  protected DataJobQueryRepository.Ordering orderNullsFirst(
+      Function<Root<DataJob>, Expression<?>> field, Sort.Direction direction) {
+    return orderNulls(field, direction, -1);
+  }
+
+  private DataJobQueryRepository.Ordering orderNulls(
+      Function<Root<DataJob>, Expression<?>> field, Sort.Direction direction, int nullRank) {
+    return (root, builder) -> {
+      Expression<?> expression = field.apply(root);
+      Expression<Integer> rank =
+          builder.<Integer>selectCase().when(builder.isNull(expression), nullRank).otherwise(0);
+      return invertSorting(direction)
+          ? List.of(builder.desc(rank), builder.desc(expression))
+          : List.of(builder.asc(rank), builder.asc(expression));
+    };
+  }
 }
@@ -30,6 +30,7 @@ public enum JobFieldStrategyBy {
       "deployments.failedExecutions", "content/deployments/failedExecutions"),
   DEPLOYMENT_SUCCESSFUL_EXECUTIONS(
       "deployments.successfulExecutions", "content/deployments/successfulExecutions"),
+  DEPLOYMENT_EXECUTION_STATS("deployments.executionStats", "content/deployments/executionStats"),
   TEAM("config.team", "content/config/team"),
   DESCRIPTION("config.description", "content/config/description"),
   SOURCE_URL("config.sourceUrl", "content/config/sourceUrl"),
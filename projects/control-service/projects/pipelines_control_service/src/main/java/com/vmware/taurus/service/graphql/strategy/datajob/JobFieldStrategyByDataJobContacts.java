@@ -10,7 +10,9 @@ import com.vmware.taurus.service.graphql.model.Criteria;
 import com.vmware.taurus.service.graphql.model.Filter;
 import com.vmware.taurus.service.graphql.model.V2DataJob;
 import com.vmware.taurus.service.graphql.strategy.FieldStrategy;
+import com.vmware.taurus.service.model.DataJob;
 import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import java.util.Comparator;
@@ -51,4 +53,14 @@ public class JobFieldStrategyByDataJobContacts extends FieldStrategy<V2DataJob>
         || CollectionUtils.isNotEmpty(contacts.getNotifiedOnJobFailureUserError())
         || CollectionUtils.isNotEmpty(contacts.getNotifiedOnJobSuccess());
   }
+
+  @Override
+  public Specification<DataJob> computeFilterSpecification(Filter filter) {
+    return (root, query, builder) -> builder.conjunction();
+  }
+
+  @Override
+  public Specification<DataJob> computeSearchSpecification(String searchStr) {
+    return (root, query, builder) -> builder.conjunction();
+  }
 }
@@ -5,14 +5,22 @@
 
 package com.vmware.taurus.service.graphql.strategy.datajob;
 
+import com.vmware.taurus.service.DataJobQueryRepository;
 import com.vmware.taurus.service.graphql.model.Criteria;
 import com.vmware.taurus.service.graphql.model.Filter;
 import com.vmware.taurus.service.graphql.model.V2DataJob;
 import com.vmware.taurus.service.graphql.strategy.FieldStrategy;
+import com.vmware.taurus.service.model.DataJob;
+import com.vmware.taurus.service.model.DataJob_;
+import com.vmware.taurus.service.model.JobConfig_;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
 import java.util.Comparator;
 import java.util.function.Predicate;
 
@@ -54,4 +62,23 @@ public class JobFieldStrategyByDescription extends FieldStrategy<V2DataJob> {
   public JobFieldStrategyBy getStrategyName() {
     return JobFieldStrategyBy.DESCRIPTION;
   }
+
+  @Override
+  public Specification<DataJob> computeFilterSpecification(@NonNull Filter filter) {
+    return computeSearchSpecification(filter.getPattern());
+  }
+
+  @Override
+  public Specification<DataJob> computeSearchSpecification(@NonNull String searchStr) {
+    return containsIgnoreCase(JobFieldStrategyByDescription::description, searchStr);
+  }
+
+  @Override
+  public DataJobQueryRepository.Ordering computeOrdering(@NonNull Sort.Direction direction) {
+    return orderNullsLast(JobFieldStrategyByDescription::description, direction);
+  }
+
+  private static Path<String> description(Root<DataJob> root) {
+    return root.get(DataJob_.jobConfig).get(JobConfig_.description);
+  }
 }
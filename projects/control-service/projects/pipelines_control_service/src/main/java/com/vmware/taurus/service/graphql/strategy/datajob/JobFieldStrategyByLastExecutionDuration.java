@@ -9,6 +9,8 @@ import com.vmware.taurus.service.graphql.model.Criteria;
 import com.vmware.taurus.service.graphql.model.Filter;
 import com.vmware.taurus.service.graphql.model.V2DataJob;
 import com.vmware.taurus.service.graphql.strategy.FieldStrategy;
+import com.vmware.taurus.service.model.DataJob;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
@@ -53,4 +55,14 @@ public class JobFieldStrategyByLastExecutionDuration extends FieldStrategy<V2Dat
     // TODO support for multiple deployments
     return dataJob.getDeployments().stream().findFirst().orElseThrow().getLastExecutionDuration();
   }
+
+  @Override
+  public Specification<DataJob> computeFilterSpecification(@NonNull Filter filter) {
+    return computeSearchSpecification(filter.getPattern());
+  }
+
+  @Override
+  public Specification<DataJob> computeSearchSpecification(@NonNull String searchStr) {
+    return (root, query, builder) -> builder.disjunction();
+  }
 }
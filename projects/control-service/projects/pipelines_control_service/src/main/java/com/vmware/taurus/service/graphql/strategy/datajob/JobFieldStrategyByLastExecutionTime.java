@@ -9,7 +9,9 @@ import com.vmware.taurus.service.graphql.model.Criteria;
 import com.vmware.taurus.service.graphql.model.Filter;
 import com.vmware.taurus.service.graphql.model.V2DataJob;
 import com.vmware.taurus.service.graphql.strategy.FieldStrategy;
+import com.vmware.taurus.service.model.DataJob;
 import graphql.GraphqlErrorException;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.util.Pair;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
@@ -114,4 +116,9 @@ public class JobFieldStrategyByLastExecutionTime extends FieldStrategy<V2DataJob
     // TODO support for multiple deployments
     return dataJob.getDeployments().stream().findFirst().orElseThrow().getLastExecutionTime();
   }
+
+  @Override
+  public Specification<DataJob> computeSearchSpecification(@NonNull String searchStr) {
+    return (root, query, builder) -> builder.disjunction();
+  }
 }
@@ -5,13 +5,19 @@
 
 package com.vmware.taurus.service.graphql.strategy.datajob;
 
+import com.vmware.taurus.service.DataJobQueryRepository;
 import com.vmware.taurus.service.graphql.model.Criteria;
 import com.vmware.taurus.service.graphql.model.Filter;
 import com.vmware.taurus.service.graphql.model.V2DataJob;
 import com.vmware.taurus.service.graphql.strategy.FieldStrategy;
+import com.vmware.taurus.service.model.DataJob;
+import com.vmware.taurus.service.model.DataJob_;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
@@ -40,4 +46,30 @@ public class JobFieldStrategyByName extends FieldStrategy<V2DataJob> {
   public Predicate<V2DataJob> computeSearchCriteria(@NonNull String searchStr) {
     return dataJob -> StringUtils.containsIgnoreCase(dataJob.getJobName(), searchStr);
   }
+
+  @Override
+  public Specification<DataJob> computeFilterSpecification(@NonNull Filter filter) {
+    String pattern = filter.getPattern();
+    if (pattern.contains("*")) {
+      // Like the wildcard matching of checkMatch, '?' matches a single character.
+      return likeIgnoreCase(
+          root -> root.get(DataJob_.name), escapeLike(pattern).replace('*', '%').replace('?', '_'));
+    }
+    return (root, query, builder) ->
+        builder.equal(builder.lower(root.get(DataJob_.name)), pattern.toLowerCase());
+  }
+
+  @Override
+  public Specification<DataJob> computeSearchSpecification(@NonNull String searchStr) {
+    return containsIgnoreCase(root -> root.get(DataJob_.name), searchStr);
+  }
+
+  @Override
+  public DataJobQueryRepository.Ordering computeOrdering(@NonNull Sort.Direction direction) {
+    return (root, builder) ->
+        List.of(
+            invertSorting(direction)
+                ? builder.desc(root.get(DataJob_.name))
+                : builder.asc(root.get(DataJob_.name)));
+  }
 }
@@ -5,41 +5,51 @@
 
 package com.vmware.taurus.service.graphql.strategy.datajob;
 
-import com.cronutils.model.CronType;
-import com.cronutils.model.definition.CronDefinitionBuilder;
-import com.cronutils.model.time.ExecutionTime;
-import com.cronutils.parser.CronParser;
+import com.vmware.taurus.service.DataJobQueryRepository;
 import com.vmware.taurus.service.graphql.model.Criteria;
 import com.vmware.taurus.service.graphql.model.V2DataJob;
 import com.vmware.taurus.service.graphql.model.V2DataJobConfig;
 import com.vmware.taurus.service.graphql.model.V2DataJobSchedule;
 import com.vmware.taurus.service.graphql.strategy.FieldStrategy;
 import com.vmware.taurus.service.graphql.model.Filter;
+import com.vmware.taurus.service.model.DataJob;
+import com.vmware.taurus.service.model.DataJob_;
+import com.vmware.taurus.service.schedule.CronScheduleCache;
 import graphql.GraphqlErrorException;
+import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.util.Pair;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 import java.time.DateTimeException;
 import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.chrono.ChronoZonedDateTime;
 import java.util.Comparator;
 import java.util.Optional;
 import java.util.function.Predicate;
 
+/**
+ * The next run of a data job is its next_run_time if it is still ahead (see {@link
+ * com.vmware.taurus.service.schedule.DataJobNextRunService}), otherwise it is computed from the
+ * schedule with the cached parsed cron expression. The data jobs are filtered and sorted by next
+ * run in the database by the next_run_time column.
+ */
 @Component
+@RequiredArgsConstructor
 public class JobFieldStrategyByNextRun extends FieldStrategy<V2DataJob> {
 
   private final Logger log = LoggerFactory.getLogger(this.getClass());
   private static final long NEXT_RUN_EPOCH_SECS_INVALID_VALUE = -1L;
   private static final String DATE_SEPARATOR = "-";
-  private static final CronParser CRON_PARSER =
-      new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX));
   private static final ZoneId UTC_ZONE = ZoneId.of("UTC");
   private static final Comparator<V2DataJob> COMPARATOR_DEFAULT =
       Comparator.comparing(
@@ -49,6 +59,8 @@ public class JobFieldStrategyByNextRun extends FieldStrategy<V2DataJob> {
               Comparator.nullsFirst(
                   Comparator.comparingInt(V2DataJobSchedule::getNextRunEpochSeconds))));
 
+  private final CronScheduleCache cronScheduleCache;
+
   @Override
   public JobFieldStrategyBy getStrategyName() {
     return JobFieldStrategyBy.NEXT_RUN_EPOCH_SECS;
@@ -94,7 +106,38 @@ public class JobFieldStrategyByNextRun extends FieldStrategy<V2DataJob> {
                 searchStr);
   }
 
-  /** Parse cron expression, compute the next run in UTC and alter the data job */
+  /**
+   * The next run is searched as its unix time, which is not stored, so only a search string which
+   * cannot be contained in a unix time (which may be -1 if invalid) is translated for the database
+   * - it matches no data job by next run.
+   */
+  @Override
+  public Specification<DataJob> computeSearchSpecification(@NonNull String searchStr) {
+    if (StringUtils.containsOnly(searchStr, "-0123456789")) {
+      return null;
+    }
+    return (root, query, builder) -> builder.disjunction();
+  }
+
+  @Override
+  public Specification<DataJob> computeFilterSpecification(@NonNull Filter filter) {
+    Pair<Integer, Integer> range = validateAndExtractDateRange(filter);
+    return (root, query, builder) ->
+        builder.between(
+            root.get(DataJob_.nextRunTime),
+            toDateTime(range.getFirst()),
+            toDateTime(range.getSecond()));
+  }
+
+  @Override
+  public DataJobQueryRepository.Ordering computeOrdering(@NonNull Sort.Direction direction) {
+    return orderNullsFirst(root -> root.get(DataJob_.nextRunTime), direction);
+  }
+
+  /**
+   * Compute the next run in UTC, unless the next run stored for the data job is still ahead, and
+   * alter the data job
+   */
   @Override
   public void alterFieldData(V2DataJob dataJob) {
     V2DataJobConfig config = dataJob.getConfig();
@@ -107,6 +150,10 @@ public class JobFieldStrategyByNextRun extends FieldStrategy<V2DataJob> {
       return;
     }
 
+    if (schedule.getNextRunEpochSeconds() > Instant.now().getEpochSecond()) {
+      return;
+    }
+
     try {
       schedule.setNextRunEpochSeconds(parseNextRun(schedule.getScheduleCron()));
     } catch (IllegalArgumentException e) {
@@ -176,9 +223,8 @@ public class JobFieldStrategyByNextRun extends FieldStrategy<V2DataJob> {
    */
   private long parseNextRun(String scheduleCron) {
     if (scheduleCron != null && !StringUtils.isBlank(scheduleCron)) {
-      var executionTime = ExecutionTime.forCron(CRON_PARSER.parse(scheduleCron));
       Optional<ZonedDateTime> nextExecution =
-          executionTime.nextExecution(ZonedDateTime.now(UTC_ZONE));
+          cronScheduleCache.nextExecution(scheduleCron, ZonedDateTime.now(UTC_ZONE));
       return Math.toIntExact(
           nextExecution
               .map(ChronoZonedDateTime::toEpochSecond)
@@ -186,4 +232,8 @@ public class JobFieldStrategyByNextRun extends FieldStrategy<V2DataJob> {
     }
     return NEXT_RUN_EPOCH_SECS_INVALID_VALUE;
   }
+
+  private static OffsetDateTime toDateTime(int epochSeconds) {
+    return OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSeconds), ZoneOffset.UTC);
+  }
 }
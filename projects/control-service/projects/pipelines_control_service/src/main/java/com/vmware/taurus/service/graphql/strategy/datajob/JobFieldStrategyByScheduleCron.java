@@ -6,10 +6,14 @@
 package com.vmware.taurus.service.graphql.strategy.datajob;
 
 import com.vmware.taurus.service.graphql.model.Criteria;
+import com.vmware.taurus.service.graphql.model.Filter;
 import com.vmware.taurus.service.graphql.model.V2DataJob;
 import com.vmware.taurus.service.graphql.strategy.FieldStrategy;
-import com.vmware.taurus.service.graphql.model.Filter;
+import com.vmware.taurus.service.model.DataJob;
+import com.vmware.taurus.service.model.DataJob_;
+import com.vmware.taurus.service.model.JobConfig_;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
@@ -38,4 +42,15 @@ public class JobFieldStrategyByScheduleCron extends FieldStrategy<V2DataJob> {
             && StringUtils.containsIgnoreCase(
                 dataJob.getConfig().getSchedule().getScheduleCron(), searchStr);
   }
+
+  @Override
+  public Specification<DataJob> computeFilterSpecification(@NonNull Filter filter) {
+    return (root, query, builder) -> builder.conjunction();
+  }
+
+  @Override
+  public Specification<DataJob> computeSearchSpecification(@NonNull String searchStr) {
+    return containsIgnoreCase(
+        root -> root.get(DataJob_.jobConfig).get(JobConfig_.schedule), searchStr);
+  }
 }
@@ -5,20 +5,31 @@
 
 package com.vmware.taurus.service.graphql.strategy.datajob;
 
+import com.vmware.taurus.service.DataJobQueryRepository;
 import com.vmware.taurus.service.graphql.model.Criteria;
 import com.vmware.taurus.service.graphql.model.Filter;
 import com.vmware.taurus.service.graphql.model.V2DataJob;
 import com.vmware.taurus.service.graphql.model.V2DataJobConfig;
 import com.vmware.taurus.service.graphql.strategy.FieldStrategy;
+import com.vmware.taurus.service.model.DataJob;
+import com.vmware.taurus.service.model.DataJob_;
+import com.vmware.taurus.service.model.JobConfig_;
 import java.util.Comparator;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JobFieldStrategyByTeam extends FieldStrategy<V2DataJob> {
 
+  private static final Pattern REGEX_METACHARACTERS = Pattern.compile("[\\\\.\\[\\]{}()*+?^$|]");
+
   private static final Comparator<V2DataJob> COMPARATOR_DEFAULT =
       Comparator.comparing(
           e -> e.getConfig().getTeam(), Comparator.nullsLast(Comparator.naturalOrder()));
@@ -61,4 +72,37 @@ public class JobFieldStrategyByTeam extends FieldStrategy<V2DataJob> {
   public JobFieldStrategyBy getStrategyName() {
     return JobFieldStrategyBy.TEAM;
   }
+
+  /**
+   * Only the patterns without regular expression characters (other than the '%' wildcard) are
+   * translated, as LIKE patterns. The others are matched only in memory.
+   */
+  @Override
+  public Specification<DataJob> computeFilterSpecification(@NonNull Filter filter) {
+    String part = filter.getPattern().trim();
+    if (REGEX_METACHARACTERS.matcher(part).find()) {
+      return null;
+    }
+    // '%' is the only wildcard of the pattern, and there are no backslashes to escape.
+    String likePattern = part.replace("_", "\\_");
+    String exactMatch = part.replace("%", ".*").toLowerCase();
+    return likeIgnoreCase(JobFieldStrategyByTeam::team, likePattern)
+        .or(
+            (root, query, builder) ->
+                builder.equal(builder.lower(builder.trim(team(root))), exactMatch));
+  }
+
+  @Override
+  public Specification<DataJob> computeSearchSpecification(@NonNull String searchStr) {
+    return containsIgnoreCase(JobFieldStrategyByTeam::team, searchStr);
+  }
+
+  @Override
+  public DataJobQueryRepository.Ordering computeOrdering(@NonNull Sort.Direction direction) {
+    return orderNullsLast(JobFieldStrategyByTeam::team, direction);
+  }
+
+  private static Path<String> team(Root<DataJob> root) {
+    return root.get(DataJob_.jobConfig).get(JobConfig_.team);
+  }
 }
@@ -16,13 +16,15 @@ import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.BatchV1Api;
 import io.kubernetes.client.openapi.apis.BatchV1beta1Api;
 import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1CronJobList;
 import io.kubernetes.client.openapi.models.V1Volume;
+import io.kubernetes.client.openapi.models.V1beta1CronJobList;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -142,16 +144,14 @@ public class DataJobsKubernetesService extends KubernetesService {
    */
   public Set<String> listCronJobs() throws ApiException {
     log.debug("Listing k8s cron jobs");
-    Set<String> v1CronJobNames = Collections.emptySet();
+    Set<String> v1CronJobNames = new HashSet<>();
 
     try {
-      var v1CronJobs =
-          batchV1Api.listNamespacedCronJob(
-              namespace, null, null, null, null, null, null, null, null, null, null);
-      v1CronJobNames =
-          v1CronJobs.getItems().stream()
-              .map(j -> j.getMetadata().getName())
-              .collect(Collectors.toSet());
+      this.<V1CronJobList>listPaged(
+          (continueToken, limit) ->
+              batchV1Api.listNamespacedCronJob(
+                  namespace, null, null, continueToken, null, null, limit, null, null, null, null),
+          page -> page.getItems().forEach(j -> v1CronJobNames.add(j.getMetadata().getName())));
       log.debug("K8s V1 cron jobs: {}", v1CronJobNames);
     } catch (ApiException e) {
       if (e.getCode()
@@ -163,13 +163,12 @@ public class DataJobsKubernetesService extends KubernetesService {
       }
     }
 
-    var v1BetaCronJobs =
-        batchV1beta1Api.listNamespacedCronJob(
-            namespace, null, null, null, null, null, null, null, null, null, null);
-    var v1BetaCronJobNames =
-        v1BetaCronJobs.getItems().stream()
-            .map(j -> j.getMetadata().getName())
-            .collect(Collectors.toSet());
+    Set<String> v1BetaCronJobNames = new HashSet<>();
+    this.<V1beta1CronJobList>listPaged(
+        (continueToken, limit) ->
+            batchV1beta1Api.listNamespacedCronJob(
+                namespace, null, null, continueToken, null, null, limit, null, null, null, null),
+        page -> page.getItems().forEach(j -> v1BetaCronJobNames.add(j.getMetadata().getName())));
     log.debug("K8s V1Beta cron jobs: {}", v1BetaCronJobNames);
     return Stream.concat(v1CronJobNames.stream(), v1BetaCronJobNames.stream())
         .collect(Collectors.toSet());
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.kubernetes;
+
+import com.vmware.taurus.service.model.JobLabel;
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.informer.SharedIndexInformer;
+import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.apis.BatchV1Api;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1JobStatus;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1OwnerReference;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.util.wait.Wait;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps an indexed, in-memory view of the Kubernetes Jobs and Pods of a namespace using shared
+ * informers. After the initial list the informers only stream the deltas from the API server, so
+ * lookups served from here do not hit the API server at all.
+ *
+ * <p>Jobs are indexed by the data job name label ({@link JobLabel#NAME}), Pods are indexed by the
+ * name of the Job owning them (owner reference, falling back to the {@code job-name} label).
+ *
+ * <p>Callers should check {@link #hasSynced()} before relying on the cache and fall back to a
+ * direct API call otherwise.
+ *
+ * <p>The job events received by the informer are also used to complete the futures returned by
+ * {@link #awaitJobCompletion} and {@link #awaitJobDeletion}, so any number of callers can wait for
+ * jobs using the single watch of the informer.
+ */
+@Slf4j
+public class JobsInformer {
+
+  static final String DATA_JOB_NAME_INDEX = "dataJobName";
+  static final String OWNER_JOB_NAME_INDEX = "ownerJobName";
+  private static final String JOB_NAME_LABEL = "job-name";
+  private static final Set<String> FINISHED_CONDITION_TYPES = Set.of("Complete", "Failed");
+  private static final Duration SYNC_POLL_INTERVAL = Duration.ofMillis(100);
+
+  private final String namespace;
+  private final SharedInformerFactory informerFactory;
+  private final SharedIndexInformer<V1Job> jobInformer;
+  private final SharedIndexInformer<V1Pod> podInformer;
+  private final Map<String, Set<CompletableFuture<V1Job>>> completionFutures =
+      new ConcurrentHashMap<>();
+  private final Map<String, Set<CompletableFuture<Void>>> deletionFutures =
+      new ConcurrentHashMap<>();
+
+  public JobsInformer(
+      ApiClient client, BatchV1Api batchV1Api, String namespace, long resyncPeriodSeconds) {
+    this.namespace = namespace;
+    this.informerFactory = new SharedInformerFactory(client);
+    var coreV1Api = new CoreV1Api(client);
+    long resyncPeriodMillis = TimeUnit.SECONDS.toMillis(resyncPeriodSeconds);
+
+    this.jobInformer =
+        informerFactory.sharedIndexInformerFor(
+            params ->
+                batchV1Api.listNamespacedJobCall(
+                    namespace,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    params.resourceVersion,
+                    null,
+                    params.timeoutSeconds,
+                    params.watch,
+                    null),
+            V1Job.class,
+            V1JobList.class,
+            resyncPeriodMillis);
+    this.jobInformer.addIndexers(Map.of(DATA_JOB_NAME_INDEX, JobsInformer::dataJobNameIndex));
+    this.jobInformer.addEventHandler(new JobLifecycleHandler());
+
+    this.podInformer =
+        informerFactory.sharedIndexInformerFor(
+            params ->
+                coreV1Api.listNamespacedPodCall(
+                    namespace,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    params.resourceVersion,
+                    null,
+                    params.timeoutSeconds,
+                    params.watch,
+                    null),
+            V1Pod.class,
+            V1PodList.class,
+            resyncPeriodMillis);
+    this.podInformer.addIndexers(Map.of(OWNER_JOB_NAME_INDEX, JobsInformer::ownerJobNameIndex));
+  }
+
+  public void start() {
+    log.info("Starting Kubernetes jobs and pods informers for namespace {}", namespace);
+    informerFactory.startAllRegisteredInformers();
+  }
+
+  public void stop() {
+    log.info("Stopping Kubernetes jobs and pods informers for namespace {}", namespace);
+    informerFactory.stopAllRegisteredInformers();
+  }
+
+  /**
+   * @return true if both the jobs and the pods informers have completed their initial listing,
+   *     i.e. the cache reflects the state of the namespace.
+   */
+  public boolean hasSynced() {
+    return jobInformer.hasSynced() && podInformer.hasSynced();
+  }
+
+  /**
+   * Waits for up to {@code timeout} for the informers to complete their initial listing.
+   *
+   * @return true if the informers have synced, false if the timeout has elapsed.
+   */
+  public boolean awaitSynced(Duration timeout) {
+    return hasSynced() || Wait.poll(SYNC_POLL_INTERVAL, timeout, this::hasSynced);
+  }
+
+  public List<V1Job> listJobs() {
+    return jobInformer.getIndexer().list();
+  }
+
+  public Optional<V1Job> getJob(String jobName) {
+    return Optional.ofNullable(jobInformer.getIndexer().getByKey(key(jobName)));
+  }
+
+  public List<V1Job> listJobsByDataJobName(String dataJobName) {
+    return jobInformer.getIndexer().byIndex(DATA_JOB_NAME_INDEX, dataJobName);
+  }
+
+  public List<V1Pod> listPods() {
+    return podInformer.getIndexer().list();
+  }
+
+  public List<V1Pod> listJobPods(String jobName) {
+    return podInformer.getIndexer().byIndex(OWNER_JOB_NAME_INDEX, jobName);
+  }
+
+  /**
+   * Returns a future which is completed with the job once it has finished (its status has a
+   * Complete or Failed condition), or with its last known state once it is deleted. The future
+   * should be cancelled by the caller if it stops waiting for it. Requires the informer to be
+   * synced.
+   *
+   * @param jobName The name of the job to wait for.
+   */
+  public CompletableFuture<V1Job> awaitJobCompletion(String jobName) {
+    var future = register(completionFutures, jobName, new CompletableFuture<>());
+    getJob(jobName).filter(JobsInformer::isFinished).ifPresent(future::complete);
+    return future;
+  }
+
+  /**
+   * Returns a future which is completed once the job is deleted, or immediately if the job does
+   * not exist. The future should be cancelled by the caller if it stops waiting for it. Requires the
+   * informer to be synced.
+   *
+   * @param jobName The name of the job to wait for.
+   */
+  public CompletableFuture<Void> awaitJobDeletion(String jobName) {
+    var future = register(deletionFutures, jobName, new CompletableFuture<>());
+    if (getJob(jobName).isEmpty()) {
+      future.complete(null);
+    }
+    return future;
+  }
+
+  // Visible for testing purposes.
+  SharedIndexInformer<V1Job> getJobInformer() {
+    return jobInformer;
+  }
+
+  // Visible for testing purposes.
+  SharedIndexInformer<V1Pod> getPodInformer() {
+    return podInformer;
+  }
+
+  // Visible for testing purposes.
+  ResourceEventHandler<V1Job> getJobLifecycleHandler() {
+    return new JobLifecycleHandler();
+  }
+
+  private static <T> CompletableFuture<T> register(
+      Map<String, Set<CompletableFuture<T>>> futures,
+      String jobName,
+      CompletableFuture<T> future) {
+    futures.computeIfAbsent(jobName, name -> new CopyOnWriteArraySet<>()).add(future);
+    // Drop the future once it is completed or cancelled, so that abandoned waits do not pile up.
+    future.whenComplete(
+        (result, error) ->
+            futures.computeIfPresent(
+                jobName,
+                (name, registered) -> {
+                  registered.remove(future);
+                  return registered.isEmpty() ? null : registered;
+                }));
+    return future;
+  }
+
+  private static <T> void complete(
+      Map<String, Set<CompletableFuture<T>>> futures, String jobName, T result) {
+    Optional.ofNullable(futures.get(jobName))
+        .ifPresent(registered -> registered.forEach(future -> future.complete(result)));
+  }
+
+  private static boolean isFinished(V1Job job) {
+    return Optional.ofNullable(job.getStatus())
+        .map(V1JobStatus::getConditions)
+        .stream()
+        .flatMap(List::stream)
+        .anyMatch(
+            condition ->
+                FINISHED_CONDITION_TYPES.contains(condition.getType())
+                    && "True".equals(condition.getStatus()));
+  }
+
+  private static String getName(V1Job job) {
+    return Optional.ofNullable(job.getMetadata()).map(V1ObjectMeta::getName).orElse(null);
+  }
+
+  private class JobLifecycleHandler implements ResourceEventHandler<V1Job> {
+
+    @Override
+    public void onAdd(V1Job job) {
+      onChange(job);
+    }
+
+    @Override
+    public void onUpdate(V1Job oldJob, V1Job newJob) {
+      onChange(newJob);
+    }
+
+    @Override
+    public void onDelete(V1Job job, boolean deletedFinalStateUnknown) {
+      var jobName = getName(job);
+      if (jobName != null) {
+        complete(completionFutures, jobName, job);
+        complete(deletionFutures, jobName, null);
+      }
+    }
+
+    private void onChange(V1Job job) {
+      var jobName = getName(job);
+      if (jobName != null && isFinished(job)) {
+        complete(completionFutures, jobName, job);
+      }
+    }
+  }
+
+  private String key(String name) {
+    return namespace == null ? name : namespace + "/" + name;
+  }
+
+  private static List<String> dataJobNameIndex(V1Job job) {
+    return Optional.ofNullable(job.getMetadata())
+        .map(V1ObjectMeta::getLabels)
+        .map(labels -> labels.get(JobLabel.NAME.getValue()))
+        .map(List::of)
+        .orElse(Collections.emptyList());
+  }
+
+  private static List<String> ownerJobNameIndex(V1Pod pod) {
+    var metadata = Optional.ofNullable(pod.getMetadata());
+    var ownerJobNames =
+        metadata.map(V1ObjectMeta::getOwnerReferences).stream()
+            .flatMap(List::stream)
+            .filter(ownerReference -> "Job".equals(ownerReference.getKind()))
+            .map(V1OwnerReference::getName);
+    var jobNameLabel =
+        metadata.map(V1ObjectMeta::getLabels).map(labels -> labels.get(JOB_NAME_LABEL)).stream();
+
+    return Stream.concat(ownerJobNames, jobNameLabel).distinct().collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.kubernetes;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Intercepts all requests of the service to the Kubernetes API in order to:
+ *
+ * <ul>
+ *   <li>Limit the requests of each {@link KubernetesApiSubsystem} to its budget (see {@link
+ *       KubernetesApiRateLimitConfig}), so that a burst of requests by one subsystem does not
+ *       starve the others. The requests over budget wait for their turn.
+ *   <li>Record the duration of the requests in the {@value REQUESTS_TIMER} timer, tagged by
+ *       subsystem, verb (get, list, watch, create, update, patch, delete, deletecollection),
+ *       resource and outcome, and the time spent waiting for the budget in the {@value
+ *       RATE_LIMIT_TIMER} timer.
+ * </ul>
+ */
+@Slf4j
+@Component
+public class KubernetesApiInterceptor implements Interceptor {
+
+  static final String REQUESTS_TIMER = "taurus.kubernetes.api.requests";
+  static final String RATE_LIMIT_TIMER = "taurus.kubernetes.api.rate.limit.wait";
+
+  private final MeterRegistry meterRegistry;
+  private final Map<KubernetesApiSubsystem, TokenBucket> rateLimiters =
+      new EnumMap<>(KubernetesApiSubsystem.class);
+  // The timers by their tags, bounded by the subsystems, verbs, resources and outcomes.
+  private final Map<List<String>, Timer> requestTimers = new ConcurrentHashMap<>();
+  private final Map<KubernetesApiSubsystem, Timer> rateLimitTimers = new ConcurrentHashMap<>();
+
+  @Autowired
+  public KubernetesApiInterceptor(
+      MeterRegistry meterRegistry, KubernetesApiRateLimitConfig rateLimitConfig) {
+    this.meterRegistry = meterRegistry;
+    for (var subsystem : KubernetesApiSubsystem.values()) {
+      var budget = rateLimitConfig.getSubsystems().get(subsystem.getValue());
+      if (budget != null && budget.getQps() > 0) {
+        rateLimiters.put(subsystem, new TokenBucket(budget.getQps(), budget.getBurst()));
+        log.info(
+            "Kubernetes API requests of {} are limited to {} per second with a burst of {}",
+            subsystem.getValue(),
+            budget.getQps(),
+            budget.getBurst());
+      }
+    }
+  }
+
+  @NotNull
+  @Override
+  public Response intercept(@NotNull Chain chain) throws IOException {
+    var subsystem = KubernetesApiSubsystem.current();
+    var request = chain.request();
+    waitForBudget(subsystem);
+
+    String outcome = "error";
+    long start = System.nanoTime();
+    try {
+      Response response = chain.proceed(request);
+      outcome = getOutcome(response.code());
+      return response;
+    } finally {
+      getRequestsTimer(subsystem, getVerb(request), getResource(request.url()), outcome)
+          .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private Timer getRequestsTimer(
+      KubernetesApiSubsystem subsystem, String verb, String resource, String outcome) {
+    return requestTimers.computeIfAbsent(
+        List.of(subsystem.getValue(), verb, resource, outcome),
+        key ->
+            Timer.builder(REQUESTS_TIMER)
+                .description("The duration of the requests to the Kubernetes API.")
+                .tag("subsystem", subsystem.getValue())
+                .tag("verb", verb)
+                .tag("resource", resource)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+  }
+
+  private void waitForBudget(KubernetesApiSubsystem subsystem) throws InterruptedIOException {
+    var rateLimiter = rateLimiters.get(subsystem);
+    if (rateLimiter == null) {
+      return;
+    }
+    long waitNanos = rateLimiter.reserve(System.nanoTime());
+    if (waitNanos > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for the Kubernetes API budget");
+      }
+    }
+    rateLimitTimers
+        .computeIfAbsent(
+            subsystem,
+            key ->
+                Timer.builder(RATE_LIMIT_TIMER)
+                    .description("The time spent waiting for the Kubernetes API request budget.")
+                    .tag("subsystem", subsystem.getValue())
+                    .register(meterRegistry))
+        .record(waitNanos, TimeUnit.NANOSECONDS);
+  }
+
+  static String getOutcome(int code) {
+    if (code < 300) {
+      return "success";
+    } else if (code < 400) {
+      return "redirection";
+    } else if (code < 500) {
+      return "client_error";
+    }
+    return "server_error";
+  }
+
+  static String getVerb(Request request) {
+    switch (request.method()) {
+      case "GET":
+        if ("true".equals(request.url().queryParameter("watch"))) {
+          return "watch";
+        }
+        return isCollection(request.url()) ? "list" : "get";
+      case "POST":
+        return "create";
+      case "PUT":
+        return "update";
+      case "PATCH":
+        return "patch";
+      case "DELETE":
+        return isCollection(request.url()) ? "deletecollection" : "delete";
+      default:
+        return request.method().toLowerCase();
+    }
+  }
+
+  /**
+   * @return The resource of the request, including its subresource if any (for example "jobs" or
+   *     "pods/log"). The names of the namespace and of the object are not included.
+   */
+  static String getResource(HttpUrl url) {
+    var path = getResourcePath(url.pathSegments());
+    if (path.isEmpty()) {
+      return "other";
+    }
+    return path.size() > 2 ? path.get(0) + "/" + path.get(2) : path.get(0);
+  }
+
+  private static boolean isCollection(HttpUrl url) {
+    return getResourcePath(url.pathSegments()).size() == 1;
+  }
+
+  /**
+   * Strips the API group and version, and the namespace, from the path. For example
+   * /apis/batch/v1/namespaces/ns/jobs/name becomes [jobs, name].
+   */
+  private static List<String> getResourcePath(List<String> segments) {
+    int start;
+    if (!segments.isEmpty() && segments.get(0).equals("api")) {
+      start = 2;
+    } else if (!segments.isEmpty() && segments.get(0).equals("apis")) {
+      start = 3;
+    } else {
+      return List.of();
+    }
+    if (segments.size() <= start || segments.get(segments.size() - 1).isEmpty()) {
+      return List.of();
+    }
+    var path = segments.subList(start, segments.size());
+    if (path.size() > 2 && path.get(0).equals("namespaces")) {
+      path = path.subList(2, path.size());
+    }
+    return path;
+  }
+
+  /**
+   * A token bucket which is refilled with qps tokens per second, up to burst tokens. A request
+   * takes a token from the bucket or reserves the next one to be added, and waits until then.
+   */
+  static class TokenBucket {
+
+    private final double nanosPerToken;
+    private final double burst;
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(double qps, int burst) {
+      this.nanosPerToken = TimeUnit.SECONDS.toNanos(1) / qps;
+      this.burst = Math.max(1, burst);
+      this.tokens = this.burst;
+      this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * @return How long to wait (in nanoseconds) until the reserved token is available.
+     */
+    synchronized long reserve(long nowNanos) {
+      if (nowNanos > lastRefillNanos) {
+        tokens = Math.min(burst, tokens + (nowNanos - lastRefillNanos) / nanosPerToken);
+        lastRefillNanos = nowNanos;
+      }
+      tokens -= 1;
+      return tokens >= 0 ? 0 : (long) (-tokens * nanosPerToken);
+    }
+  }
+}
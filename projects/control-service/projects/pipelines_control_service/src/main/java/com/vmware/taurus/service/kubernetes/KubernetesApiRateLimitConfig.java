@@ -0,0 +1,38 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.kubernetes;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The client-side request budgets for the Kubernetes API, by {@link KubernetesApiSubsystem} value.
+ * For example {@code datajobs.control.k8s.rate-limit.subsystems.monitoring.qps=20}.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "datajobs.control.k8s.rate-limit")
+@Getter
+@Setter
+public class KubernetesApiRateLimitConfig {
+
+  private Map<String, Budget> subsystems = new HashMap<>();
+
+  @Getter
+  @Setter
+  public static class Budget {
+
+    /** The sustained number of requests per second. Not limited if not positive. */
+    private double qps;
+
+    /** The number of requests which can be sent at once after a period of inactivity. */
+    private int burst = 1;
+  }
+}
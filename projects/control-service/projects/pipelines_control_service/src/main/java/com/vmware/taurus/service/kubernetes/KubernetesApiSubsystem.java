@@ -0,0 +1,62 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.kubernetes;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The subsystems of the service which call the Kubernetes API. Each of them has its own request
+ * budget and its requests are tagged with its name in the metrics (see {@link
+ * KubernetesApiInterceptor}).
+ *
+ * <p>The subsystem is bound to the current thread for the duration of a scope:
+ *
+ * <pre>{@code
+ * try (var scope = KubernetesApiSubsystem.MONITORING.enter()) {
+ *   // Kubernetes API calls
+ * }
+ * }</pre>
+ *
+ * The requests sent outside of any scope are attributed to {@link #OTHER}.
+ */
+@AllArgsConstructor
+public enum KubernetesApiSubsystem {
+  MONITORING("monitoring"),
+  DEPLOYMENT("deployment"),
+  BUILDER("builder"),
+  LOGS("logs"),
+  GRAPHQL("graphql"),
+  OTHER("other");
+
+  private static final ThreadLocal<KubernetesApiSubsystem> current =
+      ThreadLocal.withInitial(() -> OTHER);
+
+  @Getter private final String value;
+
+  /**
+   * @return The subsystem bound to the current thread.
+   */
+  public static KubernetesApiSubsystem current() {
+    return current.get();
+  }
+
+  /**
+   * Binds this subsystem to the current thread until the returned scope is closed, after which the
+   * previously bound subsystem is restored.
+   */
+  public Scope enter() {
+    var previous = current.get();
+    current.set(this);
+    return () -> current.set(previous);
+  }
+
+  /** A scope which does not throw when closed. */
+  public interface Scope extends AutoCloseable {
+    @Override
+    void close();
+  }
+}
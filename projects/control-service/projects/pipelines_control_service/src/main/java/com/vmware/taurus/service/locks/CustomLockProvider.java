@@ -12,6 +12,7 @@ import net.javacrumbs.shedlock.provider.jdbctemplate.JdbcTemplateLockProvider;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -49,10 +50,7 @@ class CustomLockProvider extends JdbcTemplateLockProvider {
     }
   }
 
-  /**
-   * A simple lock wrapper that tracks the lifetime of a lock. This class will probably not work if
-   * using lock extension.
-   */
+  /** A simple lock wrapper that tracks the lifetime of a lock, including its extensions. */
   private static class LockWrapper implements SimpleLock {
     private final SimpleLock wrappedLock;
     private final String name;
@@ -74,5 +72,14 @@ class CustomLockProvider extends JdbcTemplateLockProvider {
       activeLocks.remove(name);
       log.debug("Lock {} is released", name);
     }
+
+    @Override
+    public Optional<SimpleLock> extend(Duration lockAtMostFor, Duration lockAtLeastFor) {
+      log.debug("Extending lock {}", name);
+      var extendedLock = wrappedLock.extend(lockAtMostFor, lockAtLeastFor);
+      // The lock can no longer be used once extended, whether the extension succeeds or not
+      activeLocks.remove(name);
+      return extendedLock.map(lock -> new LockWrapper(lock, name, activeLocks));
+    }
   }
 }
@@ -20,6 +20,7 @@ import com.vmware.taurus.service.model.converter.ExecutionTerminationStatusConve
 @AllArgsConstructor
 @EqualsAndHashCode
 @ToString
+@Builder(toBuilder = true)
 @Entity
 public class DataJob {
 
@@ -54,6 +55,10 @@ public class DataJob {
   @Column(name = "last_execution_duration")
   private Integer lastExecutionDuration;
 
+  // The next run of the schedule, kept up to date by the DataJobNextRunService.
+  @Column(name = "next_run_time")
+  private OffsetDateTime nextRunTime;
+
   public DataJob(String name, JobConfig jobConfig) {
     this.name = name;
     this.jobConfig = jobConfig;
@@ -62,7 +67,7 @@ public class DataJob {
   }
 
   public DataJob(String name, JobConfig jobConfig, DeploymentStatus deploymentStatus) {
-    this(name, jobConfig, deploymentStatus, null, null, null, true, null, null, null);
+    this(name, jobConfig, deploymentStatus, null, null, null, true, null, null, null, null);
   }
 
   public DataJob(
@@ -81,6 +86,7 @@ public class DataJob {
         true,
         null,
         null,
+        null,
         null);
   }
 }
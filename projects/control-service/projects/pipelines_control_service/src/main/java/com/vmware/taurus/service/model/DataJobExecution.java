@@ -11,6 +11,7 @@ import javax.persistence.*;
 import java.time.OffsetDateTime;
 
 import com.vmware.taurus.service.model.converter.ExecutionStatusConverter;
+import org.springframework.data.domain.Persistable;
 
 @Getter
 @Setter
@@ -20,7 +21,7 @@ import com.vmware.taurus.service.model.converter.ExecutionStatusConverter;
 @ToString
 @Builder(toBuilder = true)
 @Entity
-public class DataJobExecution {
+public class DataJobExecution implements Persistable<String> {
 
   @Id private String id;
 
@@ -67,4 +68,27 @@ public class DataJobExecution {
   private String lastDeployedBy;
 
   private String startedBy;
+
+  /**
+   * Marks an execution built by the service as not yet stored, so that it is inserted without
+   * first being looked up in the database. The executions are assumed to be stored otherwise.
+   */
+  @Transient
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  @Builder.Default
+  private boolean newExecution = false;
+
+  @Override
+  public boolean isNew() {
+    return newExecution;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markStored() {
+    this.newExecution = false;
+  }
 }
@@ -0,0 +1,12 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.model;
+
+public interface DataJobExecutionIdAndJobName {
+  String getId();
+
+  String getJobName();
+}
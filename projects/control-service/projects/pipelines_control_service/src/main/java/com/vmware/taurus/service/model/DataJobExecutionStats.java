@@ -0,0 +1,55 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.model;
+
+import lombok.*;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.OffsetDateTime;
+
+/**
+ * The execution statistics of a data job. They are updated incrementally when an execution of the
+ * data job reaches a final status, so that reading them costs a single row read per data job
+ * instead of an aggregation over the execution history.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+@Entity
+public class DataJobExecutionStats {
+
+  @Id private String jobName;
+
+  private long succeededCount;
+
+  private long cancelledCount;
+
+  private long skippedCount;
+
+  private long userErrorCount;
+
+  private long platformErrorCount;
+
+  /** Comma-separated durations in seconds of the last finished executions, oldest first. */
+  private String lastDurations;
+
+  @Column(name = "duration_p50_seconds")
+  private Long durationP50Seconds;
+
+  @Column(name = "duration_p95_seconds")
+  private Long durationP95Seconds;
+
+  private OffsetDateTime lastUpdated;
+
+  public DataJobExecutionStats(String jobName) {
+    this.jobName = jobName;
+  }
+}
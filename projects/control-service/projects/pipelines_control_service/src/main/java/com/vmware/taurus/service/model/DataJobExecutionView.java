@@ -0,0 +1,88 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.model;
+
+import lombok.Value;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A read-only projection of a {@link DataJobExecution} with the columns returned by the execution
+ * APIs. Listing executions as views reads only these columns (and the team of the data job, instead
+ * of the whole data job), and does not put the executions in the persistence context.
+ *
+ * <p>The order of the fields is the order of the constructor arguments of the projection queries.
+ */
+@Value
+public class DataJobExecutionView {
+
+  String id;
+
+  String jobName;
+
+  String teamName;
+
+  ExecutionType type;
+
+  ExecutionStatus status;
+
+  String message;
+
+  String opId;
+
+  OffsetDateTime startTime;
+
+  OffsetDateTime endTime;
+
+  String vdkVersion;
+
+  String jobVersion;
+
+  String jobPythonVersion;
+
+  String jobSchedule;
+
+  Float resourcesCpuRequest;
+
+  Float resourcesCpuLimit;
+
+  Integer resourcesMemoryRequest;
+
+  Integer resourcesMemoryLimit;
+
+  OffsetDateTime lastDeployedDate;
+
+  String lastDeployedBy;
+
+  String startedBy;
+
+  public static DataJobExecutionView of(DataJobExecution execution) {
+    var dataJob = execution.getDataJob();
+    return new DataJobExecutionView(
+        execution.getId(),
+        dataJob == null ? null : dataJob.getName(),
+        dataJob == null || dataJob.getJobConfig() == null
+            ? null
+            : dataJob.getJobConfig().getTeam(),
+        execution.getType(),
+        execution.getStatus(),
+        execution.getMessage(),
+        execution.getOpId(),
+        execution.getStartTime(),
+        execution.getEndTime(),
+        execution.getVdkVersion(),
+        execution.getJobVersion(),
+        execution.getJobPythonVersion(),
+        execution.getJobSchedule(),
+        execution.getResourcesCpuRequest(),
+        execution.getResourcesCpuLimit(),
+        execution.getResourcesMemoryRequest(),
+        execution.getResourcesMemoryLimit(),
+        execution.getLastDeployedDate(),
+        execution.getLastDeployedBy(),
+        execution.getStartedBy());
+  }
+}
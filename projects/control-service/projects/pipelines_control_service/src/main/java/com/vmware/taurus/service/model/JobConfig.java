@@ -6,6 +6,7 @@
 package com.vmware.taurus.service.model;
 
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -26,6 +27,7 @@ import static com.vmware.taurus.service.Utilities.parseList;
 @ToString
 @Embeddable
 @AllArgsConstructor
+@Builder(toBuilder = true)
 public class JobConfig {
 
   private static final String SEPARATOR = ";";
@@ -13,7 +13,8 @@ public enum JobLabel {
   VERSION("version"),
   TYPE("type"),
   EXECUTION_ID("data-job-execution-id"),
-  STARTED_BY_USER("start-by-user");
+  STARTED_BY_USER("start-by-user"),
+  MONITORING_SHARD("monitoring-shard");
 
   @Getter private String value;
 
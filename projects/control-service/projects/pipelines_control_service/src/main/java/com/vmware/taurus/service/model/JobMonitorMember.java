@@ -0,0 +1,32 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.model;
+
+import lombok.*;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.OffsetDateTime;
+
+/**
+ * An instance of the service taking part in the sharded monitoring of data job executions. The
+ * instances whose heartbeat is recent enough share the monitoring shards amongst themselves.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+@Entity
+public class JobMonitorMember {
+
+  @Id private String memberId;
+
+  @Column(nullable = false)
+  private OffsetDateTime heartbeatTime;
+}
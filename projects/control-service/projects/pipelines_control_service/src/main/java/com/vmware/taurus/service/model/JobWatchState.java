@@ -0,0 +1,41 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.model;
+
+import lombok.*;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.OffsetDateTime;
+
+/**
+ * The progress of a Kubernetes watch, shared amongst the instances of the service so that the
+ * instance acquiring the watch lock can continue from where the previous one stopped.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+@Entity
+public class JobWatchState {
+
+  @Id private String name;
+
+  /** The resource version to resume the watch from, or null if the resources must be listed. */
+  private String resourceVersion;
+
+  /** The time the resources were last listed. */
+  private OffsetDateTime lastListTime;
+
+  /** The time up to which the completed jobs are known to have been processed. */
+  private OffsetDateTime lastWatchTime;
+
+  public JobWatchState(String name) {
+    this.name = name;
+  }
+}
@@ -13,6 +13,7 @@ import com.vmware.taurus.service.diag.methodintercept.Measurable;
 import com.vmware.taurus.service.execution.JobExecutionResultManager;
 import com.vmware.taurus.service.execution.JobExecutionService;
 import com.vmware.taurus.service.model.DataJob;
+import com.vmware.taurus.service.model.DataJobExecution;
 import com.vmware.taurus.service.model.ExecutionResult;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -21,9 +22,12 @@ import org.springframework.stereotype.Component;
 
 import javax.transaction.Transactional;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -150,4 +154,60 @@ public class DataJobMonitor {
               }
             });
   }
+
+  /**
+   * Record a batch of Data Job execution statuses in a single transaction. The persisted executions
+   * and data jobs are loaded with one query each and the executions are written using batched
+   * statements. The last execution and termination status of each data job are updated once per
+   * batch.
+   *
+   * @param jobStatuses - the job statuses to record, at most one per execution id.
+   */
+  @Measurable(includeArg = 0, argName = "execution_statuses")
+  @Transactional
+  public void recordJobExecutionStatuses(Collection<KubernetesService.JobExecution> jobStatuses) {
+    log.debug("Storing {} Data Job execution statuses", jobStatuses.size());
+    var dataJobNames =
+        jobStatuses.stream()
+            .map(KubernetesService.JobExecution::getJobName)
+            .filter(StringUtils::isNotBlank)
+            .collect(Collectors.toSet());
+    if (dataJobNames.size() < jobStatuses.size()) {
+      log.warn("Data job name is empty for some of the execution statuses");
+    }
+
+    var dataJobs =
+        Streams.stream(jobsRepository.findAllById(dataJobNames))
+            .collect(Collectors.toMap(DataJob::getName, Function.identity()));
+    dataJobNames.stream()
+        .filter(dataJobName -> !dataJobs.containsKey(dataJobName))
+        .forEach(
+            dataJobName ->
+                log.debug("Data job {} was deleted or hasn't been created", dataJobName));
+
+    var updatedExecutions =
+        jobExecutionService.updateJobExecutions(dataJobs, jobStatuses).stream()
+            .collect(Collectors.groupingBy(e -> e.getDataJob().getName()));
+
+    // Update the last execution state, using the most recently completed execution of each data job
+    updatedExecutions.values().stream()
+        .flatMap(
+            executions ->
+                executions.stream()
+                    .filter(e -> e.getEndTime() != null)
+                    .max(Comparator.comparing(DataJobExecution::getEndTime))
+                    .stream())
+        .forEach(jobsService::updateLastExecution);
+
+    // Update the termination status from the most recently started execution of each data job
+    updatedExecutions.forEach(
+        (dataJobName, executions) ->
+            executions.stream()
+                .max(
+                    Comparator.comparing(
+                        DataJobExecution::getStartTime,
+                        Comparator.nullsFirst(Comparator.naturalOrder())))
+                .filter(jobsService::updateTerminationStatus)
+                .ifPresent(e -> updateDataJobTerminationStatusGauge(dataJobs.get(dataJobName))));
+  }
 }
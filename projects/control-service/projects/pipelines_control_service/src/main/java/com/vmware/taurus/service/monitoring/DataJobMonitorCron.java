@@ -6,22 +6,31 @@
 package com.vmware.taurus.service.monitoring;
 
 import com.vmware.taurus.exception.KubernetesException;
+import com.vmware.taurus.service.JobWatchStateRepository;
+import com.vmware.taurus.service.KubernetesService;
+import com.vmware.taurus.service.KubernetesService.JobExecution;
 import com.vmware.taurus.service.execution.JobExecutionService;
 import com.vmware.taurus.service.kubernetes.DataJobsKubernetesService;
+import com.vmware.taurus.service.kubernetes.KubernetesApiSubsystem;
 import com.vmware.taurus.service.model.JobLabel;
-import com.vmware.taurus.service.threads.ThreadPoolConf;
+import com.vmware.taurus.service.model.JobWatchState;
 import io.kubernetes.client.openapi.ApiException;
 import lombok.extern.slf4j.Slf4j;
-import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 @Slf4j
 @Component
@@ -29,13 +38,18 @@ public class DataJobMonitorCron {
 
   private static final long ONE_MINUTE_MILLIS = TimeUnit.MINUTES.toMillis(1);
 
+  private static final String WATCH_STATE_NAME = "watchJobs";
+
   private final Map<String, String> labelsToWatch =
       Collections.singletonMap(JobLabel.TYPE.getValue(), "DataJob");
+  private final String labelSelector = KubernetesService.buildLabelSelector(labelsToWatch);
 
   private final DataJobsKubernetesService dataJobsKubernetesService;
   private final JobExecutionService jobExecutionService;
   private final DataJobMetrics dataJobMetrics;
-  private final DataJobMonitor dataJobMonitor;
+  private final JobExecutionStatusQueue jobExecutionStatusQueue;
+  private final JobWatchStateRepository jobWatchStateRepository;
+  private final long relistIntervalSeconds;
 
   private long lastWatchTime =
       Instant.now().minusMillis(TimeUnit.MINUTES.toMillis(30)).toEpochMilli();
@@ -45,64 +59,170 @@ public class DataJobMonitorCron {
       DataJobsKubernetesService dataJobsKubernetesService,
       JobExecutionService jobExecutionService,
       DataJobMetrics dataJobMetrics,
-      DataJobMonitor dataJobMonitor) {
+      JobExecutionStatusQueue jobExecutionStatusQueue,
+      JobWatchStateRepository jobWatchStateRepository,
+      @Value("${datajobs.status.watch.relist.interval.seconds:600}") long relistIntervalSeconds) {
     this.dataJobsKubernetesService = dataJobsKubernetesService;
     this.jobExecutionService = jobExecutionService;
     this.dataJobMetrics = dataJobMetrics;
-    this.dataJobMonitor = dataJobMonitor;
+    this.jobExecutionStatusQueue = jobExecutionStatusQueue;
+    this.jobWatchStateRepository = jobWatchStateRepository;
+    this.relistIntervalSeconds = relistIntervalSeconds;
     log.info("Data Job Monitor initialized to watch for jobs with labels: {}", labelsToWatch);
   }
 
   /**
-   * This method is annotated with {@link SchedulerLock} to prevent it from being executed
-   * simultaneously by more than one instance of the service in a multi-node deployment. This aims
-   * to reduce the number of rps to the Kubernetes API as well as to avoid errors due to concurrent
-   * database writes.
+   * Watches the data jobs once and stores the progress of the watch. It is scheduled by {@link
+   * DataJobMonitorScheduler} on one instance of the service at a time.
    *
    * <p>The flow is as follows:
    *
    * <ol>
-   *   <li>At any given point only one of the nodes will acquire the lock and execute the method.
-   *   <li>A lock will be held for no longer than 10 minutes (as configured in {@link
-   *       ThreadPoolConf}), which should be enough for a watch to complete (it currently has 5
-   *       minutes timeout).
-   *   <li>The other nodes will skip their schedules until after this node completes.
-   *   <li>When a termination status of a job is updated by the node holding the lock, the other
-   *       nodes will be eventually consistent within 5 seconds (by default) due to the continuous
-   *       updates done here: {@link DataJobMonitorSync#updateDataJobStatus}.
-   *   <li>Subsequently, when one of the other nodes acquires the lock, it will detect all changes
-   *       since its own last run (see {@code lastWatchTime}) and rewrite them. We can potentially
-   *       improve on this by sharing the lastWatchTime amongst the nodes.
+   *   <li>The statuses received from the watch are coalesced and recorded in batches by the {@link
+   *       JobExecutionStatusQueue}, which is drained before the progress of the watch is stored.
+   *   <li>The progress of the watch (the last seen resource version and the time of the last
+   *       watch) is stored in the database (see {@link JobWatchState}). Subsequently, when one of
+   *       the other nodes acquires the lock, it resumes the watch from the stored resource version
+   *       instead of listing all jobs again and replaying their statuses.
+   *   <li>The jobs are listed again only when the stored resource version has expired, or once
+   *       every {@code datajobs.status.watch.relist.interval.seconds} in order to detect running
+   *       executions that are no longer present in Kubernetes.
    * </ol>
-   *
-   * @see <a href="https://github.com/lukas-krecan/ShedLock">ShedLock</a>
    */
-  @Scheduled(
-      fixedDelayString = "${datajobs.status.watch.interval:1000}",
-      initialDelayString = "${datajobs.status.watch.initial.delay:10000}")
-  @SchedulerLock(name = "watchJobs_schedulerLock")
   public void watchJobs() {
     dataJobMetrics.incrementWatchTaskInvocations();
-    try {
-      dataJobsKubernetesService.watchJobs(
-          labelsToWatch,
-          s -> {
-            log.info(
-                "Termination message of Data Job {} with execution {}: {}",
-                s.getJobName(),
-                s.getExecutionId(),
-                s.getMainContainerTerminationMessage());
-            dataJobMonitor.recordJobExecutionStatus(s);
-          },
-          jobExecutionService::syncJobExecutionStatuses,
-          lastWatchTime);
+    var watchState = loadWatchState();
+    if (watchJobs(
+        watchState,
+        getLastWatchTime(watchState),
+        null,
+        jobExecution -> true,
+        jobExecutionService::syncJobExecutionStatuses)) {
+      saveWatchState(watchState);
+    }
+  }
+
+  /**
+   * Watches the data jobs once, resuming from the resource version in the specified state if it
+   * is recent enough, and updates the state with the progress of the watch. The caller is
+   * responsible for storing the state.
+   *
+   * @param watchState The state to resume the watch from and to update.
+   * @param lastWatchTime The time of the last completed job watch, expressed in millis since Epoch.
+   *     Used only when the jobs are listed.
+   * @param labelSelectorRequirement An additional requirement of the label selector of the watched
+   *     jobs (e.g. {@code label in (value1,value2)}), or null.
+   * @param jobExecutionFilter Only the statuses of the jobs matching this filter are recorded.
+   * @param runningJobExecutionsConsumer Receives the running executions when the jobs are listed.
+   * @return true if the watch completed and the state was updated, false otherwise.
+   */
+  boolean watchJobs(
+      JobWatchState watchState,
+      long lastWatchTime,
+      String labelSelectorRequirement,
+      Predicate<JobExecution> jobExecutionFilter,
+      Consumer<List<String>> runningJobExecutionsConsumer) {
+    Consumer<JobExecution> watcher =
+        jobExecution -> {
+          if (jobExecutionFilter.test(jobExecution)) {
+            recordJobExecutionStatus(jobExecution);
+          }
+        };
+    String labelSelector = getLabelSelector(labelSelectorRequirement);
+    try (var scope = KubernetesApiSubsystem.MONITORING.enter()) {
+      String resourceVersion;
+      if (isResumable(watchState)) {
+        resourceVersion =
+            dataJobsKubernetesService.resumeWatchJobs(
+                labelSelector, watcher, watchState.getResourceVersion());
+      } else {
+        var listTime = OffsetDateTime.now(ZoneOffset.UTC);
+        resourceVersion =
+            dataJobsKubernetesService.watchJobs(
+                labelSelector, watcher, runningJobExecutionsConsumer, lastWatchTime);
+        watchState.setLastListTime(listTime);
+      }
+      // Make sure all received statuses are recorded before the watch progress is stored
+      jobExecutionStatusQueue.flush();
       // Move the lastWatchTime one minute into the past to account for events that
       // could have happened after the watch has completed until now
-      lastWatchTime = Instant.now().minusMillis(ONE_MINUTE_MILLIS).toEpochMilli();
+      this.lastWatchTime = Instant.now().minusMillis(ONE_MINUTE_MILLIS).toEpochMilli();
+      watchState.setResourceVersion(resourceVersion);
+      watchState.setLastWatchTime(
+          OffsetDateTime.ofInstant(Instant.ofEpochMilli(this.lastWatchTime), ZoneOffset.UTC));
+      return true;
     } catch (IOException ioe) {
       log.info("Failed to watch jobs. Error was: {}", ioe.toString());
     } catch (ApiException ae) {
       log.info("Failed to watch jobs. Error was: {}", new KubernetesException("", ae).toString());
     }
+    return false;
+  }
+
+  /**
+   * Lists the data jobs, without watching them or recording their statuses.
+   *
+   * @param labelSelectorRequirement An additional requirement of the label selector of the listed
+   *     jobs, or null.
+   * @return The ids of the running executions, or null if the jobs could not be listed.
+   */
+  List<String> listRunningJobExecutionIds(String labelSelectorRequirement) {
+    try (var scope = KubernetesApiSubsystem.MONITORING.enter()) {
+      return dataJobsKubernetesService.listRunningJobExecutionIds(
+          getLabelSelector(labelSelectorRequirement));
+    } catch (ApiException ae) {
+      log.info("Failed to list jobs. Error was: {}", new KubernetesException("", ae).toString());
+    }
+    return null;
+  }
+
+  private String getLabelSelector(String labelSelectorRequirement) {
+    return labelSelectorRequirement == null
+        ? labelSelector
+        : labelSelector + "," + labelSelectorRequirement;
+  }
+
+  private void recordJobExecutionStatus(JobExecution jobExecution) {
+    log.info(
+        "Termination message of Data Job {} with execution {}: {}",
+        jobExecution.getJobName(),
+        jobExecution.getExecutionId(),
+        jobExecution.getMainContainerTerminationMessage());
+    jobExecutionStatusQueue.offer(jobExecution);
+  }
+
+  private boolean isResumable(JobWatchState watchState) {
+    return watchState.getResourceVersion() != null
+        && watchState.getLastListTime() != null
+        && watchState
+            .getLastListTime()
+            .plusSeconds(relistIntervalSeconds)
+            .isAfter(OffsetDateTime.now(ZoneOffset.UTC));
+  }
+
+  private long getLastWatchTime(JobWatchState watchState) {
+    if (watchState.getLastWatchTime() == null) {
+      return lastWatchTime;
+    }
+    return Math.max(lastWatchTime, watchState.getLastWatchTime().toInstant().toEpochMilli());
+  }
+
+  private JobWatchState loadWatchState() {
+    try {
+      return jobWatchStateRepository
+          .findById(WATCH_STATE_NAME)
+          .orElseGet(() -> new JobWatchState(WATCH_STATE_NAME));
+    } catch (DataAccessException e) {
+      log.warn("Failed to load the state of the jobs watch. The jobs will be listed again.", e);
+      return new JobWatchState(WATCH_STATE_NAME);
+    }
+  }
+
+  private void saveWatchState(JobWatchState watchState) {
+    try {
+      jobWatchStateRepository.save(watchState);
+    } catch (DataAccessException e) {
+      log.warn("Failed to save the state of the jobs watch.", e);
+    }
   }
 }
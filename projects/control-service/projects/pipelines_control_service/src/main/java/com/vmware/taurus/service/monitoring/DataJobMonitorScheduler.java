@@ -0,0 +1,63 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.monitoring;
+
+import com.vmware.taurus.service.threads.ThreadPoolConf;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Schedules the watch of the data jobs by {@link DataJobMonitorCron}. It is not created when
+ * {@code datajobs.status.watch.sharding.enabled} is set, in which case the work is split amongst
+ * the nodes by {@link ShardedDataJobMonitorCron} instead, without taking the {@code
+ * watchJobs_schedulerLock}.
+ */
+@Component
+@ConditionalOnProperty(
+    value = "datajobs.status.watch.sharding.enabled",
+    havingValue = "false",
+    matchIfMissing = true)
+public class DataJobMonitorScheduler {
+
+  private final DataJobMonitorCron dataJobMonitorCron;
+
+  @Autowired
+  public DataJobMonitorScheduler(DataJobMonitorCron dataJobMonitorCron) {
+    this.dataJobMonitorCron = dataJobMonitorCron;
+  }
+
+  /**
+   * This method is annotated with {@link SchedulerLock} to prevent it from being executed
+   * simultaneously by more than one instance of the service in a multi-node deployment. This aims
+   * to reduce the number of rps to the Kubernetes API as well as to avoid errors due to concurrent
+   * database writes.
+   *
+   * <p>The flow is as follows:
+   *
+   * <ol>
+   *   <li>At any given point only one of the nodes will acquire the lock and execute the method.
+   *   <li>A lock will be held for no longer than 10 minutes (as configured in {@link
+   *       ThreadPoolConf}), which should be enough for a watch to complete (it currently has 5
+   *       minutes timeout).
+   *   <li>The other nodes will skip their schedules until after this node completes.
+   *   <li>When a termination status of a job is updated by the node holding the lock, the other
+   *       nodes will be eventually consistent within 5 seconds (by default) due to the continuous
+   *       updates done here: {@link DataJobMonitorSync#updateDataJobStatus}.
+   * </ol>
+   *
+   * @see <a href="https://github.com/lukas-krecan/ShedLock">ShedLock</a>
+   */
+  @Scheduled(
+      fixedDelayString = "${datajobs.status.watch.interval:1000}",
+      initialDelayString = "${datajobs.status.watch.initial.delay:10000}")
+  @SchedulerLock(name = "watchJobs_schedulerLock")
+  public void watchJobs() {
+    dataJobMonitorCron.watchJobs();
+  }
+}
@@ -10,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Component
@@ -27,6 +28,7 @@ public class DataJobMonitorSync {
   @Scheduled(
       fixedDelayString = "${datajobs.monitoring.sync.interval:5000}",
       initialDelayString = "${datajobs.monitoring.sync.initial.delay:10000}")
+  @Transactional(readOnly = true)
   public void updateDataJobStatus() {
     final var dataJobs = jobsRepository.findAll();
     dataJobMonitor.updateDataJobsGauges(dataJobs);
@@ -5,6 +5,7 @@
 
 package com.vmware.taurus.service.monitoring;
 
+import com.vmware.taurus.service.DataJobCache;
 import com.vmware.taurus.service.JobsRepository;
 import com.vmware.taurus.service.model.DeploymentStatus;
 import io.micrometer.core.instrument.DistributionSummary;
@@ -33,12 +34,16 @@ public class DeploymentMonitor {
 
   private final JobsRepository jobsRepository;
 
+  private final DataJobCache dataJobCache;
+
   private final Map<String, Integer> currentStatuses = new ConcurrentHashMap<>();
 
   @Autowired
-  public DeploymentMonitor(MeterRegistry meterRegistry, JobsRepository jobsRepository) {
+  public DeploymentMonitor(
+      MeterRegistry meterRegistry, JobsRepository jobsRepository, DataJobCache dataJobCache) {
     this.meterRegistry = meterRegistry;
     this.jobsRepository = jobsRepository;
+    this.dataJobCache = dataJobCache;
   }
 
   /**
@@ -84,6 +89,7 @@ public class DeploymentMonitor {
       final String dataJobName, final DeploymentStatus deploymentStatus) {
     if (jobsRepository.updateDataJobLatestJobDeploymentStatusByName(dataJobName, deploymentStatus)
         > 0) {
+      dataJobCache.invalidate(dataJobName);
       return true;
     }
     log.debug("Data job: {} was deleted or hasn't been created", dataJobName);
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.monitoring;
+
+import com.vmware.taurus.service.KubernetesService.JobExecution;
+import com.vmware.taurus.service.execution.JobExecutionResultManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bounded in-memory queue between the Kubernetes job watch and the database. The execution
+ * statuses received from the watch are coalesced by execution id (only the latest status of an
+ * execution is kept) and are recorded in micro-batches by {@link
+ * DataJobMonitor#recordJobExecutionStatuses}.
+ *
+ * <p>The status ordering rules of the database are applied when coalescing, so that a late event of
+ * an execution does not replace a pending status which is further in its lifecycle (e.g. a RUNNING
+ * event received after the SUCCEEDED one).
+ *
+ * <p>The queue is drained periodically and whenever it reaches its capacity. In the latter case
+ * the caller drains the queue itself, which slows down the watch instead of growing the queue
+ * without bound.
+ */
+@Slf4j
+@Component
+public class JobExecutionStatusQueue {
+
+  private final DataJobMonitor dataJobMonitor;
+  private final int capacity;
+  private final int batchSize;
+
+  // Guarded by itself. Keeps the insertion order of the first status of each execution.
+  private final Map<String, JobExecution> pendingStatuses = new LinkedHashMap<>();
+
+  // Serializes the draining of the queue, so that the statuses are recorded in order.
+  private final Object flushLock = new Object();
+
+  @Autowired
+  public JobExecutionStatusQueue(
+      DataJobMonitor dataJobMonitor,
+      @Value("${datajobs.status.queue.capacity:1000}") int capacity,
+      @Value("${datajobs.status.queue.batch.size:100}") int batchSize) {
+    this.dataJobMonitor = dataJobMonitor;
+    this.capacity = capacity;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Adds the execution status to the queue, replacing any pending status of the same execution.
+   *
+   * @param jobExecution The execution status to add.
+   */
+  public void offer(JobExecution jobExecution) {
+    boolean isFull;
+    synchronized (pendingStatuses) {
+      pendingStatuses.merge(getKey(jobExecution), jobExecution, JobExecutionStatusQueue::coalesce);
+      isFull = pendingStatuses.size() >= capacity;
+    }
+
+    if (isFull) {
+      log.debug("Execution status queue reached its capacity of {}. Draining it.", capacity);
+      flush();
+    }
+  }
+
+  /** Records all pending execution statuses in batches of up to the configured batch size. */
+  @Scheduled(fixedDelayString = "${datajobs.status.queue.flush.interval:1000}")
+  public void flush() {
+    synchronized (flushLock) {
+      List<JobExecution> batch;
+      while (!(batch = pollBatch()).isEmpty()) {
+        recordBatch(batch);
+      }
+    }
+  }
+
+  int size() {
+    synchronized (pendingStatuses) {
+      return pendingStatuses.size();
+    }
+  }
+
+  private List<JobExecution> pollBatch() {
+    synchronized (pendingStatuses) {
+      var batch = new ArrayList<JobExecution>(Math.min(batchSize, pendingStatuses.size()));
+      var iterator = pendingStatuses.values().iterator();
+      while (iterator.hasNext() && batch.size() < batchSize) {
+        batch.add(iterator.next());
+        iterator.remove();
+      }
+      return batch;
+    }
+  }
+
+  private void recordBatch(List<JobExecution> batch) {
+    try {
+      dataJobMonitor.recordJobExecutionStatuses(batch);
+    } catch (RuntimeException e) {
+      // A single invalid status would roll back the whole batch,
+      // so fall back to recording the statuses one by one.
+      log.warn(
+          "Failed to record a batch of {} execution statuses. Recording them one by one.",
+          batch.size(),
+          e);
+      batch.forEach(this::recordSingle);
+    }
+  }
+
+  private void recordSingle(JobExecution jobExecution) {
+    try {
+      dataJobMonitor.recordJobExecutionStatus(jobExecution);
+    } catch (RuntimeException e) {
+      log.warn("Failed to record execution status: {}", jobExecution, e);
+    }
+  }
+
+  /**
+   * @return The status to keep out of the pending and the newly received status of an execution.
+   */
+  static JobExecution coalesce(JobExecution pending, JobExecution received) {
+    if (getLifecycleStage(received) < getLifecycleStage(pending)) {
+      log.debug("Ignoring the out of order execution status {}, {} is pending", received, pending);
+      return pending;
+    }
+    return received;
+  }
+
+  /**
+   * Mirrors the status ordering of {@link
+   * com.vmware.taurus.service.execution.JobExecutionService#updateJobExecution}: a final status is
+   * never replaced, while a platform error may be retried and is thus equivalent to running.
+   */
+  private static int getLifecycleStage(JobExecution jobExecution) {
+    var status = JobExecutionResultManager.getResult(jobExecution).getExecutionStatus();
+    switch (status) {
+      case SUBMITTED:
+        return 0;
+      case RUNNING:
+      case PLATFORM_ERROR:
+        return 1;
+      default:
+        return 2;
+    }
+  }
+
+  private static String getKey(JobExecution jobExecution) {
+    return jobExecution.getJobName() + "/" + jobExecution.getExecutionId();
+  }
+}
@@ -0,0 +1,446 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.monitoring;
+
+import com.vmware.taurus.service.JobMonitorMemberRepository;
+import com.vmware.taurus.service.JobWatchStateRepository;
+import com.vmware.taurus.service.execution.JobExecutionService;
+import com.vmware.taurus.service.model.JobLabel;
+import com.vmware.taurus.service.model.JobMonitorMember;
+import com.vmware.taurus.service.model.JobWatchState;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.SystemUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Splits the monitoring of data job executions amongst the instances of the service. It replaces
+ * the single {@code watchJobs_schedulerLock} of {@link DataJobMonitorScheduler} when {@code
+ * datajobs.status.watch.sharding.enabled} is set.
+ *
+ * <p>The data jobs are split into {@code datajobs.status.watch.shards} shards by the hash of their
+ * name. Each shard is leased through a ShedLock lock in the database. The flow is as follows:
+ *
+ * <ol>
+ *   <li>Each instance records a heartbeat in the database (see {@link JobMonitorMember}) every
+ *       {@code datajobs.status.watch.member.heartbeat.interval} milliseconds, which also extends
+ *       the leases of its shards. The instances with a heartbeat within {@code
+ *       datajobs.status.watch.member.timeout.seconds} are the members of the group. The leases of
+ *       a member which stops (or fails) expire within the same timeout, so that its shards are
+ *       taken over by the remaining members.
+ *   <li>Each member leases up to its fair share of the shards (the number of shards divided by the
+ *       number of members), starting with the shards assigned to it by its position amongst the
+ *       members, and keeps the leases across the watches. A member which joins or leaves the group
+ *       changes the fair share, so the members above it release their surplus shards on their next
+ *       watch and the members below it lease the released ones.
+ *   <li>Each member watches only the jobs in its shards, selected by the {@link
+ *       JobLabel#MONITORING_SHARD} label of the jobs. The progress of the watch is stored per
+ *       shard (see {@link JobWatchState}). When the jobs are listed, the member also synchronizes
+ *       the running executions of the data jobs in its shards.
+ *   <li>The member holding shard 0 also watches the jobs without the label (of the data jobs
+ *       deployed before it was introduced) with a separate watch and state, selected by the
+ *       absence of the label. As these jobs may belong to any shard, each member lists the running
+ *       ones before synchronizing the running executions.
+ * </ol>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "datajobs.status.watch.sharding.enabled", havingValue = "true")
+public class ShardedDataJobMonitorCron {
+
+  static final String SHARD_LOCK_PREFIX = "watchJobs_shard_";
+
+  /**
+   * The data jobs are labelled by one of this many buckets, and each shard consists of the buckets
+   * congruent to it modulo the number of shards. The buckets do not depend on the number of
+   * shards, so it can be changed without relabelling the jobs.
+   */
+  static final int SHARD_BUCKETS = 256;
+
+  /** The name of the state of the watch of the jobs without the shard label. */
+  static final String UNLABELLED_WATCH_STATE_NAME = "watchJobs_unlabelled";
+
+  /** Selects the jobs without the shard label. */
+  static final String UNLABELLED_LABEL_SELECTOR = "!" + JobLabel.MONITORING_SHARD.getValue();
+
+  private static final long INITIAL_WATCH_TIME_OFFSET_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+  private final DataJobMonitorCron dataJobMonitorCron;
+  private final JobExecutionService jobExecutionService;
+  private final DataJobMetrics dataJobMetrics;
+  private final LockProvider lockProvider;
+  private final JobMonitorMemberRepository jobMonitorMemberRepository;
+  private final JobWatchStateRepository jobWatchStateRepository;
+  private final int shardCount;
+  private final Duration memberTimeout;
+  private final String memberId;
+  private final Map<Integer, SimpleLock> heldShardLocks = new TreeMap<>();
+
+  @Autowired
+  public ShardedDataJobMonitorCron(
+      DataJobMonitorCron dataJobMonitorCron,
+      JobExecutionService jobExecutionService,
+      DataJobMetrics dataJobMetrics,
+      LockProvider lockProvider,
+      JobMonitorMemberRepository jobMonitorMemberRepository,
+      JobWatchStateRepository jobWatchStateRepository,
+      @Value("${datajobs.status.watch.shards:16}") int shardCount,
+      @Value("${datajobs.status.watch.member.timeout.seconds:90}") long memberTimeoutSeconds) {
+    if (shardCount < 1 || shardCount > SHARD_BUCKETS) {
+      throw new IllegalArgumentException(
+          "The number of shards (datajobs.status.watch.shards) must be between 1 and "
+              + SHARD_BUCKETS
+              + ".");
+    }
+    this.dataJobMonitorCron = dataJobMonitorCron;
+    this.jobExecutionService = jobExecutionService;
+    this.dataJobMetrics = dataJobMetrics;
+    this.lockProvider = lockProvider;
+    this.jobMonitorMemberRepository = jobMonitorMemberRepository;
+    this.jobWatchStateRepository = jobWatchStateRepository;
+    this.shardCount = shardCount;
+    this.memberTimeout = Duration.ofSeconds(memberTimeoutSeconds);
+    this.memberId = SystemUtils.getHostName() + "-" + UUID.randomUUID();
+    log.info(
+        "Sharded Data Job Monitor initialized with {} shards as member {}", shardCount, memberId);
+  }
+
+  @Scheduled(
+      fixedDelayString = "${datajobs.status.watch.interval:1000}",
+      initialDelayString = "${datajobs.status.watch.initial.delay:10000}")
+  public void watchJobs() {
+    dataJobMetrics.incrementWatchTaskInvocations();
+
+    recordHeartbeat();
+    var shards = acquireShards(getMembers());
+    if (shards.isEmpty()) {
+      log.debug("No monitoring shards were acquired by member {}", memberId);
+      return;
+    }
+
+    log.debug("Member {} holds monitoring shards {}", memberId, shards);
+    watchShards(shards);
+  }
+
+  /**
+   * Watches the jobs without the shard label, if the member holds shard 0. It is scheduled
+   * separately, so that this watch does not delay the watch of the shards.
+   */
+  @Scheduled(
+      fixedDelayString = "${datajobs.status.watch.interval:1000}",
+      initialDelayString = "${datajobs.status.watch.initial.delay:10000}")
+  public void watchUnlabelledJobs() {
+    synchronized (heldShardLocks) {
+      if (!heldShardLocks.containsKey(0)) {
+        return;
+      }
+    }
+
+    var state = loadUnlabelledWatchState();
+    if (dataJobMonitorCron.watchJobs(
+        state,
+        getLastWatchTime(List.of(state)),
+        UNLABELLED_LABEL_SELECTOR,
+        jobExecution -> true,
+        ids -> {})) {
+      try {
+        jobWatchStateRepository.save(state);
+      } catch (DataAccessException e) {
+        log.warn("Failed to save the state of the watch of the jobs without shard label.", e);
+      }
+    }
+  }
+
+  /**
+   * Records the heartbeat of the member and extends the leases of its shards, independently of
+   * the watch, which lasts for up to 5 minutes.
+   */
+  @Scheduled(
+      fixedDelayString = "${datajobs.status.watch.member.heartbeat.interval:30000}",
+      initialDelayString = "${datajobs.status.watch.member.heartbeat.interval:30000}")
+  public void heartbeat() {
+    if (recordHeartbeat()) {
+      extendShards();
+    }
+  }
+
+  @PreDestroy
+  void leave() {
+    releaseShards(Integer.MAX_VALUE);
+    try {
+      jobMonitorMemberRepository.deleteById(memberId);
+    } catch (RuntimeException e) {
+      log.info("Failed to remove member {} from the sharded monitoring: {}", memberId, e.toString());
+    }
+  }
+
+  /**
+   * @return The bucket of the data job with the specified name, which is the value of the {@link
+   *     JobLabel#MONITORING_SHARD} label of its jobs.
+   */
+  public static int getShardBucket(String dataJobName) {
+    return Math.floorMod(StringUtils.defaultString(dataJobName).hashCode(), SHARD_BUCKETS);
+  }
+
+  /**
+   * @return The shard of the data job with the specified name.
+   */
+  static int getShard(String dataJobName, int shardCount) {
+    return getShardBucket(dataJobName) % shardCount;
+  }
+
+  /**
+   * Returns the label selector requirement which selects the jobs in the specified shards, or the
+   * jobs with the shard label if all shards are specified.
+   */
+  static String getShardLabelSelector(Collection<Integer> shards, int shardCount) {
+    if (shards.size() >= shardCount) {
+      return JobLabel.MONITORING_SHARD.getValue();
+    }
+    return IntStream.range(0, SHARD_BUCKETS)
+        .filter(bucket -> shards.contains(bucket % shardCount))
+        .mapToObj(String::valueOf)
+        .collect(
+            Collectors.joining(",", JobLabel.MONITORING_SHARD.getValue() + " in (", ")"));
+  }
+
+  /**
+   * Returns the order in which the member at the specified position should try to lease the
+   * shards. The shards assigned to the member (every n-th shard starting from its position) come
+   * first, followed by the rest of the shards.
+   */
+  static List<Integer> getShardAcquisitionOrder(int memberIndex, int memberCount, int shardCount) {
+    return IntStream.range(0, shardCount)
+        .boxed()
+        .sorted(Comparator.comparing(shard -> shard % memberCount != memberIndex))
+        .collect(Collectors.toList());
+  }
+
+  private boolean recordHeartbeat() {
+    var now = OffsetDateTime.now(ZoneOffset.UTC);
+    try {
+      jobMonitorMemberRepository.save(new JobMonitorMember(memberId, now));
+      jobMonitorMemberRepository.deleteByHeartbeatTimeBefore(now.minus(memberTimeout));
+      return true;
+    } catch (DataAccessException e) {
+      log.warn("Failed to record the heartbeat of member {}.", memberId, e);
+      return false;
+    }
+  }
+
+  private List<String> getMembers() {
+    var now = OffsetDateTime.now(ZoneOffset.UTC);
+    try {
+      var members =
+          jobMonitorMemberRepository
+              .findByHeartbeatTimeAfterOrderByMemberId(now.minus(memberTimeout))
+              .stream()
+              .map(JobMonitorMember::getMemberId)
+              .collect(Collectors.toList());
+      return members.contains(memberId) ? members : List.of(memberId);
+    } catch (DataAccessException e) {
+      log.warn("Failed to read the members of the sharded monitoring.", e);
+      return List.of(memberId);
+    }
+  }
+
+  private List<Integer> acquireShards(List<String> members) {
+    int memberCount = members.size();
+    int fairShare = (shardCount + memberCount - 1) / memberCount;
+
+    synchronized (heldShardLocks) {
+      var acquisitionOrder =
+          getShardAcquisitionOrder(members.indexOf(memberId), memberCount, shardCount);
+      releaseShards(heldShardLocks.size() - fairShare, acquisitionOrder);
+      for (int shard : acquisitionOrder) {
+        if (heldShardLocks.size() >= fairShare) {
+          break;
+        }
+        if (heldShardLocks.containsKey(shard)) {
+          continue;
+        }
+        // The lease expires unless it is extended by the heartbeat of the member
+        var lockConfiguration =
+            new LockConfiguration(
+                Instant.now(), getShardName(shard), memberTimeout, Duration.ZERO);
+        final int acquiredShard = shard;
+        lockProvider
+            .lock(lockConfiguration)
+            .ifPresent(lock -> heldShardLocks.put(acquiredShard, lock));
+      }
+      return new ArrayList<>(heldShardLocks.keySet());
+    }
+  }
+
+  private void extendShards() {
+    synchronized (heldShardLocks) {
+      for (var iterator = heldShardLocks.entrySet().iterator(); iterator.hasNext(); ) {
+        var entry = iterator.next();
+        try {
+          var extendedLock = entry.getValue().extend(memberTimeout, Duration.ZERO);
+          if (extendedLock.isPresent()) {
+            entry.setValue(extendedLock.get());
+          } else {
+            log.warn("The lease of monitoring shard {} has expired", entry.getKey());
+            iterator.remove();
+          }
+        } catch (RuntimeException e) {
+          log.warn("Failed to extend the lease of monitoring shard {}", entry.getKey(), e);
+        }
+      }
+    }
+  }
+
+  private void releaseShards(int count) {
+    synchronized (heldShardLocks) {
+      releaseShards(count, List.copyOf(heldShardLocks.keySet()));
+    }
+  }
+
+  /**
+   * Releases up to the specified number of the held shards, the last ones in the acquisition order
+   * first, so that the shards assigned to the member are kept.
+   */
+  private void releaseShards(int count, List<Integer> acquisitionOrder) {
+    synchronized (heldShardLocks) {
+      for (int i = acquisitionOrder.size() - 1; i >= 0 && count > 0; i--) {
+        int shard = acquisitionOrder.get(i);
+        var lock = heldShardLocks.remove(shard);
+        if (lock == null) {
+          continue;
+        }
+        count--;
+        try {
+          lock.unlock();
+        } catch (RuntimeException e) {
+          log.warn("Failed to release the lease of monitoring shard {}", shard, e);
+        }
+      }
+    }
+  }
+
+  private void watchShards(List<Integer> shards) {
+    var shardNames = shards.stream().map(this::getShardName).collect(Collectors.toList());
+    var shardStates =
+        jobWatchStateRepository.findAllById(shardNames).stream()
+            .collect(Collectors.toMap(JobWatchState::getName, state -> state));
+    var states =
+        shardNames.stream()
+            .map(name -> shardStates.getOrDefault(name, new JobWatchState(name)))
+            .collect(Collectors.toList());
+
+    var watchState = mergeStates(states);
+    Predicate<String> jobNameFilter = jobName -> shards.contains(getShard(jobName, shardCount));
+    Consumer<List<String>> runningJobExecutionsConsumer =
+        runningIds -> syncJobExecutionStatuses(runningIds, jobNameFilter);
+
+    if (dataJobMonitorCron.watchJobs(
+        watchState,
+        getLastWatchTime(states),
+        getShardLabelSelector(shards, shardCount),
+        jobExecution -> jobNameFilter.test(jobExecution.getJobName()),
+        runningJobExecutionsConsumer)) {
+      states.forEach(
+          state -> {
+            state.setResourceVersion(watchState.getResourceVersion());
+            state.setLastListTime(watchState.getLastListTime());
+            state.setLastWatchTime(watchState.getLastWatchTime());
+          });
+      try {
+        jobWatchStateRepository.saveAll(states);
+      } catch (DataAccessException e) {
+        log.warn("Failed to save the state of the jobs watch.", e);
+      }
+    }
+  }
+
+  /**
+   * Synchronizes the running executions of the data jobs in the shards of the member. The running
+   * jobs without the shard label are listed as well, as they are not selected by the shards.
+   */
+  private void syncJobExecutionStatuses(
+      List<String> runningJobExecutionIds, Predicate<String> jobNameFilter) {
+    var unlabelledRunningIds =
+        dataJobMonitorCron.listRunningJobExecutionIds(UNLABELLED_LABEL_SELECTOR);
+    if (runningJobExecutionIds == null || unlabelledRunningIds == null) {
+      return;
+    }
+    var runningIds = new ArrayList<>(runningJobExecutionIds);
+    runningIds.addAll(unlabelledRunningIds);
+    jobExecutionService.syncJobExecutionStatuses(runningIds, jobNameFilter);
+  }
+
+  private JobWatchState loadUnlabelledWatchState() {
+    try {
+      return jobWatchStateRepository
+          .findById(UNLABELLED_WATCH_STATE_NAME)
+          .orElseGet(() -> new JobWatchState(UNLABELLED_WATCH_STATE_NAME));
+    } catch (DataAccessException e) {
+      log.warn("Failed to load the state of the watch of the jobs without shard label.", e);
+      return new JobWatchState(UNLABELLED_WATCH_STATE_NAME);
+    }
+  }
+
+  /**
+   * The watch can be resumed only if all shards were last watched from the same resource version.
+   * Otherwise, the jobs are listed again.
+   */
+  private static JobWatchState mergeStates(List<JobWatchState> states) {
+    var resourceVersions =
+        states.stream().map(JobWatchState::getResourceVersion).distinct().collect(Collectors.toList());
+    var lastListTime =
+        states.stream().anyMatch(state -> state.getLastListTime() == null)
+            ? null
+            : states.stream()
+                .map(JobWatchState::getLastListTime)
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+
+    var watchState = new JobWatchState();
+    watchState.setResourceVersion(resourceVersions.size() == 1 ? resourceVersions.get(0) : null);
+    watchState.setLastListTime(lastListTime);
+    return watchState;
+  }
+
+  private static long getLastWatchTime(List<JobWatchState> states) {
+    var initialWatchTime = Instant.now().toEpochMilli() - INITIAL_WATCH_TIME_OFFSET_MILLIS;
+    return states.stream()
+        .map(JobWatchState::getLastWatchTime)
+        .map(time -> time == null ? initialWatchTime : time.toInstant().toEpochMilli())
+        .min(Long::compare)
+        .orElse(initialWatchTime);
+  }
+
+  private String getShardName(int shard) {
+    return SHARD_LOCK_PREFIX + shard;
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.schedule;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.model.time.ExecutionTime;
+import com.cronutils.parser.CronParser;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+/**
+ * A cache of the parsed cron expressions of the data job schedules (in UTC). Parsing a cron
+ * expression costs far more than computing its next execution, and the data jobs share relatively
+ * few distinct schedules, so each expression is parsed once instead of on every computation.
+ */
+@Component
+public class CronScheduleCache {
+
+  private static final CronParser CRON_PARSER =
+      new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX));
+
+  private final LoadingCache<String, ExecutionTime> executionTimes;
+
+  @Autowired
+  public CronScheduleCache(
+      @Value("${datajobs.schedule.cronCache.maximumSize:10000}") long maximumSize) {
+    this.executionTimes =
+        CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .build(CacheLoader.from(cron -> ExecutionTime.forCron(CRON_PARSER.parse(cron))));
+  }
+
+  /**
+   * Returns the next execution of the cron expression after the specified time.
+   *
+   * @throws IllegalArgumentException if the cron expression is invalid
+   */
+  public Optional<ZonedDateTime> nextExecution(String scheduleCron, ZonedDateTime date) {
+    try {
+      return executionTimes.getUnchecked(scheduleCron).nextExecution(date);
+    } catch (UncheckedExecutionException e) {
+      if (e.getCause() instanceof IllegalArgumentException) {
+        throw (IllegalArgumentException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Returns the next run of the schedule after the specified time, or null if the schedule is
+   * blank or invalid.
+   */
+  public OffsetDateTime nextRunTime(String scheduleCron, OffsetDateTime date) {
+    if (StringUtils.isBlank(scheduleCron)) {
+      return null;
+    }
+    try {
+      return nextExecution(scheduleCron, date.atZoneSameInstant(ZoneOffset.UTC))
+          .map(ZonedDateTime::toOffsetDateTime)
+          .orElse(null);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.schedule;
+
+import com.vmware.taurus.service.JobsRepository;
+import com.vmware.taurus.service.model.DataJob;
+import com.vmware.taurus.service.model.DataJobNameAndSchedule;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the next run times of the data jobs (the next_run_time column of the data_job table),
+ * so that the data jobs can be filtered and sorted by their next run in the database, without
+ * parsing the schedule of every data job on every query.
+ *
+ * <p>The next run time of a data job is set when the data job is saved, and then advanced by a
+ * background task as its schedule fires. A next run time is therefore in the past by at most {@code
+ * datajobs.schedule.nextRunTime.updateIntervalMillis}. It is null if the data job has no (valid)
+ * schedule.
+ */
+@Slf4j
+@Service
+public class DataJobNextRunService {
+
+  private final JobsRepository jobsRepository;
+  private final CronScheduleCache cronScheduleCache;
+
+  @Autowired
+  public DataJobNextRunService(
+      JobsRepository jobsRepository, CronScheduleCache cronScheduleCache) {
+    this.jobsRepository = jobsRepository;
+    this.cronScheduleCache = cronScheduleCache;
+  }
+
+  /** Sets the next run time of the data job by its schedule, before the data job is saved. */
+  public void updateNextRunTime(DataJob dataJob) {
+    String schedule = dataJob.getJobConfig() == null ? null : dataJob.getJobConfig().getSchedule();
+    dataJob.setNextRunTime(cronScheduleCache.nextRunTime(schedule, now()));
+  }
+
+  /**
+   * Advances the next run times which have passed (or are not computed yet, e.g. of the data jobs
+   * created before the column). The data jobs with the same schedule are updated by one statement.
+   */
+  @SchedulerLock(name = "advanceNextRunTimesTask")
+  @Scheduled(fixedDelayString = "${datajobs.schedule.nextRunTime.updateIntervalMillis:60000}")
+  public void advanceNextRunTimes() {
+    try {
+      var now = now();
+      Map<String, List<String>> jobNamesBySchedule =
+          jobsRepository.findDataJobSchedulesByNextRunTimeNotAfter(now).stream()
+              .collect(
+                  Collectors.groupingBy(
+                      DataJobNameAndSchedule::getSchedule,
+                      Collectors.mapping(DataJobNameAndSchedule::getName, Collectors.toList())));
+      int updated = 0;
+      for (var entry : jobNamesBySchedule.entrySet()) {
+        var nextRunTime = cronScheduleCache.nextRunTime(entry.getKey(), now);
+        if (nextRunTime != null) {
+          updated +=
+              jobsRepository.updateDataJobNextRunTimeByNameInAndSchedule(
+                  entry.getValue(), entry.getKey(), nextRunTime);
+        }
+      }
+      log.debug("Advanced the next run times of {} data jobs", updated);
+    } catch (Exception e) {
+      log.warn("Failed to advance the next run times of the data jobs", e);
+    }
+  }
+
+  private static OffsetDateTime now() {
+    return OffsetDateTime.now(ZoneOffset.UTC);
+  }
+}
@@ -0,0 +1,8 @@
+create table if not exists job_watch_state (
+    name varchar primary key,
+    resource_version varchar,
+    last_list_time timestamp,
+    last_watch_time timestamp
+);
+
+COMMENT ON TABLE job_watch_state IS 'Kubernetes watch progress shared by the service instances holding the shedlock of the watch';
@@ -0,0 +1,6 @@
+create table if not exists job_monitor_member (
+    member_id varchar primary key,
+    heartbeat_time timestamp not null
+);
+
+COMMENT ON TABLE job_monitor_member IS 'Service instances taking part in the sharded monitoring of data job executions';
@@ -0,0 +1,2 @@
+create index if not exists idx_data_job_execution_start_time_id
+    on data_job_execution (start_time, id);
@@ -0,0 +1,27 @@
+create table if not exists data_job_execution_stats (
+    job_name varchar primary key references data_job (name) on delete cascade,
+    succeeded_count bigint not null default 0,
+    cancelled_count bigint not null default 0,
+    skipped_count bigint not null default 0,
+    user_error_count bigint not null default 0,
+    platform_error_count bigint not null default 0,
+    last_durations varchar,
+    duration_p50_seconds bigint,
+    duration_p95_seconds bigint,
+    last_updated timestamp
+);
+
+COMMENT ON TABLE data_job_execution_stats IS 'Execution statistics per data job, updated when an execution finishes';
+COMMENT ON COLUMN data_job_execution_stats.last_durations IS 'Comma-separated durations in seconds of the last finished executions, oldest first';
+
+-- The counts start from the executions which are still stored, the durations are collected from now on.
+insert into data_job_execution_stats
+    (job_name, succeeded_count, cancelled_count, skipped_count, user_error_count, platform_error_count)
+select job_name,
+       sum(case when status = 2 then 1 else 0 end),
+       sum(case when status = 4 then 1 else 0 end),
+       sum(case when status = 5 then 1 else 0 end),
+       sum(case when status = 6 then 1 else 0 end),
+       sum(case when status in (3, 7) then 1 else 0 end)
+from data_job_execution
+group by job_name;
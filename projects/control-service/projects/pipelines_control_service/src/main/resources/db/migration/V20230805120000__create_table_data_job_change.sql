@@ -0,0 +1,9 @@
+create table if not exists data_job_change (
+    id varchar primary key,
+    job_name varchar not null,
+    change_time timestamp with time zone not null
+);
+
+create index if not exists data_job_change_change_time_idx on data_job_change (change_time);
+
+COMMENT ON TABLE data_job_change IS 'Recent changes of data jobs, polled by the service instances to invalidate their data job caches';
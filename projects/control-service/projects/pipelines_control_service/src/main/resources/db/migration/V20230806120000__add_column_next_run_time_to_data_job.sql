@@ -0,0 +1,7 @@
+alter table if exists data_job
+    add column if not exists next_run_time timestamp with time zone;
+
+create index if not exists idx_data_job_next_run_time
+    on data_job (next_run_time);
+
+COMMENT ON COLUMN data_job.next_run_time IS 'The next run of the schedule of the data job, advanced by the service as the schedule fires';
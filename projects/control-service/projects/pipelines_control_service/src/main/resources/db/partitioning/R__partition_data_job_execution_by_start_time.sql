@@ -0,0 +1,107 @@
+-- Converts data_job_execution into a table partitioned by the month of start_time, so that the
+-- executions past their retention are removed by dropping whole partitions (see
+-- JobExecutionPartitionService) instead of deleting rows.
+-- This location is migrated only if datajobs.executions.partitioning.enabled is set and it requires
+-- PostgreSQL 11 or newer. It is idempotent, so it can be enabled at any time: the table is converted
+-- only if it is not partitioned yet. The months_ahead placeholder is set from
+-- datajobs.executions.partitioning.monthsAhead.
+--
+-- The primary key of a partitioned table must include the partition key, so it becomes
+-- (id, start_time) and no longer makes the execution ids unique on its own. The new executions are
+-- inserted without looking them up first, so a duplicate id would silently add a second row with
+-- another start time. The ids are therefore also kept in the data_job_execution_id table, whose
+-- primary key rejects a duplicate id as loudly as the original primary key did. The trade-off is an
+-- extra index entry written by a trigger with every execution, and the ids of a partition have to
+-- be deleted from data_job_execution_id when the partition is removed (see
+-- JobExecutionPartitionService), which is a delete of as many rows as the partition holds.
+DO $$
+DECLARE
+    month_start timestamp;
+    last_month_start timestamp;
+BEGIN
+    IF EXISTS (SELECT 1
+               FROM pg_partitioned_table pt
+                        JOIN pg_class c ON c.oid = pt.partrelid
+               WHERE c.relname = 'data_job_execution') THEN
+        RETURN;
+    END IF;
+
+    LOCK TABLE data_job_execution IN ACCESS EXCLUSIVE MODE;
+
+    -- The partition key is part of the primary key, so it cannot be null.
+    UPDATE data_job_execution SET start_time = coalesce(end_time, now()) WHERE start_time IS NULL;
+    ALTER TABLE data_job_execution RENAME TO data_job_execution_unpartitioned;
+
+    CREATE TABLE data_job_execution
+        (LIKE data_job_execution_unpartitioned INCLUDING DEFAULTS INCLUDING COMMENTS)
+        PARTITION BY RANGE (start_time);
+
+    SELECT date_trunc('month', coalesce(min(start_time), now()))
+    INTO month_start
+    FROM data_job_execution_unpartitioned;
+    last_month_start := date_trunc('month', now()) + make_interval(months => ${months_ahead});
+    WHILE month_start <= last_month_start LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF data_job_execution FOR VALUES FROM (%L) TO (%L)',
+                       'data_job_execution_p' || to_char(month_start, 'YYYYMM'),
+                       month_start,
+                       month_start + interval '1 month');
+        month_start := month_start + interval '1 month';
+    END LOOP;
+    -- Catches the executions outside of the monthly partitions, for example if the partitions of
+    -- the next months have not been created in time.
+    CREATE TABLE data_job_execution_default PARTITION OF data_job_execution DEFAULT;
+
+    INSERT INTO data_job_execution SELECT * FROM data_job_execution_unpartitioned;
+    DROP TABLE data_job_execution_unpartitioned;
+
+    ALTER TABLE data_job_execution ADD PRIMARY KEY (id, start_time);
+    ALTER TABLE data_job_execution
+        ADD FOREIGN KEY (job_name) REFERENCES data_job (name) ON DELETE CASCADE;
+    CREATE INDEX idx_data_job_execution_job_name_start_time
+        ON data_job_execution (job_name ASC, start_time DESC);
+    CREATE INDEX idx_data_job_execution_job_name_end_time
+        ON data_job_execution (job_name ASC, end_time DESC);
+    CREATE INDEX idx_data_job_execution_start_time_id
+        ON data_job_execution (start_time, id);
+END
+$$;
+
+-- The guard of the uniqueness of the execution ids, separate from the conversion above, so that it
+-- is also added to the tables which were partitioned before it existed.
+CREATE OR REPLACE FUNCTION data_job_execution_id_insert() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO data_job_execution_id (id) VALUES (NEW.id);
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION data_job_execution_id_delete() RETURNS trigger AS $$
+BEGIN
+    DELETE FROM data_job_execution_id WHERE id = OLD.id;
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_class WHERE relname = 'data_job_execution_id') THEN
+        RETURN;
+    END IF;
+
+    LOCK TABLE data_job_execution IN SHARE ROW EXCLUSIVE MODE;
+
+    CREATE TABLE data_job_execution_id (id varchar PRIMARY KEY);
+    COMMENT ON TABLE data_job_execution_id IS
+        'The ids of the data_job_execution rows, unique unlike in the partitioned table';
+    -- Fails if there are already duplicate ids, which have to be resolved first.
+    INSERT INTO data_job_execution_id (id) SELECT id FROM data_job_execution;
+
+    -- A row moved to another partition by an update of its start time is deleted and inserted.
+    CREATE TRIGGER data_job_execution_id_insert
+        AFTER INSERT ON data_job_execution
+        FOR EACH ROW EXECUTE FUNCTION data_job_execution_id_insert();
+    CREATE TRIGGER data_job_execution_id_delete
+        AFTER DELETE ON data_job_execution
+        FOR EACH ROW EXECUTE FUNCTION data_job_execution_id_delete();
+END
+$$;
@@ -0,0 +1,13 @@
+-- Creates trigram indexes on the columns of data_job searched by the jobs query, which searches
+-- them by lower(column) LIKE '%search%' (a leading wildcard cannot use a btree index).
+-- This location is migrated only if datajobs.search.trigramIndexes.enabled is set and it requires
+-- the pg_trgm extension (PostgreSQL, or CockroachDB 22.2 or newer). It is idempotent, so it can be
+-- enabled at any time.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS data_job_name_trgm_idx
+    ON data_job USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS data_job_team_trgm_idx
+    ON data_job USING gin (lower(team) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS data_job_description_trgm_idx
+    ON data_job USING gin (lower(description) gin_trgm_ops);
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.datajobs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vmware.taurus.ControlplaneApplication;
+import com.vmware.taurus.RepositoryUtil;
+import com.vmware.taurus.service.DataJobDeletionService;
+import com.vmware.taurus.service.JobExecutionRepository;
+import com.vmware.taurus.service.JobsRepository;
+import com.vmware.taurus.service.model.ExecutionStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ActiveProfiles({"MockKubernetes", "MockKerberos", "unittest", "MockGit", "MockTelemetry"})
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.MOCK,
+    classes = ControlplaneApplication.class,
+    properties = {"datajobs.deletion.backgroundExecutionsThreshold=1"})
+@AutoConfigureMockMvc
+public class DataJobsControllerBackgroundDeletionIT {
+
+  private static final String TEST_TEAM_NAME = "test-team";
+  private static final String TEST_JOB_NAME = "background-deleted-job";
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private JobsRepository jobsRepository;
+
+  @Autowired private JobExecutionRepository jobExecutionRepository;
+
+  @Autowired private DataJobDeletionService dataJobDeletionService;
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  @Test
+  @WithMockUser
+  public void testRecreateDataJob_duringBackgroundDeletion_shouldConflict() throws Exception {
+    String jobsPath = String.format("/data-jobs/for-team/%s/jobs", TEST_TEAM_NAME);
+    String jobPath = String.format("%s/%s", jobsPath, TEST_JOB_NAME);
+    String body = mapper.writeValueAsString(TestUtils.getDataJob(TEST_TEAM_NAME, TEST_JOB_NAME));
+    mockMvc
+        .perform(post(jobsPath).content(body).contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isCreated());
+    var dataJob = jobsRepository.findById(TEST_JOB_NAME).orElseThrow();
+    for (int i = 0; i < 2; i++) {
+      RepositoryUtil.createDataJobExecution(
+          jobExecutionRepository, TEST_JOB_NAME + "-" + i, dataJob, ExecutionStatus.SUCCEEDED);
+    }
+
+    // The data job is being deleted in the background, e.g. by another instance of the service
+    var deletionLock = dataJobDeletionService.lockBackgroundDeletion(TEST_JOB_NAME).orElseThrow();
+    try {
+      mockMvc
+          .perform(delete(jobPath).contentType(MediaType.APPLICATION_JSON))
+          .andExpect(status().isAccepted());
+      mockMvc.perform(get(jobPath)).andExpect(status().isOk());
+      mockMvc
+          .perform(post(jobsPath).content(body).contentType(MediaType.APPLICATION_JSON))
+          .andExpect(status().isConflict())
+          .andExpect(content().string(containsString("is currently being deleted")));
+    } finally {
+      deletionLock.unlock();
+    }
+
+    mockMvc
+        .perform(delete(jobPath).contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isAccepted());
+    for (int i = 0; i < 100 && jobsRepository.existsById(TEST_JOB_NAME); i++) {
+      Thread.sleep(100);
+    }
+    Assertions.assertFalse(jobsRepository.existsById(TEST_JOB_NAME));
+    Assertions.assertEquals(
+        0, jobExecutionRepository.countDataJobExecutionsByDataJobName(TEST_JOB_NAME));
+
+    mockMvc.perform(get(jobPath)).andExpect(status().isNotFound());
+    mockMvc
+        .perform(post(jobsPath).content(body).contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isCreated());
+    mockMvc
+        .perform(delete(jobPath).contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk());
+  }
+}
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
@@ -25,6 +26,9 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ActiveProfiles({"MockKubernetes", "MockKerberos", "unittest", "MockTelemetry"})
@@ -105,4 +109,111 @@ public class DataJobsExecutionControllerIT {
             TEST_TEAM_NAME, TEST_JOB_NAME, "no-exec");
     mockMvc.perform(get(url)).andExpect(status().isNotFound());
   }
+
+  @Test
+  @WithMockUser
+  @DirtiesContext
+  public void testDataJobExecutionLogsStream() throws Exception {
+    String url = getLogsStreamUrl(startExecution());
+
+    mockMvc
+        .perform(get(url))
+        .andExpect(status().isOk())
+        .andExpect(content().string(MockKubernetes.MOCK_LOGS));
+    mockMvc
+        .perform(get(url).header(HttpHeaders.RANGE, "bytes=2-5"))
+        .andExpect(status().isPartialContent())
+        .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/*"))
+        .andExpect(content().string("2345"));
+    mockMvc
+        .perform(get(url).header(HttpHeaders.RANGE, "bytes=7-"))
+        .andExpect(status().isPartialContent())
+        .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 7-*/*"))
+        .andExpect(content().string("789"));
+  }
+
+  @Test
+  @WithMockUser
+  @DirtiesContext
+  public void testDataJobExecutionLogsStreamRangePastTheEnd() throws Exception {
+    String url = getLogsStreamUrl(startExecution());
+
+    mockMvc
+        .perform(get(url).header(HttpHeaders.RANGE, "bytes=8-20"))
+        .andExpect(status().isPartialContent())
+        .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 8-9/10"))
+        .andExpect(content().string("89"));
+    mockMvc
+        .perform(get(url).header(HttpHeaders.RANGE, "bytes=0-9"))
+        .andExpect(status().isPartialContent())
+        .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-9/*"))
+        .andExpect(content().string(MockKubernetes.MOCK_LOGS));
+    mockMvc
+        .perform(get(url).header(HttpHeaders.RANGE, "bytes=10-"))
+        .andExpect(status().isRequestedRangeNotSatisfiable());
+  }
+
+  @Test
+  @WithMockUser
+  @DirtiesContext
+  public void testDataJobExecutionLogsStreamHugeRange() throws Exception {
+    String url = getLogsStreamUrl(startExecution());
+
+    mockMvc
+        .perform(get(url).header(HttpHeaders.RANGE, "bytes=2-99999999"))
+        .andExpect(status().isPartialContent())
+        .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-*/*"))
+        .andExpect(content().string(MockKubernetes.MOCK_LOGS.substring(2)));
+  }
+
+  @Test
+  @WithMockUser
+  @DirtiesContext
+  public void testDataJobExecutionLogsStreamInvalidRange() throws Exception {
+    String url = getLogsStreamUrl(startExecution());
+
+    mockMvc
+        .perform(get(url).header(HttpHeaders.RANGE, "bytes=-5"))
+        .andExpect(status().isBadRequest());
+    mockMvc
+        .perform(get(url).header(HttpHeaders.RANGE, "bytes=5-2"))
+        .andExpect(status().isBadRequest());
+    mockMvc
+        .perform(get(url).header(HttpHeaders.RANGE, "bytes=100-"))
+        .andExpect(status().isRequestedRangeNotSatisfiable());
+  }
+
+  @Test
+  @WithMockUser
+  @DirtiesContext
+  public void testDataJobExecutionListPaged() throws Exception {
+    String executionId = startExecution();
+    String url =
+        String.format("/data-jobs/for-team/%s/jobs/%s/executions", TEST_TEAM_NAME, TEST_JOB_NAME);
+
+    mockMvc
+        .perform(get(url).param("page_size", "1"))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist("X-Next-Cursor"))
+        .andExpect(jsonPath("$[0].id").value(executionId));
+    mockMvc.perform(get(url).param("page_size", "0")).andExpect(status().isBadRequest());
+    mockMvc
+        .perform(get(url).param("page_size", "1").param("cursor", "not-a-cursor"))
+        .andExpect(status().isBadRequest());
+  }
+
+  private String startExecution() throws Exception {
+    TestUtils.createDataJob(mockMvc, TEST_TEAM_NAME, TEST_JOB_NAME);
+    TestUtils.createDeployment(mockMvc, TEST_TEAM_NAME, TEST_JOB_NAME);
+    ResultActions mockExecution =
+        TestUtils.startMockExecution(mockMvc, TEST_TEAM_NAME, TEST_JOB_NAME);
+    var location = mockExecution.andReturn().getResponse().getHeader("Location");
+    return location.substring(location.lastIndexOf('/') + 1);
+  }
+
+  private static String getLogsStreamUrl(String executionId) {
+    return String.format(
+        "/data-jobs/for-team/%s/jobs/%s/executions/%s/logs/stream",
+        TEST_TEAM_NAME, TEST_JOB_NAME, executionId);
+  }
 }
@@ -18,10 +18,13 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static org.mockito.AdditionalAnswers.answer;
@@ -39,6 +42,8 @@ import static org.mockito.Mockito.*;
 @Configuration
 public class MockKubernetes {
 
+  public static final String MOCK_LOGS = "0123456789";
+
   @Bean
   @Primary
   public DataJobsKubernetesService mockDataJobsKubernetesService()
@@ -172,17 +177,25 @@ public class MockKubernetes {
               String jobName = inv.getArgument(0);
               if (jobs.containsKey(jobName)) {
                 if (jobName.startsWith("failure-")) {
-                  return new KubernetesService.JobStatusCondition(
-                      false, "Status", "Job name starts with 'failure-'", "", 0);
+                  return CompletableFuture.completedFuture(
+                      new KubernetesService.JobStatusCondition(
+                          false, "Status", "Job name starts with 'failure-'", "", 0));
                 } else {
-                  return new KubernetesService.JobStatusCondition(true, "Status", "", "", 0);
+                  return CompletableFuture.completedFuture(
+                      new KubernetesService.JobStatusCondition(true, "Status", "", "", 0));
                 }
               }
-              return new KubernetesService.JobStatusCondition(false, null, "No such job", "", 0);
+              return CompletableFuture.completedFuture(
+                  new KubernetesService.JobStatusCondition(false, null, "No such job", "", 0));
             })
         .when(mock)
-        .watchJob(anyString(), anyInt(), any());
+        .awaitJobCompletion(anyString(), anyInt(), any());
 
     doAnswer(inv -> "logs").when(mock).getJobLogs(anyString(), anyInt());
+    doAnswer(
+            inv ->
+                Optional.of(new ByteArrayInputStream(MOCK_LOGS.getBytes(StandardCharsets.UTF_8))))
+        .when(mock)
+        .streamJobLogs(anyString(), any(), any(), any());
   }
 }
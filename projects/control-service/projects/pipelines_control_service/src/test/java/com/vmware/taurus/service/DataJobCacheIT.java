@@ -0,0 +1,70 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service;
+
+import com.vmware.taurus.ControlplaneApplication;
+import com.vmware.taurus.service.model.DataJob;
+import com.vmware.taurus.service.model.JobConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+    classes = ControlplaneApplication.class,
+    properties = {
+      "datajobs.cache.jobs.enabled=true",
+      // Polled explicitly by the tests.
+      "datajobs.cache.jobs.pollIntervalMillis=3600000"
+    })
+public class DataJobCacheIT {
+
+  @Autowired private JobsRepository jobsRepository;
+
+  @Autowired private JobsService jobsService;
+
+  @Autowired private DataJobChangeBroadcaster dataJobChangeBroadcaster;
+
+  @BeforeEach
+  public void cleanDatabase() {
+    jobsRepository.deleteAll();
+  }
+
+  @Test
+  public void testUpdateJob_shouldNotReturnStaleJob() {
+    var jobConfig = new JobConfig();
+    jobConfig.setTeam("test-team");
+    jobsRepository.save(new DataJob("test-job", jobConfig));
+
+    var dataJob = jobsService.getByName("test-job").get();
+    dataJob.getJobConfig().setDescription("new description");
+    jobsService.updateJob(dataJob);
+
+    Assertions.assertEquals(
+        "new description", jobsService.getByName("test-job").get().getJobConfig().getDescription());
+    Assertions.assertTrue(jobsService.jobWithTeamExists("test-job", "test-team"));
+    Assertions.assertFalse(jobsService.jobWithTeamExists("test-job", "other-team"));
+  }
+
+  @Test
+  public void testPollChanges_shouldDeliverPublishedChangesOnce() {
+    List<String> changes = new ArrayList<>();
+    dataJobChangeBroadcaster.subscribe(changes::add);
+
+    dataJobChangeBroadcaster.publish("test-job");
+    dataJobChangeBroadcaster.pollChanges();
+    dataJobChangeBroadcaster.pollChanges();
+
+    Assertions.assertEquals(1, changes.stream().filter("test-job"::equals).count());
+  }
+}
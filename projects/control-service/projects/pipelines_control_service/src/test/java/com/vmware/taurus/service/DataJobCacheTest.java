@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service;
+
+import com.vmware.taurus.service.model.DataJob;
+import com.vmware.taurus.service.model.JobConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+public class DataJobCacheTest {
+
+  private DataJobChangeBroadcaster broadcaster;
+  private DataJobCache dataJobCache;
+  private AtomicInteger loads;
+
+  @BeforeEach
+  public void setUp() {
+    broadcaster = Mockito.mock(DataJobChangeBroadcaster.class);
+    dataJobCache = new DataJobCache(broadcaster, true, 100, 60);
+    loads = new AtomicInteger();
+  }
+
+  @Test
+  public void testGet_shouldLoadOnceAndReturnCopies() {
+    var first = dataJobCache.get("test-job", this::load);
+    first.get().getJobConfig().setTeam("changed-team");
+    var second = dataJobCache.get("test-job", this::load);
+
+    Assertions.assertEquals(1, loads.get());
+    Assertions.assertEquals("test-team", second.get().getJobConfig().getTeam());
+    Assertions.assertNotSame(first.get(), second.get());
+  }
+
+  @Test
+  public void testGet_shouldCacheMissingJobs() {
+    dataJobCache.get("missing-job", this::load);
+
+    Assertions.assertTrue(dataJobCache.get("missing-job", this::load).isEmpty());
+    Assertions.assertEquals(1, loads.get());
+  }
+
+  @Test
+  public void testInvalidate_shouldReloadAndPublish() {
+    dataJobCache.get("test-job", this::load);
+    dataJobCache.invalidate("test-job");
+    dataJobCache.get("test-job", this::load);
+
+    Assertions.assertEquals(2, loads.get());
+    Mockito.verify(broadcaster).publish("test-job");
+  }
+
+  @Test
+  public void testGet_shouldNotCacheJobLoadedBeforeInvalidation() {
+    dataJobCache.get(
+        "test-job",
+        name -> {
+          dataJobCache.invalidate(name);
+          return load(name);
+        });
+    dataJobCache.get("test-job", this::load);
+
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testBroadcastChange_shouldInvalidateJob() {
+    ArgumentCaptor<Consumer<String>> subscriber = ArgumentCaptor.forClass(Consumer.class);
+    Mockito.verify(broadcaster).subscribe(subscriber.capture());
+
+    dataJobCache.get("test-job", this::load);
+    subscriber.getValue().accept("test-job");
+    dataJobCache.get("test-job", this::load);
+    subscriber.getValue().accept(null);
+    dataJobCache.get("test-job", this::load);
+
+    Assertions.assertEquals(3, loads.get());
+    Mockito.verify(broadcaster, Mockito.never()).publish(Mockito.anyString());
+  }
+
+  @Test
+  public void testGet_disabled_shouldAlwaysLoad() {
+    var disabledCache = new DataJobCache(broadcaster, false, 100, 60);
+    disabledCache.get("test-job", this::load);
+    disabledCache.get("test-job", this::load);
+    disabledCache.invalidate("test-job");
+
+    Assertions.assertEquals(2, loads.get());
+    Mockito.verify(broadcaster, Mockito.never()).publish(Mockito.anyString());
+  }
+
+  private Optional<DataJob> load(String jobName) {
+    loads.incrementAndGet();
+    if (!"test-job".equals(jobName)) {
+      return Optional.empty();
+    }
+    var jobConfig = new JobConfig();
+    jobConfig.setTeam("test-team");
+    return Optional.of(new DataJob(jobName, jobConfig));
+  }
+}
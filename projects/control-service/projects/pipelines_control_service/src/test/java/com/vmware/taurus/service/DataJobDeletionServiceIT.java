@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service;
+
+import com.vmware.taurus.ControlplaneApplication;
+import com.vmware.taurus.RepositoryUtil;
+import com.vmware.taurus.properties.service.JobProperties;
+import com.vmware.taurus.properties.service.PropertiesRepository;
+import com.vmware.taurus.service.model.DataJob;
+import com.vmware.taurus.service.model.ExecutionStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+    classes = ControlplaneApplication.class,
+    properties = {
+      "datajobs.deletion.backgroundExecutionsThreshold=3",
+      "datajobs.deletion.deleteChunkSize=2"
+    })
+public class DataJobDeletionServiceIT {
+
+  @Autowired private JobsRepository jobsRepository;
+
+  @Autowired private JobExecutionRepository jobExecutionRepository;
+
+  @Autowired private PropertiesRepository propertiesRepository;
+
+  @Autowired private DataJobDeletionService dataJobDeletionService;
+
+  @BeforeEach
+  public void cleanDatabase() {
+    jobExecutionRepository.deleteAll();
+    jobsRepository.deleteAll();
+    propertiesRepository.deleteAll();
+  }
+
+  @Test
+  public void testDeleteDataJob_shouldDeleteExecutionsPropertiesAndJob() {
+    var dataJob = createDataJobWithExecutions("test-job", 2);
+    var otherJob = createDataJobWithExecutions("other-job", 1);
+
+    Assertions.assertFalse(dataJobDeletionService.isDeletedInBackground(dataJob.getName()));
+    dataJobDeletionService.deleteDataJob(dataJob.getName());
+
+    assertDataJobDeleted(dataJob.getName());
+    Assertions.assertTrue(jobsRepository.existsById(otherJob.getName()));
+    Assertions.assertEquals(
+        1, jobExecutionRepository.countDataJobExecutionsByDataJobName(otherJob.getName()));
+    Assertions.assertTrue(propertiesRepository.findByJobName(otherJob.getName()).isPresent());
+  }
+
+  @Test
+  public void testDeleteDataJobInBackground_shouldDeleteExecutionsInChunksAndThenJob()
+      throws InterruptedException {
+    var dataJob = createDataJobWithExecutions("test-job", 5);
+
+    Assertions.assertTrue(dataJobDeletionService.isDeletedInBackground(dataJob.getName()));
+    var deletionLock = dataJobDeletionService.lockBackgroundDeletion(dataJob.getName());
+    Assertions.assertTrue(deletionLock.isPresent());
+    Assertions.assertTrue(dataJobDeletionService.isDeletionInProgress(dataJob.getName()));
+    Assertions.assertTrue(
+        dataJobDeletionService.lockBackgroundDeletion(dataJob.getName()).isEmpty());
+    dataJobDeletionService.deleteDataJobInBackground(dataJob.getName(), deletionLock.get());
+
+    for (int i = 0;
+        i < 100 && dataJobDeletionService.isDeletionInProgress(dataJob.getName());
+        i++) {
+      Thread.sleep(100);
+    }
+    assertDataJobDeleted(dataJob.getName());
+    Assertions.assertFalse(dataJobDeletionService.isDeletionInProgress(dataJob.getName()));
+  }
+
+  private DataJob createDataJobWithExecutions(String jobName, int executions) {
+    var dataJob = RepositoryUtil.createDataJob(jobsRepository, jobName);
+    for (int i = 0; i < executions; i++) {
+      RepositoryUtil.createDataJobExecution(
+          jobExecutionRepository, jobName + "-" + i, dataJob, ExecutionStatus.SUCCEEDED);
+    }
+    propertiesRepository.save(new JobProperties(jobName, "{\"key\": \"value\"}"));
+    return dataJob;
+  }
+
+  private void assertDataJobDeleted(String jobName) {
+    Assertions.assertFalse(jobsRepository.existsById(jobName));
+    Assertions.assertEquals(0, jobExecutionRepository.countDataJobExecutionsByDataJobName(jobName));
+    Assertions.assertTrue(propertiesRepository.findByJobName(jobName).isEmpty());
+  }
+}
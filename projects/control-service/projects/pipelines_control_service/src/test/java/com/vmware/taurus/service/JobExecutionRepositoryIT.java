@@ -8,7 +8,9 @@ package com.vmware.taurus.service;
 import com.vmware.taurus.ControlplaneApplication;
 import com.vmware.taurus.RepositoryUtil;
 import com.vmware.taurus.service.model.DataJob;
+import com.vmware.taurus.service.graphql.model.DataJobExecutionFilter;
 import com.vmware.taurus.service.model.DataJobExecution;
+import com.vmware.taurus.service.model.DataJobExecutionView;
 import com.vmware.taurus.service.model.ExecutionStatus;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +24,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.vmware.taurus.RepositoryUtil.getTimeAccurateToMicroSecond;
 
@@ -257,6 +261,43 @@ public class JobExecutionRepositoryIT {
     Assertions.assertEquals(expectedExecution2.getEndTime(), executionEndTime);
   }
 
+  @Test
+  void testUpdateExecutionStatusReturningPrevious_withExecutions_shouldReturnTheUpdatedOnes() {
+    DataJob dataJob = RepositoryUtil.createDataJob(jobsRepository);
+    var submitted =
+        RepositoryUtil.createDataJobExecution(
+            jobExecutionRepository, "execution1", dataJob, ExecutionStatus.SUBMITTED);
+    var running =
+        RepositoryUtil.createDataJobExecution(
+            jobExecutionRepository, "execution2", dataJob, ExecutionStatus.RUNNING);
+    var finished =
+        RepositoryUtil.createDataJobExecution(
+            jobExecutionRepository, "execution3", dataJob, ExecutionStatus.USER_ERROR);
+
+    var executionEndTime = getTimeAccurateToMicroSecond();
+    var updatedExecutions =
+        jobExecutionRepository.updateExecutionStatusReturningPrevious(
+            ExecutionStatus.SUCCEEDED,
+            executionEndTime,
+            "Changed by test",
+            List.of(ExecutionStatus.SUBMITTED, ExecutionStatus.RUNNING),
+            List.of(submitted.getId(), running.getId(), finished.getId()));
+
+    Assertions.assertEquals(
+        Set.of(
+            new JobExecutionStatusUpdateRepository.UpdatedExecution(
+                submitted.getId(), dataJob.getName(), ExecutionStatus.SUBMITTED),
+            new JobExecutionStatusUpdateRepository.UpdatedExecution(
+                running.getId(), dataJob.getName(), ExecutionStatus.RUNNING)),
+        Set.copyOf(updatedExecutions));
+    var updatedRunning = jobExecutionRepository.findById(running.getId()).get();
+    Assertions.assertEquals(ExecutionStatus.SUCCEEDED, updatedRunning.getStatus());
+    Assertions.assertEquals(executionEndTime, updatedRunning.getEndTime());
+    Assertions.assertEquals(
+        ExecutionStatus.USER_ERROR,
+        jobExecutionRepository.findById(finished.getId()).get().getStatus());
+  }
+
   @Test
   void testUpdateExecutionStatusWhereOldStatusInAndExecutionIdIn_withExecutions_shouldUpdateOne() {
     DataJob dataJob = RepositoryUtil.createDataJob(jobsRepository);
@@ -303,4 +344,134 @@ public class JobExecutionRepositoryIT {
     Assertions.assertEquals(expectedExecution2.getMessage(), execution2.getMessage());
     Assertions.assertEquals(expectedExecution2.getEndTime(), execution2.getEndTime());
   }
+
+  @Test
+  public void testFindDataJobExecutionIdAndJobNameByStatusInAndStartTimeBefore_shouldMatch() {
+    DataJob actualDataJob = RepositoryUtil.createDataJob(jobsRepository);
+    var now = getTimeAccurateToMicroSecond();
+
+    RepositoryUtil.createDataJobExecution(
+        jobExecutionRepository,
+        "old-running",
+        actualDataJob,
+        ExecutionStatus.RUNNING,
+        now.minusMinutes(10));
+    RepositoryUtil.createDataJobExecution(
+        jobExecutionRepository,
+        "old-succeeded",
+        actualDataJob,
+        ExecutionStatus.SUCCEEDED,
+        now.minusMinutes(10));
+    RepositoryUtil.createDataJobExecution(
+        jobExecutionRepository, "new-submitted", actualDataJob, ExecutionStatus.SUBMITTED, now);
+
+    var actualExecutions =
+        jobExecutionRepository.findDataJobExecutionIdAndJobNameByStatusInAndStartTimeBefore(
+            List.of(ExecutionStatus.SUBMITTED, ExecutionStatus.RUNNING), now.minusMinutes(3));
+
+    Assertions.assertEquals(1, actualExecutions.size());
+    Assertions.assertEquals("old-running", actualExecutions.get(0).getId());
+    Assertions.assertEquals(actualDataJob.getName(), actualExecutions.get(0).getJobName());
+  }
+
+  @Test
+  public void testFindAllViews_shouldReturnProjectionsWithJobAndTeam() {
+    DataJob actualDataJob = RepositoryUtil.createDataJob(jobsRepository);
+    DataJobExecution expectedJobExecution =
+        RepositoryUtil.createDataJobExecution(
+            jobExecutionRepository, "test-execution-id", actualDataJob, ExecutionStatus.RUNNING);
+    RepositoryUtil.createDataJobExecution(
+        jobExecutionRepository, "test-execution-id-2", actualDataJob, ExecutionStatus.SUCCEEDED);
+
+    var filter =
+        DataJobExecutionFilter.builder()
+            .jobNameIn(List.of(actualDataJob.getName()))
+            .statusIn(List.of(ExecutionStatus.RUNNING))
+            .build();
+    var actualViews =
+        jobExecutionRepository.findAllViews(new JobExecutionFilterSpec(filter), Sort.unsorted());
+
+    Assertions.assertEquals(List.of(DataJobExecutionView.of(expectedJobExecution)), actualViews);
+    Assertions.assertEquals("test-team", actualViews.get(0).getTeamName());
+  }
+
+  @Test
+  public void testFindAllViewsPerJob_withPage_shouldReturnThePageOfEachJob() {
+    DataJob firstJob = RepositoryUtil.createDataJob(jobsRepository, "first-job");
+    DataJob secondJob = RepositoryUtil.createDataJob(jobsRepository, "second-job");
+    DataJob otherJob = RepositoryUtil.createDataJob(jobsRepository, "other-job");
+    var now = getTimeAccurateToMicroSecond();
+    for (int i = 0; i < 4; i++) {
+      RepositoryUtil.createDataJobExecution(
+          jobExecutionRepository,
+          "first-" + i,
+          firstJob,
+          ExecutionStatus.SUCCEEDED,
+          now.minusMinutes(i));
+    }
+    RepositoryUtil.createDataJobExecution(
+        jobExecutionRepository, "second-0", secondJob, ExecutionStatus.USER_ERROR, now);
+    RepositoryUtil.createDataJobExecution(
+        jobExecutionRepository, "second-1", secondJob, ExecutionStatus.RUNNING, now);
+    RepositoryUtil.createDataJobExecution(
+        jobExecutionRepository, "other-0", otherJob, ExecutionStatus.SUCCEEDED, now);
+
+    var filter =
+        DataJobExecutionFilter.builder()
+            .statusIn(List.of(ExecutionStatus.SUCCEEDED, ExecutionStatus.USER_ERROR))
+            .build();
+    var actualViews =
+        jobExecutionRepository.findAllViewsPerJob(
+            List.of(firstJob.getName(), secondJob.getName(), "missing-job"),
+            filter,
+            PageRequest.of(1, 2, Sort.by(Sort.Direction.ASC, "startTime")));
+
+    Assertions.assertEquals(Set.of(firstJob.getName()), actualViews.keySet());
+    Assertions.assertEquals(
+        List.of("first-1", "first-0"),
+        actualViews.get(firstJob.getName()).stream()
+            .map(DataJobExecutionView::getId)
+            .collect(Collectors.toList()));
+    Assertions.assertEquals("test-team", actualViews.get(firstJob.getName()).get(0).getTeamName());
+  }
+
+  @Test
+  public void testFindAllViewsPerJob_withCursor_shouldReturnTheExecutionsAfterTheCursor() {
+    DataJob firstJob = RepositoryUtil.createDataJob(jobsRepository, "first-job");
+    DataJob secondJob = RepositoryUtil.createDataJob(jobsRepository, "second-job");
+    var now = getTimeAccurateToMicroSecond();
+    for (int i = 0; i < 3; i++) {
+      RepositoryUtil.createDataJobExecution(
+          jobExecutionRepository,
+          "first-" + i,
+          firstJob,
+          ExecutionStatus.SUCCEEDED,
+          now.minusMinutes(i));
+      RepositoryUtil.createDataJobExecution(
+          jobExecutionRepository,
+          "second-" + i,
+          secondJob,
+          ExecutionStatus.SUCCEEDED,
+          now.minusMinutes(i));
+    }
+
+    var actualViews =
+        jobExecutionRepository.findAllViewsPerJob(
+            List.of(firstJob.getName(), secondJob.getName()),
+            null,
+            Sort.Direction.DESC,
+            new JobExecutionCursor(now, "first-0"),
+            1);
+
+    Assertions.assertEquals(
+        List.of("first-1"),
+        actualViews.get(firstJob.getName()).stream()
+            .map(DataJobExecutionView::getId)
+            .collect(Collectors.toList()));
+    Assertions.assertEquals(
+        List.of("second-1"),
+        actualViews.get(secondJob.getName()).stream()
+            .map(DataJobExecutionView::getId)
+            .collect(Collectors.toList()));
+  }
 }
@@ -9,6 +9,7 @@ import com.vmware.taurus.service.credentials.JobCredentialsService;
 import com.vmware.taurus.service.deploy.*;
 import com.vmware.taurus.service.kubernetes.DataJobsKubernetesService;
 import com.vmware.taurus.service.model.*;
+import com.vmware.taurus.service.monitoring.ShardedDataJobMonitorCron;
 import io.kubernetes.client.openapi.ApiException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -120,16 +121,19 @@ public class JobImageDeployerTest {
       var labels = labelCaptor.getValue();
       var annotations = annotationCaptor.getValue();
       // check everything was as expected
-      Assertions.assertEquals(3, labels.size(), "Expecting three labels");
+      Assertions.assertEquals(4, labels.size(), "Expecting four labels");
       Assertions.assertEquals(7, annotations.size(), "Expecting seven annotations");
 
       var jobName = labels.get(JobLabel.NAME.getValue());
       var jobVersion = labels.get(JobLabel.VERSION.getValue());
       var jobType = labels.get(JobLabel.TYPE.getValue());
+      var monitoringShard = labels.get(JobLabel.MONITORING_SHARD.getValue());
 
       Assertions.assertEquals("TestDataJob", jobName);
       Assertions.assertEquals("testVersionString", jobVersion);
       Assertions.assertEquals("DataJob", jobType);
+      Assertions.assertEquals(
+          String.valueOf(ShardedDataJobMonitorCron.getShardBucket("TestDataJob")), monitoringShard);
 
       var schedule = annotations.get(JobAnnotation.SCHEDULE.getValue());
       var deployedBy = annotations.get(JobAnnotation.DEPLOYED_BY.getValue());
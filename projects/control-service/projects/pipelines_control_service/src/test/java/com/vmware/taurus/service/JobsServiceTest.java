@@ -13,6 +13,8 @@ import com.vmware.taurus.service.model.DataJob;
 import com.vmware.taurus.service.model.DeploymentStatus;
 import com.vmware.taurus.service.model.JobConfig;
 import com.vmware.taurus.service.monitoring.DataJobMetrics;
+import com.vmware.taurus.service.schedule.CronScheduleCache;
+import com.vmware.taurus.service.schedule.DataJobNextRunService;
 import com.vmware.taurus.service.webhook.WebHookRequestBodyProvider;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -70,7 +72,39 @@ public class JobsServiceTest {
     assertNotNull(testInst.getByName("hello").get().getJobConfig());
   }
 
+  @Test
+  public void testJobWithTeamExists_cacheEnabled_shouldUseTheCachedJob() {
+    var testInst = createTestInstance();
+    var config = new JobConfig();
+    config.setTeam("team");
+    var job = new DataJob("hello", config, null);
+    doAnswer(m -> Optional.of(job)).when(jobsRepository).findById(eq(job.getName()));
+
+    assertTrue(testInst.jobWithTeamExists("hello", "team"));
+    assertTrue(testInst.jobWithTeamExists("hello", "team"));
+    assertFalse(testInst.jobWithTeamExists("hello", "other-team"));
+
+    Mockito.verify(jobsRepository).findById("hello");
+    Mockito.verify(jobsRepository, Mockito.never())
+        .existsDataJobByNameAndJobConfigTeam(Mockito.any(), Mockito.any());
+  }
+
+  @Test
+  public void testJobWithTeamExists_cacheDisabled_shouldUseTheExistsQuery() {
+    var testInst = createTestInstance(false);
+    doAnswer(m -> true).when(jobsRepository).existsDataJobByNameAndJobConfigTeam("hello", "team");
+
+    assertTrue(testInst.jobWithTeamExists("hello", "team"));
+    assertFalse(testInst.jobWithTeamExists("hello", "other-team"));
+
+    Mockito.verify(jobsRepository, Mockito.never()).findById(Mockito.any());
+  }
+
   private JobsService createTestInstance() {
+    return createTestInstance(true);
+  }
+
+  private JobsService createTestInstance(boolean cacheEnabled) {
     return new JobsService(
         jobsRepository,
         mock(DeploymentService.class),
@@ -78,6 +112,9 @@ public class JobsServiceTest {
         mock(WebHookRequestBodyProvider.class),
         mock(PostCreateWebHookProvider.class),
         mock(PostDeleteWebHookProvider.class),
-        mock(DataJobMetrics.class));
+        mock(DataJobMetrics.class),
+        new DataJobCache(mock(DataJobChangeBroadcaster.class), cacheEnabled, 100, 60),
+        mock(DataJobDeletionService.class),
+        new DataJobNextRunService(jobsRepository, new CronScheduleCache(100)));
   }
 }
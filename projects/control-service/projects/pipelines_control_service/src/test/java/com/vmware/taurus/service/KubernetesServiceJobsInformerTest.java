@@ -0,0 +1,198 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service;
+
+import com.vmware.taurus.service.deploy.JobCommandProvider;
+import com.vmware.taurus.service.kubernetes.DataJobsKubernetesService;
+import com.vmware.taurus.service.kubernetes.JobsInformer;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.apis.BatchV1Api;
+import io.kubernetes.client.openapi.apis.BatchV1beta1Api;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1JobCondition;
+import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1JobStatus;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+public class KubernetesServiceJobsInformerTest {
+
+  private BatchV1Api batchV1Api;
+  private JobsInformer jobsInformer;
+  private KubernetesService kubernetesService;
+
+  @BeforeEach
+  public void setUp() {
+    batchV1Api = Mockito.mock(BatchV1Api.class);
+    jobsInformer = Mockito.mock(JobsInformer.class);
+    kubernetesService =
+        new DataJobsKubernetesService(
+            "default",
+            true,
+            new ApiClient(),
+            batchV1Api,
+            new BatchV1beta1Api(),
+            new JobCommandProvider());
+    kubernetesService.setJobsInformer(jobsInformer);
+  }
+
+  @Test
+  public void testIsRunningJob_informerSynced_shouldNotCallApiServer() throws ApiException {
+    Mockito.when(jobsInformer.hasSynced()).thenReturn(true);
+    Mockito.when(jobsInformer.listJobsByDataJobName("test-job"))
+        .thenReturn(List.of(new V1Job().status(new V1JobStatus().conditions(null))));
+
+    Assertions.assertTrue(kubernetesService.isRunningJob("test-job"));
+    Mockito.verifyNoInteractions(batchV1Api);
+  }
+
+  @Test
+  public void testIsRunningJob_informerSyncedAndJobCompleted_shouldReturnFalse()
+      throws ApiException {
+    Mockito.when(jobsInformer.hasSynced()).thenReturn(true);
+    Mockito.when(jobsInformer.listJobsByDataJobName("test-job"))
+        .thenReturn(
+            List.of(new V1Job().status(new V1JobStatus().addConditionsItem(new V1JobCondition()))));
+
+    Assertions.assertFalse(kubernetesService.isRunningJob("test-job"));
+    Mockito.verifyNoInteractions(batchV1Api);
+  }
+
+  @Test
+  public void testListJobs_informerSynced_shouldNotCallApiServer() throws ApiException {
+    Mockito.when(jobsInformer.hasSynced()).thenReturn(true);
+    Mockito.when(jobsInformer.listJobs())
+        .thenReturn(
+            List.of(
+                new V1Job().metadata(new V1ObjectMeta().name("job-1")),
+                new V1Job().metadata(new V1ObjectMeta().name("job-2"))));
+
+    Assertions.assertEquals(Set.of("job-1", "job-2"), kubernetesService.listJobs());
+    Mockito.verifyNoInteractions(batchV1Api);
+  }
+
+  @Test
+  public void testListJobs_informerNotSynced_shouldCallApiServer() throws ApiException {
+    Mockito.when(jobsInformer.hasSynced()).thenReturn(false);
+    Mockito.when(
+            batchV1Api.listNamespacedJob(
+                Mockito.anyString(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull()))
+        .thenReturn(
+            new V1JobList().addItemsItem(new V1Job().metadata(new V1ObjectMeta().name("job-1"))));
+
+    Assertions.assertEquals(Set.of("job-1"), kubernetesService.listJobs());
+    Mockito.verify(jobsInformer, Mockito.never()).listJobs();
+  }
+
+  @Test
+  public void testListJobs_informerNotSyncedAndManyJobs_shouldListJobsInPages()
+      throws ApiException {
+    ReflectionTestUtils.setField(kubernetesService, "listPageSize", 2);
+    Mockito.when(jobsInformer.hasSynced()).thenReturn(false);
+    mockListJobsPage(null, "page-2", "job-1", "job-2");
+    mockListJobsPage("page-2", null, "job-3");
+
+    Assertions.assertEquals(Set.of("job-1", "job-2", "job-3"), kubernetesService.listJobs());
+    Mockito.verify(batchV1Api, Mockito.times(2))
+        .listNamespacedJob(
+            Mockito.anyString(),
+            Mockito.isNull(),
+            Mockito.isNull(),
+            Mockito.any(),
+            Mockito.isNull(),
+            Mockito.isNull(),
+            Mockito.eq(2),
+            Mockito.isNull(),
+            Mockito.isNull(),
+            Mockito.isNull(),
+            Mockito.isNull());
+  }
+
+  @Test
+  public void testAwaitJobDeletion_informerSynced_shouldNotCallApiServer() throws Exception {
+    Mockito.when(jobsInformer.awaitSynced(Mockito.any())).thenReturn(true);
+    Mockito.when(jobsInformer.awaitJobDeletion("builder-job"))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    Assertions.assertTrue(kubernetesService.awaitJobDeletion("builder-job", 1).get());
+    Mockito.verifyNoInteractions(batchV1Api);
+  }
+
+  @Test
+  public void testAwaitJobDeletion_informerSyncedAndJobNotDeleted_shouldTimeOut()
+      throws Exception {
+    Mockito.when(jobsInformer.awaitSynced(Mockito.any())).thenReturn(true);
+    Mockito.when(jobsInformer.awaitJobDeletion("builder-job"))
+        .thenReturn(new CompletableFuture<>());
+
+    Assertions.assertFalse(kubernetesService.awaitJobDeletion("builder-job", 1).get());
+    Mockito.verifyNoInteractions(batchV1Api);
+  }
+
+  @Test
+  public void testAwaitJobDeletion_informerDisabled_shouldListJobs() throws Exception {
+    kubernetesService.setJobsInformer(null);
+    Mockito.when(
+            batchV1Api.listNamespacedJob(
+                Mockito.anyString(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull()))
+        .thenReturn(new V1JobList());
+
+    Assertions.assertTrue(kubernetesService.awaitJobDeletion("builder-job", 1).get());
+    Mockito.verify(jobsInformer, Mockito.never()).awaitJobDeletion(Mockito.any());
+  }
+
+  private void mockListJobsPage(String continueToken, String nextContinueToken, String... jobNames)
+      throws ApiException {
+    var page = new V1JobList().metadata(new V1ListMeta()._continue(nextContinueToken));
+    for (var jobName : jobNames) {
+      page.addItemsItem(new V1Job().metadata(new V1ObjectMeta().name(jobName)));
+    }
+    Mockito.when(
+            batchV1Api.listNamespacedJob(
+                Mockito.anyString(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                continueToken == null ? Mockito.isNull() : Mockito.eq(continueToken),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.eq(2),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull()))
+        .thenReturn(page);
+  }
+}
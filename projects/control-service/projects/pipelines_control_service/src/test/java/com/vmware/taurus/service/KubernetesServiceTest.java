@@ -437,6 +437,24 @@ public class KubernetesServiceTest {
     }
   }
 
+  @Test
+  public void testLoadInternalV1CronjobTemplate_shouldReturnIndependentCopies() throws Exception {
+    KubernetesService service = newDataJobKubernetesService();
+    Method loadInternalV1CronjobTemplate =
+        KubernetesService.class.getDeclaredMethod("loadInternalV1CronjobTemplate");
+    loadInternalV1CronjobTemplate.setAccessible(true);
+
+    V1CronJob first = (V1CronJob) loadInternalV1CronjobTemplate.invoke(service);
+    V1CronJob second = (V1CronJob) loadInternalV1CronjobTemplate.invoke(service);
+
+    Assertions.assertEquals(first, second);
+    Assertions.assertNotSame(first, second);
+    first.getSpec().getJobTemplate().getSpec().getTemplate().getSpec().setContainers(null);
+    first.getMetadata().setName("modified");
+    V1CronJob third = (V1CronJob) loadInternalV1CronjobTemplate.invoke(service);
+    Assertions.assertEquals(second, third);
+  }
+
   @Test
   public void testReadJobDeploymentStatuses() {
     var mock = newDataJobKubernetesService();
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.datasource;
+
+import com.vmware.taurus.ControlplaneApplication;
+import com.vmware.taurus.service.JobsRepository;
+import com.vmware.taurus.service.execution.JobExecutionService;
+import com.vmware.taurus.service.model.DataJob;
+import com.vmware.taurus.service.model.JobConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+    classes = ControlplaneApplication.class,
+    properties = {
+      // The replica is the primary database itself, as there is no replication in the tests.
+      "spring.datasource.url=jdbc:h2:mem:replicaIT;DB_CLOSE_DELAY=-1",
+      "datajobs.datasource.replica.enabled=true",
+      "datajobs.datasource.replica.url=jdbc:h2:mem:replicaIT;DB_CLOSE_DELAY=-1",
+      "datajobs.datasource.replica.lagQuery=SELECT 0"
+    })
+public class ReadReplicaDataSourceConfigurationIT {
+
+  @Autowired private ReadReplicaRoutingDataSource readReplicaRoutingDataSource;
+
+  @Autowired private JobsRepository jobsRepository;
+
+  @Autowired private JobExecutionService jobExecutionService;
+
+  @Test
+  public void testListJobExecutions_shouldReadThroughReplica() {
+    var jobConfig = new JobConfig();
+    jobConfig.setTeam("test-team");
+    jobsRepository.save(new DataJob("replica-test-job", jobConfig));
+
+    var executions =
+        jobExecutionService.listJobExecutions("test-team", "replica-test-job", List.of());
+
+    Assertions.assertTrue(readReplicaRoutingDataSource.isReplicaUsable());
+    Assertions.assertTrue(executions.isEmpty());
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadReplicaRoutingDataSourceTest {
+
+  @AfterEach
+  public void clearTransaction() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    TransactionSynchronizationManager.setCurrentTransactionName(null);
+  }
+
+  @Test
+  public void testDetermineCurrentLookupKey_readOnlyServiceTransaction_shouldUseReplica() {
+    var dataSource = createDataSource("SELECT 1");
+    dataSource.checkReplicaLag();
+    startTransaction("com.vmware.taurus.service.JobsService.getByName", true);
+
+    Assertions.assertTrue(dataSource.isReplicaUsable());
+    Assertions.assertEquals(
+        ReadReplicaRoutingDataSource.Route.REPLICA, dataSource.determineCurrentLookupKey());
+  }
+
+  @Test
+  public void testDetermineCurrentLookupKey_readWriteTransaction_shouldUsePrimary() {
+    var dataSource = createDataSource("SELECT 1");
+    dataSource.checkReplicaLag();
+    startTransaction("com.vmware.taurus.service.JobsService.updateJob", false);
+
+    Assertions.assertEquals(
+        ReadReplicaRoutingDataSource.Route.PRIMARY, dataSource.determineCurrentLookupKey());
+  }
+
+  @Test
+  public void testDetermineCurrentLookupKey_repositoryTransaction_shouldUsePrimary() {
+    var dataSource = createDataSource("SELECT 1");
+    dataSource.checkReplicaLag();
+    startTransaction(
+        "org.springframework.data.jpa.repository.support.SimpleJpaRepository.findById", true);
+
+    Assertions.assertEquals(
+        ReadReplicaRoutingDataSource.Route.PRIMARY, dataSource.determineCurrentLookupKey());
+  }
+
+  @Test
+  public void testDetermineCurrentLookupKey_repositoryReadInReplicaReads_shouldUseReplica() {
+    var dataSource = createDataSource("SELECT 1");
+    dataSource.checkReplicaLag();
+    startTransaction(
+        "org.springframework.data.jpa.repository.support.SimpleJpaRepository.findById", true);
+
+    Assertions.assertEquals(
+        ReadReplicaRoutingDataSource.Route.REPLICA,
+        ReplicaReads.call(dataSource::determineCurrentLookupKey));
+    Assertions.assertFalse(ReplicaReads.isRequested());
+  }
+
+  @Test
+  public void testDetermineCurrentLookupKey_writeInReplicaReads_shouldUsePrimary() {
+    var dataSource = createDataSource("SELECT 1");
+    dataSource.checkReplicaLag();
+    startTransaction(
+        "org.springframework.data.jpa.repository.support.SimpleJpaRepository.save", false);
+
+    Assertions.assertEquals(
+        ReadReplicaRoutingDataSource.Route.PRIMARY,
+        ReplicaReads.call(dataSource::determineCurrentLookupKey));
+  }
+
+  @Test
+  public void testDetermineCurrentLookupKey_laggingReplica_shouldFallBackToPrimary() {
+    var dataSource = createDataSource("SELECT 10");
+    dataSource.checkReplicaLag();
+    startTransaction("com.vmware.taurus.service.JobsService.getByName", true);
+
+    Assertions.assertFalse(dataSource.isReplicaUsable());
+    Assertions.assertEquals(
+        ReadReplicaRoutingDataSource.Route.PRIMARY, dataSource.determineCurrentLookupKey());
+  }
+
+  @Test
+  public void testCheckReplicaLag_failingQuery_shouldFallBackToPrimary() {
+    var dataSource = createDataSource("SELECT 1");
+    dataSource.checkReplicaLag();
+    Assertions.assertTrue(dataSource.isReplicaUsable());
+
+    var failingDataSource = createDataSource("SELECT no_such_column");
+    failingDataSource.checkReplicaLag();
+    Assertions.assertFalse(failingDataSource.isReplicaUsable());
+  }
+
+  private static ReadReplicaRoutingDataSource createDataSource(String lagQuery) {
+    var replica = new JdbcDataSource();
+    replica.setURL("jdbc:h2:mem:replica");
+    return new ReadReplicaRoutingDataSource(new JdbcDataSource(), replica, lagQuery, 5);
+  }
+
+  private static void startTransaction(String name, boolean readOnly) {
+    TransactionSynchronizationManager.setCurrentTransactionName(name);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+  }
+}
@@ -7,6 +7,8 @@ package com.vmware.taurus.service.deploy;
 
 import com.vmware.taurus.datajobs.TestUtils;
 import com.vmware.taurus.exception.ApiConstraintError;
+import com.vmware.taurus.exception.KubernetesException;
+import com.vmware.taurus.service.DataJobCache;
 import com.vmware.taurus.service.JobsRepository;
 import com.vmware.taurus.service.KubernetesService;
 import com.vmware.taurus.service.credentials.JobCredentialsService;
@@ -35,6 +37,7 @@ import java.io.IOException;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -59,6 +62,8 @@ public class DeploymentServiceTest {
 
   @Mock private DockerRegistryService dockerRegistryService;
 
+  @Mock private DataJobCache dataJobCache;
+
   @Mock private DataJobMetrics dataJobMetrics;
 
   @Mock private DataJobNotification dataJobNotification;
@@ -121,7 +126,8 @@ public class DeploymentServiceTest {
             operationContext,
             jobsRepository,
             dataJobMetrics,
-            supportedPythonVersions);
+            supportedPythonVersions,
+            dataJobCache);
 
     Mockito.when(vdkOptionsReader.readVdkOptions(TEST_JOB_NAME)).thenReturn(TEST_VDK_OPTS);
     Mockito.when(jobCredentialsService.getJobPrincipalName(TEST_JOB_NAME))
@@ -154,7 +160,7 @@ public class DeploymentServiceTest {
     when(dockerRegistryService.dataJobImage(TEST_JOB_NAME, "test-commit"))
         .thenReturn(TEST_JOB_IMAGE_NAME);
     when(jobImageBuilder.buildImage(TEST_JOB_IMAGE_NAME, testDataJob, jobDeployment, true))
-        .thenReturn(true);
+        .thenReturn(CompletableFuture.completedFuture(true));
 
     deploymentService.updateDeployment(
         testDataJob, jobDeployment, true, TEST_PRINCIPAL_NAME, OP_ID);
@@ -194,7 +200,7 @@ public class DeploymentServiceTest {
     when(dockerRegistryService.dataJobImage(TEST_JOB_NAME, "test-commit"))
         .thenReturn(TEST_JOB_IMAGE_NAME);
     when(jobImageBuilder.buildImage(TEST_JOB_IMAGE_NAME, testDataJob, jobDeployment, true))
-        .thenReturn(true);
+        .thenReturn(CompletableFuture.completedFuture(true));
     when(kubernetesService.listCronJobs()).thenReturn(Set.of(TEST_CRONJOB_NAME));
 
     deploymentService.updateDeployment(
@@ -232,7 +238,7 @@ public class DeploymentServiceTest {
     when(dockerRegistryService.dataJobImage(TEST_JOB_NAME, "test-commit"))
         .thenReturn(TEST_JOB_IMAGE_NAME);
     when(jobImageBuilder.buildImage(TEST_JOB_IMAGE_NAME, testDataJob, jobDeployment, true))
-        .thenReturn(false);
+        .thenReturn(CompletableFuture.completedFuture(false));
 
     deploymentService.updateDeployment(
         testDataJob, jobDeployment, true, TEST_PRINCIPAL_NAME, OP_ID);
@@ -312,6 +318,33 @@ public class DeploymentServiceTest {
     verify(dataJobNotification).notifyJobDeployError(eq(testDataJob.getJobConfig()), any(), any());
   }
 
+  @Test
+  public void updateDeployment_buildFailedWithException_errorNotificationSent()
+      throws ApiException, IOException, InterruptedException {
+    JobDeployment jobDeployment = TestUtils.getJobDeployment();
+    jobDeployment.setDataJobName(TEST_JOB_NAME);
+    jobDeployment.setGitCommitSha("test-commit");
+    jobDeployment.setEnabled(true);
+
+    when(dockerRegistryService.dataJobImage(TEST_JOB_NAME, "test-commit"))
+        .thenReturn(TEST_JOB_IMAGE_NAME);
+    var build = new CompletableFuture<Boolean>();
+    when(jobImageBuilder.buildImage(TEST_JOB_IMAGE_NAME, testDataJob, jobDeployment, true))
+        .thenReturn(build);
+
+    deploymentService.updateDeployment(
+        testDataJob, jobDeployment, true, TEST_PRINCIPAL_NAME, OP_ID);
+
+    // The deployment continues only once the build has completed
+    verify(deploymentMonitor, never()).recordDeploymentStatus(any(), any());
+
+    build.completeExceptionally(new KubernetesException("test-exception", null));
+
+    verify(deploymentMonitor)
+        .recordDeploymentStatus(jobDeployment.getDataJobName(), DeploymentStatus.PLATFORM_ERROR);
+    verify(dataJobNotification).notifyJobDeployError(eq(testDataJob.getJobConfig()), any(), any());
+  }
+
   @Test
   public void patchDeployment() throws ApiException {
     JobDeployment jobDeployment = new JobDeployment();
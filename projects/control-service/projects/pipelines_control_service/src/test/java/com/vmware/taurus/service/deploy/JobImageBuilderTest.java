@@ -16,6 +16,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.vmware.taurus.exception.KubernetesException;
 import com.vmware.taurus.service.KubernetesService;
 import com.vmware.taurus.service.credentials.AWSCredentialsService;
 import com.vmware.taurus.service.credentials.AWSCredentialsService.AWSCredentialsDTO;
@@ -28,6 +29,8 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,7 +39,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -61,6 +67,8 @@ public class JobImageBuilderTest {
 
   @Mock private SupportedPythonVersions supportedPythonVersions;
 
+  @Spy private TaskExecutor taskExecutor = new SyncTaskExecutor();
+
   @InjectMocks private JobImageBuilder jobImageBuilder;
 
   private DataJob testDataJob;
@@ -84,12 +92,14 @@ public class JobImageBuilderTest {
   }
 
   @Test
-  public void buildImage_notExist_success() throws InterruptedException, ApiException, IOException {
+  public void buildImage_notExist_success()
+      throws InterruptedException, ApiException, IOException, ExecutionException {
     when(dockerRegistryService.builderImage()).thenReturn(TEST_BUILDER_IMAGE_NAME);
     when(kubernetesService.listJobs()).thenReturn(Collections.emptySet());
     var builderJobResult =
         new KubernetesService.JobStatusCondition(true, "type", "test-reason", "test-message", 0);
-    when(kubernetesService.watchJob(any(), anyInt(), any())).thenReturn(builderJobResult);
+    when(kubernetesService.awaitJobCompletion(any(), anyInt(), any()))
+        .thenReturn(CompletableFuture.completedFuture(builderJobResult));
     when(supportedPythonVersions.getJobBaseImage(any())).thenReturn("python:3.7-slim");
 
     JobDeployment jobDeployment = new JobDeployment();
@@ -120,20 +130,22 @@ public class JobImageBuilderTest {
             any());
 
     verify(kubernetesService).deleteJob(TEST_BUILDER_JOB_NAME);
-    Assertions.assertTrue(result);
+    Assertions.assertTrue(result.get());
   }
 
   @Test
   public void buildImage_builderRunning_oldBuilderDeleted()
-      throws InterruptedException, ApiException, IOException {
+      throws InterruptedException, ApiException, IOException, ExecutionException {
     when(dockerRegistryService.dataJobImageExists(eq(TEST_IMAGE_NAME), Mockito.any()))
         .thenReturn(false);
     when(dockerRegistryService.builderImage()).thenReturn(TEST_BUILDER_IMAGE_NAME);
-    when(kubernetesService.listJobs())
-        .thenReturn(Set.of(TEST_BUILDER_IMAGE_NAME), Collections.emptySet());
+    when(kubernetesService.listJobs()).thenReturn(Set.of(TEST_BUILDER_IMAGE_NAME));
+    when(kubernetesService.awaitJobDeletion(eq(TEST_BUILDER_IMAGE_NAME), anyInt()))
+        .thenReturn(CompletableFuture.completedFuture(true));
     var builderJobResult =
         new KubernetesService.JobStatusCondition(true, "type", "test-reason", "test-message", 0);
-    when(kubernetesService.watchJob(any(), anyInt(), any())).thenReturn(builderJobResult);
+    when(kubernetesService.awaitJobCompletion(any(), anyInt(), any()))
+        .thenReturn(CompletableFuture.completedFuture(builderJobResult));
     when(supportedPythonVersions.getJobBaseImage(any())).thenReturn("python:3.7-slim");
 
     JobDeployment jobDeployment = new JobDeployment();
@@ -145,6 +157,8 @@ public class JobImageBuilderTest {
     var result = jobImageBuilder.buildImage(TEST_IMAGE_NAME, testDataJob, jobDeployment, true);
 
     verify(kubernetesService, times(2)).deleteJob(TEST_BUILDER_IMAGE_NAME);
+    verify(kubernetesService).awaitJobDeletion(eq(TEST_BUILDER_IMAGE_NAME), anyInt());
+    verify(kubernetesService, times(1)).listJobs();
     verify(kubernetesService)
         .createJob(
             eq(TEST_BUILDER_JOB_NAME),
@@ -163,12 +177,69 @@ public class JobImageBuilderTest {
             anyLong(),
             any(),
             any());
-    Assertions.assertTrue(result);
+    Assertions.assertTrue(result.get());
+  }
+
+  @Test
+  public void buildImage_oldBuilderBeingDeleted_shouldCreateTheBuilderOnceDeleted()
+      throws InterruptedException, ApiException, IOException, ExecutionException {
+    when(dockerRegistryService.dataJobImageExists(eq(TEST_IMAGE_NAME), Mockito.any()))
+        .thenReturn(false);
+    when(dockerRegistryService.builderImage()).thenReturn(TEST_BUILDER_IMAGE_NAME);
+    when(kubernetesService.listJobs()).thenReturn(Set.of(TEST_BUILDER_JOB_NAME));
+    var oldBuilderJobDeleted = new CompletableFuture<Boolean>();
+    when(kubernetesService.awaitJobDeletion(eq(TEST_BUILDER_JOB_NAME), anyInt()))
+        .thenReturn(oldBuilderJobDeleted);
+    var builderJobResult =
+        new KubernetesService.JobStatusCondition(true, "type", "test-reason", "test-message", 0);
+    when(kubernetesService.awaitJobCompletion(any(), anyInt(), any()))
+        .thenReturn(CompletableFuture.completedFuture(builderJobResult));
+    when(supportedPythonVersions.getJobBaseImage(any())).thenReturn("python:3.7-slim");
+
+    JobDeployment jobDeployment = new JobDeployment();
+    jobDeployment.setDataJobName(TEST_JOB_NAME);
+    jobDeployment.setGitCommitSha("test-commit");
+    jobDeployment.setEnabled(true);
+    jobDeployment.setPythonVersion("3.7");
+
+    var result = jobImageBuilder.buildImage(TEST_IMAGE_NAME, testDataJob, jobDeployment, true);
+
+    // The build returns without waiting for the old builder job to be deleted
+    Assertions.assertFalse(result.isDone());
+    verify(kubernetesService, never()).awaitJobCompletion(any(), anyInt(), any());
+
+    oldBuilderJobDeleted.complete(true);
+
+    Assertions.assertTrue(result.get());
+    verify(kubernetesService).awaitJobCompletion(eq(TEST_BUILDER_JOB_NAME), anyInt(), any());
+  }
+
+  @Test
+  public void buildImage_oldBuilderNotDeleted_shouldFail()
+      throws InterruptedException, ApiException, IOException, ExecutionException {
+    when(dockerRegistryService.dataJobImageExists(eq(TEST_IMAGE_NAME), Mockito.any()))
+        .thenReturn(false);
+    when(kubernetesService.listJobs()).thenReturn(Set.of(TEST_BUILDER_JOB_NAME));
+    when(kubernetesService.awaitJobDeletion(eq(TEST_BUILDER_JOB_NAME), anyInt()))
+        .thenReturn(CompletableFuture.completedFuture(false));
+
+    JobDeployment jobDeployment = new JobDeployment();
+    jobDeployment.setDataJobName(TEST_JOB_NAME);
+    jobDeployment.setGitCommitSha("test-commit");
+    jobDeployment.setEnabled(true);
+    jobDeployment.setPythonVersion("3.7");
+
+    var result = jobImageBuilder.buildImage(TEST_IMAGE_NAME, testDataJob, jobDeployment, true);
+
+    var exception = Assertions.assertThrows(ExecutionException.class, result::get);
+    Assertions.assertInstanceOf(KubernetesException.class, exception.getCause());
+    verify(kubernetesService).deleteJob(TEST_BUILDER_JOB_NAME);
+    verify(kubernetesService, never()).awaitJobCompletion(any(), anyInt(), any());
   }
 
   @Test
   public void buildImage_imageExists_buildSkipped()
-      throws InterruptedException, ApiException, IOException {
+      throws InterruptedException, ApiException, IOException, ExecutionException {
     when(dockerRegistryService.dataJobImageExists(eq(TEST_IMAGE_NAME), Mockito.any()))
         .thenReturn(true);
 
@@ -200,17 +271,18 @@ public class JobImageBuilderTest {
             anyString());
     verify(notificationHelper, never())
         .verifyBuilderResult(anyString(), any(), any(), any(), anyString(), anyBoolean());
-    Assertions.assertTrue(result);
+    Assertions.assertTrue(result.get());
   }
 
   @Test
   public void buildImage_jobFailed_failure()
-      throws InterruptedException, ApiException, IOException {
+      throws InterruptedException, ApiException, IOException, ExecutionException {
     when(dockerRegistryService.builderImage()).thenReturn(TEST_BUILDER_IMAGE_NAME);
     when(kubernetesService.listJobs()).thenReturn(Collections.emptySet());
     var builderJobResult =
         new KubernetesService.JobStatusCondition(false, "type", "test-reason", "test-message", 0);
-    when(kubernetesService.watchJob(any(), anyInt(), any())).thenReturn(builderJobResult);
+    when(kubernetesService.awaitJobCompletion(any(), anyInt(), any()))
+        .thenReturn(CompletableFuture.completedFuture(builderJobResult));
     when(kubernetesService.getPodLogs(TEST_BUILDER_JOB_NAME)).thenReturn(TEST_BUILDER_LOGS);
     when(supportedPythonVersions.getJobBaseImage(any())).thenReturn("python:3.7-slim");
 
@@ -250,19 +322,20 @@ public class JobImageBuilderTest {
             builderJobResult,
             TEST_BUILDER_LOGS,
             true);
-    Assertions.assertFalse(result);
+    Assertions.assertFalse(result.get());
   }
 
   @Test
   public void
       buildImage_deploymentDataJobBaseImageNullAndSupportedPythonVersions_shouldCreateCronjobUsingSupportedPythonVersions()
-          throws InterruptedException, ApiException, IOException {
+          throws InterruptedException, ApiException, IOException, ExecutionException {
 
     when(dockerRegistryService.builderImage()).thenReturn(TEST_BUILDER_IMAGE_NAME);
     when(kubernetesService.listJobs()).thenReturn(Collections.emptySet());
     var builderJobResult =
         new KubernetesService.JobStatusCondition(true, "type", "test-reason", "test-message", 0);
-    when(kubernetesService.watchJob(any(), anyInt(), any())).thenReturn(builderJobResult);
+    when(kubernetesService.awaitJobCompletion(any(), anyInt(), any()))
+        .thenReturn(CompletableFuture.completedFuture(builderJobResult));
     when(supportedPythonVersions.getJobBaseImage("3.11")).thenReturn("test-base-image");
 
     JobDeployment jobDeployment = new JobDeployment();
@@ -298,12 +371,12 @@ public class JobImageBuilderTest {
     Assertions.assertEquals("test-base-image", capturedEnvs.get("BASE_IMAGE"));
 
     verify(kubernetesService).deleteJob(TEST_BUILDER_JOB_NAME);
-    Assertions.assertTrue(result);
+    Assertions.assertTrue(result.get());
   }
 
   @Test
   public void buildImage_PythonVersionNull_shouldNotCreateCronjob()
-      throws InterruptedException, ApiException, IOException {
+      throws InterruptedException, ApiException, IOException, ExecutionException {
 
     JobDeployment jobDeployment = new JobDeployment();
     jobDeployment.setDataJobName(TEST_JOB_NAME);
@@ -334,7 +407,7 @@ public class JobImageBuilderTest {
             any(),
             any());
 
-    Assertions.assertFalse(result);
+    Assertions.assertFalse(result.get());
   }
 
   private static Map<String, Map<String, String>> generateSupportedPythonVersionsConf() {
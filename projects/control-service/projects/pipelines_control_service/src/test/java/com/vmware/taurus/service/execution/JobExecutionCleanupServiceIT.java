@@ -17,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -178,6 +179,52 @@ public class JobExecutionCleanupServiceIT {
     Assertions.assertEquals(100, jobExecutionRepository.findAll().size());
   }
 
+  @Test
+  public void testDeleteInChunks() {
+    addExecutions(105, "jobA");
+    addExecutions(103, "jobB");
+    for (int i = 0; i < 3; i++) {
+      addJobExecution("jobB", OffsetDateTime.now().minusDays(15), ExecutionStatus.USER_ERROR);
+    }
+    addJobExecution("jobB", OffsetDateTime.now().minusDays(15), ExecutionStatus.RUNNING);
+
+    ReflectionTestUtils.setField(jobExecutionCleanupService, "deleteChunkSize", 2);
+    try {
+      jobExecutionCleanupService.cleanupExecutions();
+    } finally {
+      ReflectionTestUtils.setField(jobExecutionCleanupService, "deleteChunkSize", 1000);
+    }
+
+    Assertions.assertEquals(
+        100, jobExecutionRepository.findDataJobExecutionsByDataJobName("jobA").size());
+    var jobBExecutions = jobExecutionRepository.findDataJobExecutionsByDataJobName("jobB");
+    Assertions.assertEquals(101, jobBExecutions.size());
+    Assertions.assertTrue(
+        jobBExecutions.stream()
+            .filter(e -> e.getEndTime().isBefore(OffsetDateTime.now().minusDays(14)))
+            .allMatch(e -> e.getStatus() == ExecutionStatus.RUNNING));
+  }
+
+  @Test
+  public void testDeleteInJobBatches() {
+    addExecutions(102, "jobA");
+    addExecutions(104, "jobB");
+
+    ReflectionTestUtils.setField(jobExecutionCleanupService, "jobBatchSize", 1);
+    ReflectionTestUtils.setField(jobExecutionCleanupService, "deleteChunkSize", 3);
+    try {
+      jobExecutionCleanupService.cleanupExecutions();
+    } finally {
+      ReflectionTestUtils.setField(jobExecutionCleanupService, "jobBatchSize", 100);
+      ReflectionTestUtils.setField(jobExecutionCleanupService, "deleteChunkSize", 1000);
+    }
+
+    Assertions.assertEquals(
+        100, jobExecutionRepository.findDataJobExecutionsByDataJobName("jobA").size());
+    Assertions.assertEquals(
+        100, jobExecutionRepository.findDataJobExecutionsByDataJobName("jobB").size());
+  }
+
   private void addJobExecution(String jobName, OffsetDateTime time, ExecutionStatus status) {
     var excId = UUID.randomUUID().toString();
     var execution =
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.execution;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class JobExecutionLogsCacheTest {
+
+  private static final int LOGS_SIZE = 10_000;
+
+  @TempDir Path directory;
+
+  @Test
+  public void testGet_cachedLogs_shouldReturnLogs() {
+    var cache = new JobExecutionLogsCache(true, directory, 1024 * 1024);
+    var logs = String.join(System.lineSeparator(), "line 1", "line 2", "line 3");
+
+    cache.put("execution-1", logs);
+
+    Assertions.assertEquals(Optional.of(logs), cache.get("execution-1", null));
+    Assertions.assertEquals(
+        Optional.of(String.join(System.lineSeparator(), "line 2", "line 3")),
+        cache.get("execution-1", 2));
+    Assertions.assertEquals(Optional.empty(), cache.get("execution-2", null));
+    Assertions.assertTrue(Files.exists(directory.resolve("execution-1.log.gz")));
+  }
+
+  @Test
+  public void testPut_logsStream_shouldCacheTheWholeStream() {
+    var cache = new JobExecutionLogsCache(true, directory, 1024 * 1024);
+    var logs = "line 1\nline 2\nline 3\n";
+
+    Assertions.assertTrue(
+        cache.put(
+            "execution-1", new ByteArrayInputStream(logs.getBytes(StandardCharsets.UTF_8))));
+
+    Assertions.assertEquals(Optional.of("line 3"), cache.get("execution-1", 1));
+    Assertions.assertEquals(
+        Optional.of(String.join(System.lineSeparator(), "line 1", "line 2", "line 3")),
+        cache.get("execution-1", null));
+    Assertions.assertFalse(cache.put("../execution-1", InputStream.nullInputStream()));
+  }
+
+  @Test
+  public void testPut_maxSizeExceeded_shouldEvictLeastRecentlyUsedLogs() {
+    // Random logs do not compress, so each of them takes at least LOGS_SIZE bytes on disk.
+    var cache = new JobExecutionLogsCache(true, directory, 3 * LOGS_SIZE);
+
+    cache.put("execution-1", randomLogs());
+    cache.put("execution-2", randomLogs());
+    Assertions.assertTrue(cache.get("execution-1", null).isPresent());
+    cache.put("execution-3", randomLogs());
+
+    Assertions.assertTrue(cache.get("execution-1", null).isPresent());
+    Assertions.assertTrue(cache.get("execution-2", null).isEmpty());
+    Assertions.assertTrue(cache.get("execution-3", null).isPresent());
+    Assertions.assertFalse(Files.exists(directory.resolve("execution-2.log.gz")));
+    Assertions.assertTrue(cache.getSizeBytes() <= 3 * LOGS_SIZE);
+  }
+
+  @Test
+  public void testInit_existingCache_shouldReuseCachedLogs() {
+    new JobExecutionLogsCache(true, directory, 1024 * 1024).put("execution-1", "logs");
+
+    var cache = new JobExecutionLogsCache(true, directory, 1024 * 1024);
+
+    Assertions.assertEquals(Optional.of("logs"), cache.get("execution-1", null));
+  }
+
+  @Test
+  public void testPut_disabledOrInvalidExecutionId_shouldNotCache() {
+    var disabledCache = new JobExecutionLogsCache(false, directory, 1024 * 1024);
+    disabledCache.put("execution-1", "logs");
+    Assertions.assertTrue(disabledCache.get("execution-1", null).isEmpty());
+
+    var cache = new JobExecutionLogsCache(true, directory, 1024 * 1024);
+    cache.put("../execution-1", "logs");
+    Assertions.assertTrue(cache.get("../execution-1", null).isEmpty());
+    Assertions.assertEquals(0, cache.getSizeBytes());
+  }
+
+  @Test
+  public void testTailLines() {
+    Assertions.assertEquals(
+        "b" + System.lineSeparator() + "c",
+        JobExecutionLogsCache.tailLines(Stream.of("a", "b", "c"), 2));
+    Assertions.assertEquals(
+        "a" + System.lineSeparator() + "b",
+        JobExecutionLogsCache.tailLines(Stream.of("a", "b"), 5));
+  }
+
+  private static String randomLogs() {
+    return RandomStringUtils.randomAlphanumeric(LOGS_SIZE + LOGS_SIZE / 2);
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.execution;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+public class JobExecutionPartitionServiceTest {
+
+  @Test
+  public void testGetPartitionName() {
+    Assertions.assertEquals(
+        "data_job_execution_p202303",
+        JobExecutionPartitionService.getPartitionName(YearMonth.of(2023, 3)));
+  }
+
+  @Test
+  public void testGetPartitionMonth() {
+    Assertions.assertEquals(
+        Optional.of(YearMonth.of(2023, 12)),
+        JobExecutionPartitionService.getPartitionMonth("data_job_execution_p202312"));
+    Assertions.assertEquals(
+        Optional.empty(),
+        JobExecutionPartitionService.getPartitionMonth("data_job_execution_default"));
+    Assertions.assertEquals(
+        Optional.empty(), JobExecutionPartitionService.getPartitionMonth("data_job_execution_p1"));
+  }
+
+  @Test
+  public void testGetPartitionsBefore_shouldReturnOnlyFullyExpiredMonthlyPartitions() {
+    var partitions =
+        List.of(
+            "data_job_execution_default",
+            "data_job_execution_p202304",
+            "data_job_execution_p202305",
+            "data_job_execution_p202306",
+            "data_job_execution_p202307");
+
+    Assertions.assertEquals(
+        List.of("data_job_execution_p202304", "data_job_execution_p202305"),
+        JobExecutionPartitionService.getPartitionsBefore(
+            partitions, LocalDateTime.of(2023, 6, 1, 0, 0)));
+    Assertions.assertEquals(
+        List.of("data_job_execution_p202304", "data_job_execution_p202305"),
+        JobExecutionPartitionService.getPartitionsBefore(
+            partitions, LocalDateTime.of(2023, 6, 30, 23, 59)));
+  }
+}
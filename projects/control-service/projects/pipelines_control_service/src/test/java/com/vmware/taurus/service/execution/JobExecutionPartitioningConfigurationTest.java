@@ -0,0 +1,57 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.execution;
+
+import org.flywaydb.core.api.Location;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+public class JobExecutionPartitioningConfigurationTest {
+
+  private final JobExecutionPartitioningConfiguration partitioningConfiguration =
+      new JobExecutionPartitioningConfiguration();
+
+  @Test
+  public void testCustomizer_partitioningEnabled_shouldAddLocationAndMonthsAhead() {
+    var configuration =
+        new FluentConfiguration()
+            .locations("classpath:db/migration")
+            .placeholders(Map.of("other", "value"));
+
+    partitioningConfiguration
+        .jobExecutionPartitioningFlywayCustomizer(true, 6)
+        .customize(configuration);
+
+    Assertions.assertEquals(
+        List.of(
+            new Location("classpath:db/migration"),
+            new Location(JobExecutionPartitioningConfiguration.PARTITIONING_MIGRATIONS_LOCATION)),
+        Arrays.asList(configuration.getLocations()));
+    Assertions.assertEquals(
+        Map.of(
+            "other", "value", JobExecutionPartitioningConfiguration.MONTHS_AHEAD_PLACEHOLDER, "6"),
+        configuration.getPlaceholders());
+  }
+
+  @Test
+  public void testCustomizer_partitioningDisabled_shouldNotChangeConfiguration() {
+    var configuration = new FluentConfiguration().locations("classpath:db/migration");
+
+    partitioningConfiguration
+        .jobExecutionPartitioningFlywayCustomizer(false, 6)
+        .customize(configuration);
+
+    Assertions.assertEquals(
+        List.of(new Location("classpath:db/migration")),
+        Arrays.asList(configuration.getLocations()));
+    Assertions.assertTrue(configuration.getPlaceholders().isEmpty());
+  }
+}
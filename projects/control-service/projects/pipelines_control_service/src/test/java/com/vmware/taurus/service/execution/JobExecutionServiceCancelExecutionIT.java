@@ -10,6 +10,7 @@ import com.vmware.taurus.RepositoryUtil;
 import com.vmware.taurus.exception.DataJobExecutionCannotBeCancelledException;
 import com.vmware.taurus.exception.KubernetesException;
 import com.vmware.taurus.service.JobExecutionRepository;
+import com.vmware.taurus.service.JobExecutionStatsRepository;
 import com.vmware.taurus.service.JobsRepository;
 import com.vmware.taurus.service.kubernetes.DataJobsKubernetesService;
 import com.vmware.taurus.service.model.DataJob;
@@ -28,6 +29,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.List;
+
 @ExtendWith(SpringExtension.class)
 @SpringBootTest(classes = ControlplaneApplication.class)
 public class JobExecutionServiceCancelExecutionIT {
@@ -36,6 +39,8 @@ public class JobExecutionServiceCancelExecutionIT {
 
   @Autowired private JobExecutionRepository jobExecutionRepository;
 
+  @Autowired private JobExecutionStatsRepository jobExecutionStatsRepository;
+
   @Autowired private JobExecutionService jobExecutionService;
 
   @MockBean private DataJobsKubernetesService dataJobsKubernetesService;
@@ -54,6 +59,7 @@ public class JobExecutionServiceCancelExecutionIT {
 
   @AfterEach
   public void cleanDbAfterTests() {
+    jobExecutionStatsRepository.deleteAll();
     jobExecutionRepository.deleteAll();
     jobsRepository.deleteAll();
   }
@@ -77,6 +83,19 @@ public class JobExecutionServiceCancelExecutionIT {
         "Expecting the size of executions to remain 1.");
   }
 
+  @Test
+  public void testCancelRunningExecution_shouldCountTheCancellation() throws ApiException {
+    String jobExecutionId = "test-job-id";
+    RepositoryUtil.createDataJobExecution(
+        jobExecutionRepository, jobExecutionId, testJob, ExecutionStatus.RUNNING);
+
+    jobExecutionService.cancelDataJobExecution("test-team", "testJob", jobExecutionId);
+
+    var stats = jobExecutionService.getExecutionStats(List.of("testJob")).get("testJob");
+    Assertions.assertEquals(1, stats.getCancelledCount());
+    Assertions.assertEquals(0, stats.getSucceededCount());
+  }
+
   @Test
   public void testCancelFinishedExecution() {
     String jobExecutionId = "test-job-id";
@@ -10,6 +10,7 @@ import com.vmware.taurus.RepositoryUtil;
 import com.vmware.taurus.controlplane.model.data.DataJobExecution;
 import com.vmware.taurus.exception.DataJobExecutionStatusNotValidException;
 import com.vmware.taurus.exception.DataJobNotFoundException;
+import com.vmware.taurus.service.JobExecutionCursor;
 import com.vmware.taurus.service.JobExecutionRepository;
 import com.vmware.taurus.service.JobsRepository;
 import com.vmware.taurus.service.kubernetes.DataJobsKubernetesService;
@@ -27,8 +28,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 
+import static com.vmware.taurus.RepositoryUtil.getTimeAccurateToMicroSecond;
 import static com.vmware.taurus.service.execution.JobExecutionServiceUtil.assertDataJobExecutionListValid;
 import static com.vmware.taurus.service.execution.JobExecutionServiceUtil.assertDataJobExecutionValid;
 
@@ -159,4 +162,79 @@ public class JobExecutionServiceListExecutionsIT {
     Assertions.assertEquals(1, actualDataJobExecutions.size());
     assertDataJobExecutionValid(expectedDataJobExecution1, actualDataJobExecutions.get(0));
   }
+
+  @Test
+  public void testListJobExecutions_withPageSize_shouldReturnPagesFromMostRecent() {
+    DataJob actualDataJob = RepositoryUtil.createDataJob(jobsRepository);
+    OffsetDateTime now = getTimeAccurateToMicroSecond();
+    for (int i = 1; i <= 3; i++) {
+      RepositoryUtil.createDataJobExecution(
+          jobExecutionRepository,
+          "test-id-" + i,
+          actualDataJob,
+          ExecutionStatus.SUCCEEDED,
+          now.minusMinutes(10 - i));
+    }
+    String team = actualDataJob.getJobConfig().getTeam();
+
+    var firstPage =
+        jobExecutionService.listJobExecutions(team, actualDataJob.getName(), null, 2, null);
+    Assertions.assertEquals(
+        List.of("test-id-3", "test-id-2"),
+        firstPage.getExecutions().stream().map(DataJobExecution::getId).toList());
+    Assertions.assertNotNull(firstPage.getNextCursor());
+
+    var secondPage =
+        jobExecutionService.listJobExecutions(
+            team,
+            actualDataJob.getName(),
+            null,
+            2,
+            JobExecutionCursor.decode(firstPage.getNextCursor()));
+    Assertions.assertEquals(
+        List.of("test-id-1"),
+        secondPage.getExecutions().stream().map(DataJobExecution::getId).toList());
+    Assertions.assertNull(secondPage.getNextCursor());
+  }
+
+  @Test
+  public void testListJobExecutions_withPageSizeAndNotRunningJobInK8S_shouldReturnFullPages()
+      throws ApiException {
+    DataJob actualDataJob = RepositoryUtil.createDataJob(jobsRepository);
+    OffsetDateTime now = getTimeAccurateToMicroSecond();
+    RepositoryUtil.createDataJobExecution(
+        jobExecutionRepository,
+        "test-id-1",
+        actualDataJob,
+        ExecutionStatus.SUBMITTED,
+        now.minusMinutes(3));
+    RepositoryUtil.createDataJobExecution(
+        jobExecutionRepository, "test-id-2", actualDataJob, ExecutionStatus.RUNNING, now);
+    Mockito.when(dataJobsKubernetesService.isRunningJob(actualDataJob.getName())).thenReturn(false);
+    String team = actualDataJob.getJobConfig().getTeam();
+
+    var page =
+        jobExecutionService.listJobExecutions(
+            team,
+            actualDataJob.getName(),
+            List.of(
+                DataJobExecution.StatusEnum.SUBMITTED.getValue(),
+                DataJobExecution.StatusEnum.RUNNING.getValue()),
+            1,
+            null);
+    Assertions.assertEquals(
+        List.of("test-id-1"),
+        page.getExecutions().stream().map(DataJobExecution::getId).toList());
+    Assertions.assertNull(page.getNextCursor());
+
+    var runningPage =
+        jobExecutionService.listJobExecutions(
+            team,
+            actualDataJob.getName(),
+            List.of(DataJobExecution.StatusEnum.RUNNING.getValue()),
+            1,
+            null);
+    Assertions.assertTrue(runningPage.getExecutions().isEmpty());
+    Assertions.assertNull(runningPage.getNextCursor());
+  }
 }
@@ -72,6 +72,38 @@ public class JobExecutionServiceSyncExecutionIT {
     Assert.assertEquals(ExecutionStatus.CANCELLED, execution.getStatus());
   }
 
+  @Test
+  public void testSyncJobExecutionStatuses_staleExecutions_shouldCountTheUpdatedOnes() {
+    DataJob actualDataJob = RepositoryUtil.createDataJob(jobsRepository);
+    RepositoryUtil.createDataJobExecution(
+        jobExecutionRepository,
+        "test-execution-id-1",
+        actualDataJob,
+        ExecutionStatus.RUNNING,
+        OffsetDateTime.now().minusMinutes(5));
+    RepositoryUtil.createDataJobExecution(
+        jobExecutionRepository,
+        "test-execution-id-2",
+        actualDataJob,
+        ExecutionStatus.SUBMITTED,
+        OffsetDateTime.now().minusMinutes(5));
+    RepositoryUtil.createDataJobExecution(
+        jobExecutionRepository,
+        "test-execution-id-3",
+        actualDataJob,
+        ExecutionStatus.USER_ERROR,
+        OffsetDateTime.now().minusMinutes(5));
+
+    jobExecutionService.syncJobExecutionStatuses(Collections.emptyList());
+
+    var stats =
+        jobExecutionService
+            .getExecutionStats(List.of(actualDataJob.getName()))
+            .get(actualDataJob.getName());
+    Assert.assertEquals(2, stats.getSucceededCount());
+    Assert.assertEquals(0, stats.getUserErrorCount());
+  }
+
   @Test
   public void
       testSyncJobExecutionStatuses_fourRunningExecutionsWithStartTimeBefore5min_shouldSyncTwoExecutions() {
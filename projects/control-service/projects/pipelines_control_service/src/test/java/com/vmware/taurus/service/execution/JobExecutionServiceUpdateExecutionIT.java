@@ -7,6 +7,8 @@ package com.vmware.taurus.service.execution;
 
 import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Random;
 
 import com.google.gson.JsonObject;
@@ -18,14 +20,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.vmware.taurus.ControlplaneApplication;
 import com.vmware.taurus.RepositoryUtil;
 import com.vmware.taurus.controlplane.model.data.DataJobExecution;
 import com.vmware.taurus.service.JobExecutionRepository;
+import com.vmware.taurus.service.JobExecutionStatsRepository;
 import com.vmware.taurus.service.JobsRepository;
 import com.vmware.taurus.service.KubernetesService;
 import com.vmware.taurus.service.model.DataJob;
+import com.vmware.taurus.service.model.DataJobExecutionStats;
 import com.vmware.taurus.service.model.ExecutionStatus;
 import com.vmware.taurus.service.model.ExecutionResult;
 
@@ -41,6 +47,10 @@ public class JobExecutionServiceUpdateExecutionIT {
 
   @Autowired private JobExecutionRepository jobExecutionRepository;
 
+  @Autowired private JobExecutionStatsRepository jobExecutionStatsRepository;
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
   @AfterEach
   public void cleanUp() {
     jobsRepository.deleteAll();
@@ -211,6 +221,102 @@ public class JobExecutionServiceUpdateExecutionIT {
     Assert.assertEquals(DataJobExecution.StatusEnum.SUBMITTED, actualJobExecution.getStatus());
   }
 
+  @Test
+  void testUpdateJobExecution_finalStatus_shouldUpdateExecutionStats() {
+    DataJob actualDataJob = RepositoryUtil.createDataJob(jobsRepository);
+    var startTime = OffsetDateTime.now().minusMinutes(10).truncatedTo(ChronoUnit.SECONDS);
+    var execution =
+        createJobExecution(actualDataJob, null, null, startTime, null, null); // submitted
+    Assertions.assertTrue(
+        jobExecutionService.getExecutionStats(List.of(actualDataJob.getName())).isEmpty());
+
+    var finishedExecution =
+        KubernetesService.JobExecution.builder()
+            .succeeded(false)
+            .opId(execution.getOpId())
+            .executionId(execution.getExecutionId())
+            .executionType("manual")
+            .jobName(actualDataJob.getName())
+            .startTime(startTime)
+            .endTime(startTime.plusMinutes(5))
+            .mainContainerTerminationMessage(ExecutionStatus.USER_ERROR.getPodStatus())
+            .build();
+    jobExecutionService.updateJobExecution(
+        actualDataJob,
+        finishedExecution,
+        JobExecutionResultManager.getResult(finishedExecution));
+    createJobExecution(
+        actualDataJob,
+        true,
+        ExecutionStatus.SUCCEEDED.getPodStatus(),
+        startTime,
+        startTime.plusMinutes(1),
+        null);
+
+    var stats = jobExecutionService.getExecutionStats(List.of(actualDataJob.getName()));
+    var jobStats = stats.get(actualDataJob.getName());
+    Assertions.assertEquals(1, jobStats.getSucceededCount());
+    Assertions.assertEquals(1, jobStats.getUserErrorCount());
+    Assertions.assertEquals(0, jobStats.getPlatformErrorCount());
+    Assertions.assertEquals(
+        List.of(300L, 60L), JobExecutionStatsService.getLastDurations(jobStats));
+    Assertions.assertEquals(60L, jobStats.getDurationP50Seconds());
+    Assertions.assertEquals(300L, jobStats.getDurationP95Seconds());
+  }
+
+  @Test
+  void testUpdateJobExecution_rolledBackTransaction_shouldNotUpdateExecutionStats() {
+    DataJob actualDataJob = RepositoryUtil.createDataJob(jobsRepository);
+    var startTime = OffsetDateTime.now().minusMinutes(10).truncatedTo(ChronoUnit.SECONDS);
+
+    new TransactionTemplate(transactionManager)
+        .executeWithoutResult(
+            status -> {
+              createJobExecution(
+                  actualDataJob,
+                  true,
+                  ExecutionStatus.SUCCEEDED.getPodStatus(),
+                  startTime,
+                  startTime.plusMinutes(1),
+                  null);
+              status.setRollbackOnly();
+            });
+    Assertions.assertTrue(
+        jobExecutionService.getExecutionStats(List.of(actualDataJob.getName())).isEmpty());
+
+    new TransactionTemplate(transactionManager)
+        .executeWithoutResult(
+            status ->
+                createJobExecution(
+                    actualDataJob,
+                    true,
+                    ExecutionStatus.SUCCEEDED.getPodStatus(),
+                    startTime,
+                    startTime.plusMinutes(1),
+                    null));
+    var jobStats =
+        jobExecutionService.getExecutionStats(List.of(actualDataJob.getName())).get(
+            actualDataJob.getName());
+    Assertions.assertEquals(1, jobStats.getSucceededCount());
+  }
+
+  @Test
+  void testInsertMissingStats_existingStats_shouldKeepThem() {
+    DataJob actualDataJob = RepositoryUtil.createDataJob(jobsRepository);
+    var stats = new DataJobExecutionStats(actualDataJob.getName());
+    stats.setSucceededCount(3);
+    jobExecutionStatsRepository.save(stats);
+
+    new TransactionTemplate(transactionManager)
+        .executeWithoutResult(
+            status ->
+                jobExecutionStatsRepository.insertMissingStats(
+                    List.of(actualDataJob.getName(), actualDataJob.getName())));
+
+    Assertions.assertEquals(
+        3, jobExecutionStatsRepository.findById(actualDataJob.getName()).get().getSucceededCount());
+  }
+
   private KubernetesService.JobExecution createJobExecution(
       DataJob dataJob,
       Boolean succeeded,
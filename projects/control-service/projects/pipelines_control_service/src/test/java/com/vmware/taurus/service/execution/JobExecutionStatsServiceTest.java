@@ -0,0 +1,82 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.execution;
+
+import com.vmware.taurus.service.model.DataJobExecutionStats;
+import com.vmware.taurus.service.model.ExecutionStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public class JobExecutionStatsServiceTest {
+
+  private static final OffsetDateTime START_TIME = OffsetDateTime.now();
+
+  @Test
+  public void testApplyStatusChange_finalStatus_shouldCountAndRecordDuration() {
+    var stats = new DataJobExecutionStats("job");
+
+    JobExecutionStatsService.applyStatusChange(
+        stats, change(ExecutionStatus.RUNNING, ExecutionStatus.SUCCEEDED, 10), 100);
+    JobExecutionStatsService.applyStatusChange(
+        stats, change(null, ExecutionStatus.USER_ERROR, 30), 100);
+    JobExecutionStatsService.applyStatusChange(
+        stats, change(ExecutionStatus.SUBMITTED, ExecutionStatus.RUNNING, 50), 100);
+
+    Assertions.assertEquals(1, stats.getSucceededCount());
+    Assertions.assertEquals(1, stats.getUserErrorCount());
+    Assertions.assertEquals("10,30", stats.getLastDurations());
+    Assertions.assertEquals(10L, stats.getDurationP50Seconds());
+    Assertions.assertEquals(30L, stats.getDurationP95Seconds());
+  }
+
+  @Test
+  public void testApplyStatusChange_retriedPlatformError_shouldMoveCountWithoutNewDuration() {
+    var stats = new DataJobExecutionStats("job");
+
+    JobExecutionStatsService.applyStatusChange(
+        stats, change(ExecutionStatus.RUNNING, ExecutionStatus.PLATFORM_ERROR, 10), 100);
+    JobExecutionStatsService.applyStatusChange(
+        stats, change(ExecutionStatus.PLATFORM_ERROR, ExecutionStatus.RUNNING, 20), 100);
+    Assertions.assertEquals(0, stats.getPlatformErrorCount());
+
+    JobExecutionStatsService.applyStatusChange(
+        stats, change(ExecutionStatus.RUNNING, ExecutionStatus.SUCCEEDED, 40), 100);
+    Assertions.assertEquals(1, stats.getSucceededCount());
+    Assertions.assertEquals("10,40", stats.getLastDurations());
+  }
+
+  @Test
+  public void testApplyStatusChange_moreDurationsThanKept_shouldKeepTheLast() {
+    var stats = new DataJobExecutionStats("job");
+
+    for (int i = 1; i <= 5; i++) {
+      JobExecutionStatsService.applyStatusChange(
+          stats, change(ExecutionStatus.RUNNING, ExecutionStatus.SUCCEEDED, i), 3);
+    }
+
+    Assertions.assertEquals(5, stats.getSucceededCount());
+    Assertions.assertEquals(List.of(3L, 4L, 5L), JobExecutionStatsService.getLastDurations(stats));
+  }
+
+  @Test
+  public void testPercentile() {
+    var values = List.of(5L, 1L, 4L, 2L, 3L, 10L, 9L, 8L, 7L, 6L);
+
+    Assertions.assertEquals(5L, JobExecutionStatsService.percentile(values, 50));
+    Assertions.assertEquals(10L, JobExecutionStatsService.percentile(values, 95));
+    Assertions.assertEquals(1L, JobExecutionStatsService.percentile(List.of(1L), 95));
+    Assertions.assertNull(JobExecutionStatsService.percentile(List.of(), 50));
+  }
+
+  private static JobExecutionStatsService.StatusChange change(
+      ExecutionStatus previousStatus, ExecutionStatus newStatus, long durationSeconds) {
+    return new JobExecutionStatsService.StatusChange(
+        "job", previousStatus, newStatus, START_TIME, START_TIME.plusSeconds(durationSeconds));
+  }
+}
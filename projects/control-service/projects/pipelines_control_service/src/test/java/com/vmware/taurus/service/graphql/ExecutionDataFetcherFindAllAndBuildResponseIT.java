@@ -31,7 +31,9 @@ import java.util.List;
 import java.util.Map;
 
 import static com.vmware.taurus.RepositoryUtil.getTimeAccurateToMicroSecond;
+import static com.vmware.taurus.service.graphql.model.DataJobExecutionQueryVariables.AFTER_FIELD;
 import static com.vmware.taurus.service.graphql.model.DataJobExecutionQueryVariables.FILTER_FIELD;
+import static com.vmware.taurus.service.graphql.model.DataJobExecutionQueryVariables.FIRST_FIELD;
 import static com.vmware.taurus.service.graphql.model.DataJobExecutionQueryVariables.ORDER_FIELD;
 import static com.vmware.taurus.service.graphql.model.DataJobExecutionQueryVariables.PAGE_NUMBER_FIELD;
 import static com.vmware.taurus.service.graphql.model.DataJobExecutionQueryVariables.PAGE_SIZE_FIELD;
@@ -698,6 +700,76 @@ public class ExecutionDataFetcherFindAllAndBuildResponseIT {
     Assertions.assertEquals(2, actualJobExecutions.size());
   }
 
+  @Test
+  public void testFindAllAndBuildResponse_withFirstAndAfter_shouldReturnPagesByCursor()
+      throws Exception {
+    DataJob actualDataJob = RepositoryUtil.createDataJob(jobsRepository);
+    OffsetDateTime now = getTimeAccurateToMicroSecond();
+
+    DataJobExecution expectedJobExecution1 =
+        RepositoryUtil.createDataJobExecution(
+            jobExecutionRepository,
+            "test-execution-id-1",
+            actualDataJob,
+            ExecutionStatus.SUCCEEDED,
+            now.minusMinutes(2));
+    DataJobExecution expectedJobExecution2 =
+        RepositoryUtil.createDataJobExecution(
+            jobExecutionRepository,
+            "test-execution-id-2",
+            actualDataJob,
+            ExecutionStatus.SUCCEEDED,
+            now.minusMinutes(1));
+    DataJobExecution expectedJobExecution3 =
+        RepositoryUtil.createDataJobExecution(
+            jobExecutionRepository,
+            "test-execution-id-3",
+            actualDataJob,
+            ExecutionStatus.RUNNING,
+            now.minusMinutes(1));
+
+    when(dataFetchingEnvironment.getArguments()).thenReturn(Map.of(FIRST_FIELD, 2));
+    DataJobPage firstPage =
+        (DataJobPage) executionDataFetcher.findAllAndBuildResponse().get(dataFetchingEnvironment);
+
+    Assertions.assertEquals(2, firstPage.getContent().size());
+    assertExecutionsEquals(expectedJobExecution3, firstPage.getContent().get(0));
+    assertExecutionsEquals(expectedJobExecution2, firstPage.getContent().get(1));
+    Assertions.assertNotNull(firstPage.getNextCursor());
+    Assertions.assertNull(firstPage.getTotalItems());
+
+    when(dataFetchingEnvironment.getArguments())
+        .thenReturn(Map.of(FIRST_FIELD, 2, AFTER_FIELD, firstPage.getNextCursor()));
+    DataJobPage secondPage =
+        (DataJobPage) executionDataFetcher.findAllAndBuildResponse().get(dataFetchingEnvironment);
+
+    Assertions.assertEquals(1, secondPage.getContent().size());
+    assertExecutionsEquals(expectedJobExecution1, secondPage.getContent().get(0));
+    Assertions.assertNull(secondPage.getNextCursor());
+  }
+
+  @Test
+  public void testFindAllAndBuildResponse_withFirstAndPageNumber_shouldThrowException() {
+    when(dataFetchingEnvironment.getArguments())
+        .thenReturn(Map.of(FIRST_FIELD, 2, PAGE_NUMBER_FIELD, 1, PAGE_SIZE_FIELD, 2));
+
+    DataFetcher<Object> allAndBuildResponse = executionDataFetcher.findAllAndBuildResponse();
+
+    Assertions.assertThrows(
+        GraphQLException.class, () -> allAndBuildResponse.get(dataFetchingEnvironment));
+  }
+
+  @Test
+  public void testFindAllAndBuildResponse_withInvalidAfter_shouldThrowException() {
+    when(dataFetchingEnvironment.getArguments())
+        .thenReturn(Map.of(FIRST_FIELD, 2, AFTER_FIELD, "not-a-cursor"));
+
+    DataFetcher<Object> allAndBuildResponse = executionDataFetcher.findAllAndBuildResponse();
+
+    Assertions.assertThrows(
+        GraphQLException.class, () -> allAndBuildResponse.get(dataFetchingEnvironment));
+  }
+
   private void assertExecutionsEquals(
       DataJobExecution expectedJobExecution, Object actualJobExecutionObject) {
     com.vmware.taurus.controlplane.model.data.DataJobExecution actualJobExecution =
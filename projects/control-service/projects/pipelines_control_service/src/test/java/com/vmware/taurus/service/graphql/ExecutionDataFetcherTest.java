@@ -17,7 +17,12 @@ import com.vmware.taurus.service.graphql.model.V2DataJobConfig;
 import com.vmware.taurus.service.graphql.model.V2DataJobDeployment;
 import com.vmware.taurus.service.graphql.model.V2DataJobSchedule;
 import com.vmware.taurus.service.graphql.strategy.datajob.JobFieldStrategyBy;
+import com.vmware.taurus.service.model.DataJob;
 import com.vmware.taurus.service.model.DataJobExecution;
+import com.vmware.taurus.service.model.DataJobExecutionView;
+import com.vmware.taurus.service.model.ExecutionStatus;
+import com.vmware.taurus.service.model.ExecutionType;
+import com.vmware.taurus.service.model.JobConfig;
 import graphql.GraphQLException;
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.DataFetchingFieldSelectionSet;
@@ -27,21 +32,26 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -109,14 +119,52 @@ class ExecutionDataFetcherTest {
     executionArgs.put("pageSize", 25);
     when(selectedField.getArguments()).thenReturn(executionArgs);
     List<V2DataJob> v2DataJobs = mockListOfV2DataJobs();
-    when(jobExecutionRepository.findAll(any(Specification.class), any(Pageable.class)))
-        .thenReturn(new PageImpl<DataJobExecution>(Collections.emptyList()));
+    when(jobExecutionRepository.findAllViewsPerJob(
+            any(Collection.class), any(DataJobExecutionFilter.class), any(Pageable.class)))
+        .thenReturn(Map.of());
 
     List<V2DataJob> result =
         executionDataFetcher.populateExecutions(v2DataJobs, dataFetchingEnvironment);
 
     assertEquals(3, result.size());
-    verify(jobExecutionRepository, times(2)).findAll(any(Specification.class), any(Pageable.class));
+    verify(jobExecutionRepository, times(1))
+        .findAllViewsPerJob(
+            eq(Set.of("sample-job-1", "sample-job-2")),
+            any(DataJobExecutionFilter.class),
+            eq(PageRequest.of(0, 25)));
+  }
+
+  @Test
+  void testDataFetcherOfJobs_whenExecutionsAreFound_shouldSetThemToTheDeploymentsOfTheirJobs() {
+    when(dataFetchingEnvironment.getSelectionSet()).thenReturn(dataFetchingFieldSelectionSet);
+    when(dataFetchingFieldSelectionSet.getFields(
+            JobFieldStrategyBy.DEPLOYMENT_EXECUTIONS.getPath()))
+        .thenReturn(Lists.newArrayList(selectedField));
+    when(selectedField.getArguments()).thenReturn(Map.of("first", 2));
+    List<V2DataJob> v2DataJobs = mockListOfV2DataJobs();
+    when(jobExecutionRepository.findAllViewsPerJob(
+            any(Collection.class),
+            any(DataJobExecutionFilter.class),
+            eq(Sort.Direction.DESC),
+            isNull(),
+            eq(2)))
+        .thenReturn(
+            Map.of(
+                "sample-job-2",
+                List.of(
+                    mockExecution("execution-2", "sample-job-2"),
+                    mockExecution("execution-1", "sample-job-2"))));
+
+    List<V2DataJob> result =
+        executionDataFetcher.populateExecutions(v2DataJobs, dataFetchingEnvironment);
+
+    assertEquals(List.of(), result.get(0).getDeployments().get(0).getExecutions());
+    assertEquals(
+        List.of("execution-2", "execution-1"),
+        result.get(1).getDeployments().get(0).getExecutions().stream()
+            .map(execution -> execution.getId())
+            .collect(Collectors.toList()));
+    assertNull(result.get(2).getDeployments());
   }
 
   @Test
@@ -188,6 +236,17 @@ class ExecutionDataFetcherTest {
     return dataJob;
   }
 
+  static DataJobExecutionView mockExecution(String id, String jobName) {
+    return DataJobExecutionView.of(
+        DataJobExecution.builder()
+            .id(id)
+            .dataJob(new DataJob(jobName, new JobConfig()))
+            .type(ExecutionType.SCHEDULED)
+            .status(ExecutionStatus.SUCCEEDED)
+            .opId(id)
+            .build());
+  }
+
   static V2DataJobDeployment mockSampleDeployment(String jobName) {
     V2DataJobDeployment status = new V2DataJobDeployment();
     status.setEnabled(true);
@@ -5,7 +5,9 @@
 
 package com.vmware.taurus.service.graphql;
 
+import com.google.common.collect.Lists;
 import com.vmware.taurus.controlplane.model.data.DataJobExecution;
+import com.vmware.taurus.service.DataJobQueryRepository;
 import com.vmware.taurus.service.JobsRepository;
 import com.vmware.taurus.service.deploy.DeploymentService;
 import com.vmware.taurus.service.graphql.model.Filter;
@@ -27,6 +29,7 @@ import com.vmware.taurus.service.graphql.model.DataJobPage;
 import com.vmware.taurus.service.model.ExecutionStatus;
 import com.vmware.taurus.service.model.JobConfig;
 import com.vmware.taurus.service.model.JobDeploymentStatus;
+import com.vmware.taurus.service.schedule.CronScheduleCache;
 import graphql.GraphQLException;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
@@ -36,7 +39,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
@@ -52,7 +59,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.AdditionalMatchers.not;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -84,7 +93,7 @@ class GraphQLDataFetchersTest {
   void testDataFetcherOfJobs_whenGettingFullList_shouldReturnAllDataJobs() throws Exception {
     when(dataFetchingEnvironment.getArgument("pageNumber")).thenReturn(1);
     when(dataFetchingEnvironment.getArgument("pageSize")).thenReturn(10);
-    when(jobsRepository.findAll()).thenReturn(mockListOfDataJobs());
+    mockDataJobPages(mockListOfDataJobs());
     when(dataFetchingEnvironment.getSelectionSet()).thenReturn(dataFetchingFieldSelectionSet);
     when(dataFetchingFieldSelectionSet.contains(
             not(eq(JobFieldStrategyBy.DEPLOYMENT_EXECUTIONS.getPath()))))
@@ -101,7 +110,7 @@ class GraphQLDataFetchersTest {
   void testDataFetcherOfJobs_whenGettingPagedResult_shouldReturnPagedJobs() throws Exception {
     when(dataFetchingEnvironment.getArgument("pageNumber")).thenReturn(2);
     when(dataFetchingEnvironment.getArgument("pageSize")).thenReturn(2);
-    when(jobsRepository.findAll()).thenReturn(mockListOfDataJobs());
+    mockDataJobPages(mockListOfDataJobs());
     when(dataFetchingEnvironment.getSelectionSet()).thenReturn(dataFetchingFieldSelectionSet);
     when(dataFetchingFieldSelectionSet.contains(
             not(eq(JobFieldStrategyBy.DEPLOYMENT_EXECUTIONS.getPath()))))
@@ -112,8 +121,14 @@ class GraphQLDataFetchersTest {
     DataJobPage dataJobPage = (DataJobPage) findDataJobs.get(dataFetchingEnvironment);
 
     assertThat(dataJobPage.getContent().size()).isEqualTo(1);
+    assertThat(dataJobPage.getTotalItems()).isEqualTo(3);
     V2DataJob dataJob = (V2DataJob) dataJobPage.getContent().get(0);
     assertThat(dataJob.getJobName()).isEqualTo("sample-job-3");
+    verify(jobsRepository)
+        .findAll(
+            any(Specification.class),
+            any(DataJobQueryRepository.Ordering.class),
+            eq(PageRequest.of(1, 2)));
   }
 
   @Test
@@ -122,7 +137,8 @@ class GraphQLDataFetchersTest {
     when(dataFetchingEnvironment.getArgument("pageNumber")).thenReturn(1);
     when(dataFetchingEnvironment.getArgument("pageSize")).thenReturn(10);
     when(dataFetchingEnvironment.getArgument("search")).thenReturn(null);
-    when(jobsRepository.findAll()).thenReturn(mockListOfDataJobs());
+    // The database returns the data jobs sorted by name in descending order.
+    mockDataJobPages(Lists.reverse(mockListOfDataJobs()));
     when(dataFetchingEnvironment.getSelectionSet()).thenReturn(dataFetchingFieldSelectionSet);
     when(dataFetchingEnvironment.getArgument("filter"))
         .thenReturn(constructFilter(Filter.of("jobName", "sample-job*", Sort.Direction.DESC)));
@@ -139,7 +155,7 @@ class GraphQLDataFetchersTest {
     when(dataFetchingEnvironment.getArgument("pageNumber")).thenReturn(1);
     when(dataFetchingEnvironment.getArgument("pageSize")).thenReturn(10);
     when(dataFetchingEnvironment.getArgument("search")).thenReturn("sample-job-2");
-    when(jobsRepository.findAll()).thenReturn(mockListOfDataJobs());
+    when(jobsRepository.findAll(any(Specification.class))).thenReturn(mockListOfDataJobs());
     when(dataFetchingEnvironment.getSelectionSet()).thenReturn(dataFetchingFieldSelectionSet);
     when(dataFetchingFieldSelectionSet.contains(
             not(eq(JobFieldStrategyBy.DEPLOYMENT_EXECUTIONS.getPath()))))
@@ -159,7 +175,7 @@ class GraphQLDataFetchersTest {
     when(dataFetchingEnvironment.getArgument("pageNumber")).thenReturn(1);
     when(dataFetchingEnvironment.getArgument("pageSize")).thenReturn(10);
     when(dataFetchingEnvironment.getArgument("search")).thenReturn("sample-job-2");
-    when(jobsRepository.findAll()).thenReturn(mockListOfDataJobs());
+    when(jobsRepository.findAll(any(Specification.class))).thenReturn(mockListOfDataJobs());
     when(dataFetchingEnvironment.getSelectionSet()).thenReturn(dataFetchingFieldSelectionSet);
     when(dataFetchingFieldSelectionSet.contains(
             not(eq(JobFieldStrategyBy.DEPLOYMENT_EXECUTIONS.getPath()))))
@@ -200,7 +216,7 @@ class GraphQLDataFetchersTest {
 
   @Test
   void testDataFetcherOfJobs_whenValidPageNumberIsProvided_shouldNotThrowException() {
-    when(jobsRepository.findAll()).thenReturn(mockListOfDataJobs());
+    mockDataJobPages(mockListOfDataJobs());
     when(dataFetchingEnvironment.getSelectionSet()).thenReturn(dataFetchingFieldSelectionSet);
     when(dataFetchingEnvironment.getArgument("pageNumber")).thenReturn(1);
     when(dataFetchingEnvironment.getArgument("pageSize")).thenReturn(100);
@@ -213,7 +229,7 @@ class GraphQLDataFetchersTest {
 
   @Test
   void testPopulateDeployments() throws Exception {
-    when(jobsRepository.findAll()).thenReturn(mockListOfDataJobsWithLastExecution());
+    mockDataJobPages(mockListOfDataJobsWithLastExecution());
     when(deploymentService.readDeployments()).thenReturn(mockListOfDeployments());
     when(dataFetchingEnvironment.getArgument("pageNumber")).thenReturn(1);
     when(dataFetchingEnvironment.getArgument("pageSize")).thenReturn(100);
@@ -240,7 +256,8 @@ class GraphQLDataFetchersTest {
 
   @Test
   void testFilterByLastExecutionStatus() throws Exception {
-    when(jobsRepository.findAll()).thenReturn(mockListOfDataJobsWithLastExecution());
+    when(jobsRepository.findAll(any(Specification.class)))
+        .thenReturn(mockListOfDataJobsWithLastExecution());
     when(deploymentService.readDeployments()).thenReturn(mockListOfDeployments());
     when(dataFetchingEnvironment.getArgument("pageNumber")).thenReturn(1);
     when(dataFetchingEnvironment.getArgument("pageSize")).thenReturn(100);
@@ -263,7 +280,8 @@ class GraphQLDataFetchersTest {
 
   @Test
   void testSortingByLastExecutionStatus() throws Exception {
-    when(jobsRepository.findAll()).thenReturn(mockListOfDataJobsWithLastExecution());
+    when(jobsRepository.findAll(any(Specification.class)))
+        .thenReturn(mockListOfDataJobsWithLastExecution());
     when(deploymentService.readDeployments()).thenReturn(mockListOfDeployments());
     when(dataFetchingEnvironment.getArgument("pageNumber")).thenReturn(1);
     when(dataFetchingEnvironment.getArgument("pageSize")).thenReturn(100);
@@ -296,7 +314,8 @@ class GraphQLDataFetchersTest {
 
   @Test
   void testSortingByLastExecutionTime() throws Exception {
-    when(jobsRepository.findAll()).thenReturn(mockListOfDataJobsWithLastExecution());
+    when(jobsRepository.findAll(any(Specification.class)))
+        .thenReturn(mockListOfDataJobsWithLastExecution());
     when(deploymentService.readDeployments()).thenReturn(mockListOfDeployments());
     when(dataFetchingEnvironment.getArgument("pageNumber")).thenReturn(1);
     when(dataFetchingEnvironment.getArgument("pageSize")).thenReturn(100);
@@ -327,7 +346,8 @@ class GraphQLDataFetchersTest {
 
   @Test
   void testSortingByLastExecutionDuration() throws Exception {
-    when(jobsRepository.findAll()).thenReturn(mockListOfDataJobsWithLastExecution());
+    when(jobsRepository.findAll(any(Specification.class)))
+        .thenReturn(mockListOfDataJobsWithLastExecution());
     when(deploymentService.readDeployments()).thenReturn(mockListOfDeployments());
     when(dataFetchingEnvironment.getArgument("pageNumber")).thenReturn(1);
     when(dataFetchingEnvironment.getArgument("pageSize")).thenReturn(100);
@@ -354,6 +374,21 @@ class GraphQLDataFetchersTest {
     assertThat(lastExecutionTimes.get(4)).isNull();
   }
 
+  /** Mocks the data jobs matching the query in the database, which pages them. */
+  private void mockDataJobPages(List<DataJob> dataJobs) {
+    when(jobsRepository.findAll(
+            any(Specification.class),
+            any(DataJobQueryRepository.Ordering.class),
+            any(Pageable.class)))
+        .thenAnswer(
+            invocation -> {
+              Pageable pageable = invocation.getArgument(2);
+              int from = (int) Math.min(pageable.getOffset(), dataJobs.size());
+              int to = Math.min(from + pageable.getPageSize(), dataJobs.size());
+              return new PageImpl<>(dataJobs.subList(from, to), pageable, dataJobs.size());
+            });
+  }
+
   private List<JobDeploymentStatus> mockListOfDeployments() {
     List<JobDeploymentStatus> jobDeployments = new ArrayList<>();
 
@@ -468,7 +503,7 @@ class GraphQLDataFetchersTest {
 
     strategies.add(new JobFieldStrategyByDescription());
     strategies.add(new JobFieldStrategyByName());
-    strategies.add(new JobFieldStrategyByNextRun());
+    strategies.add(new JobFieldStrategyByNextRun(new CronScheduleCache(100)));
     strategies.add(new JobFieldStrategyByScheduleCron());
     strategies.add(new JobFieldStrategyBySourceUrl("gitlab.com/demo-data-jobs.git", "main", true));
     strategies.add(new JobFieldStrategyByTeam());
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.graphql;
+
+import com.vmware.taurus.ControlplaneApplication;
+import com.vmware.taurus.service.JobsRepository;
+import com.vmware.taurus.service.model.DataJob;
+import com.vmware.taurus.service.model.JobConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/** Tests the jobs query with the filters, search and sorting which are done by the database. */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    classes = ControlplaneApplication.class)
+@AutoConfigureMockMvc(addFilters = false)
+public class GraphQLDataJobsQueryIT {
+
+  @Autowired JobsRepository jobsRepository;
+
+  @Autowired private MockMvc mockMvc;
+
+  @BeforeEach
+  public void setup() {
+    createJob("job-a", "team-1", "Import sales");
+    createJob("job-b", "team-2", null);
+    createJob("job-c", "team-1", "Export sales");
+    createJob("other_job", "Team-1", "Load users");
+  }
+
+  @AfterEach
+  public void cleanup() {
+    jobsRepository.deleteAll();
+  }
+
+  @Test
+  public void testQuery_filterByNameAndSortByDescription_shouldReturnPages() throws Exception {
+    String filter =
+        "{ property: \"jobName\", pattern: \"JOB-*\" }"
+            + " { property: \"config.description\", sort: ASC }";
+
+    query(1, 2, filter, null)
+        .andExpect(jsonPath("$.data.content[*].jobName", contains("job-c", "job-a")))
+        .andExpect(jsonPath("$.data.totalItems").value(3))
+        .andExpect(jsonPath("$.data.totalPages").value(2));
+    query(2, 2, filter, null)
+        .andExpect(jsonPath("$.data.content[*].jobName", contains("job-b")))
+        .andExpect(jsonPath("$.data.totalItems").value(3));
+  }
+
+  @Test
+  public void testQuery_sortByDescriptionDescending_shouldReturnJobsWithoutDescriptionFirst()
+      throws Exception {
+    query(1, 10, "{ property: \"config.description\", sort: DESC }", null)
+        .andExpect(
+            jsonPath(
+                "$.data.content[*].jobName", contains("job-b", "other_job", "job-a", "job-c")));
+  }
+
+  @Test
+  public void testQuery_filterByTeam_shouldIgnoreCase() throws Exception {
+    query(
+            1,
+            10,
+            "{ property: \"config.team\", pattern: \"team-1\" }"
+                + " { property: \"jobName\", sort: DESC }",
+            null)
+        .andExpect(
+            jsonPath("$.data.content[*].jobName", contains("other_job", "job-c", "job-a")));
+  }
+
+  @Test
+  public void testQuery_searchWithWildcardCharacter_shouldMatchItLiterally() throws Exception {
+    query(1, 10, "", "_")
+        .andExpect(jsonPath("$.data.content[*].jobName", contains("other_job")))
+        .andExpect(jsonPath("$.data.totalItems").value(1));
+  }
+
+  @Test
+  public void testQuery_searchByDescription_shouldReturnMatchingJobs() throws Exception {
+    query(1, 10, "", "SALES")
+        .andExpect(jsonPath("$.data.content[*].jobName", contains("job-a", "job-c")));
+  }
+
+  @Test
+  public void testQuery_filterAndSortByNextRun_shouldUseTheStoredNextRunTimes() throws Exception {
+    var now = OffsetDateTime.now(ZoneOffset.UTC).withNano(0);
+    setNextRunTime("job-a", now.plusDays(2));
+    setNextRunTime("job-b", now.plusDays(1));
+    setNextRunTime("job-c", now.plusDays(30));
+
+    query(1, 10, "{ property: \"config.schedule.nextRunEpochSeconds\", sort: ASC }", null)
+        .andExpect(
+            jsonPath(
+                "$.data.content[*].jobName", contains("other_job", "job-b", "job-a", "job-c")));
+    query(
+            1,
+            10,
+            String.format(
+                "{ property: \"config.schedule.nextRunEpochSeconds\", pattern: \"%d-%d\","
+                    + " sort: DESC }",
+                now.toEpochSecond(), now.plusDays(3).toEpochSecond()),
+            null)
+        .andExpect(jsonPath("$.data.content[*].jobName", contains("job-a", "job-b")));
+  }
+
+  @Test
+  public void testQuery_searchWithNextRunRequested_shouldMatchTheOtherFields() throws Exception {
+    setNextRunTime("job-a", OffsetDateTime.now(ZoneOffset.UTC).plusDays(1).withNano(0));
+
+    query(1, 1, "", "sales", "        schedule {\n          nextRunEpochSeconds\n        }\n")
+        .andExpect(jsonPath("$.data.content[*].jobName", contains("job-a")))
+        .andExpect(jsonPath("$.data.totalItems").value(2));
+  }
+
+  private ResultActions query(int pageNumber, int pageSize, String filter, String search)
+      throws Exception {
+    return query(pageNumber, pageSize, filter, search, "");
+  }
+
+  private ResultActions query(
+      int pageNumber, int pageSize, String filter, String search, String configFields)
+      throws Exception {
+    String query =
+        "{\n"
+            + "  jobs(\n"
+            + "    pageNumber: "
+            + pageNumber
+            + "\n"
+            + "    pageSize: "
+            + pageSize
+            + "\n"
+            + (search == null ? "" : "    search: \"" + search + "\"\n")
+            + "    filter: ["
+            + filter
+            + "]\n"
+            + "  ) {\n"
+            + "    content {\n"
+            + "      jobName\n"
+            + "      config {\n"
+            + "        team\n"
+            + "        description\n"
+            + configFields
+            + "      }\n"
+            + "    }\n"
+            + "    totalPages\n"
+            + "    totalItems\n"
+            + "  }\n"
+            + "}";
+    return mockMvc
+        .perform(
+            MockMvcRequestBuilders.get("/data-jobs/for-team/team-1/jobs")
+                .queryParam("query", query)
+                .with(user("test")))
+        .andExpect(status().is(200));
+  }
+
+  private void setNextRunTime(String jobName, OffsetDateTime nextRunTime) {
+    var dataJob = jobsRepository.findById(jobName).get();
+    dataJob.getJobConfig().setSchedule("0 0 1 1 *");
+    dataJob.setNextRunTime(nextRunTime);
+    jobsRepository.save(dataJob);
+  }
+
+  private void createJob(String jobName, String team, String description) {
+    JobConfig jobConfig = new JobConfig();
+    jobConfig.setTeam(team);
+    jobConfig.setDescription(description);
+    jobsRepository.save(new DataJob(jobName, jobConfig));
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.graphql;
+
+import com.vmware.taurus.ControlplaneApplication;
+import graphql.ErrorType;
+import graphql.GraphQL;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@SpringBootTest(
+    classes = ControlplaneApplication.class,
+    properties = "datajobs.graphql.maxQueryComplexity=100000")
+public class GraphQLProviderIT {
+
+  // The jobs query of the data pipelines UI, whose grid pages up to 100 jobs.
+  static final String UI_JOBS_QUERY =
+      "{ jobs(pageNumber: 1, pageSize: 100) { content {"
+          + " jobName"
+          + " config { team description sourceUrl schedule { scheduleCron nextRunEpochSeconds }"
+          + "   contacts { notifiedOnJobSuccess notifiedOnJobDeploy notifiedOnJobFailureUserError"
+          + "     notifiedOnJobFailurePlatformError } }"
+          + " deployments { id enabled lastDeployedDate lastDeployedBy lastExecutionStatus"
+          + "   lastExecutionTime lastExecutionDuration successfulExecutions failedExecutions"
+          + "   executions(pageNumber: 1, pageSize: 10) { id status logsUrl message } } }"
+          + " totalPages totalItems } }";
+
+  // The executions query of the data pipelines UI, which pages 500 executions by default.
+  static final String UI_EXECUTIONS_QUERY =
+      "{ executions(pageNumber: 1, pageSize: 500) { content {"
+          + " id type jobName status startTime endTime startedBy message opId logsUrl"
+          + " deployment { enabled jobVersion deployedDate deployedBy"
+          + "   resources { cpuLimit cpuRequest memoryLimit memoryRequest }"
+          + "   schedule { scheduleCron } vdkVersion status } }"
+          + " totalPages totalItems } }";
+
+  @Autowired private GraphQL graphQL;
+
+  @Autowired private GraphQLQueryComplexityCalculator queryComplexityCalculator;
+
+  @Autowired private MeterRegistry meterRegistry;
+
+  @Test
+  public void testQueryComplexity_uiQueries_shouldCountTheItemsOfThePagesOnly() {
+    // jobs 1 + totalPages 1 + totalItems 1 + content (1 + 100 * (jobName 1 + config 12
+    // + deployments (1 + 9 + executions (1 + 10 * 4))))
+    Assertions.assertEquals(6404, getComplexity(UI_JOBS_QUERY));
+    // executions 1 + totalPages 1 + totalItems 1 + content (1 + 500 * (10 + deployment 14))
+    Assertions.assertEquals(12004, getComplexity(UI_EXECUTIONS_QUERY));
+  }
+
+  @Test
+  public void testExecute_uiQueries_shouldNotBeRejected() {
+    for (var query : List.of(UI_JOBS_QUERY, UI_EXECUTIONS_QUERY)) {
+      var result = graphQL.execute(query);
+
+      Assertions.assertTrue(
+          result.getErrors().stream()
+              .noneMatch(error -> error.getErrorType() == ErrorType.ExecutionAborted),
+          result.getErrors().toString());
+    }
+  }
+
+  @Test
+  public void testExecute_queryWithinMaxComplexity_shouldTimeTheDataFetchers() {
+    var result =
+        graphQL.execute(
+            "{ executions(pageNumber: 1, pageSize: 100) { content { id jobName status } } }");
+
+    Assertions.assertTrue(result.getErrors().isEmpty(), result.getErrors().toString());
+    var timer =
+        meterRegistry
+            .find(GraphQLFieldTimingInstrumentation.DATA_FETCHER_TIMER)
+            .tag("type", "Query")
+            .tag("field", "executions")
+            .tag("outcome", "success")
+            .timer();
+    Assertions.assertNotNull(timer);
+    Assertions.assertTrue(timer.count() > 0);
+  }
+
+  @Test
+  public void testExecute_queryWithHugePageSize_shouldBeRejected() {
+    var result =
+        graphQL.execute(
+            "{ executions(pageNumber: 1, pageSize: 100000) { content { id jobName status } } }");
+
+    Assertions.assertEquals(1, result.getErrors().size());
+    Assertions.assertEquals(
+        ErrorType.ExecutionAborted, result.getErrors().get(0).getErrorType());
+    Assertions.assertNull(result.getData());
+  }
+
+  @Test
+  public void testExecute_queryWithUnpagedNestedExecutions_shouldMultiplyTheirCostByThePageSize() {
+    String query =
+        "{ jobs(pageNumber: 1, pageSize: %d) {"
+            + " content { deployments { executions { id } } } } }";
+
+    // jobs 1 + content (1 + 1000 * (deployments 1 + executions (1 + 100 * id 1)))
+    var rejected = graphQL.execute(String.format(query, 1000));
+    var accepted = graphQL.execute(String.format(query, 100));
+
+    Assertions.assertEquals(
+        ErrorType.ExecutionAborted, rejected.getErrors().get(0).getErrorType());
+    Assertions.assertTrue(
+        accepted.getErrors().stream()
+            .noneMatch(error -> error.getErrorType() == ErrorType.ExecutionAborted),
+        accepted.getErrors().toString());
+  }
+
+  /** Returns the static cost of the query, as computed by the complexity limit of the service. */
+  private int getComplexity(String query) {
+    var complexity = new AtomicInteger();
+    GraphQL.newGraphQL(graphQL.getGraphQLSchema())
+        .instrumentation(
+            new MaxQueryComplexityInstrumentation(
+                0,
+                queryComplexityCalculator,
+                complexityInfo -> {
+                  complexity.set(complexityInfo.getComplexity());
+                  return true;
+                }))
+        .build()
+        .execute(query);
+    return complexity.get();
+  }
+}
@@ -14,12 +14,15 @@ import com.vmware.taurus.service.graphql.model.V2DataJob;
 import com.vmware.taurus.service.graphql.model.V2DataJobConfig;
 import com.vmware.taurus.service.graphql.model.V2DataJobSchedule;
 import com.vmware.taurus.service.graphql.model.Filter;
+import com.vmware.taurus.service.schedule.CronScheduleCache;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Sort;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.chrono.ChronoZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.function.Predicate;
 
@@ -27,7 +30,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 class JobFieldStrategyByNextRunTest {
 
-  private final JobFieldStrategyByNextRun strategyByNextRun = new JobFieldStrategyByNextRun();
+  private final JobFieldStrategyByNextRun strategyByNextRun =
+      new JobFieldStrategyByNextRun(new CronScheduleCache(100));
 
   @Test
   void testJobNextRunStrategy_whenGettingStrategyName_shouldBeSpecific() {
@@ -58,6 +62,34 @@ class JobFieldStrategyByNextRunTest {
     assertThat(nextRunEpochSeconds).isNotZero().isEqualTo(baseTime);
   }
 
+  @Test
+  void testJobNextRunStrategy_whenAlteringFieldDataWithStoredNextRunAhead_shouldKeepIt() {
+    long storedNextRun = Instant.now().plus(1, ChronoUnit.HOURS).getEpochSecond();
+    V2DataJob dataJob = createDummyJob(null);
+    dataJob.getConfig().getSchedule().setScheduleCron("12 5 2 3 *");
+    dataJob.getConfig().getSchedule().setNextRunEpochSeconds(storedNextRun);
+
+    strategyByNextRun.alterFieldData(dataJob);
+
+    assertThat(dataJob.getConfig().getSchedule().getNextRunEpochSeconds())
+        .isEqualTo(storedNextRun);
+  }
+
+  @Test
+  void testJobNextRunStrategy_whenAlteringFieldDataWithStoredNextRunPassed_shouldRecompute() {
+    V2DataJob dataJob = createDummyJob(null);
+    dataJob.getConfig().getSchedule().setScheduleCron("* * * * *");
+    dataJob
+        .getConfig()
+        .getSchedule()
+        .setNextRunEpochSeconds(Instant.now().minus(1, ChronoUnit.HOURS).getEpochSecond());
+
+    strategyByNextRun.alterFieldData(dataJob);
+
+    assertThat(dataJob.getConfig().getSchedule().getNextRunEpochSeconds())
+        .isGreaterThan(Math.toIntExact(Instant.now().getEpochSecond()));
+  }
+
   @Test
   void testJobNextRunStrategy_whenAlteringFieldDataWithNullConfig_shouldNotModifyState() {
     V2DataJob dataJob = createDummyJob("12 5 2 3 *");
@@ -159,6 +191,13 @@ class JobFieldStrategyByNextRunTest {
     assertThat(predicate.test(a)).isFalse();
   }
 
+  @Test
+  void testJobNextRunStrategy_whenComputingSearchSpecification_shouldSkipNumericSearch() {
+    assertThat(strategyByNextRun.computeSearchSpecification("sales")).isNotNull();
+    assertThat(strategyByNextRun.computeSearchSpecification("1619")).isNull();
+    assertThat(strategyByNextRun.computeSearchSpecification("-1")).isNull();
+  }
+
   private V2DataJob createDummyJob(String schedule) {
     V2DataJob job = new V2DataJob();
     V2DataJobConfig config = new V2DataJobConfig();
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.kubernetes;
+
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.apis.BatchV1Api;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1JobCondition;
+import io.kubernetes.client.openapi.models.V1JobStatus;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JobsInformerTest {
+
+  private static final String JOB_NAME = "builder-test-job";
+
+  private JobsInformer jobsInformer;
+
+  @BeforeEach
+  public void setUp() {
+    var client = new ApiClient().setReadTimeout(0);
+    jobsInformer = new JobsInformer(client, new BatchV1Api(client), "default", 300);
+  }
+
+  @Test
+  public void testAwaitJobCompletion_jobFinishes_shouldCompleteFuture() {
+    var future = jobsInformer.awaitJobCompletion(JOB_NAME);
+    var handler = jobsInformer.getJobLifecycleHandler();
+
+    handler.onAdd(buildJob(JOB_NAME, null));
+    Assertions.assertFalse(future.isDone());
+
+    var finishedJob = buildJob(JOB_NAME, "Complete");
+    handler.onUpdate(buildJob(JOB_NAME, null), finishedJob);
+    Assertions.assertSame(finishedJob, future.join());
+  }
+
+  @Test
+  public void testAwaitJobCompletion_otherJobFinishes_shouldNotCompleteFuture() {
+    var future = jobsInformer.awaitJobCompletion(JOB_NAME);
+
+    jobsInformer.getJobLifecycleHandler().onAdd(buildJob("other-job", "Failed"));
+
+    Assertions.assertFalse(future.isDone());
+  }
+
+  @Test
+  public void testAwaitJobCompletion_jobAlreadyFinished_shouldCompleteImmediately()
+      throws Exception {
+    var finishedJob = buildJob(JOB_NAME, "Failed");
+    jobsInformer.getJobInformer().getIndexer().add(finishedJob);
+
+    Assertions.assertSame(finishedJob, jobsInformer.awaitJobCompletion(JOB_NAME).getNow(null));
+  }
+
+  @Test
+  public void testAwaitJobCompletion_jobDeleted_shouldCompleteWithLastState() {
+    var future = jobsInformer.awaitJobCompletion(JOB_NAME);
+    var deletedJob = buildJob(JOB_NAME, null);
+
+    jobsInformer.getJobLifecycleHandler().onDelete(deletedJob, false);
+
+    Assertions.assertSame(deletedJob, future.join());
+  }
+
+  @Test
+  public void testAwaitJobDeletion_jobExists_shouldCompleteOnDelete() {
+    var job = buildJob(JOB_NAME, null);
+    jobsInformer.getJobInformer().getIndexer().add(job);
+
+    var future = jobsInformer.awaitJobDeletion(JOB_NAME);
+    Assertions.assertFalse(future.isDone());
+
+    jobsInformer.getJobLifecycleHandler().onDelete(job, false);
+    Assertions.assertTrue(future.isDone());
+  }
+
+  @Test
+  public void testAwaitJobDeletion_jobMissing_shouldCompleteImmediately() {
+    Assertions.assertTrue(jobsInformer.awaitJobDeletion(JOB_NAME).isDone());
+  }
+
+  private static V1Job buildJob(String name, String conditionType) {
+    var status = new V1JobStatus();
+    if (conditionType != null) {
+      status.addConditionsItem(new V1JobCondition().type(conditionType).status("True"));
+    }
+    return new V1Job().metadata(new V1ObjectMeta().name(name).namespace("default")).status(status);
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.kubernetes;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+public class KubernetesApiInterceptorTest {
+
+  private static final String JOBS_URL = "https://k8s/apis/batch/v1/namespaces/ns/jobs";
+
+  @Test
+  public void testGetVerb() {
+    Assertions.assertEquals("list", KubernetesApiInterceptor.getVerb(request("GET", JOBS_URL)));
+    Assertions.assertEquals(
+        "watch", KubernetesApiInterceptor.getVerb(request("GET", JOBS_URL + "?watch=true")));
+    Assertions.assertEquals(
+        "get", KubernetesApiInterceptor.getVerb(request("GET", JOBS_URL + "/job")));
+    Assertions.assertEquals("create", KubernetesApiInterceptor.getVerb(request("POST", JOBS_URL)));
+    Assertions.assertEquals(
+        "update", KubernetesApiInterceptor.getVerb(request("PUT", JOBS_URL + "/job")));
+    Assertions.assertEquals(
+        "delete", KubernetesApiInterceptor.getVerb(request("DELETE", JOBS_URL + "/job")));
+    Assertions.assertEquals(
+        "deletecollection", KubernetesApiInterceptor.getVerb(request("DELETE", JOBS_URL)));
+  }
+
+  @Test
+  public void testGetResource() {
+    Assertions.assertEquals("jobs", KubernetesApiInterceptor.getResource(url(JOBS_URL + "/job")));
+    Assertions.assertEquals(
+        "pods/log",
+        KubernetesApiInterceptor.getResource(url("https://k8s/api/v1/namespaces/ns/pods/pod/log")));
+    Assertions.assertEquals(
+        "namespaces", KubernetesApiInterceptor.getResource(url("https://k8s/api/v1/namespaces")));
+    Assertions.assertEquals(
+        "other", KubernetesApiInterceptor.getResource(url("https://k8s/version")));
+  }
+
+  @Test
+  public void testGetOutcome() {
+    Assertions.assertEquals("success", KubernetesApiInterceptor.getOutcome(200));
+    Assertions.assertEquals("client_error", KubernetesApiInterceptor.getOutcome(404));
+    Assertions.assertEquals("server_error", KubernetesApiInterceptor.getOutcome(503));
+  }
+
+  @Test
+  public void testIntercept_noBudgets_shouldTimeTheRequestsWithTheSameTimer() throws IOException {
+    var meterRegistry = new SimpleMeterRegistry();
+    var interceptor =
+        new KubernetesApiInterceptor(meterRegistry, new KubernetesApiRateLimitConfig());
+    var request = request("GET", JOBS_URL);
+    var chain = Mockito.mock(Interceptor.Chain.class);
+    Mockito.when(chain.request()).thenReturn(request);
+    Mockito.when(chain.proceed(request))
+        .thenAnswer(
+            invocation ->
+                new Response.Builder()
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(200)
+                    .message("OK")
+                    .build());
+
+    interceptor.intercept(chain);
+    interceptor.intercept(chain);
+
+    var timers = meterRegistry.find(KubernetesApiInterceptor.REQUESTS_TIMER).timers();
+    Assertions.assertEquals(1, timers.size());
+    var timer = timers.iterator().next();
+    Assertions.assertEquals(2, timer.count());
+    Assertions.assertEquals("list", timer.getId().getTag("verb"));
+    Assertions.assertEquals("success", timer.getId().getTag("outcome"));
+    Assertions.assertNull(meterRegistry.find(KubernetesApiInterceptor.RATE_LIMIT_TIMER).timer());
+  }
+
+  @Test
+  public void testTokenBucket_burstExceeded_shouldWait() {
+    var bucket = new KubernetesApiInterceptor.TokenBucket(10, 2);
+    long now = System.nanoTime();
+
+    Assertions.assertEquals(0, bucket.reserve(now));
+    Assertions.assertEquals(0, bucket.reserve(now));
+    Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(100), bucket.reserve(now), 1000);
+    Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(200), bucket.reserve(now), 1000);
+    // The reserved tokens are paid back before the bucket refills.
+    Assertions.assertEquals(
+        TimeUnit.MILLISECONDS.toNanos(100),
+        bucket.reserve(now + TimeUnit.MILLISECONDS.toNanos(200)),
+        1000);
+    Assertions.assertEquals(0, bucket.reserve(now + TimeUnit.SECONDS.toNanos(10)));
+  }
+
+  @Test
+  public void testEnter_nestedScopes_shouldRestorePreviousSubsystem() {
+    Assertions.assertEquals(KubernetesApiSubsystem.OTHER, KubernetesApiSubsystem.current());
+    try (var monitoring = KubernetesApiSubsystem.MONITORING.enter()) {
+      Assertions.assertEquals(KubernetesApiSubsystem.MONITORING, KubernetesApiSubsystem.current());
+      try (var logs = KubernetesApiSubsystem.LOGS.enter()) {
+        Assertions.assertEquals(KubernetesApiSubsystem.LOGS, KubernetesApiSubsystem.current());
+      }
+      Assertions.assertEquals(KubernetesApiSubsystem.MONITORING, KubernetesApiSubsystem.current());
+    }
+    Assertions.assertEquals(KubernetesApiSubsystem.OTHER, KubernetesApiSubsystem.current());
+  }
+
+  private static Request request(String method, String url) {
+    var body =
+        "GET".equals(method) || "DELETE".equals(method) ? null : RequestBody.create(new byte[0]);
+    return new Request.Builder().url(url).method(method, body).build();
+  }
+
+  private static HttpUrl url(String url) {
+    return HttpUrl.get(url);
+  }
+}
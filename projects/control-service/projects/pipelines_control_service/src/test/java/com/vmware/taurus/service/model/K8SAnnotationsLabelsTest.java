@@ -49,13 +49,15 @@ public class K8SAnnotationsLabelsTest {
     var type = JobLabel.TYPE.getValue();
     var executionId = JobLabel.EXECUTION_ID.getValue();
     var startedByUsed = JobLabel.STARTED_BY_USER.getValue();
+    var monitoringShard = JobLabel.MONITORING_SHARD.getValue();
 
     Assertions.assertEquals("com.vmware.taurus/name", jobName, msg);
     Assertions.assertEquals("com.vmware.taurus/version", version, msg);
     Assertions.assertEquals("com.vmware.taurus/type", type, msg);
     Assertions.assertEquals("com.vmware.taurus/data-job-execution-id", executionId, msg);
     Assertions.assertEquals("com.vmware.taurus/start-by-user", startedByUsed, msg);
+    Assertions.assertEquals("com.vmware.taurus/monitoring-shard", monitoringShard, msg);
 
-    Assertions.assertEquals(5, JobLabel.values().length, msg);
+    Assertions.assertEquals(6, JobLabel.values().length, msg);
   }
 }
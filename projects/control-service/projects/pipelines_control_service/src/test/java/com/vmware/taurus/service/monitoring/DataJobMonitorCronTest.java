@@ -0,0 +1,136 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.monitoring;
+
+import com.vmware.taurus.service.JobWatchStateRepository;
+import com.vmware.taurus.service.execution.JobExecutionService;
+import com.vmware.taurus.service.kubernetes.DataJobsKubernetesService;
+import com.vmware.taurus.service.model.JobWatchState;
+import io.kubernetes.client.openapi.ApiException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+public class DataJobMonitorCronTest {
+
+  private static final long RELIST_INTERVAL_SECONDS = 600;
+
+  @Mock private DataJobsKubernetesService dataJobsKubernetesService;
+
+  @Mock private JobExecutionService jobExecutionService;
+
+  @Mock private DataJobMetrics dataJobMetrics;
+
+  @Mock private JobExecutionStatusQueue jobExecutionStatusQueue;
+
+  @Mock private JobWatchStateRepository jobWatchStateRepository;
+
+  private DataJobMonitorCron dataJobMonitorCron;
+
+  @BeforeEach
+  public void setUp() {
+    dataJobMonitorCron =
+        new DataJobMonitorCron(
+            dataJobsKubernetesService,
+            jobExecutionService,
+            dataJobMetrics,
+            jobExecutionStatusQueue,
+            jobWatchStateRepository,
+            RELIST_INTERVAL_SECONDS);
+  }
+
+  @Test
+  public void testWatchJobs_noStoredState_shouldListJobsAndStoreResourceVersion()
+      throws IOException, ApiException {
+    Mockito.when(jobWatchStateRepository.findById("watchJobs")).thenReturn(Optional.empty());
+    Mockito.when(
+            dataJobsKubernetesService.watchJobs(
+                eq("com.vmware.taurus/type=DataJob"), any(), any(), anyLong()))
+        .thenReturn("100");
+
+    dataJobMonitorCron.watchJobs();
+
+    Mockito.verify(dataJobsKubernetesService, Mockito.never())
+        .resumeWatchJobs(anyString(), any(), any());
+    var savedState = captureSavedState();
+    Assertions.assertEquals("100", savedState.getResourceVersion());
+    Assertions.assertNotNull(savedState.getLastListTime());
+    Assertions.assertNotNull(savedState.getLastWatchTime());
+  }
+
+  @Test
+  public void testWatchJobs_recentlyListed_shouldResumeFromStoredResourceVersion()
+      throws IOException, ApiException {
+    var lastListTime = OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(1);
+    Mockito.when(jobWatchStateRepository.findById("watchJobs"))
+        .thenReturn(Optional.of(new JobWatchState("watchJobs", "100", lastListTime, null)));
+    Mockito.when(dataJobsKubernetesService.resumeWatchJobs(anyString(), any(), eq("100")))
+        .thenReturn("200");
+
+    dataJobMonitorCron.watchJobs();
+
+    Mockito.verify(dataJobsKubernetesService, Mockito.never())
+        .watchJobs(anyString(), any(), any(), anyLong());
+    var savedState = captureSavedState();
+    Assertions.assertEquals("200", savedState.getResourceVersion());
+    Assertions.assertEquals(lastListTime, savedState.getLastListTime());
+  }
+
+  @Test
+  public void testWatchJobs_relistIntervalElapsed_shouldListJobs()
+      throws IOException, ApiException {
+    var lastListTime =
+        OffsetDateTime.now(ZoneOffset.UTC).minusSeconds(RELIST_INTERVAL_SECONDS + 1);
+    Mockito.when(jobWatchStateRepository.findById("watchJobs"))
+        .thenReturn(Optional.of(new JobWatchState("watchJobs", "100", lastListTime, null)));
+    Mockito.when(dataJobsKubernetesService.watchJobs(anyString(), any(), any(), anyLong()))
+        .thenReturn("300");
+
+    dataJobMonitorCron.watchJobs();
+
+    Mockito.verify(dataJobsKubernetesService, Mockito.never())
+        .resumeWatchJobs(anyString(), any(), any());
+    var savedState = captureSavedState();
+    Assertions.assertEquals("300", savedState.getResourceVersion());
+    Assertions.assertTrue(savedState.getLastListTime().isAfter(lastListTime));
+  }
+
+  @Test
+  public void testWatchJobs_expiredResourceVersion_shouldStoreNoResourceVersion()
+      throws IOException, ApiException {
+    var lastListTime = OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(1);
+    Mockito.when(jobWatchStateRepository.findById("watchJobs"))
+        .thenReturn(Optional.of(new JobWatchState("watchJobs", "100", lastListTime, null)));
+    Mockito.when(dataJobsKubernetesService.resumeWatchJobs(anyString(), any(), eq("100")))
+        .thenReturn(null);
+
+    dataJobMonitorCron.watchJobs();
+
+    Assertions.assertNull(captureSavedState().getResourceVersion());
+  }
+
+  private JobWatchState captureSavedState() {
+    var stateCaptor = ArgumentCaptor.forClass(JobWatchState.class);
+    Mockito.verify(jobWatchStateRepository).save(stateCaptor.capture());
+    return stateCaptor.getValue();
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.monitoring;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+public class DataJobMonitorSchedulerTest {
+
+  private final ApplicationContextRunner contextRunner =
+      new ApplicationContextRunner()
+          .withBean(DataJobMonitorCron.class, () -> Mockito.mock(DataJobMonitorCron.class))
+          .withUserConfiguration(DataJobMonitorScheduler.class);
+
+  @Test
+  public void testScheduler_shardingDisabled_shouldWatchJobs() {
+    contextRunner.run(
+        context -> {
+          context.getBean(DataJobMonitorScheduler.class).watchJobs();
+
+          Mockito.verify(context.getBean(DataJobMonitorCron.class)).watchJobs();
+        });
+  }
+
+  @Test
+  public void testScheduler_shardingEnabled_shouldNotBeCreated() {
+    contextRunner
+        .withPropertyValues("datajobs.status.watch.sharding.enabled=true")
+        .run(
+            context ->
+                Assertions.assertTrue(
+                    context.getBeansOfType(DataJobMonitorScheduler.class).isEmpty()));
+  }
+}
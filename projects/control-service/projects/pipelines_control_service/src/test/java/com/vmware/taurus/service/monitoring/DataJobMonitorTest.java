@@ -36,7 +36,7 @@ import java.util.UUID;
 import static com.vmware.taurus.RepositoryUtil.getTimeAccurateToMicroSecond;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 
@@ -197,7 +197,7 @@ public class DataJobMonitorTest {
               return null;
             })
         .when(dataJobsKubernetesService)
-        .watchJobs(anyMap(), any(), any(), anyLong());
+        .watchJobs(anyString(), any(), any(), anyLong());
     jobStatuses.forEach(s -> jobsRepository.save(new DataJob(s.getJobName(), new JobConfig())));
 
     dataJobMonitorCron.watchJobs();
@@ -233,7 +233,7 @@ public class DataJobMonitorTest {
               return null;
             })
         .when(dataJobsKubernetesService)
-        .watchJobs(anyMap(), any(), any(), anyLong());
+        .watchJobs(anyString(), any(), any(), anyLong());
 
     dataJobMonitorCron.watchJobs();
 
@@ -253,7 +253,7 @@ public class DataJobMonitorTest {
               return null;
             })
         .when(dataJobsKubernetesService)
-        .watchJobs(anyMap(), any(), any(), anyLong());
+        .watchJobs(anyString(), any(), any(), anyLong());
 
     dataJobMonitorCron.watchJobs();
 
@@ -276,7 +276,7 @@ public class DataJobMonitorTest {
               return null;
             })
         .when(dataJobsKubernetesService)
-        .watchJobs(anyMap(), any(), any(), anyLong());
+        .watchJobs(anyString(), any(), any(), anyLong());
     jobStatuses.forEach(
         s ->
             jobsRepository.save(
@@ -312,7 +312,7 @@ public class DataJobMonitorTest {
               return null;
             })
         .when(dataJobsKubernetesService)
-        .watchJobs(anyMap(), any(), any(), anyLong());
+        .watchJobs(anyString(), any(), any(), anyLong());
     jobStatuses.forEach(
         s ->
             jobsRepository.save(
@@ -354,7 +354,7 @@ public class DataJobMonitorTest {
   public void testWatchJobsWhenExceptionIsThrown() throws IOException, ApiException {
     doThrow(new ApiException())
         .when(dataJobsKubernetesService)
-        .watchJobs(anyMap(), any(), any(), anyLong());
+        .watchJobs(anyString(), any(), any(), anyLong());
 
     Assertions.assertDoesNotThrow(() -> dataJobMonitorCron.watchJobs());
   }
@@ -896,6 +896,57 @@ public class DataJobMonitorTest {
         gaugesPlatformError.stream().findFirst().get().value());
   }
 
+  @Test
+  @Order(35)
+  void testRecordJobExecutionStatuses_shouldUpdateTerminationStatusFromLatestExecution() {
+    // Clean up from previous tests
+    jobsRepository.deleteAll();
+    dataJobMonitor.clearDataJobsGaugesNotIn(Collections.emptyList());
+
+    var dataJob =
+        new DataJob(
+            "batch-job",
+            new JobConfig(),
+            DeploymentStatus.NONE,
+            ExecutionStatus.SUCCEEDED,
+            "old-execution-id");
+    jobsRepository.save(dataJob);
+
+    JobExecution olderExecution =
+        buildJobExecutionStatus(
+            "batch-job",
+            "older-execution-id",
+            ExecutionStatus.SUCCEEDED.getPodStatus(),
+            true,
+            OffsetDateTime.now().minus(Duration.ofHours(2)),
+            OffsetDateTime.now().minus(Duration.ofMinutes(1)));
+    JobExecution latestExecution =
+        buildJobExecutionStatus(
+            "batch-job",
+            "latest-execution-id",
+            ExecutionStatus.USER_ERROR.getPodStatus(),
+            false,
+            OffsetDateTime.now().minus(Duration.ofHours(1)),
+            OffsetDateTime.now().minus(Duration.ofMinutes(2)));
+
+    dataJobMonitor.recordJobExecutionStatuses(List.of(olderExecution, latestExecution));
+
+    Optional<DataJob> actualJob = jobsRepository.findById(dataJob.getName());
+    Assertions.assertTrue(actualJob.isPresent());
+    Assertions.assertEquals("latest-execution-id", actualJob.get().getLatestJobExecutionId());
+    Assertions.assertEquals(
+        ExecutionStatus.USER_ERROR, actualJob.get().getLatestJobTerminationStatus());
+    Assertions.assertEquals(ExecutionStatus.SUCCEEDED, actualJob.get().getLastExecutionStatus());
+
+    // Check gauge status
+    var gauges =
+        meterRegistry.find(DataJobMetrics.TAURUS_DATAJOB_TERMINATION_STATUS_METRIC_NAME).gauges();
+    Assertions.assertEquals(1, gauges.size());
+    Assertions.assertEquals(
+        ExecutionStatus.USER_ERROR.getAlertValue().doubleValue(),
+        gauges.stream().findFirst().get().value());
+  }
+
   private static String randomId(String prefix) {
     return prefix + UUID.randomUUID();
   }
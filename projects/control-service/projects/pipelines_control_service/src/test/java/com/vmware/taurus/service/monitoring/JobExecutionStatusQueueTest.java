@@ -0,0 +1,142 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.monitoring;
+
+import com.vmware.taurus.service.KubernetesService.JobExecution;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class JobExecutionStatusQueueTest {
+
+  @Mock private DataJobMonitor dataJobMonitor;
+
+  @Test
+  public void testFlush_repeatedStatusesOfExecution_shouldRecordLatestStatusOnly() {
+    var queue = new JobExecutionStatusQueue(dataJobMonitor, 100, 100);
+    var running = buildJobExecution("data-job", "execution-1", "Running");
+    var succeeded = buildJobExecution("data-job", "execution-1", "Succeeded");
+    var other = buildJobExecution("data-job", "execution-2", "Running");
+
+    queue.offer(running);
+    queue.offer(other);
+    queue.offer(succeeded);
+    queue.flush();
+
+    var batches = captureRecordedBatches(1);
+    Assertions.assertEquals(List.of(succeeded, other), new ArrayList<>(batches.get(0)));
+    Assertions.assertEquals(0, queue.size());
+  }
+
+  @Test
+  public void testFlush_outOfOrderStatusesOfExecution_shouldKeepFurthestStatus() {
+    var queue = new JobExecutionStatusQueue(dataJobMonitor, 100, 100);
+    var running = buildJobExecution("data-job", "execution-1", null, OffsetDateTime.now());
+    var succeeded = buildJobExecution("data-job", "execution-1", true, OffsetDateTime.now());
+    var lateRunning = buildJobExecution("data-job", "execution-1", null, OffsetDateTime.now());
+    var submitted = buildJobExecution("data-job", "execution-2", null, null);
+    var platformError = buildJobExecution("data-job", "execution-2", false, OffsetDateTime.now());
+    var retried = buildJobExecution("data-job", "execution-2", null, OffsetDateTime.now());
+    var lateSubmitted = buildJobExecution("data-job", "execution-2", null, null);
+
+    queue.offer(running);
+    queue.offer(succeeded);
+    queue.offer(lateRunning);
+    queue.offer(submitted);
+    queue.offer(platformError);
+    queue.offer(retried);
+    queue.offer(lateSubmitted);
+    queue.flush();
+
+    var batches = captureRecordedBatches(1);
+    Assertions.assertEquals(List.of(succeeded, retried), new ArrayList<>(batches.get(0)));
+  }
+
+  @Test
+  public void testFlush_moreStatusesThanBatchSize_shouldRecordInBatches() {
+    var queue = new JobExecutionStatusQueue(dataJobMonitor, 100, 2);
+    for (int i = 0; i < 5; i++) {
+      queue.offer(buildJobExecution("data-job", "execution-" + i, "Running"));
+    }
+
+    queue.flush();
+
+    var batches = captureRecordedBatches(3);
+    Assertions.assertEquals(2, batches.get(0).size());
+    Assertions.assertEquals(2, batches.get(1).size());
+    Assertions.assertEquals(1, batches.get(2).size());
+  }
+
+  @Test
+  public void testOffer_capacityReached_shouldDrainQueue() {
+    var queue = new JobExecutionStatusQueue(dataJobMonitor, 2, 100);
+
+    queue.offer(buildJobExecution("data-job", "execution-1", "Running"));
+    Mockito.verifyNoInteractions(dataJobMonitor);
+    queue.offer(buildJobExecution("data-job", "execution-2", "Running"));
+
+    captureRecordedBatches(1);
+    Assertions.assertEquals(0, queue.size());
+  }
+
+  @Test
+  public void testFlush_batchFails_shouldRecordStatusesOneByOne() {
+    var queue = new JobExecutionStatusQueue(dataJobMonitor, 100, 100);
+    var first = buildJobExecution("data-job", "execution-1", "Running");
+    var second = buildJobExecution("data-job", "execution-2", "Running");
+    Mockito.doThrow(new IllegalStateException("test"))
+        .when(dataJobMonitor)
+        .recordJobExecutionStatuses(Mockito.any());
+    Mockito.doThrow(new IllegalStateException("test"))
+        .when(dataJobMonitor)
+        .recordJobExecutionStatus(first);
+
+    queue.offer(first);
+    queue.offer(second);
+    queue.flush();
+
+    Mockito.verify(dataJobMonitor).recordJobExecutionStatus(first);
+    Mockito.verify(dataJobMonitor).recordJobExecutionStatus(second);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Collection<JobExecution>> captureRecordedBatches(int expectedBatches) {
+    ArgumentCaptor<Collection<JobExecution>> batchCaptor =
+        ArgumentCaptor.forClass(Collection.class);
+    Mockito.verify(dataJobMonitor, Mockito.times(expectedBatches))
+        .recordJobExecutionStatuses(batchCaptor.capture());
+    return batchCaptor.getAllValues();
+  }
+
+  private static JobExecution buildJobExecution(
+      String jobName, String executionId, Boolean succeeded, OffsetDateTime startTime) {
+    return JobExecution.builder()
+        .jobName(jobName)
+        .executionId(executionId)
+        .succeeded(succeeded)
+        .startTime(startTime)
+        .build();
+  }
+
+  private static JobExecution buildJobExecution(
+      String jobName, String executionId, String podTerminationMessage) {
+    return JobExecution.builder()
+        .jobName(jobName)
+        .executionId(executionId)
+        .mainContainerTerminationMessage(podTerminationMessage)
+        .build();
+  }
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.monitoring;
+
+import com.vmware.taurus.service.JobMonitorMemberRepository;
+import com.vmware.taurus.service.JobWatchStateRepository;
+import com.vmware.taurus.service.KubernetesService.JobExecution;
+import com.vmware.taurus.service.execution.JobExecutionService;
+import com.vmware.taurus.service.model.JobMonitorMember;
+import com.vmware.taurus.service.model.JobWatchState;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ShardedDataJobMonitorCronTest {
+
+  private static final int SHARD_COUNT = 4;
+
+  @Mock private DataJobMonitorCron dataJobMonitorCron;
+
+  @Mock private JobExecutionService jobExecutionService;
+
+  @Mock private DataJobMetrics dataJobMetrics;
+
+  @Mock private LockProvider lockProvider;
+
+  @Mock private JobMonitorMemberRepository jobMonitorMemberRepository;
+
+  @Mock private JobWatchStateRepository jobWatchStateRepository;
+
+  @Mock private SimpleLock simpleLock;
+
+  private ShardedDataJobMonitorCron shardedDataJobMonitorCron;
+
+  @BeforeEach
+  public void setUp() {
+    shardedDataJobMonitorCron =
+        new ShardedDataJobMonitorCron(
+            dataJobMonitorCron,
+            jobExecutionService,
+            dataJobMetrics,
+            lockProvider,
+            jobMonitorMemberRepository,
+            jobWatchStateRepository,
+            SHARD_COUNT,
+            90);
+    Mockito.when(lockProvider.lock(any())).thenReturn(Optional.of(simpleLock));
+    Mockito.when(dataJobMonitorCron.watchJobs(any(), anyLong(), any(), any(), any()))
+        .thenReturn(true);
+  }
+
+  @Test
+  public void testGetShard_shouldBeStableAndInRange() {
+    for (var name : List.of("data-job", "another-data-job", "", "x")) {
+      int shard = ShardedDataJobMonitorCron.getShard(name, SHARD_COUNT);
+      Assertions.assertTrue(shard >= 0 && shard < SHARD_COUNT);
+      Assertions.assertEquals(shard, ShardedDataJobMonitorCron.getShard(name, SHARD_COUNT));
+    }
+    Assertions.assertEquals(
+        ShardedDataJobMonitorCron.getShard("", SHARD_COUNT),
+        ShardedDataJobMonitorCron.getShard(null, SHARD_COUNT));
+  }
+
+  @Test
+  public void testGetShard_shouldBeTheShardOfTheBucket() {
+    for (var name : List.of("data-job", "another-data-job", "", "x")) {
+      int bucket = ShardedDataJobMonitorCron.getShardBucket(name);
+      Assertions.assertTrue(bucket >= 0 && bucket < ShardedDataJobMonitorCron.SHARD_BUCKETS);
+      Assertions.assertEquals(
+          bucket % SHARD_COUNT, ShardedDataJobMonitorCron.getShard(name, SHARD_COUNT));
+    }
+  }
+
+  @Test
+  public void testGetShardLabelSelector_shouldSelectTheBucketsOfTheShards() {
+    String selector = ShardedDataJobMonitorCron.getShardLabelSelector(List.of(1, 3), 64);
+
+    Assertions.assertEquals(
+        "com.vmware.taurus/monitoring-shard in (1,3,65,67,129,131,193,195)", selector);
+    Assertions.assertEquals(
+        "com.vmware.taurus/monitoring-shard",
+        ShardedDataJobMonitorCron.getShardLabelSelector(List.of(0, 1, 2, 3), SHARD_COUNT));
+  }
+
+  @Test
+  public void testGetShardAcquisitionOrder_shouldStartWithAssignedShards() {
+    Assertions.assertEquals(
+        List.of(1, 3, 0, 2), ShardedDataJobMonitorCron.getShardAcquisitionOrder(1, 2, 4));
+    Assertions.assertEquals(
+        List.of(0, 1, 2, 3), ShardedDataJobMonitorCron.getShardAcquisitionOrder(0, 1, 4));
+  }
+
+  @Test
+  public void testWatchJobs_singleMember_shouldAcquireAllShards() {
+    Mockito.when(jobMonitorMemberRepository.findByHeartbeatTimeAfterOrderByMemberId(any()))
+        .thenAnswer(inv -> List.of(getSavedMember()));
+
+    shardedDataJobMonitorCron.watchJobs();
+
+    Assertions.assertEquals(
+        List.of(
+            "watchJobs_shard_0", "watchJobs_shard_1", "watchJobs_shard_2", "watchJobs_shard_3"),
+        getLockedShardNames());
+    Mockito.verify(simpleLock, Mockito.never()).unlock();
+  }
+
+  @Test
+  public void testWatchJobs_shardsHeld_shouldKeepTheLeasesAcrossWatches() {
+    Mockito.when(jobMonitorMemberRepository.findByHeartbeatTimeAfterOrderByMemberId(any()))
+        .thenAnswer(inv -> List.of(getSavedMember()));
+
+    shardedDataJobMonitorCron.watchJobs();
+    shardedDataJobMonitorCron.watchJobs();
+
+    Mockito.verify(lockProvider, Mockito.times(SHARD_COUNT)).lock(any());
+    Mockito.verify(simpleLock, Mockito.never()).unlock();
+    Mockito.verify(dataJobMonitorCron, Mockito.times(2))
+        .watchJobs(any(), anyLong(), any(), any(), any());
+  }
+
+  @Test
+  public void testWatchJobs_memberJoined_shouldReleaseTheShardsAboveFairShare() {
+    var otherMembers = new ArrayList<JobMonitorMember>();
+    Mockito.when(jobMonitorMemberRepository.findByHeartbeatTimeAfterOrderByMemberId(any()))
+        .thenAnswer(
+            inv -> {
+              var members = new ArrayList<>(otherMembers);
+              members.add(getSavedMember());
+              return members;
+            });
+    var shardLocks = new HashMap<String, SimpleLock>();
+    Mockito.when(lockProvider.lock(any()))
+        .thenAnswer(
+            inv -> {
+              var lock = Mockito.mock(SimpleLock.class);
+              shardLocks.put(((LockConfiguration) inv.getArgument(0)).getName(), lock);
+              return Optional.of(lock);
+            });
+
+    shardedDataJobMonitorCron.watchJobs();
+    otherMembers.add(new JobMonitorMember("", OffsetDateTime.now(ZoneOffset.UTC)));
+    shardedDataJobMonitorCron.watchJobs();
+
+    // The member is second of two, so it keeps its assigned shards 1 and 3
+    Mockito.verify(shardLocks.get("watchJobs_shard_0")).unlock();
+    Mockito.verify(shardLocks.get("watchJobs_shard_2")).unlock();
+    Mockito.verify(shardLocks.get("watchJobs_shard_1"), Mockito.never()).unlock();
+    Mockito.verify(shardLocks.get("watchJobs_shard_3"), Mockito.never()).unlock();
+    Assertions.assertEquals(SHARD_COUNT, shardLocks.size());
+  }
+
+  @Test
+  public void testWatchJobs_twoMembers_shouldAcquireFairShareOfShards() {
+    Mockito.when(jobMonitorMemberRepository.findByHeartbeatTimeAfterOrderByMemberId(any()))
+        .thenAnswer(
+            inv ->
+                List.of(
+                    new JobMonitorMember("", OffsetDateTime.now(ZoneOffset.UTC)),
+                    getSavedMember()));
+
+    shardedDataJobMonitorCron.watchJobs();
+
+    Assertions.assertEquals(
+        List.of("watchJobs_shard_1", "watchJobs_shard_3"), getLockedShardNames());
+    Predicate<JobExecution> filter = captureJobExecutionFilter();
+    for (var name : List.of("a", "b", "c", "d", "e")) {
+      int shard = ShardedDataJobMonitorCron.getShard(name, SHARD_COUNT);
+      Assertions.assertEquals(shard == 1 || shard == 3, filter.test(jobExecution(name, "1")));
+    }
+    Assertions.assertEquals(
+        ShardedDataJobMonitorCron.getShardLabelSelector(List.of(1, 3), SHARD_COUNT),
+        captureLabelSelectorRequirement());
+
+    // The jobs without the shard label are watched by the member holding shard 0
+    shardedDataJobMonitorCron.watchUnlabelledJobs();
+    Mockito.verify(dataJobMonitorCron).watchJobs(any(), anyLong(), any(), any(), any());
+  }
+
+  @Test
+  public void testWatchJobs_holdingShardZero_shouldAlsoWatchJobsWithoutShardLabel() {
+    Mockito.when(jobMonitorMemberRepository.findByHeartbeatTimeAfterOrderByMemberId(any()))
+        .thenAnswer(
+            inv ->
+                List.of(
+                    getSavedMember(),
+                    new JobMonitorMember("~", OffsetDateTime.now(ZoneOffset.UTC))));
+
+    shardedDataJobMonitorCron.watchJobs();
+
+    Assertions.assertEquals(
+        List.of("watchJobs_shard_0", "watchJobs_shard_2"), getLockedShardNames());
+    Assertions.assertEquals(
+        ShardedDataJobMonitorCron.getShardLabelSelector(List.of(0, 2), SHARD_COUNT),
+        captureLabelSelectorRequirement());
+
+    Mockito.when(jobWatchStateRepository.findById("watchJobs_unlabelled"))
+        .thenReturn(Optional.empty());
+    shardedDataJobMonitorCron.watchUnlabelledJobs();
+
+    var selectorCaptor = ArgumentCaptor.forClass(String.class);
+    Mockito.verify(dataJobMonitorCron, Mockito.times(2))
+        .watchJobs(any(), anyLong(), selectorCaptor.capture(), any(), any());
+    Assertions.assertEquals("!com.vmware.taurus/monitoring-shard", selectorCaptor.getValue());
+    var stateCaptor = ArgumentCaptor.forClass(JobWatchState.class);
+    Mockito.verify(jobWatchStateRepository).save(stateCaptor.capture());
+    Assertions.assertEquals("watchJobs_unlabelled", stateCaptor.getValue().getName());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testWatchJobs_jobsListed_shouldSyncTheExecutionsOfTheShards() {
+    Mockito.when(jobMonitorMemberRepository.findByHeartbeatTimeAfterOrderByMemberId(any()))
+        .thenAnswer(
+            inv ->
+                List.of(
+                    new JobMonitorMember("", OffsetDateTime.now(ZoneOffset.UTC)),
+                    getSavedMember()));
+    Mockito.when(dataJobMonitorCron.listRunningJobExecutionIds(any()))
+        .thenReturn(List.of("unlabelled-execution"));
+    Mockito.when(dataJobMonitorCron.watchJobs(any(), anyLong(), any(), any(), any()))
+        .thenAnswer(
+            inv -> {
+              ((Consumer<List<String>>) inv.getArgument(4)).accept(List.of("execution"));
+              return true;
+            });
+
+    shardedDataJobMonitorCron.watchJobs();
+
+    Mockito.verify(dataJobMonitorCron)
+        .listRunningJobExecutionIds("!com.vmware.taurus/monitoring-shard");
+    ArgumentCaptor<Predicate<String>> filterCaptor = ArgumentCaptor.forClass(Predicate.class);
+    Mockito.verify(jobExecutionService)
+        .syncJobExecutionStatuses(
+            Mockito.eq(List.of("execution", "unlabelled-execution")), filterCaptor.capture());
+    for (var name : List.of("a", "b", "c", "d", "e")) {
+      int shard = ShardedDataJobMonitorCron.getShard(name, SHARD_COUNT);
+      Assertions.assertEquals(shard == 1 || shard == 3, filterCaptor.getValue().test(name));
+    }
+  }
+
+  @Test
+  public void testHeartbeat_shouldExtendTheLeasesOfTheShardsBeingWatched() {
+    Mockito.when(jobMonitorMemberRepository.findByHeartbeatTimeAfterOrderByMemberId(any()))
+        .thenAnswer(inv -> List.of(getSavedMember()));
+    Mockito.when(simpleLock.extend(any(), any())).thenReturn(Optional.of(simpleLock));
+    Mockito.when(dataJobMonitorCron.watchJobs(any(), anyLong(), any(), any(), any()))
+        .thenAnswer(
+            inv -> {
+              shardedDataJobMonitorCron.heartbeat();
+              return true;
+            });
+
+    shardedDataJobMonitorCron.watchJobs();
+    shardedDataJobMonitorCron.heartbeat();
+
+    // Extended during the watch and after it, as the leases are kept across the watches
+    Mockito.verify(simpleLock, Mockito.times(2 * SHARD_COUNT))
+        .extend(Duration.ofSeconds(90), Duration.ZERO);
+    Mockito.verify(simpleLock, Mockito.never()).unlock();
+  }
+
+  @Test
+  public void testWatchJobs_shardsLockedByOthers_shouldSkipThem() {
+    Mockito.when(jobMonitorMemberRepository.findByHeartbeatTimeAfterOrderByMemberId(any()))
+        .thenAnswer(inv -> List.of(getSavedMember()));
+    Mockito.when(lockProvider.lock(any()))
+        .thenAnswer(
+            inv ->
+                ((LockConfiguration) inv.getArgument(0)).getName().equals("watchJobs_shard_2")
+                    ? Optional.of(simpleLock)
+                    : Optional.empty());
+
+    shardedDataJobMonitorCron.watchJobs();
+
+    var stateCaptor = ArgumentCaptor.forClass(Iterable.class);
+    Mockito.verify(jobWatchStateRepository).saveAll(stateCaptor.capture());
+    var savedStates = new ArrayList<JobWatchState>();
+    stateCaptor.getValue().forEach(state -> savedStates.add((JobWatchState) state));
+    Assertions.assertEquals(1, savedStates.size());
+    Assertions.assertEquals("watchJobs_shard_2", savedStates.get(0).getName());
+  }
+
+  @Test
+  public void testWatchJobs_noShardsAcquired_shouldNotWatch() {
+    Mockito.when(jobMonitorMemberRepository.findByHeartbeatTimeAfterOrderByMemberId(any()))
+        .thenAnswer(inv -> List.of(getSavedMember()));
+    Mockito.when(lockProvider.lock(any())).thenReturn(Optional.empty());
+
+    shardedDataJobMonitorCron.watchJobs();
+
+    Mockito.verifyNoInteractions(dataJobMonitorCron);
+  }
+
+  private JobMonitorMember getSavedMember() {
+    var memberCaptor = ArgumentCaptor.forClass(JobMonitorMember.class);
+    Mockito.verify(jobMonitorMemberRepository, Mockito.atLeastOnce()).save(memberCaptor.capture());
+    return memberCaptor.getValue();
+  }
+
+  private List<String> getLockedShardNames() {
+    var lockCaptor = ArgumentCaptor.forClass(LockConfiguration.class);
+    Mockito.verify(lockProvider, Mockito.atLeastOnce()).lock(lockCaptor.capture());
+    return lockCaptor.getAllValues().stream()
+        .map(LockConfiguration::getName)
+        .sorted()
+        .collect(Collectors.toList());
+  }
+
+  @SuppressWarnings("unchecked")
+  private Predicate<JobExecution> captureJobExecutionFilter() {
+    ArgumentCaptor<Predicate<JobExecution>> filterCaptor =
+        ArgumentCaptor.forClass(Predicate.class);
+    Mockito.verify(dataJobMonitorCron)
+        .watchJobs(any(), anyLong(), any(), filterCaptor.capture(), any());
+    return filterCaptor.getValue();
+  }
+
+  private String captureLabelSelectorRequirement() {
+    var selectorCaptor = ArgumentCaptor.forClass(String.class);
+    Mockito.verify(dataJobMonitorCron)
+        .watchJobs(any(), anyLong(), selectorCaptor.capture(), any(), any());
+    return selectorCaptor.getValue();
+  }
+
+  private static JobExecution jobExecution(String jobName, String monitoringShard) {
+    return JobExecution.builder().jobName(jobName).monitoringShard(monitoringShard).build();
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.schedule;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+public class CronScheduleCacheTest {
+
+  private static final ZonedDateTime TIME =
+      ZonedDateTime.of(2023, 8, 1, 10, 30, 15, 0, ZoneOffset.UTC);
+
+  private final CronScheduleCache cronScheduleCache = new CronScheduleCache(100);
+
+  @Test
+  public void testNextExecution_shouldReturnTheNextExecutionOfTheExpression() {
+    Assertions.assertEquals(
+        TIME.withMinute(45).withSecond(0),
+        cronScheduleCache.nextExecution("*/15 * * * *", TIME).get());
+    Assertions.assertEquals(
+        TIME.plusDays(1).withHour(2).withMinute(0).withSecond(0),
+        cronScheduleCache.nextExecution("0 2 * * *", TIME).get());
+    // The parsed expression is reused.
+    Assertions.assertEquals(
+        TIME.withHour(11).withMinute(0).withSecond(0),
+        cronScheduleCache.nextExecution("*/15 * * * *", TIME.withMinute(50)).get());
+  }
+
+  @Test
+  public void testNextExecution_withInvalidExpression_shouldThrowIllegalArgumentException() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> cronScheduleCache.nextExecution("* * ", TIME));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> cronScheduleCache.nextExecution("* * ", TIME));
+  }
+
+  @Test
+  public void testNextRunTime_shouldReturnNullForBlankOrInvalidSchedules() {
+    var time = TIME.toOffsetDateTime();
+
+    Assertions.assertEquals(
+        OffsetDateTime.of(2023, 8, 1, 11, 0, 0, 0, ZoneOffset.UTC),
+        cronScheduleCache.nextRunTime("0 * * * *", time));
+    Assertions.assertNull(cronScheduleCache.nextRunTime(null, time));
+    Assertions.assertNull(cronScheduleCache.nextRunTime(" ", time));
+    Assertions.assertNull(cronScheduleCache.nextRunTime("schedule", time));
+  }
+}
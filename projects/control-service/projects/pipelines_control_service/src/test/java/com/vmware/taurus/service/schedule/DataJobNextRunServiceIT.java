@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021-2023 VMware, Inc.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.vmware.taurus.service.schedule;
+
+import com.vmware.taurus.ControlplaneApplication;
+import com.vmware.taurus.service.JobsRepository;
+import com.vmware.taurus.service.model.DataJob;
+import com.vmware.taurus.service.model.JobConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+@SpringBootTest(classes = ControlplaneApplication.class)
+public class DataJobNextRunServiceIT {
+
+  @Autowired private JobsRepository jobsRepository;
+
+  @Autowired private DataJobNextRunService dataJobNextRunService;
+
+  @AfterEach
+  public void cleanup() {
+    jobsRepository.deleteAll();
+  }
+
+  @Test
+  public void testAdvanceNextRunTimes_shouldAdvanceTheNextRunTimesWhichPassed() {
+    var passed = OffsetDateTime.now(ZoneOffset.UTC).minusHours(1);
+    var ahead = OffsetDateTime.now(ZoneOffset.UTC).plusYears(1).withNano(0);
+    createJob("passed-job", "*/5 * * * *", passed);
+    createJob("new-job", "*/5 * * * *", null);
+    createJob("ahead-job", "*/5 * * * *", ahead);
+    createJob("invalid-job", "schedule", null);
+    createJob("unscheduled-job", null, null);
+
+    dataJobNextRunService.advanceNextRunTimes();
+
+    var now = OffsetDateTime.now(ZoneOffset.UTC);
+    assertNextRunTimeBetween(now, now.plusMinutes(5), "passed-job");
+    assertNextRunTimeBetween(now, now.plusMinutes(5), "new-job");
+    Assertions.assertEquals(
+        ahead.toInstant(), jobsRepository.findById("ahead-job").get().getNextRunTime().toInstant());
+    Assertions.assertNull(jobsRepository.findById("invalid-job").get().getNextRunTime());
+    Assertions.assertNull(jobsRepository.findById("unscheduled-job").get().getNextRunTime());
+  }
+
+  @Test
+  public void testUpdateNextRunTime_shouldSetTheNextRunOfTheSchedule() {
+    var dataJob = new DataJob("test-job", new JobConfig());
+    dataJob.getJobConfig().setSchedule("0 * * * *");
+
+    dataJobNextRunService.updateNextRunTime(dataJob);
+
+    var now = OffsetDateTime.now(ZoneOffset.UTC);
+    Assertions.assertTrue(dataJob.getNextRunTime().isAfter(now));
+    Assertions.assertFalse(dataJob.getNextRunTime().isAfter(now.plusHours(1)));
+    Assertions.assertEquals(0, dataJob.getNextRunTime().getMinute());
+  }
+
+  private void createJob(String jobName, String schedule, OffsetDateTime nextRunTime) {
+    var jobConfig = new JobConfig();
+    jobConfig.setTeam("test-team");
+    jobConfig.setSchedule(schedule);
+    var dataJob = new DataJob(jobName, jobConfig);
+    dataJob.setNextRunTime(nextRunTime);
+    jobsRepository.save(dataJob);
+  }
+
+  private void assertNextRunTimeBetween(
+      OffsetDateTime from, OffsetDateTime to, String jobName) {
+    var nextRunTime = jobsRepository.findById(jobName).get().getNextRunTime();
+    Assertions.assertNotNull(nextRunTime);
+    Assertions.assertFalse(nextRunTime.isBefore(from.minusMinutes(1)), nextRunTime.toString());
+    Assertions.assertFalse(nextRunTime.isAfter(to), nextRunTime.toString());
+  }
+}